@@ -78,6 +78,43 @@ public class BayesAbsorption {
         return absorbedPotentials;
     }
 
+    /**
+     * Same as dividePotentials(double[], double[]), but writes the result into the given buffer.
+     */
+    public static void dividePotentials(double[] potentials, double[] oldPotentials, double[] absorbedPotentials) {
+        for ( int i = 0; i < potentials.length; i++ ) {
+            double oldP = oldPotentials[i];
+            absorbedPotentials[i] = oldP == 0.0 ? 0.0 : potentials[i] / oldP;
+        }
+    }
+
+    /**
+     * Multiplies the separator ratios into the target potentials in place, without recursion or allocation.
+     * See BayesProjection.project(double[], int[], int[], double[], int[]) for how the strides and counters are used.
+     * @param srcRatios the new separator potentials divided by the old ones
+     * @param srcStrides the separator index stride of each target variable
+     * @param trgOutcomeCounts the number of outcomes of each target variable
+     * @param trgPotentials
+     * @param counters a buffer at least as long as the number of target variables
+     */
+    public static void absorb(double[] srcRatios, int[] srcStrides, int[] trgOutcomeCounts, double[] trgPotentials, int[] counters) {
+        Arrays.fill(counters, 0, trgOutcomeCounts.length, 0);
+
+        int srcPotentialIndex = 0;
+        for ( int i = 0, length = trgPotentials.length; i < length; i++ ) {
+            trgPotentials[i] *= srcRatios[srcPotentialIndex];
+            for ( int var = trgOutcomeCounts.length - 1; var >= 0; var-- ) {
+                srcPotentialIndex += srcStrides[var];
+                if ( ++counters[var] < trgOutcomeCounts[var] ) {
+                    break;
+                }
+                srcPotentialIndex -= srcStrides[var] * trgOutcomeCounts[var];
+                counters[var] = 0;
+            }
+        }
+        normalize(trgPotentials);
+    }
+
 
     public void recurse(int currentVar, int targetVarPos) {
         int numberOfOutcomes = trgVars[currentVar].getOutcomes().length;
@@ -17,7 +17,7 @@ package org.drools.beliefs.bayes;
 
 import org.drools.beliefs.graph.Graph;
 import org.drools.beliefs.graph.GraphNode;
-import org.drools.core.util.BitMaskUtil;
+import org.drools.core.util.bitmask.OpenBitSet;
 import org.kie.api.runtime.rule.FactHandle;
 
 import java.lang.annotation.Annotation;
@@ -35,13 +35,21 @@ public class BayesInstance<T> {
     private Map<String, BayesVariable> variables;
     private Map<String, BayesVariable> fieldNames;
     private BayesLikelyhood[]          likelyhoods;
-    private long                       dirty;
-    private long                       decided;
+    private BayesLikelyhood[]          appliedLikelyhoods;
+    private OpenBitSet                 dirty;
+    private OpenBitSet                 decided;
+    private boolean                    propagated;
 
     private CliqueState[]        cliqueStates;
     private SeparatorState[]     separatorStates;
     private BayesVariableState[] varStates;
 
+    // buffers reused by every message pass, so propagation does not allocate
+    private double[][] oldSepPotentials;
+    private double[][] sepRatios;
+    private int[]      counters;
+    private boolean[]  changedCliques;
+
     private GlobalUpdateListener globalUpdateListener;
     private PassMessageListener  passMessageListener;
 
@@ -62,15 +70,27 @@ public class BayesInstance<T> {
         variables = new HashMap<String, BayesVariable>();
         fieldNames = new HashMap<String, BayesVariable>();
         likelyhoods = new BayesLikelyhood[graph.size()];
+        appliedLikelyhoods = new BayesLikelyhood[graph.size()];
+        dirty = new OpenBitSet(graph.size());
+        decided = new OpenBitSet(graph.size());
 
+        int maxCliqueSize = 0;
         cliqueStates = new CliqueState[tree.getJunctionTreeNodes().length];
+        changedCliques = new boolean[cliqueStates.length];
         for (JunctionTreeClique clique : tree.getJunctionTreeNodes()) {
             cliqueStates[clique.getId()] = clique.createState();
+            maxCliqueSize = Math.max(maxCliqueSize, clique.getValues().size());
         }
+        counters = new int[maxCliqueSize];
 
         separatorStates = new SeparatorState[tree.getJunctionTreeSeparators().length];
+        oldSepPotentials = new double[separatorStates.length][];
+        sepRatios = new double[separatorStates.length][];
         for ( JunctionTreeSeparator sep : tree.getJunctionTreeSeparators() ) {
-            separatorStates[sep.getId()] = sep.createState();
+            SeparatorState sepState = sep.createState();
+            separatorStates[sep.getId()] = sepState;
+            oldSepPotentials[sep.getId()] = new double[sepState.getPotentials().length];
+            sepRatios[sep.getId()] = new double[sepState.getPotentials().length];
         }
 
         varStates = new BayesVariableState[graph.size()];
@@ -93,8 +113,12 @@ public class BayesInstance<T> {
         for (GraphNode<BayesVariable> node : graph) {
             BayesVariable var = node.getContent();
             BayesVariableState varState =  varStates[var.getId()];
-            varState.setDistribution( new double[ varState.getDistribution().length]);
+            Arrays.fill(varState.getDistribution(), 0);
         }
+
+        // nothing is propagated anymore, the next global update must re-apply all the evidence
+        Arrays.fill(appliedLikelyhoods, null);
+        propagated = false;
     }
 
     public void setTargetClass(Class<T> targetClass) {
@@ -184,18 +208,18 @@ public class BayesInstance<T> {
     public void setDecided(BayesVariable var, boolean bool) {
         // note this is reversed, when the bit is on, the var is undecided. Default state is decided
         if ( !bool ) {
-            decided = BitMaskUtil.set(decided, var.getId());
+            decided.fastSet(var.getId());
         } else {
-            decided = BitMaskUtil.reset(decided, var.getId());
+            decided.fastClear(var.getId());
         }
     }
 
     public boolean isDecided() {
-        return decided == 0; // >0 means one ore more variables are undecided
+        return decided.isEmpty(); // any bit set means one ore more variables are undecided
     }
 
     public boolean isDirty() {
-        return dirty > 0; // >0 means ore or more variables are dirty
+        return !dirty.isEmpty(); // any bit set means ore or more variables are dirty
     }
 
     public void setLikelyhood(String varName, double[] distribution) {
@@ -209,7 +233,7 @@ public class BayesInstance<T> {
     public void unsetLikelyhood(BayesVariable var) {
         int id = var.getId();
         this.likelyhoods[id] = null;
-        dirty = BitMaskUtil.set(dirty, id);
+        dirty.fastSet(id);
     }
 
     public void setLikelyhood(BayesVariable var, double[] distribution) {
@@ -224,7 +248,7 @@ public class BayesInstance<T> {
         BayesLikelyhood old = this.likelyhoods[id];
         if ( old == null || !old.equals( likelyhood ) ) {
             this.likelyhoods[likelyhood.getVariable().getId()] = likelyhood;
-            dirty = BitMaskUtil.set(dirty, id);
+            dirty.fastSet(id);
         }
     }
 
@@ -232,13 +256,117 @@ public class BayesInstance<T> {
         if ( !isDecided() ) {
             throw new IllegalStateException("Cannot perform global upset, while one ore more variables are undecided" );
         }
-        if ( isDirty() ) {
-            reset();
+        if ( propagated && !isDirty() ) {
+            // the tree is already consistent with the current evidence
+            return;
+        }
+
+        if ( propagated && isEvidenceAdded() ) {
+            incrementalUpdate();
+        } else {
+            if ( isDirty() ) {
+                reset();
+            }
+            applyEvidence();
+            //recurseGlobalUpdate(tree.getRoot());
+            globalUpdate(tree.getRoot());
+        }
+
+        System.arraycopy(likelyhoods, 0, appliedLikelyhoods, 0, likelyhoods.length);
+        dirty.clear(0, likelyhoods.length);
+        propagated = true;
+    }
+
+    /**
+     * Evidence that was only added can be multiplied into an already consistent tree, while evidence that was changed
+     * or retracted cannot be divided out again, and requires the tree to be reset.
+     */
+    private boolean isEvidenceAdded() {
+        for ( int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1) ) {
+            if ( appliedLikelyhoods[i] != null ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Multiplies the added evidence into the cliques of its variables, then collects only along the paths between
+     * those cliques and distributes outwards from them. The distribution stops wherever a separator is left unchanged
+     * and the cliques beyond it have not collected anything, as they are already consistent.
+     */
+    private void incrementalUpdate() {
+        JunctionTreeClique startClique = null;
+        for ( int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1) ) {
+            BayesLikelyhood l = likelyhoods[i];
+            if ( l != null ) {
+                int family = l.getVariable().getFamily();
+                l.multiplyInto(cliqueStates[family].getPotentials());
+                BayesAbsorption.normalize(cliqueStates[family].getPotentials());
+                changedCliques[family] = true;
+                if ( startClique == null ) {
+                    startClique = tree.getJunctionTreeNodes()[family];
+                }
+            }
+        }
+
+        if ( startClique == null ) {
+            // evidence was set and then unset again, before any update
+            return;
+        }
+
+        if ( globalUpdateListener != null ) {
+            globalUpdateListener.beforeGlobalUpdate(cliqueStates[startClique.getId()]);
+        }
+        collectChangedEvidence(startClique, null);
+        distributeChangedEvidence(startClique, null);
+        if ( globalUpdateListener != null ) {
+            globalUpdateListener.afterGlobalUpdate(cliqueStates[startClique.getId()]);
+        }
+        Arrays.fill(changedCliques, false);
+    }
+
+    /**
+     * Returns true if the subtree of clique, seen from the given separator, contains a changed clique, and marks the
+     * clique as changed. Messages are only passed out of such subtrees, the others are already consistent with the clique.
+     */
+    private boolean collectChangedEvidence(JunctionTreeClique clique, JunctionTreeSeparator from) {
+        boolean changed = changedCliques[clique.getId()];
+
+        JunctionTreeSeparator parentSep = clique.getParentSeparator();
+        if ( parentSep != null && parentSep != from && collectChangedEvidence(parentSep.getParent(), parentSep) ) {
+            passMessage(parentSep.getParent(), parentSep, clique);
+            changed = true;
+        }
+
+        for ( JunctionTreeSeparator sep : clique.getChildren() ) {
+            if ( sep != from && collectChangedEvidence(sep.getChild(), sep) ) {
+                passMessage(sep.getChild(), sep, clique);
+                changed = true;
+            }
+        }
+        changedCliques[clique.getId()] = changed;
+        return changed;
+    }
+
+    private void distributeChangedEvidence(JunctionTreeClique clique, JunctionTreeSeparator from) {
+        JunctionTreeSeparator parentSep = clique.getParentSeparator();
+        if ( parentSep != null && parentSep != from ) {
+            distributeChangedEvidence(clique, parentSep, parentSep.getParent());
+        }
+
+        for ( JunctionTreeSeparator sep : clique.getChildren() ) {
+            if ( sep != from ) {
+                distributeChangedEvidence(clique, sep, sep.getChild());
+            }
+        }
+    }
+
+    private void distributeChangedEvidence(JunctionTreeClique clique, JunctionTreeSeparator sep, JunctionTreeClique targetClique) {
+        // a changed clique must still distribute its collected evidence onwards, even if this message did not change it
+        if ( passMessage(clique, sep, targetClique, true) || changedCliques[targetClique.getId()] ) {
+            distributeChangedEvidence(targetClique, sep);
         }
-        applyEvidence();
-        //recurseGlobalUpdate(tree.getRoot());
-        globalUpdate(tree.getRoot());
-        dirty = 0;
     }
 
     public void applyEvidence() {
@@ -366,51 +494,41 @@ public class BayesInstance<T> {
      * @param targetClique
      */
     public void passMessage( JunctionTreeClique sourceClique, JunctionTreeSeparator sep, JunctionTreeClique targetClique) {
-        double[] sepPots = separatorStates[sep.getId()].getPotentials();
-        double[] oldSepPots = Arrays.copyOf(sepPots, sepPots.length);
+        passMessage(sourceClique, sep, targetClique, false);
+    }
 
-        BayesVariable[] sepVars = sep.getValues().toArray(new BayesVariable[sep.getValues().size()]);
+    /**
+     * Passes the message using the buffers of this instance, the old separator potentials given to the listener
+     * are only valid for the duration of the call.
+     * @return false if skipUnchanged is set and the projection left the separator unchanged, so nothing was absorbed
+     */
+    private boolean passMessage( JunctionTreeClique sourceClique, JunctionTreeSeparator sep, JunctionTreeClique targetClique, boolean skipUnchanged) {
+        double[] sepPots = separatorStates[sep.getId()].getPotentials();
+        double[] oldSepPots = oldSepPotentials[sep.getId()];
+        System.arraycopy(sepPots, 0, oldSepPots, 0, sepPots.length);
 
         if ( passMessageListener != null ) {
             passMessageListener.beforeProjectAndAbsorb(sourceClique, sep, targetClique, oldSepPots);
         }
 
-        project(sepVars, cliqueStates[sourceClique.getId()], separatorStates[sep.getId()]);
+        BayesProjection.project(cliqueStates[sourceClique.getId()].getPotentials(), sourceClique.getOutcomeCounts(),
+                                sep.getStrides(sourceClique), sepPots, counters);
         if ( passMessageListener != null ) {
             passMessageListener.afterProject(sourceClique, sep, targetClique, oldSepPots);
         }
 
-        absorb(sepVars, cliqueStates[targetClique.getId()], separatorStates[sep.getId()], oldSepPots);
+        if ( skipUnchanged && Arrays.equals(sepPots, oldSepPots) ) {
+            return false;
+        }
+
+        double[] ratios = sepRatios[sep.getId()];
+        BayesAbsorption.dividePotentials(sepPots, oldSepPots, ratios);
+        BayesAbsorption.absorb(ratios, sep.getStrides(targetClique), targetClique.getOutcomeCounts(),
+                               cliqueStates[targetClique.getId()].getPotentials(), counters);
         if ( passMessageListener != null ) {
             passMessageListener.afterAbsorb(sourceClique, sep, targetClique, oldSepPots);
         }
-    }
-
-    //private static void project(BayesVariable[] sepVars, JunctionTreeNode node, JunctionTreeSeparator sep) {
-    private static void project(BayesVariable[] sepVars, CliqueState clique, SeparatorState separator) {
-        //JunctionTreeNode node, JunctionTreeSeparator sep
-        BayesVariable[] vars = clique.getJunctionTreeClique().getValues().toArray(new BayesVariable[clique.getJunctionTreeClique().getValues().size()]);
-        int[] sepVarPos = PotentialMultiplier.createSubsetVarPos(vars, sepVars);
-
-        int sepVarNumberOfStates = PotentialMultiplier.createNumberOfStates(sepVars);
-        int[] sepVarMultipliers = PotentialMultiplier.createIndexMultipliers(sepVars, sepVarNumberOfStates);
-
-        BayesProjection p = new BayesProjection(vars, clique.getPotentials(), sepVarPos, sepVarMultipliers, separator.getPotentials());
-        p.project();
-    }
-
-    //private static void absorb(BayesVariable[] sepVars, JunctionTreeNode node, JunctionTreeSeparator sep, double[] oldSepPots ) {
-    private static void absorb(BayesVariable[] sepVars, CliqueState clique, SeparatorState separator, double[] oldSepPots ) {
-        //BayesVariable[] vars = node.getValues().toArray( new BayesVariable[node.getValues().size()] );
-        BayesVariable[] vars = clique.getJunctionTreeClique().getValues().toArray(new BayesVariable[clique.getJunctionTreeClique().getValues().size()]);
-
-        int[] sepVarPos = PotentialMultiplier.createSubsetVarPos(vars, sepVars);
-
-        int sepVarNumberOfStates = PotentialMultiplier.createNumberOfStates(sepVars);
-        int[] sepVarMultipliers = PotentialMultiplier.createIndexMultipliers(sepVars, sepVarNumberOfStates);
-
-        BayesAbsorption p = new BayesAbsorption(sepVarPos, oldSepPots, separator.getPotentials(), sepVarMultipliers, vars, clique.getPotentials());
-        p.absorb();
+        return true;
     }
 
     public BayesVariableState marginalize(String name) {
@@ -477,7 +595,8 @@ public class BayesInstance<T> {
     public void marginalize(BayesVariableState varState) {
         CliqueState cliqueState = cliqueStates[varState.getVariable().getFamily()];
         JunctionTreeClique jtNode = cliqueState.getJunctionTreeClique();
-        new Marginalizer(jtNode.getValues().toArray( new BayesVariable[jtNode.getValues().size()]), cliqueState.getPotentials(), varState.getVariable(), varState.getDistribution() );
+        Marginalizer.marginalize(cliqueState.getPotentials(), jtNode.getOutcomeCounts(), jtNode.getValues().indexOf(varState.getVariable()),
+                                 varState.getDistribution(), counters);
 //        System.out.print( varState.getVariable().getName() + " " );
 //        for ( double d : varState.getDistribution() ) {
 //            System.out.print(d);
@@ -52,6 +52,35 @@ public class BayesProjection {
 
     }
 
+    /**
+     * Projects the source potentials into the target potentials in place, without recursion or allocation.
+     * The source states are walked in order, while the counters track the outcome of each source variable and the
+     * target index is moved by the stride of each variable, as created by PotentialMultiplier.createSubsetStrides.
+     * @param srcPotentials
+     * @param srcOutcomeCounts the number of outcomes of each source variable
+     * @param trgStrides the target index stride of each source variable
+     * @param trgPotentials
+     * @param counters a buffer at least as long as the number of source variables
+     */
+    public static void project(double[] srcPotentials, int[] srcOutcomeCounts, int[] trgStrides, double[] trgPotentials, int[] counters) {
+        Arrays.fill(trgPotentials, 0);
+        Arrays.fill(counters, 0, srcOutcomeCounts.length, 0);
+
+        int trgPotentialIndex = 0;
+        for ( int i = 0, length = srcPotentials.length; i < length; i++ ) {
+            trgPotentials[trgPotentialIndex] += srcPotentials[i];
+            for ( int var = srcOutcomeCounts.length - 1; var >= 0; var-- ) {
+                trgPotentialIndex += trgStrides[var];
+                if ( ++counters[var] < srcOutcomeCounts[var] ) {
+                    break;
+                }
+                trgPotentialIndex -= trgStrides[var] * srcOutcomeCounts[var];
+                counters[var] = 0;
+            }
+        }
+        BayesAbsorption.normalize(trgPotentials);
+    }
+
     public static void normalize(double[] darray, double sum) {
         for ( int i = 0; i < darray.length; i++ ) {
             darray[i] /= sum;
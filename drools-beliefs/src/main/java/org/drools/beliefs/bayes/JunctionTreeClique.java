@@ -26,6 +26,7 @@ public class JunctionTreeClique {
     private int                         id;
     private OpenBitSet bitSet;
     private List<BayesVariable>         values;
+    private int[]                       outcomeCounts;
     private JunctionTreeSeparator       parentSeparator;
     private List<JunctionTreeSeparator> children;
 
@@ -41,6 +42,7 @@ public class JunctionTreeClique {
         for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit( i + 1 ) ) {
             values.add(graph.getNode(i).getContent());
         }
+        outcomeCounts = PotentialMultiplier.createOutcomeCounts(values.toArray(new BayesVariable[values.size()]));
 
         int numberOfStates = PotentialMultiplier.createNumberOfStates(values);
         potentials = new double[numberOfStates];
@@ -64,6 +66,10 @@ public class JunctionTreeClique {
         return values;
     }
 
+    public int[] getOutcomeCounts() {
+        return outcomeCounts;
+    }
+
     public List<BayesVariable> getFamily() {
         return family;
     }
@@ -89,7 +95,7 @@ public class JunctionTreeClique {
     }
 
     public void resetState(CliqueState cliqueState) {
-        cliqueState.setPotentials( Arrays.copyOf(potentials, potentials.length) );
+        System.arraycopy(potentials, 0, cliqueState.getPotentials(), 0, potentials.length);
     }
 
     @Override
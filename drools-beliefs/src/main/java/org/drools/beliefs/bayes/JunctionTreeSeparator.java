@@ -28,6 +28,8 @@ public class JunctionTreeSeparator {
     private List<BayesVariable> values;
     private JunctionTreeClique  parent;
     private JunctionTreeClique  child;
+    private int[]               parentStrides;
+    private int[]               childStrides;
     //private double[]            potentials;
 
 
@@ -44,6 +46,10 @@ public class JunctionTreeSeparator {
         for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
             values.add(graph.getNode(i).getContent());
         }
+
+        BayesVariable[] sepVars = values.toArray(new BayesVariable[values.size()]);
+        parentStrides = PotentialMultiplier.createSubsetStrides(parent.getValues().toArray(new BayesVariable[parent.getValues().size()]), sepVars);
+        childStrides = PotentialMultiplier.createSubsetStrides(child.getValues().toArray(new BayesVariable[child.getValues().size()]), sepVars);
     }
 
     public OpenBitSet getBitSet() {
@@ -58,6 +64,13 @@ public class JunctionTreeSeparator {
         return child;
     }
 
+    /**
+     * Returns the separator index stride of each variable of the given clique, which must be either the parent or the child.
+     */
+    public int[] getStrides(JunctionTreeClique clique) {
+        return clique == parent ? parentStrides : childStrides;
+    }
+
     public int getId() {
         return id;
     }
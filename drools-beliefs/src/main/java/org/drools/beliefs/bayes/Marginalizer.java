@@ -15,6 +15,8 @@
 
 package org.drools.beliefs.bayes;
 
+import java.util.Arrays;
+
 public class Marginalizer {
 
     public Marginalizer(BayesVariable[]  srcVars, double[] srcPotentials, BayesVariable var,
@@ -28,4 +30,24 @@ public class Marginalizer {
         BayesProjection p = new BayesProjection(srcVars, srcPotentials, trgVarPos, trgVarMultipliers, varDistribution);
         p.project();
     }
+
+    /**
+     * Projects the source potentials onto the variable at varPos, writing into its distribution without allocation.
+     * @param counters a buffer at least as long as the number of source variables
+     */
+    public static void marginalize(double[] srcPotentials, int[] srcOutcomeCounts, int varPos, double[] varDistribution, int[] counters) {
+        Arrays.fill(varDistribution, 0);
+        Arrays.fill(counters, 0, srcOutcomeCounts.length, 0);
+
+        for ( int i = 0, length = srcPotentials.length; i < length; i++ ) {
+            varDistribution[counters[varPos]] += srcPotentials[i];
+            for ( int var = srcOutcomeCounts.length - 1; var >= 0; var-- ) {
+                if ( ++counters[var] < srcOutcomeCounts[var] ) {
+                    break;
+                }
+                counters[var] = 0;
+            }
+        }
+        BayesAbsorption.normalize(varDistribution);
+    }
 }
@@ -83,6 +83,28 @@ public class PotentialMultiplier {
         return parentVarPos;
     }
 
+    /**
+     * Returns, for each variable of vars, the amount the index of the subset potentials moves by when that variable
+     * moves on to its next outcome. Variables that are not part of the subset have a stride of 0.
+     */
+    public static int[] createSubsetStrides(BayesVariable[] vars, BayesVariable[] subset) {
+        int[] strides = new int[vars.length];
+        int[] subsetVarPos = createSubsetVarPos(vars, subset);
+        int[] subsetMultipliers = createIndexMultipliers(subset, createNumberOfStates(subset));
+        for ( int i = 0; i < subsetVarPos.length; i++ ) {
+            strides[subsetVarPos[i]] = subsetMultipliers[i];
+        }
+        return strides;
+    }
+
+    public static int[] createOutcomeCounts(BayesVariable[] vars) {
+        int[] outcomeCounts = new int[vars.length];
+        for ( int i = 0; i < vars.length; i++ ) {
+            outcomeCounts[i] = vars[i].getOutcomes().length;
+        }
+        return outcomeCounts;
+    }
+
     public void multiple() {
         varProbabilityTableRow = 0;
         trgPotentialIndex = 0;
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.beliefs.bayes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.drools.beliefs.graph.Graph;
+import org.drools.beliefs.graph.GraphNode;
+import org.drools.beliefs.graph.impl.EdgeImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests that the incremental propagation of added evidence leaves the junction tree in the same state as a
+ * full reset and propagation, on a network with more variables than a long has bits and a branching junction tree.
+ */
+public class IncrementalGlobalUpdateTest {
+
+    private static final int VARIABLES = 128;
+
+    private static final double DELTA = 1e-9;
+
+    private JunctionTree tree;
+
+    @Before
+    public void setUp() {
+        tree = new JunctionTreeBuilder(createNetwork()).build();
+    }
+
+    @Test
+    public void testJunctionTree() {
+        JunctionTreeClique[] cliques = tree.getJunctionTreeNodes();
+        for (int i = 0; i < cliques.length; i++) {
+            assertNotNull(cliques[i]);
+            assertEquals(i, cliques[i].getId());
+        }
+
+        // every separator has its own slot, also when the tree branches
+        JunctionTreeSeparator[] seps = tree.getJunctionTreeSeparators();
+        assertEquals(cliques.length - 1, seps.length);
+        for (int i = 0; i < seps.length; i++) {
+            assertNotNull(seps[i]);
+            assertEquals(i, seps[i].getId());
+        }
+
+        boolean branching = false;
+        for (JunctionTreeClique clique : cliques) {
+            branching |= clique.getChildren().size() > 1;
+        }
+        assertTrue(branching);
+    }
+
+    @Test
+    public void testAddedEvidence() {
+        BayesInstance instance = new BayesInstance(tree);
+        instance.globalUpdate();
+
+        // the ids above 63 would have aliased lower ones in a long mask
+        int[] evidenceIds = new int[]{70, 6, 127, 64, 1, 100, 33, 96};
+        List<double[]> distributions = new ArrayList<double[]>();
+        for (int i = 0; i < evidenceIds.length; i++) {
+            double[] distribution = new double[]{0.2 + 0.05 * i, 0.8 - 0.05 * i};
+            distributions.add(distribution);
+            instance.setLikelyhood("x" + evidenceIds[i], distribution);
+            instance.globalUpdate();
+
+            BayesInstance reference = new BayesInstance(tree);
+            for (int j = 0; j <= i; j++) {
+                reference.setLikelyhood("x" + evidenceIds[j], distributions.get(j));
+            }
+            reference.reset();
+            reference.globalUpdate();
+
+            assertSameMarginals(reference, instance);
+        }
+    }
+
+    @Test
+    public void testChangedEvidence() {
+        BayesInstance instance = new BayesInstance(tree);
+        instance.setLikelyhood("x70", new double[]{0.3, 0.7});
+        instance.setLikelyhood("x5", new double[]{0.6, 0.4});
+        instance.globalUpdate();
+
+        // changed and retracted evidence cannot be divided out, and must give the same result as a reset
+        instance.setLikelyhood("x70", new double[]{0.9, 0.1});
+        instance.unsetLikelyhood((BayesVariable) instance.getVariables().get("x5"));
+        assertTrue(instance.isDirty());
+        instance.globalUpdate();
+        assertFalse(instance.isDirty());
+
+        BayesInstance reference = new BayesInstance(tree);
+        reference.setLikelyhood("x70", new double[]{0.9, 0.1});
+        reference.globalUpdate();
+
+        assertSameMarginals(reference, instance);
+    }
+
+    @Test
+    public void testDecided() {
+        BayesInstance instance = new BayesInstance(tree);
+        BayesVariable x6 = (BayesVariable) instance.getVariables().get("x6");
+        BayesVariable x70 = (BayesVariable) instance.getVariables().get("x70");
+
+        instance.setDecided(x6, false);
+        instance.setDecided(x70, false);
+        instance.setDecided(x6, true);
+        assertFalse(instance.isDecided());
+        try {
+            instance.globalUpdate();
+            fail("x70 is undecided");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        instance.setDecided(x70, true);
+        assertTrue(instance.isDecided());
+        instance.globalUpdate();
+    }
+
+    private void assertSameMarginals(BayesInstance expected, BayesInstance actual) {
+        for (int i = 0; i < VARIABLES; i++) {
+            String name = "x" + i;
+            assertArrayEquals(name,
+                              expected.marginalize(name).getDistribution(),
+                              actual.marginalize(name).getDistribution(),
+                              DELTA);
+        }
+    }
+
+    /**
+     * Each variable is a child of the one at half its index, as in a binary heap, so that the junction tree branches.
+     * Every fourth variable also has the previous one as parent, closing loops that the triangulation has to fill in.
+     */
+    private static Graph<BayesVariable> createNetwork() {
+        Random random = new Random(0);
+        Graph<BayesVariable> graph = new BayesNetwork();
+        List<GraphNode<BayesVariable>> nodes = new ArrayList<GraphNode<BayesVariable>>(VARIABLES);
+        for (int i = 0; i < VARIABLES; i++) {
+            GraphNode<BayesVariable> node = graph.addNode();
+
+            Set<Integer> parents = new TreeSet<Integer>();
+            if (i > 0) {
+                parents.add((i - 1) / 2);
+            }
+            if (i > 0 && i % 4 == 0) {
+                parents.add(i - 1);
+            }
+            for (int parent : parents) {
+                EdgeImpl edge = new EdgeImpl();
+                edge.setOutGraphNode(nodes.get(parent));
+                edge.setInGraphNode(node);
+            }
+
+            double[][] probabilityTable = new double[1 << parents.size()][];
+            for (int j = 0; j < probabilityTable.length; j++) {
+                double p = 0.05 + 0.9 * random.nextDouble();
+                probabilityTable[j] = new double[]{p, 1 - p};
+            }
+            node.setContent(new BayesVariable<String>("x" + i, node.getId(), new String[]{"false", "true"}, probabilityTable));
+            nodes.add(node);
+        }
+        return graph;
+    }
+}
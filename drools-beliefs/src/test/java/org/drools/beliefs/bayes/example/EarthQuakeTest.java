@@ -192,4 +192,43 @@ public class EarthQuakeTest {
         assertArray( new double[]{0.881, 0.119}, scaleDouble(3, bayesInstance.marginalize("Alarm").getDistribution()) );
     }
 
+    @Test
+    public void testIncrementalEvidence() {
+        BayesInstance bayesInstance = new BayesInstance(jTree);
+        bayesInstance.globalUpdate();
+
+        // added evidence is propagated from the cliques it changed, without a reset
+        bayesInstance.setLikelyhood("JohnCalls", new double[]{1.0, 0.0});
+        bayesInstance.globalUpdate();
+
+        assertArray( new double[]{0.04, 0.96 }, scaleDouble( 3, bayesInstance.marginalize("MaryCalls").getDistribution() ) );
+
+        assertArray( new double[]{0.016, 0.984}, scaleDouble(3, bayesInstance.marginalize("Burglary").getDistribution()) );
+
+        bayesInstance.setLikelyhood("Earthquake", new double[]{1.0, 0.0});
+        bayesInstance.globalUpdate();
+
+        assertArray( new double[]{1.0, 0.0}, scaleDouble(3, bayesInstance.marginalize("JohnCalls").getDistribution()) );
+
+        assertArray( new double[]{0.618, 0.382 }, scaleDouble( 3, bayesInstance.marginalize("MaryCalls").getDistribution() ) );
+
+        assertArray( new double[]{0.003, 0.997}, scaleDouble(3, bayesInstance.marginalize("Burglary").getDistribution()) );
+
+        assertArray( new double[]{ 1.0, 0.0}, scaleDouble( 3, bayesInstance.marginalize("Earthquake").getDistribution() ) );
+
+        assertArray( new double[]{0.881, 0.119}, scaleDouble(3, bayesInstance.marginalize("Alarm").getDistribution()) );
+
+        // retracted evidence cannot be divided out, so the network is reset
+        bayesInstance.unsetLikelyhood(earthquake);
+        bayesInstance.globalUpdate();
+
+        assertArray( new double[]{0.04, 0.96 }, scaleDouble( 3, bayesInstance.marginalize("MaryCalls").getDistribution() ) );
+
+        assertArray( new double[]{0.016, 0.984}, scaleDouble(3, bayesInstance.marginalize("Burglary").getDistribution()) );
+
+        assertArray( new double[]{0.011, 0.989}, scaleDouble( 3, bayesInstance.marginalize("Earthquake").getDistribution() ) );
+
+        assertArray( new double[]{0.043, 0.957}, scaleDouble(3, bayesInstance.marginalize("Alarm").getDistribution()) );
+    }
+
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.beliefs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.beliefs.bayes.BayesInstance;
+import org.drools.beliefs.bayes.BayesNetwork;
+import org.drools.beliefs.bayes.BayesVariable;
+import org.drools.beliefs.bayes.BayesVariableState;
+import org.drools.beliefs.bayes.JunctionTree;
+import org.drools.beliefs.bayes.JunctionTreeBuilder;
+import org.drools.beliefs.graph.Graph;
+import org.drools.beliefs.graph.GraphNode;
+import org.drools.beliefs.graph.impl.EdgeImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of adding one piece of evidence to a random belief network and updating it, either incrementally from
+ * the clique of the evidence or with a full reset and propagation of all the evidence. The parents of each variable
+ * are chosen among the window of variables before it, which bounds the treewidth of the network.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BayesUpdateBenchmark {
+
+    private static final int MAX_PARENTS = 3;
+
+    private static final int EVIDENCE_PER_RUN = 20;
+
+    @Param({"200"})
+    private int variablesNumber;
+
+    @Param({"2", "4", "8"})
+    private int window;
+
+    @Param({"true", "false"})
+    private boolean incremental;
+
+    private BayesInstance instance;
+    private List<BayesVariable> evidenceVariables;
+    private int evidenceCount;
+
+    @Setup(Level.Trial)
+    public void setupNetwork() {
+        Random random = new Random(0);
+        JunctionTree tree = new JunctionTreeBuilder(createNetwork(random)).build();
+        instance = new BayesInstance(tree);
+
+        evidenceVariables = new ArrayList<>(instance.getVariables().values());
+        Collections.shuffle(evidenceVariables, random);
+        evidenceVariables = evidenceVariables.subList(0, EVIDENCE_PER_RUN);
+        evidenceCount = EVIDENCE_PER_RUN;
+    }
+
+    @Setup(Level.Invocation)
+    public void setupEvidence() {
+        if (evidenceCount == EVIDENCE_PER_RUN) {
+            // start again from a network without evidence, so that the benchmark only ever adds evidence
+            for (BayesVariable var : evidenceVariables) {
+                instance.unsetLikelyhood(var);
+            }
+            instance.globalUpdate();
+            evidenceCount = 0;
+        }
+    }
+
+    @Benchmark
+    public BayesVariableState addEvidence() {
+        BayesVariable var = evidenceVariables.get(evidenceCount++);
+        instance.setLikelyhood(var, new double[]{0.3, 0.7});
+        if (!incremental) {
+            instance.reset();
+        }
+        instance.globalUpdate();
+        return instance.marginalize(evidenceVariables.get(0).getName());
+    }
+
+    private Graph<BayesVariable> createNetwork(Random random) {
+        Graph<BayesVariable> graph = new BayesNetwork();
+        List<GraphNode<BayesVariable>> nodes = new ArrayList<>(variablesNumber);
+        for (int i = 0; i < variablesNumber; i++) {
+            GraphNode<BayesVariable> node = graph.addNode();
+
+            int candidates = Math.min(window, i);
+            int parentsNumber = candidates == 0 ? 0 : 1 + random.nextInt(Math.min(MAX_PARENTS, candidates));
+            Set<Integer> parents = new TreeSet<>();
+            while (parents.size() < parentsNumber) {
+                parents.add(i - 1 - random.nextInt(candidates));
+            }
+            for (int parent : parents) {
+                EdgeImpl edge = new EdgeImpl();
+                edge.setOutGraphNode(nodes.get(parent));
+                edge.setInGraphNode(node);
+            }
+
+            double[][] probabilityTable = new double[1 << parentsNumber][];
+            for (int j = 0; j < probabilityTable.length; j++) {
+                double p = 0.05 + 0.9 * random.nextDouble();
+                probabilityTable[j] = new double[]{p, 1 - p};
+            }
+            node.setContent(new BayesVariable<>("x" + i, node.getId(), new String[]{"false", "true"}, probabilityTable));
+            nodes.add(node);
+        }
+        return graph;
+    }
+}
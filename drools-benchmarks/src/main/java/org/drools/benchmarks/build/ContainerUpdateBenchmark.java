@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.build;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Person;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of serving requests from a container while it is continuously updated, alternating between two versions
+ * of a large kjar, with the incremental update and with the swap of the KieBases rebuilt from scratch. The percentiles
+ * of the <code>serve</code> results show how long the request threads are stalled by the updates.
+ */
+@State(Scope.Group)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContainerUpdateBenchmark {
+
+    @Param({"DRL", "EXEC_MODEL"})
+    private BuildType buildType;
+
+    @Param({"false", "true"})
+    private boolean swapOnUpdate;
+
+    @Param({"1000"})
+    private int rulesNumber;
+
+    private ReleaseId[] releaseIds;
+    private KieContainer kieContainer;
+    private int updatesCounter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        KieServices ks = KieServices.get();
+        releaseIds = new ReleaseId[] {
+                ks.newReleaseId("org.drools.benchmarks", "kjar-update", "1.0"),
+                ks.newReleaseId("org.drools.benchmarks", "kjar-update", "1.1")
+        };
+        for (int i = 0; i < releaseIds.length; i++) {
+            KieBaseBuilder.buildKJar(ks, releaseIds[i], buildType, EventProcessingOption.CLOUD, generateDrl(i));
+        }
+        System.setProperty(KieContainerImpl.SWAP_ON_UPDATE_OPTION, String.valueOf(swapOnUpdate));
+        kieContainer = ks.newKieContainer(releaseIds[0]);
+        kieContainer.getKieBase();
+    }
+
+    private String generateDrl(int version) {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n" +
+                                              "import " + Account.class.getCanonicalName() + ";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+                    .append("  Person( $name : name, age > ").append(i + version).append(" )\n")
+                    .append("  Account( owner == $name, balance > ").append(i).append(" )\n")
+                    .append("then end\n");
+        }
+        return drl.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.clearProperty(KieContainerImpl.SWAP_ON_UPDATE_OPTION);
+        kieContainer.dispose();
+    }
+
+    @Benchmark
+    @Group("update")
+    @GroupThreads(4)
+    public int serve() {
+        KieSession kieSession = kieContainer.newKieSession();
+        try {
+            kieSession.insert(new Person("Mario", 40));
+            kieSession.insert(new Account(1, "Mario", 30));
+            return kieSession.fireAllRules();
+        } finally {
+            kieSession.dispose();
+        }
+    }
+
+    @Benchmark
+    @Group("update")
+    @GroupThreads(1)
+    public Object update() {
+        return kieContainer.updateToVersion(releaseIds[++updatesCounter % releaseIds.length]);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.build;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.EventProcessingOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compilation of a kjar and creation of its default kbase.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KieBaseBuildBenchmark {
+
+    @Param({"DRL", "EXEC_MODEL"})
+    private BuildType buildType;
+
+    @Param({"1000"})
+    private int rulesNumber;
+
+    @Param({"50"})
+    private int rulesPerFile;
+
+    private String[] drls;
+
+    @Setup(Level.Trial)
+    public void generateDrls() {
+        int filesNumber = (rulesNumber + rulesPerFile - 1) / rulesPerFile;
+        drls = new String[filesNumber];
+        for (int i = 0; i < filesNumber; i++) {
+            StringBuilder drl = new StringBuilder("package org.drools.benchmarks;\n" +
+                                                  "import " + Person.class.getCanonicalName() + ";\n" +
+                                                  "import " + Account.class.getCanonicalName() + ";\n");
+            for (int j = i * rulesPerFile; j < Math.min(rulesNumber, (i + 1) * rulesPerFile); j++) {
+                drl.append("rule R").append(j).append(" when\n")
+                        .append("  Person( $name : name, age > ").append(j).append(" )\n")
+                        .append("  Account( owner == $name, balance > ").append(j).append(" )\n")
+                        .append("then\n")
+                        .append("  System.out.println( $name );\n")
+                        .append("end\n");
+            }
+            drls[i] = drl.toString();
+        }
+    }
+
+    @Benchmark
+    public KieBase buildKieBase() {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.benchmarks", "kjar-build", "1.0");
+        KieBaseBuilder.buildKJar(ks, releaseId, buildType, EventProcessingOption.CLOUD, drls);
+        KieBase kieBase = ks.newKieContainer(releaseId).getKieBase();
+        ks.getRepository().removeKieModule(releaseId);
+        return kieBase;
+    }
+}
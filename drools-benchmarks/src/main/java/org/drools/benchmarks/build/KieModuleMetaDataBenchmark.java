@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.build;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Person;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.scanner.KieModuleMetaData;
+import org.kie.scanner.KieModuleMetaDataImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of indexing the metadata of a kjar with a large graph of dependencies, as done when a container is created
+ * by the tooling, with and without the persistent per jar index.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KieModuleMetaDataBenchmark {
+
+    @Param({"false", "true"})
+    private boolean persistentIndex;
+
+    @Param({"150"})
+    private int dependenciesNumber;
+
+    @Param({"500"})
+    private int classesPerDependency;
+
+    private File dependenciesFolder;
+    private List<URI> dependencies;
+    private InternalKieModule kieModule;
+
+    @Setup(Level.Trial)
+    public void generateDependencies() throws IOException {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.benchmarks", "kjar-metadata", "1.0");
+        KieBaseBuilder.buildKJar(ks, releaseId, BuildType.DRL, EventProcessingOption.CLOUD,
+                                 "import " + Person.class.getCanonicalName() + ";\n" +
+                                 "rule R when Person( age > 18 ) then end\n");
+        kieModule = (InternalKieModule) ks.getRepository().getKieModule(releaseId);
+
+        dependenciesFolder = Files.createTempDirectory("kie-metadata-benchmark").toFile();
+        dependencies = new ArrayList<>(dependenciesNumber);
+        byte[] classBytes = new byte[2048];
+        for (int i = 0; i < dependenciesNumber; i++) {
+            File jar = new File(dependenciesFolder, "dependency" + i + ".jar");
+            try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(jar))) {
+                for (int j = 0; j < classesPerDependency; j++) {
+                    zos.putNextEntry(new ZipEntry("org/drools/benchmarks/dep" + i + "/pkg" + (j % 10) + "/Class" + j + ".class"));
+                    zos.write(classBytes);
+                    zos.closeEntry();
+                }
+            }
+            dependencies.add(jar.toURI());
+        }
+        System.setProperty(KieModuleMetaDataImpl.PERSISTENT_INDEX_PROPERTY, String.valueOf(persistentIndex));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDependencies() {
+        System.clearProperty(KieModuleMetaDataImpl.PERSISTENT_INDEX_PROPERTY);
+        File[] files = dependenciesFolder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dependenciesFolder.delete();
+    }
+
+    @Benchmark
+    public KieModuleMetaData indexKieModule() {
+        return new KieModuleMetaDataImpl(kieModule, dependencies);
+    }
+}
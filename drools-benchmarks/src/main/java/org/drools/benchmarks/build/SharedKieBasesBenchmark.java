@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.build;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Person;
+import org.drools.compiler.kie.builder.impl.SharedKieModuleArtifacts;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieContainer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time and retained heap of creating many containers, and their default kbase, on the same kjar with and without
+ * sharing the kbases among them. The retained heap per container is reported in the secondary result
+ * <code>heapBytesPerContainer</code>.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SharedKieBasesBenchmark {
+
+    @Param({"DRL", "EXEC_MODEL"})
+    private BuildType buildType;
+
+    @Param({"false", "true"})
+    private boolean shareKieBases;
+
+    @Param({"50"})
+    private int containersNumber;
+
+    @Param({"500"})
+    private int rulesNumber;
+
+    private ReleaseId releaseId;
+    private List<KieContainer> containers;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounter {
+        public long heapBytesPerContainer;
+    }
+
+    @Setup(Level.Trial)
+    public void buildKJar() {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n" +
+                                              "import " + Account.class.getCanonicalName() + ";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+                    .append("  Person( $name : name, age > ").append(i).append(" )\n")
+                    .append("  Account( owner == $name, balance > ").append(i).append(" )\n")
+                    .append("then end\n");
+        }
+        KieServices ks = KieServices.get();
+        releaseId = ks.newReleaseId("org.drools.benchmarks", "kjar-shared", "1.0");
+        KieBaseBuilder.buildKJar(ks, releaseId, buildType, EventProcessingOption.CLOUD, drl.toString());
+        System.setProperty(SharedKieModuleArtifacts.SHARE_KIE_BASES_OPTION, String.valueOf(shareKieBases));
+    }
+
+    @TearDown(Level.Trial)
+    public void clearOption() {
+        System.clearProperty(SharedKieModuleArtifacts.SHARE_KIE_BASES_OPTION);
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeContainers() {
+        containers.forEach(KieContainer::dispose);
+        containers = null;
+    }
+
+    @Benchmark
+    public List<KieContainer> createContainers(HeapCounter counter) {
+        long usedHeapBefore = usedHeap();
+        containers = new ArrayList<>(containersNumber);
+        for (int i = 0; i < containersNumber; i++) {
+            KieContainer container = KieServices.get().newKieContainer(releaseId);
+            container.getKieBase();
+            containers.add(container);
+        }
+        counter.heapBytesPerContainer = (usedHeap() - usedHeapBefore) / containersNumber;
+        return containers;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.common;
+
+import org.drools.compiler.kie.builder.impl.DrlProject;
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.kie.api.builder.KieBuilder;
+
+/**
+ * The ways a kjar can be compiled: every benchmark is run with both of them.
+ */
+public enum BuildType {
+
+    DRL(DrlProject.class),
+    EXEC_MODEL(ExecutableModelProject.class);
+
+    private final Class<? extends KieBuilder.ProjectType> projectType;
+
+    BuildType(Class<? extends KieBuilder.ProjectType> projectType) {
+        this.projectType = projectType;
+    }
+
+    public Class<? extends KieBuilder.ProjectType> getProjectType() {
+        return projectType;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.common;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieContainer;
+
+public final class KieBaseBuilder {
+
+    private KieBaseBuilder() { }
+
+    public static KieBase build(BuildType buildType, String... drls) {
+        return build(buildType, EventProcessingOption.CLOUD, drls);
+    }
+
+    public static KieBase build(BuildType buildType, EventProcessingOption eventProcessingOption, String... drls) {
+        return buildContainer(buildType, eventProcessingOption, drls).getKieBase();
+    }
+
+    public static KieContainer buildContainer(BuildType buildType, EventProcessingOption eventProcessingOption, String... drls) {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.benchmarks", "kjar-" + UUID.randomUUID(), "1.0");
+        buildKJar(ks, releaseId, buildType, eventProcessingOption, drls);
+        return ks.newKieContainer(releaseId);
+    }
+
+    public static void buildKJar(KieServices ks, ReleaseId releaseId, BuildType buildType, EventProcessingOption eventProcessingOption, String... drls) {
+        KieModuleModel kproj = ks.newKieModuleModel();
+        kproj.newKieBaseModel("kbase")
+                .setDefault(true)
+                .setEventProcessingMode(eventProcessingOption)
+                .newKieSessionModel("ksession")
+                .setDefault(true);
+
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.writeKModuleXML(kproj.toXML());
+        kfs.generateAndWritePomXML(releaseId);
+        for (int i = 0; i < drls.length; i++) {
+            kfs.write("src/main/resources/org/drools/benchmarks/rules" + i + ".drl", drls[i]);
+        }
+
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll(buildType.getProjectType());
+        List<Message> errors = kieBuilder.getResults().getMessages(Message.Level.ERROR);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Unable to build the benchmark kjar: " + errors);
+        }
+    }
+}
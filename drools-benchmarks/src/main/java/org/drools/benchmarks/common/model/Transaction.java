@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.common.model;
+
+import org.kie.api.definition.type.Expires;
+import org.kie.api.definition.type.Role;
+import org.kie.api.definition.type.Timestamp;
+
+@Role(Role.Type.EVENT)
+@Timestamp("timestamp")
+@Expires("10m")
+public class Transaction {
+
+    private final int accountId;
+    private final long amount;
+    private final long timestamp;
+
+    public Transaction(int accountId, long amount, long timestamp) {
+        this.accountId = accountId;
+        this.amount = amount;
+        this.timestamp = timestamp;
+    }
+
+    public int getAccountId() {
+        return accountId;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "Transaction{accountId=" + accountId + ", amount=" + amount + ", timestamp=" + timestamp + "}";
+    }
+}
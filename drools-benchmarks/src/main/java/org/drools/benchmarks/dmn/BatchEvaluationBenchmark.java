@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput, in evaluated contexts per second, of a batch of contexts evaluated against the same model, looping over
+ * the single context evaluation and using the batch evaluation, which spreads the contexts over the available cores.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchEvaluationBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"100", "1000"})
+    private int rules;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext[] contexts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        runtime = DMNModels.newRuntime(DMNModels.pricingTable("pricing", rules, "FIRST", false));
+        model = DMNModels.getModel(runtime, "pricing");
+
+        Random random = new Random(0);
+        contexts = new DMNContext[BATCH_SIZE];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = runtime.newContext();
+            contexts[i].set("category", "c" + random.nextInt(DMNModels.CATEGORIES));
+            contexts[i].set("amount", new BigDecimal(random.nextInt(DMNModels.maxAmount(rules))));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void evaluateLoop(Blackhole bh) {
+        for (DMNContext context : contexts) {
+            bh.consume(runtime.evaluateAll(model, context));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void evaluateBatch(Blackhole bh) {
+        // the contexts are pulled lazily from a stream, as they would be when read from a large input
+        runtime.evaluateAll(model, IntStream.range(0, BATCH_SIZE).mapToObj(i -> contexts[i])).forEach(bh::consume);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.kie.api.io.Resource;
+import org.kie.dmn.api.core.DMNCompiler;
+import org.kie.dmn.api.core.DMNCompilerConfiguration;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.kie.internal.io.ResourceFactory;
+
+public final class DMNModels {
+
+    public static final String NAMESPACE = "https://kiegroup.org/dmn/benchmarks";
+
+    public static final int CATEGORIES = 20;
+    public static final int BAND_WIDTH = 10;
+
+    private DMNModels() { }
+
+    public static DMNRuntime newRuntime(String... dmnXmls) {
+        return newRuntime(DMNRuntimeBuilder.fromDefaults(), dmnXmls);
+    }
+
+    public static DMNRuntime newRuntime(DMNRuntimeBuilder builder, String... dmnXmls) {
+        return newRuntime(builder, DMNCompilerImpl::new, dmnXmls);
+    }
+
+    public static DMNRuntime newRuntime(DMNRuntimeBuilder builder, Function<DMNCompilerConfiguration, DMNCompiler> compiler, String... dmnXmls) {
+        Resource[] resources = new Resource[dmnXmls.length];
+        for (int i = 0; i < dmnXmls.length; i++) {
+            resources[i] = ResourceFactory.newByteArrayResource(dmnXmls[i].getBytes());
+            resources[i].setSourcePath("model" + i + ".dmn");
+        }
+        return builder.buildConfigurationUsingCustomCompiler(compiler)
+                .fromResources(Arrays.asList(resources))
+                .getOrElseThrow(e -> new IllegalStateException("Unable to build the benchmark DMN models", e));
+    }
+
+    public static DMNModel getModel(DMNRuntime runtime, String name) {
+        DMNModel model = runtime.getModel(NAMESPACE, name);
+        if (model == null || model.hasErrors()) {
+            throw new IllegalStateException("Invalid benchmark DMN model " + name + ": " +
+                                            (model != null ? model.getMessages() : Collections.emptyList()));
+        }
+        return model;
+    }
+
+    /**
+     * A pricing decision table with the given number of rules: each rule matches a category, among
+     * {@link #CATEGORIES} ones, and an amount band of width {@link #BAND_WIDTH}, so that exactly one rule
+     * matches any category and amount in the covered domain. When literalEntries is false the same tests are
+     * written as boolean expressions on "?", that can't be indexed.
+     */
+    public static String pricingTable(String name, int rules, String hitPolicy, boolean literalEntries) {
+        StringBuilder sb = new StringBuilder();
+        appendHeader(sb, name);
+        appendPricingDecision(sb, "price", rules, hitPolicy, literalEntries);
+        sb.append("</definitions>\n");
+        return sb.toString();
+    }
+
+    /**
+     * A wide decision graph: the given number of independent pricing decisions, each one a FIRST hit decision table
+     * as the non literal one of {@link #pricingTable(String, int, String, boolean)}, named "score0", "score1", ..., and
+     * a "total" decision summing all of them.
+     */
+    public static String wideDrg(String name, int width, int rules) {
+        StringBuilder sb = new StringBuilder();
+        appendHeader(sb, name);
+        StringBuilder sum = new StringBuilder("sum([");
+        for (int k = 0; k < width; k++) {
+            appendPricingDecision(sb, "score" + k, rules, "FIRST", false);
+            sum.append(k > 0 ? ", " : "").append("score").append(k);
+        }
+        sum.append("])");
+        sb.append("  <decision id=\"_total\" name=\"total\">\n")
+                .append("    <variable name=\"total\" typeRef=\"number\"/>\n");
+        for (int k = 0; k < width; k++) {
+            sb.append("    <informationRequirement><requiredDecision href=\"#_score").append(k).append("\"/></informationRequirement>\n");
+        }
+        sb.append("    <literalExpression><text>").append(sum).append("</text></literalExpression>\n")
+                .append("  </decision>\n")
+                .append("</definitions>\n");
+        return sb.toString();
+    }
+
+    /**
+     * A single decision with a literal expression summing the squares of the given number of number input data,
+     * named "x0", "x1", ..., so that each input is referenced twice.
+     */
+    public static String sumOfSquares(String name, int inputs) {
+        StringBuilder sb = new StringBuilder();
+        appendHeader(sb, name);
+        StringBuilder expression = new StringBuilder();
+        for (int k = 0; k < inputs; k++) {
+            sb.append("  <inputData id=\"_x").append(k).append("\" name=\"x").append(k).append("\"><variable name=\"x").append(k).append("\" typeRef=\"number\"/></inputData>\n");
+            expression.append(k > 0 ? " + " : "").append("x").append(k).append(" * x").append(k);
+        }
+        sb.append("  <decision id=\"_score\" name=\"score\">\n")
+                .append("    <variable name=\"score\" typeRef=\"number\"/>\n");
+        for (int k = 0; k < inputs; k++) {
+            sb.append("    <informationRequirement><requiredInput href=\"#_x").append(k).append("\"/></informationRequirement>\n");
+        }
+        sb.append("    <literalExpression><text>").append(expression).append("</text></literalExpression>\n")
+                .append("  </decision>\n")
+                .append("</definitions>\n");
+        return sb.toString();
+    }
+
+    private static void appendHeader(StringBuilder sb, String name) {
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" id=\"").append(name)
+                .append("\" name=\"").append(name).append("\" namespace=\"").append(NAMESPACE).append("\">\n")
+                .append("  <inputData id=\"_category\" name=\"category\"><variable name=\"category\" typeRef=\"string\"/></inputData>\n")
+                .append("  <inputData id=\"_amount\" name=\"amount\"><variable name=\"amount\" typeRef=\"number\"/></inputData>\n");
+    }
+
+    private static void appendPricingDecision(StringBuilder sb, String decision, int rules, String hitPolicy, boolean literalEntries) {
+        sb.append("  <decision id=\"_").append(decision).append("\" name=\"").append(decision).append("\">\n")
+                .append("    <variable name=\"").append(decision).append("\" typeRef=\"number\"/>\n")
+                .append("    <informationRequirement><requiredInput href=\"#_category\"/></informationRequirement>\n")
+                .append("    <informationRequirement><requiredInput href=\"#_amount\"/></informationRequirement>\n")
+                .append("    <decisionTable id=\"_").append(decision).append("_dt\" hitPolicy=\"").append(hitPolicy).append("\">\n")
+                .append("      <input id=\"_").append(decision).append("_in1\"><inputExpression typeRef=\"string\"><text>category</text></inputExpression></input>\n")
+                .append("      <input id=\"_").append(decision).append("_in2\"><inputExpression typeRef=\"number\"><text>amount</text></inputExpression></input>\n")
+                .append("      <output id=\"_").append(decision).append("_out1\"/>\n");
+        for (int i = 0; i < rules; i++) {
+            String category = "\"c" + (i % CATEGORIES) + "\"";
+            int low = (i / CATEGORIES) * BAND_WIDTH;
+            int high = low + BAND_WIDTH;
+            String categoryEntry = literalEntries ? category : "? = " + category;
+            String amountEntry = literalEntries ? "[" + low + ".." + high + ")" : "? >= " + low + " and ? < " + high;
+            sb.append("      <rule id=\"_").append(decision).append("_r").append(i).append("\">")
+                    .append("<inputEntry><text>").append(escape(categoryEntry)).append("</text></inputEntry>")
+                    .append("<inputEntry><text>").append(escape(amountEntry)).append("</text></inputEntry>")
+                    .append("<outputEntry><text>").append(i).append("</text></outputEntry>")
+                    .append("</rule>\n");
+        }
+        sb.append("    </decisionTable>\n")
+                .append("  </decision>\n");
+    }
+
+    public static int maxAmount(int rules) {
+        return ((rules + CATEGORIES - 1) / CATEGORIES) * BAND_WIDTH;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.compiler.ExecModelCompilerOption;
+import org.kie.dmn.core.compiler.execmodelbased.PrecompiledClassLoader;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to build the runtime of a project of several models, compiling their FEEL from the DMN XML or loading the
+ * classes generated for it at build time, as found in a kjar built with deferred compilation. Each invocation loads
+ * the generated classes in a new ClassLoader, so that their loading is measured as it happens at container start.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DMNStartupBenchmark {
+
+    @Param({"10", "100"})
+    private int models;
+
+    @Param({"16"})
+    private int inputs;
+
+    @Param({"false", "true"})
+    private boolean precompiled;
+
+    private String[] dmnXmls;
+    private PrecompiledClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dmnXmls = new String[models];
+        for (int i = 0; i < models; i++) {
+            dmnXmls[i] = DMNModels.sumOfSquares("model" + i, inputs);
+        }
+        if (precompiled) {
+            generateClasses();
+        }
+    }
+
+    private void generateClasses() {
+        List<GeneratedSource> generatedSources = new ArrayList<>();
+        DMNModels.newRuntime(newBuilder(), cc -> {
+            ((DMNCompilerConfigurationImpl) cc).setDeferredCompilation(true);
+            cc.addListener(generatedSources::addAll);
+            return new DMNCompilerImpl(cc);
+        }, dmnXmls);
+        classLoader = PrecompiledClassLoader.compile(generatedSources, getClass().getClassLoader());
+    }
+
+    @Benchmark
+    public DMNRuntime startup() {
+        DMNRuntimeBuilder builder = newBuilder();
+        if (precompiled) {
+            builder.setRootClassLoader(classLoader.copy());
+        }
+        return DMNModels.newRuntime(builder, dmnXmls);
+    }
+
+    private static DMNRuntimeBuilder newBuilder() {
+        // the literal expressions are generated and loaded only when they are compiled by the exec model compiler
+        return DMNRuntimeBuilder.fromDefaults().setOption(new ExecModelCompilerOption(true));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
+import org.kie.dmn.model.api.Definitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to unmarshal a model made of a large decision table. Run it with "-prof gc" to compare the memory allocated
+ * by each unmarshalling (gc.alloc.rate.norm).
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DMNUnmarshallingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rules;
+
+    private DMNMarshaller marshaller;
+    private String xml;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        marshaller = DMNMarshallerFactory.newDefaultMarshaller();
+        xml = DMNModels.pricingTable("pricing", rules, "UNIQUE", true);
+    }
+
+    @Benchmark
+    public Definitions unmarshalString() {
+        return marshaller.unmarshal(xml);
+    }
+
+    @Benchmark
+    public Definitions unmarshalReader() {
+        return marshaller.unmarshal(new StringReader(xml));
+    }
+}
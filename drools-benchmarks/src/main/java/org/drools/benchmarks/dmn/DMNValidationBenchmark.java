@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
+import org.kie.dmn.model.api.Definitions;
+import org.kie.dmn.validation.DMNValidator;
+import org.kie.dmn.validation.DMNValidator.Validation;
+import org.kie.dmn.validation.DMNValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to create a validator, to validate a set of models made of a decision table, sequentially or on the common
+ * pool, and to analyse their decision tables.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DMNValidationBenchmark {
+
+    @Param({"16"})
+    private int models;
+
+    @Param({"100", "1000"})
+    private int rules;
+
+    private DMNValidator validator;
+    private Definitions[] definitions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        validator = DMNValidatorFactory.newValidator();
+        DMNMarshaller marshaller = DMNMarshallerFactory.newDefaultMarshaller();
+        definitions = new Definitions[models];
+        for (int i = 0; i < models; i++) {
+            definitions[i] = marshaller.unmarshal(DMNModels.pricingTable("pricing" + i, rules, "UNIQUE", true));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validator.dispose();
+    }
+
+    @Benchmark
+    public void newValidator() {
+        DMNValidatorFactory.newValidator().dispose();
+    }
+
+    @Benchmark
+    public List<DMNMessage> validateModels() {
+        return validator.validateUsing(Validation.VALIDATE_MODEL)
+                .theseModels(definitions);
+    }
+
+    @Benchmark
+    public List<DMNMessage> validateModelsConcurrently() {
+        return validator.validateUsing(Validation.VALIDATE_MODEL)
+                .usingExecutor(ForkJoinPool.commonPool())
+                .theseModels(definitions);
+    }
+
+    @Benchmark
+    public List<DMNMessage> analyseDecisionTable() {
+        return validator.validate(definitions[0], Validation.ANALYZE_DECISION_TABLE);
+    }
+}
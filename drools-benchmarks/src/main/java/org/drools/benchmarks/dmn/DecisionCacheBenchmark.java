@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.compiler.DecisionCacheOption;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation throughput of a repetitive traffic, made of requests drawn from a limited number of distinct inputs,
+ * with and without the decision cache. When the distinct inputs exceed the size of the cache the hit ratio drops
+ * and the cost of the cache lookups can be observed.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecisionCacheBenchmark {
+
+    @Param({"1000"})
+    private int rules;
+
+    @Param({"10", "1000", "100000"})
+    private int distinctInputs;
+
+    @Param({"false", "true"})
+    private boolean decisionCache;
+
+    @Param({"10000"})
+    private int cacheSize;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext[] contexts;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DecisionCacheOption option = new DecisionCacheOption(String.valueOf(decisionCache), cacheSize, DecisionCacheOption.DEFAULT_TTL);
+        runtime = DMNModels.newRuntime(DMNRuntimeBuilder.fromDefaults().setOption(option),
+                                       DMNModels.pricingTable("pricing", rules, "FIRST", false));
+        model = DMNModels.getModel(runtime, "pricing");
+
+        Random random = new Random(0);
+        int maxAmount = DMNModels.maxAmount(rules);
+        contexts = new DMNContext[16384];
+        for (int i = 0; i < contexts.length; i++) {
+            // each request has its own context, equal to the ones of the other requests with the same input
+            int input = random.nextInt(distinctInputs);
+            contexts[i] = runtime.newContext();
+            contexts[i].set("category", "c" + (input % DMNModels.CATEGORIES));
+            contexts[i].set("amount", new BigDecimal((input / DMNModels.CATEGORIES) % maxAmount));
+        }
+    }
+
+    @Benchmark
+    public DMNResult evaluate() {
+        return runtime.evaluateAll(model, contexts[counter++ & (contexts.length - 1)]);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation throughput of a decision table of growing size, under different hit policies. The same tests are
+ * written either as literal input entries, that are indexed by the decision table, or as boolean expressions,
+ * that are evaluated rule by rule.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecisionTableBenchmark {
+
+    @Param({"100", "1000", "8000"})
+    private int rules;
+
+    @Param({"UNIQUE", "FIRST", "COLLECT"})
+    private String hitPolicy;
+
+    @Param({"true", "false"})
+    private boolean literalEntries;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext[] contexts;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        runtime = DMNModels.newRuntime(DMNModels.pricingTable("pricing", rules, hitPolicy, literalEntries));
+        model = DMNModels.getModel(runtime, "pricing");
+
+        Random random = new Random(0);
+        contexts = new DMNContext[1024];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = runtime.newContext();
+            contexts[i].set("category", "c" + random.nextInt(DMNModels.CATEGORIES));
+            contexts[i].set("amount", new BigDecimal(random.nextInt(DMNModels.maxAmount(rules))));
+        }
+    }
+
+    @Benchmark
+    public DMNResult evaluate() {
+        return runtime.evaluateAll(model, contexts[counter++ & (contexts.length - 1)]);
+    }
+}
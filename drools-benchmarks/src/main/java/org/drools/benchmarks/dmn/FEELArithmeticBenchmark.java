@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of the evaluation of arithmetic and comparison heavy FEEL expressions, either interpreted or compiled to
+ * Java, on integer inputs, whose arithmetic takes the exact long fast paths, and on decimal inputs, which always use
+ * BigDecimal.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FEELArithmeticBenchmark {
+
+    private static final String[] VARIABLES = {"a", "b", "c", "d"};
+
+    @Param({"a + b * c - d / 2", "(a + b) * (c - d) + a * b - c * d", "sum([a, b, c, d]) * mean([a, b, c, d])",
+            "if a > b and c <= d then a else if a = c then b else d"})
+    private String expression;
+
+    @Param({"integer", "decimal"})
+    private String inputs;
+
+    @Param({"false", "true"})
+    private boolean doCompile;
+
+    private FEEL feel;
+    private CompiledExpression compiledExpression;
+    private Map<String, Object> inputVariables;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        feel = FEEL.newInstance();
+        CompilerContext compilerContext = feel.newCompilerContext();
+        compilerContext.setDoCompile(doCompile);
+        for (String variable : VARIABLES) {
+            compilerContext.addInputVariableType(variable, BuiltInType.NUMBER);
+        }
+        compiledExpression = feel.compile(expression, compilerContext);
+
+        Random random = new Random(0);
+        inputVariables = new HashMap<>();
+        for (String variable : VARIABLES) {
+            BigDecimal value = new BigDecimal(1 + random.nextInt(1000));
+            inputVariables.put(variable, inputs.equals("integer") ? value : value.add(new BigDecimal("0.25")));
+        }
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return feel.evaluate(compiledExpression, inputVariables);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.marshalling.DMNExtensionRegister;
+import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.DRGElementCompiler;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of the evaluation of an expression referencing each of the given number of variables twice, as a FEEL
+ * expression and as the literal expression of a DMN decision, interpreted and compiled to Java, where the variables are
+ * read through the slots resolved when the expression is compiled.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FEELVariableLookupBenchmark {
+
+    @Param({"4", "32"})
+    private int inputs;
+
+    @Param({"false", "true"})
+    private boolean doCompile;
+
+    private FEEL feel;
+    private CompiledExpression expression;
+    private Map<String, Object> inputVariables;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        feel = doCompile ? FEEL.newInstance(Collections.singletonList(new DoCompileFEELProfile())) : FEEL.newInstance();
+        CompilerContext compilerContext = feel.newCompilerContext();
+        StringBuilder text = new StringBuilder();
+        inputVariables = new HashMap<>();
+        for (int k = 0; k < inputs; k++) {
+            compilerContext.addInputVariableType("x" + k, BuiltInType.NUMBER);
+            text.append(k > 0 ? " + " : "").append("x").append(k).append(" * x").append(k);
+            inputVariables.put("x" + k, BigDecimal.valueOf(k));
+        }
+        expression = feel.compile(text.toString(), compilerContext);
+
+        DMNRuntimeBuilder builder = DMNRuntimeBuilder.fromDefaults();
+        if (doCompile) {
+            builder.addProfile(new CompiledFEELProfile());
+        }
+        runtime = DMNModels.newRuntime(builder, DMNModels.sumOfSquares("squares", inputs));
+        model = DMNModels.getModel(runtime, "squares");
+        context = runtime.newContext();
+        inputVariables.forEach(context::set);
+    }
+
+    @Benchmark
+    public Object feelExpression() {
+        return feel.evaluate(expression, inputVariables);
+    }
+
+    @Benchmark
+    public Object dmnModel() {
+        return runtime.evaluateAll(model, context);
+    }
+
+    /**
+     * Compiles the FEEL expressions of the DMN models to Java
+     */
+    public static class CompiledFEELProfile extends DoCompileFEELProfile implements DMNProfile {
+
+        @Override
+        public List<DMNExtensionRegister> getExtensionRegisters() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<DRGElementCompiler> getDRGElementCompilers() {
+            return Collections.emptyList();
+        }
+    }
+}
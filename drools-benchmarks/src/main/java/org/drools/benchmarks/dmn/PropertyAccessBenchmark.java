@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.PropertyAccessors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of the navigation of a path of three properties of Java objects: through the reflective invocation of the
+ * getters, through the accessors generated for them, and through the evaluation of the equivalent FEEL path expression,
+ * which uses the generated accessors.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyAccessBenchmark {
+
+    private Applicant applicant;
+
+    private Method[] getters;
+    private PropertyAccessors.Accessor[] accessors;
+
+    private FEEL feel;
+    private CompiledExpression pathExpression;
+    private Map<String, Object> inputVariables;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicant = new Applicant(new Employer(new Address("Brno")));
+
+        getters = new Method[] {
+                EvalHelper.getGenericAccessor(Applicant.class, "employer"),
+                EvalHelper.getGenericAccessor(Employer.class, "address"),
+                EvalHelper.getGenericAccessor(Address.class, "city")
+        };
+        accessors = new PropertyAccessors.Accessor[] {
+                PropertyAccessors.getAccessor(Applicant.class, "employer"),
+                PropertyAccessors.getAccessor(Employer.class, "address"),
+                PropertyAccessors.getAccessor(Address.class, "city")
+        };
+
+        feel = FEEL.newInstance();
+        CompilerContext compilerContext = feel.newCompilerContext();
+        compilerContext.addInputVariableType("applicant", BuiltInType.UNKNOWN);
+        pathExpression = feel.compile("applicant.employer.address.city", compilerContext);
+        inputVariables = Collections.singletonMap("applicant", applicant);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        Object result = applicant;
+        for (Method getter : getters) {
+            result = getter.invoke(result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        Object result = applicant;
+        for (PropertyAccessors.Accessor accessor : accessors) {
+            result = accessor.get(result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object feelPath() {
+        return feel.evaluate(pathExpression, inputVariables);
+    }
+
+    public static class Applicant {
+
+        private final Employer employer;
+
+        public Applicant(Employer employer) {
+            this.employer = employer;
+        }
+
+        public Employer getEmployer() {
+            return employer;
+        }
+    }
+
+    public static class Employer {
+
+        private final Address address;
+
+        public Employer(Address address) {
+            this.address = address;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+}
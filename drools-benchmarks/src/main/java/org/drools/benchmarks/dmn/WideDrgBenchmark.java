@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the evaluation of a model made of several independent and expensive decisions feeding a final aggregate,
+ * with the decisions evaluated sequentially and concurrently.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WideDrgBenchmark {
+
+    @Param({"2", "8", "32"})
+    private int width;
+
+    @Param({"1000"})
+    private int rules;
+
+    @Param({"false", "true"})
+    private boolean parallelEvaluation;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext[] contexts;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        runtime = DMNModels.newRuntime(DMNModels.wideDrg("wide", width, rules));
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(parallelEvaluation));
+        model = DMNModels.getModel(runtime, "wide");
+
+        Random random = new Random(0);
+        contexts = new DMNContext[1024];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = runtime.newContext();
+            contexts[i].set("category", "c" + random.nextInt(DMNModels.CATEGORIES));
+            contexts[i].set("amount", new BigDecimal(random.nextInt(DMNModels.maxAmount(rules))));
+        }
+    }
+
+    @Benchmark
+    public DMNResult evaluate() {
+        return runtime.evaluateAll(model, contexts[counter++ & (contexts.length - 1)]);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Transaction;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Accumulate churn: facts feeding an accumulate are repeatedly inserted and deleted,
+ * forcing the accumulated results to be incrementally updated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccumulateBenchmark extends AbstractEngineBenchmark {
+
+    private static final String DRL =
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "import " + Transaction.class.getCanonicalName() + ";\n" +
+            "rule Total when\n" +
+            "  $a : Account( $id : id )\n" +
+            "  accumulate( Transaction( accountId == $id, $amount : amount ); $total : sum( $amount ), $count : count() )\n" +
+            "then end\n";
+
+    @Param({"10"})
+    private int accountsNumber;
+
+    @Param({"1000"})
+    private int transactionsNumber;
+
+    private List<Transaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, DRL);
+        transactions = new ArrayList<>(transactionsNumber);
+        for (int i = 0; i < transactionsNumber; i++) {
+            transactions.add(new Transaction(i % accountsNumber, i, i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < accountsNumber; i++) {
+            kieSession.insert(new Account(i, "Owner" + i, 0));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        List<FactHandle> handles = new ArrayList<>(transactionsNumber);
+        int fired = 0;
+        for (Transaction transaction : transactions) {
+            handles.add(kieSession.insert(transaction));
+            fired += kieSession.fireAllRules();
+        }
+        for (FactHandle handle : handles) {
+            kieSession.delete(handle);
+            fired += kieSession.fireAllRules();
+        }
+        return fired;
+    }
+}
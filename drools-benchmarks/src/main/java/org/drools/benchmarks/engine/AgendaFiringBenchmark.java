@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Agenda management and firing of many activations of rules with different saliences.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AgendaFiringBenchmark extends AbstractEngineBenchmark {
+
+    @Param({"100"})
+    private int rulesNumber;
+
+    @Param({"100"})
+    private int factsNumber;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" salience ").append(i % 10).append(" when\n")
+                    .append("  Person( age > ").append(i % 50).append(" )\n")
+                    .append("then end\n");
+        }
+        kieBase = KieBaseBuilder.build(buildType, drl.toString());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < factsNumber; i++) {
+            kieSession.insert(new Person("Person" + i, i));
+        }
+    }
+
+    @Benchmark
+    public int fireAllRules() {
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Transaction;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Events flowing through sliding time and length windows on a pseudo clock, so that the
+ * benchmark also covers the expiration of the events leaving the windows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CepWindowBenchmark extends AbstractEngineBenchmark {
+
+    private static final String DRL =
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "import " + Transaction.class.getCanonicalName() + ";\n" +
+            "rule TimeWindow when\n" +
+            "  $a : Account( $id : id )\n" +
+            "  accumulate( Transaction( accountId == $id, $amount : amount ) over window:time( 1m ); $total : sum( $amount ) )\n" +
+            "then end\n" +
+            "rule LengthWindow when\n" +
+            "  $a : Account( $id : id )\n" +
+            "  accumulate( Transaction( accountId == $id, $amount : amount ) over window:length( 100 ); $max : max( $amount ) )\n" +
+            "then end\n" +
+            "rule Burst when\n" +
+            "  $t1 : Transaction( )\n" +
+            "  Transaction( this != $t1, accountId == $t1.accountId, this after[0s, 5s] $t1 )\n" +
+            "then end\n";
+
+    @Param({"10"})
+    private int accountsNumber;
+
+    @Param({"1000"})
+    private int eventsNumber;
+
+    private KieSessionConfiguration sessionConfiguration;
+    private SessionPseudoClock clock;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, EventProcessingOption.STREAM, DRL);
+        sessionConfiguration = KieServices.get().newKieSessionConfiguration();
+        sessionConfiguration.setOption(ClockTypeOption.get("pseudo"));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession(sessionConfiguration, null);
+        clock = kieSession.getSessionClock();
+        for (int i = 0; i < accountsNumber; i++) {
+            kieSession.insert(new Account(i, "Owner" + i, 0));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int slidingWindows() {
+        int fired = 0;
+        for (int i = 0; i < eventsNumber; i++) {
+            kieSession.insert(new Transaction(i % accountsNumber, i, clock.getCurrentTime()));
+            clock.advanceTime(1, TimeUnit.SECONDS);
+            fired += kieSession.fireAllRules();
+        }
+        return fired;
+    }
+}
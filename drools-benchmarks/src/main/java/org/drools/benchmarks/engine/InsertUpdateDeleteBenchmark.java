@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Throughput of inserting, updating and deleting facts flowing through a small alpha network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InsertUpdateDeleteBenchmark extends AbstractEngineBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "rule Adult when\n" +
+            "  Person( age >= 18 )\n" +
+            "then end\n" +
+            "rule Senior when\n" +
+            "  Person( age >= 65 )\n" +
+            "then end\n" +
+            "rule Mark when\n" +
+            "  Person( name == \"Mark\", age > 30 )\n" +
+            "then end\n";
+
+    @Param({"1000"})
+    private int factsNumber;
+
+    private List<FactHandle> handles;
+    private List<Person> insertedPersons;
+    private List<Person> newPersons;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, DRL);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+        insertedPersons = createPersons("Inserted");
+        newPersons = createPersons("New");
+        handles = new ArrayList<>(factsNumber);
+        for (Person person : insertedPersons) {
+            handles.add(kieSession.insert(person));
+        }
+        kieSession.fireAllRules();
+    }
+
+    private List<Person> createPersons(String prefix) {
+        List<Person> persons = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            persons.add(new Person(i % 10 == 0 ? "Mark" : prefix + i, i % 100));
+        }
+        return persons;
+    }
+
+    @Benchmark
+    public int insert() {
+        for (Person person : newPersons) {
+            kieSession.insert(person);
+        }
+        return kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int update() {
+        for (int i = 0; i < factsNumber; i++) {
+            Person person = insertedPersons.get(i);
+            person.setAge(person.getAge() + 20);
+            kieSession.update(handles.get(i), person);
+        }
+        return kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int delete() {
+        for (FactHandle handle : handles) {
+            kieSession.delete(handle);
+        }
+        return kieSession.fireAllRules();
+    }
+}
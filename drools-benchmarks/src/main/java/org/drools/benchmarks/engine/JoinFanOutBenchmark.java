@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Cost of an indexed beta join where every left tuple matches {@code fanOut} right facts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JoinFanOutBenchmark extends AbstractEngineBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule Join when\n" +
+            "  Person( $name : name, age >= 18 )\n" +
+            "  Account( owner == $name, balance > 0 )\n" +
+            "then end\n";
+
+    @Param({"100"})
+    private int personsNumber;
+
+    @Param({"1", "10", "100"})
+    private int fanOut;
+
+    private List<Person> persons;
+    private List<Account> accounts;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, DRL);
+        persons = new ArrayList<>(personsNumber);
+        accounts = new ArrayList<>(personsNumber * fanOut);
+        for (int i = 0; i < personsNumber; i++) {
+            persons.add(new Person("Person" + i, 18 + i % 50));
+            for (int j = 0; j < fanOut; j++) {
+                accounts.add(new Account(i * fanOut + j, "Person" + i, 100 + j));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @Benchmark
+    public int join() {
+        for (Account account : accounts) {
+            kieSession.insert(account);
+        }
+        for (Person person : persons) {
+            kieSession.insert(person);
+        }
+        return kieSession.fireAllRules();
+    }
+}
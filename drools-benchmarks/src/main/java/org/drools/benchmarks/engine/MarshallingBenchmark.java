@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractEngineBenchmark;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Account;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieServices;
+import org.kie.api.marshalling.Marshaller;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Round trip of the marshalling of a session containing facts and partial matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MarshallingBenchmark extends AbstractEngineBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Account.class.getCanonicalName() + ";\n" +
+            "rule Join when\n" +
+            "  Person( $name : name )\n" +
+            "  Account( owner == $name )\n" +
+            "then end\n";
+
+    @Param({"1000"})
+    private int factsNumber;
+
+    private Marshaller marshaller;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(buildType, DRL);
+        marshaller = KieServices.get().getMarshallers().newMarshaller(kieBase);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < factsNumber; i++) {
+            kieSession.insert(new Person("Person" + i, i));
+            kieSession.insert(new Account(i, "Person" + i, i));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public KieSession marshallAndUnmarshall() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, kieSession);
+        KieSession unmarshalled = marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()));
+        unmarshalled.dispose();
+        return unmarshalled;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.scorecards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.util.IoUtils;
+import org.drools.scorecards.ScoreCardProviderImpl;
+import org.drools.scorecards.ScorecardCompiler;
+import org.drools.scorecards.model.CompiledScorecard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to get a runnable scorecard out of a spreadsheet: translating it to PMML and then to DRL to build a KieBase,
+ * compiling it straight to plain Java, or reading back the compiled scorecard serialized e.g. in a kjar.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScorecardBuildBenchmark {
+
+    // provided by the test-jar of drools-scorecards
+    static final String SPREADSHEET = "/scoremodel_reasoncodes.xls";
+    static final String WORKSHEET = "scorecards";
+
+    public enum BuildPath {
+        KIEBASE,
+        COMPILED,
+        SERIALIZED
+    }
+
+    @Param({"KIEBASE", "COMPILED", "SERIALIZED"})
+    private BuildPath path;
+
+    private byte[] spreadsheet;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        spreadsheet = IoUtils.readBytesFromInputStream(ScorecardBuildBenchmark.class.getResourceAsStream(SPREADSHEET));
+        if (path == BuildPath.SERIALIZED) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            compile(spreadsheet).writeTo(new DataOutputStream(out));
+            serialized = out.toByteArray();
+        }
+    }
+
+    static CompiledScorecard compile(byte[] spreadsheet) {
+        ScorecardCompiler scorecardCompiler = new ScorecardCompiler();
+        if (!scorecardCompiler.compileFromExcel(new ByteArrayInputStream(spreadsheet), WORKSHEET)) {
+            throw new IllegalStateException("Unable to parse " + SPREADSHEET + ": " + scorecardCompiler.getScorecardParseErrors());
+        }
+        return scorecardCompiler.getCompiledScorecard();
+    }
+
+    @Benchmark
+    public Object build() throws Exception {
+        switch (path) {
+            case KIEBASE:
+                return new ScoreCardProviderImpl().getKieBaseFromInputStream(new ByteArrayInputStream(spreadsheet), null);
+            case COMPILED:
+                return compile(spreadsheet);
+            default:
+                return CompiledScorecard.readFrom(new DataInputStream(new ByteArrayInputStream(serialized)));
+        }
+    }
+}
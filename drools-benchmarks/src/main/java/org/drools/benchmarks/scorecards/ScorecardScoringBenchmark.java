@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.scorecards;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.util.IoUtils;
+import org.drools.scorecards.ScoreCardProviderImpl;
+import org.drools.scorecards.model.CompiledScorecard;
+import org.kie.api.KieBase;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.pmml_4_2.PMML4ExecutionHelper;
+import org.kie.pmml.pmml_4_2.PMML4ExecutionHelper.PMML4ExecutionHelperFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.drools.benchmarks.scorecards.ScorecardBuildBenchmark.SPREADSHEET;
+
+/**
+ * Average time of scoring an applicant with reason codes, running the rules generated for the PMML scorecard or
+ * evaluating the scorecard compiled to plain Java.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScorecardScoringBenchmark {
+
+    private static final String MODEL_NAME = "SampleScore";
+
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private Map<String, Object> fields;
+    private PMML4ExecutionHelper helper;
+    private CompiledScorecard scorecard;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        fields = new HashMap<>();
+        fields.put("age", 20.0);
+        fields.put("occupation", "TEACHER");
+        fields.put("residenceState", "AP");
+        fields.put("validLicense", true);
+
+        byte[] spreadsheet = IoUtils.readBytesFromInputStream(ScorecardScoringBenchmark.class.getResourceAsStream(SPREADSHEET));
+        if (compiled) {
+            scorecard = ScorecardBuildBenchmark.compile(spreadsheet);
+        } else {
+            KieBase kieBase = new ScoreCardProviderImpl().getKieBaseFromInputStream(new ByteArrayInputStream(spreadsheet), null);
+            helper = PMML4ExecutionHelperFactory.getExecutionHelper(MODEL_NAME, kieBase);
+            helper.addPossiblePackageName("org.drools.scorecards.example");
+        }
+    }
+
+    @Benchmark
+    public Object score() {
+        if (compiled) {
+            return scorecard.score(fields);
+        }
+        PMMLRequestData request = new PMMLRequestData(String.valueOf(counter++), MODEL_NAME);
+        fields.forEach(request::addRequestParam);
+        return helper.submitRequest(request);
+    }
+}
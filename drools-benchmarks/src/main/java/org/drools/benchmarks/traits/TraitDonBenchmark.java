@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.traits;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.core.common.InternalWorkingMemoryEntryPoint;
+import org.drools.core.factmodel.traits.Thing;
+import org.drools.core.factmodel.traits.Trait;
+import org.drools.traits.core.factmodel.TraitFactoryImpl;
+import org.drools.traits.core.factmodel.VirtualPropertyMode;
+import org.kie.api.KieBase;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of donning four traits with soft fields to a batch of cores, for each way the proxies can store the
+ * soft fields, either with one don per core or with a single donAll over the whole batch.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TraitDonBenchmark {
+
+    @Trait
+    public interface Student<K> extends Thing<K> {
+        String getSchool();
+        void setSchool(String school);
+        int getGrade();
+        void setGrade(int grade);
+    }
+
+    @Trait
+    public interface Worker<K> extends Thing<K> {
+        String getCompany();
+        void setCompany(String company);
+        double getSalary();
+        void setSalary(double salary);
+    }
+
+    @Trait
+    public interface Athlete<K> extends Thing<K> {
+        String getSport();
+        void setSport(String sport);
+        int getRanking();
+        void setRanking(int ranking);
+    }
+
+    @Trait
+    public interface Musician<K> extends Thing<K> {
+        String getInstrument();
+        void setInstrument(String instrument);
+    }
+
+    static final String PACKAGE = "org.drools.benchmarks.traits";
+
+    static final String DRL =
+            "package " + PACKAGE + ";\n" +
+            "import java.util.List;\n" +
+            "import " + InternalWorkingMemoryEntryPoint.class.getCanonicalName() + ";\n" +
+            "global List traits;\n" +
+            "declare Core @Traitable id : int end\n" +
+            "rule DonEach when\n" +
+            "  $s : String( this == \"each\" )\n" +
+            "  $cs : List() from collect( Core() )\n" +
+            "then\n" +
+            "  delete( $s );\n" +
+            "  for ( Object $c : $cs ) {\n" +
+            "    drools.don( $c, traits );\n" +
+            "  }\n" +
+            "end\n" +
+            "rule DonAll when\n" +
+            "  $s : String( this == \"all\" )\n" +
+            "  $cs : List() from collect( Core() )\n" +
+            "then\n" +
+            "  delete( $s );\n" +
+            "  InternalWorkingMemoryEntryPoint ep = (InternalWorkingMemoryEntryPoint) drools.getEntryPoint( \"DEFAULT\" );\n" +
+            "  ep.getTraitHelper().donAll( drools.getMatch(), $cs, traits, false );\n" +
+            "end\n";
+
+    @Param({"1000"})
+    private int coresNumber;
+
+    @Param({"MAP", "TRIPLES", "INDEXED"})
+    private VirtualPropertyMode mode;
+
+    @Param({"false", "true"})
+    private boolean bulk;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(BuildType.DRL, DRL);
+        TraitFactoryImpl.setMode(mode, kieBase);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupSession() throws Exception {
+        kieSession = newSessionWithCores(kieBase, coresNumber);
+    }
+
+    static KieSession newSessionWithCores(KieBase kieBase, int coresNumber) throws Exception {
+        KieSession kieSession = kieBase.newKieSession();
+        kieSession.setGlobal("traits", Arrays.asList(Student.class, Worker.class, Athlete.class, Musician.class));
+
+        FactType coreType = kieBase.getFactType(PACKAGE, "Core");
+        for (int i = 0; i < coresNumber; i++) {
+            Object core = coreType.newInstance();
+            coreType.set(core, "id", i);
+            kieSession.insert(core);
+        }
+        kieSession.fireAllRules();
+        return kieSession;
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeSession() {
+        kieSession.dispose();
+        kieSession = null;
+    }
+
+    @Benchmark
+    public int don() {
+        kieSession.insert(bulk ? "all" : "each");
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.traits;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.traits.TraitDonBenchmark.Student;
+import org.drools.traits.core.factmodel.TraitFactoryImpl;
+import org.drools.traits.core.factmodel.VirtualPropertyMode;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Average time of reading and writing the soft fields of the traits donned by {@link TraitDonBenchmark}, for each way
+ * the proxies can store the soft fields.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TraitSoftFieldBenchmark {
+
+    @Param({"1000"})
+    private int coresNumber;
+
+    @Param({"MAP", "TRIPLES", "INDEXED"})
+    private VirtualPropertyMode mode;
+
+    private KieSession kieSession;
+    private List<Student> students;
+
+    @Setup(Level.Trial)
+    public void setupTraits() throws Exception {
+        KieBase kieBase = KieBaseBuilder.build(BuildType.DRL, TraitDonBenchmark.DRL);
+        TraitFactoryImpl.setMode(mode, kieBase);
+
+        kieSession = TraitDonBenchmark.newSessionWithCores(kieBase, coresNumber);
+        kieSession.insert("all");
+        kieSession.fireAllRules();
+
+        students = new ArrayList<>(coresNumber);
+        for (Object student : kieSession.getObjects(new ClassObjectFilter(Student.class))) {
+            students.add((Student) student);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public long readWrite() {
+        long sum = 0;
+        for (Student student : students) {
+            student.setGrade(student.getGrade() + 1);
+            student.setSchool(student.getSchool() == null ? "school" : null);
+            sum += student.getGrade();
+        }
+        return sum;
+    }
+}
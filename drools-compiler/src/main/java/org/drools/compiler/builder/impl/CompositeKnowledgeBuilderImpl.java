@@ -18,13 +18,16 @@ package org.drools.compiler.builder.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl.ParsedDrl;
 import org.drools.compiler.lang.descr.CompositePackageDescr;
 import org.drools.compiler.lang.descr.PackageDescr;
 import org.drools.core.builder.conf.impl.JaxbConfigurationImpl;
+import org.drools.core.io.impl.DescrResource;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceConfiguration;
 import org.kie.api.io.ResourceType;
@@ -193,6 +196,9 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
     private void buildResource(Map<String, CompositePackageDescr> packages, ResourceType resourceType, ResourceToPkgDescrMapper mapper) {
         List<ResourceDescr> resourcesByType = this.resourcesByType.remove(resourceType);
         if (resourcesByType != null) {
+            if (mapper == ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR) {
+                mapper = parseDrlsInParallel(resourcesByType);
+            }
             for (ResourceDescr resourceDescr : resourcesByType) {
                 try {
                     registerPackageDescr(resourceDescr, packages, resourceDescr.resource, mapper.map(kBuilder, resourceDescr));
@@ -209,6 +215,29 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
         }
     }
 
+    private ResourceToPkgDescrMapper parseDrlsInParallel(List<ResourceDescr> resourceDescrs) {
+        List<Resource> drls = resourceDescrs.stream()
+                .map(resourceDescr -> resourceDescr.resource)
+                .filter(resource -> !(resource instanceof DescrResource))
+                .collect(Collectors.toList());
+        int parallelParseThreshold = kBuilder.getBuilderConfiguration().getParallelParseThreshold();
+        if (parallelParseThreshold == -1 || drls.size() <= parallelParseThreshold) {
+            return ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR;
+        }
+
+        // the parsed drls are registered in the builder while iterating the resources in their original order
+        Map<Resource, ParsedDrl> parsedDrls = new IdentityHashMap<>();
+        for (ParsedDrl parsedDrl : kBuilder.parseDrls(drls)) {
+            parsedDrls.put(parsedDrl.getResource(), parsedDrl);
+        }
+        return ( kBuilder, resourceDescr ) -> {
+            ParsedDrl parsedDrl = parsedDrls.get(resourceDescr.resource);
+            return parsedDrl != null ?
+                   kBuilder.drlToPackageDescr(parsedDrl) :
+                   ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR.map(kBuilder, resourceDescr);
+        };
+    }
+
     private void registerPackageDescr(ResourceDescr resourceDescr, Map<String, CompositePackageDescr> packages, Resource resource, PackageDescr packageDescr) {
         if (packageDescr != null) {
             CompositePackageDescr compositePackageDescr = packages.get(packageDescr.getNamespace());
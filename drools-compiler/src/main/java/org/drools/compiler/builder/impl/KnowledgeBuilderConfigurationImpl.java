@@ -90,6 +90,7 @@ import static org.drools.core.reteoo.KieComponentFactory.createKieComponentFacto
  * drools.dump.dir = <String>
  * drools.classLoaderCacheEnabled = true|false
  * drools.parallelRulesBuildThreshold = <int>
+ * drools.parallelParseThreshold = <int>
  *
  * default dialect is java.
  * Available preconfigured Accumulate functions are:
@@ -112,6 +113,10 @@ public class KnowledgeBuilderConfigurationImpl
     public static final String                DEFAULT_PACKAGE = "defaultpkg";
 
     private static final int                  DEFAULT_PARALLEL_RULES_BUILD_THRESHOLD = 10;
+
+    public static final String                PARALLEL_PARSE_THRESHOLD_PROPERTY = "drools.parallelParseThreshold";
+
+    private static final int                  DEFAULT_PARALLEL_PARSE_THRESHOLD = 10;
     
     private Map<String, DialectConfiguration> dialectConfigurations;
 
@@ -119,6 +124,8 @@ public class KnowledgeBuilderConfigurationImpl
     
     private ParallelRulesBuildThresholdOption parallelRulesBuildThreshold = ParallelRulesBuildThresholdOption.get(DEFAULT_PARALLEL_RULES_BUILD_THRESHOLD);
 
+    private int                               parallelParseThreshold = DEFAULT_PARALLEL_PARSE_THRESHOLD;
+
     private ClassLoader                       classLoader;
 
     private ChainedProperties                 chainedProperties;
@@ -238,6 +245,10 @@ public class KnowledgeBuilderConfigurationImpl
         setProperty(ParallelRulesBuildThresholdOption.PROPERTY_NAME,
         			this.chainedProperties.getProperty(ParallelRulesBuildThresholdOption.PROPERTY_NAME, 
         												String.valueOf(DEFAULT_PARALLEL_RULES_BUILD_THRESHOLD)));
+
+        setProperty(PARALLEL_PARSE_THRESHOLD_PROPERTY,
+                    this.chainedProperties.getProperty(PARALLEL_PARSE_THRESHOLD_PROPERTY,
+                                                       String.valueOf(DEFAULT_PARALLEL_PARSE_THRESHOLD)));
         
         this.dialectConfigurations = new HashMap<String, DialectConfiguration>();
 
@@ -326,6 +337,8 @@ public class KnowledgeBuilderConfigurationImpl
             }
         } else if (name.equals(ParallelRulesBuildThresholdOption.PROPERTY_NAME)) {
         	setParallelRulesBuildThreshold(Integer.valueOf(value));
+        } else if (name.equals(PARALLEL_PARSE_THRESHOLD_PROPERTY)) {
+            setParallelParseThreshold(Integer.valueOf(value));
         }  else if (name.equals(ExternaliseCanonicalModelLambdaOption.PROPERTY_NAME)) {
             setExternaliseCanonicalModelLambda(Boolean.valueOf(value));
         } else {
@@ -372,6 +385,8 @@ public class KnowledgeBuilderConfigurationImpl
             return "" + getLanguageLevel();
         } else if (name.equals(ParallelRulesBuildThresholdOption.PROPERTY_NAME)) {
         	return String.valueOf(getParallelRulesBuildThreshold());
+        } else if (name.equals(PARALLEL_PARSE_THRESHOLD_PROPERTY)) {
+            return String.valueOf(getParallelParseThreshold());
         } else if (name.equals(ExternaliseCanonicalModelLambdaOption.PROPERTY_NAME)) {
         	return String.valueOf(isExternaliseCanonicalModelLambda());
         }
@@ -705,6 +720,21 @@ public class KnowledgeBuilderConfigurationImpl
     	this.parallelRulesBuildThreshold = ParallelRulesBuildThresholdOption.get(parallelRulesBuildThreshold);
     }
 
+    /**
+     * The minimum number of DRL resources of the same type above which they are parsed concurrently.
+     * A value of -1 disables the parallel parsing.
+     */
+    public int getParallelParseThreshold() {
+        return parallelParseThreshold;
+    }
+
+    public void setParallelParseThreshold(int parallelParseThreshold) {
+        if (parallelParseThreshold < -1) {
+            throw new IllegalArgumentException("Invalid value " + parallelParseThreshold + " for option " + PARALLEL_PARSE_THRESHOLD_PROPERTY);
+        }
+        this.parallelParseThreshold = parallelParseThreshold;
+    }
+
     public String getDefaultPackageName() {
         return defaultPackageName;
     }
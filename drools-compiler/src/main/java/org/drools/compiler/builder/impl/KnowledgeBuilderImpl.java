@@ -44,6 +44,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.drools.compiler.builder.DroolsAssemblerContext;
 import org.drools.compiler.builder.impl.errors.MissingImplementationException;
@@ -158,6 +159,7 @@ import org.kie.internal.builder.KnowledgeBuilderResults;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResultSeverity;
 import org.kie.internal.builder.ScoreCardConfiguration;
+import org.kie.internal.builder.conf.LanguageLevelOption;
 import org.kie.internal.io.ResourceFactory;
 import org.kie.internal.io.ResourceWithConfigurationImpl;
 import org.drools.core.addon.TypeResolver;
@@ -548,23 +550,84 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
 
     PackageDescr drlToPackageDescr(Resource resource) throws DroolsParserException,
             IOException {
-        PackageDescr pkg;
-        boolean hasErrors = false;
         if (resource instanceof DescrResource) {
-            pkg = (PackageDescr) ((DescrResource) resource).getDescr();
-        } else {
-            final DrlParser parser = new DrlParser(configuration.getLanguageLevel());
-            pkg = parser.parse(resource);
-            this.results.addAll(parser.getErrors());
-            if (pkg == null) {
-                addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
+            PackageDescr pkg = (PackageDescr) ((DescrResource) resource).getDescr();
+            if (pkg != null) {
+                pkg.setResource(resource);
             }
-            hasErrors = parser.hasErrors();
+            return pkg;
+        }
+        final DrlParser parser = new DrlParser(configuration.getLanguageLevel());
+        return registerParsedDrl(resource, parser, parser.parse(resource));
+    }
+
+    PackageDescr drlToPackageDescr(ParsedDrl parsedDrl) throws DroolsParserException,
+            IOException {
+        if (parsedDrl.exception instanceof DroolsParserException) {
+            throw (DroolsParserException) parsedDrl.exception;
+        }
+        if (parsedDrl.exception instanceof IOException) {
+            throw (IOException) parsedDrl.exception;
         }
-        if (pkg != null) {
+        if (parsedDrl.exception != null) {
+            throw (RuntimeException) parsedDrl.exception;
+        }
+        return registerParsedDrl(parsedDrl.resource, parsedDrl.parser, parsedDrl.pkg);
+    }
+
+    private PackageDescr registerParsedDrl(Resource resource, DrlParser parser, PackageDescr pkg) {
+        this.results.addAll(parser.getErrors());
+        if (pkg == null) {
+            addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
+        } else {
             pkg.setResource(resource);
         }
-        return hasErrors ? null : pkg;
+        return parser.hasErrors() ? null : pkg;
+    }
+
+    /**
+     * Parses the given DRL resources concurrently on the compiler pool. Parsing doesn't touch the state of
+     * this builder: the parsing errors are registered only when each returned {@link ParsedDrl} is passed to
+     * {@link #drlToPackageDescr(ParsedDrl)}, so that consuming them in order keeps the build results deterministic.
+     */
+    List<ParsedDrl> parseDrls(List<Resource> resources) {
+        LanguageLevelOption languageLevel = configuration.getLanguageLevel();
+        try {
+            return ForkJoinPoolHolder.COMPILER_POOL.submit(() ->
+                    resources.parallelStream()
+                            .map(resource -> ParsedDrl.parse(resource, languageLevel))
+                            .collect(Collectors.toList())
+            ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("DRL parsing failed or interrupted", e);
+        }
+    }
+
+    static class ParsedDrl {
+        private final Resource resource;
+        private final DrlParser parser;
+        private final PackageDescr pkg;
+        private final Exception exception;
+
+        private ParsedDrl(Resource resource, DrlParser parser, PackageDescr pkg, Exception exception) {
+            this.resource = resource;
+            this.parser = parser;
+            this.pkg = pkg;
+            this.exception = exception;
+        }
+
+        private static ParsedDrl parse(Resource resource, LanguageLevelOption languageLevel) {
+            DrlParser parser = new DrlParser(languageLevel);
+            try {
+                return new ParsedDrl(resource, parser, parser.parse(resource), null);
+            } catch (DroolsParserException | IOException | RuntimeException e) {
+                return new ParsedDrl(resource, parser, null, e);
+            }
+        }
+
+        Resource getResource() {
+            return resource;
+        }
     }
 
     /**
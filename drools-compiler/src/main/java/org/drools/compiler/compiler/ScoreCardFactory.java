@@ -39,6 +39,10 @@ public class ScoreCardFactory {
     	return getScoreCardProvider().getKieBaseFromInputStream(is, configuration);
     }
     
+    public static Object getCompiledScorecardFromInputStream(InputStream is, ScoreCardConfiguration configuration) {
+        return getScoreCardProvider().getCompiledScorecardFromInputStream(is, configuration);
+    }
+
     public static ScoreCardProvider getScoreCardProvider() {
         return LazyHolder.provider;
     }
@@ -31,4 +31,11 @@ public interface ScoreCardProvider extends Service {
     KieBase getKieBaseFromInputStream( InputStream is, ScoreCardConfiguration configuration);
     
     String getPMMLStringFromInputStream( InputStream is, ScoreCardConfiguration configuration);
+
+    /**
+     * Compile a scorecard straight to a model scored in plain Java, without the PMML and DRL translations. The
+     * drools-scorecards implementation returns an <code>org.drools.scorecards.model.CompiledScorecard</code>.
+     * @return the compiled scorecard, or <code>null</code> if it could not be compiled
+     */
+    Object getCompiledScorecardFromInputStream( InputStream is, ScoreCardConfiguration configuration);
 }
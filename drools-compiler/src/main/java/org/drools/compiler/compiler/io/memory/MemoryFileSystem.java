@@ -74,6 +74,8 @@ public class MemoryFileSystem
 
     private Set<String>                      modifiedFilesSinceLastMark;
 
+    private int                              modificationCount;
+
     public MemoryFileSystem() {
         folder = new MemoryFolder( this, "" );
         folders.put( "", new HashSet<FileSystemItem>() );
@@ -165,6 +167,7 @@ public class MemoryFileSystem
             }
         }
         fileContents.put( fileName, (InternalResource) resource );
+        modificationCount++;
         resource.setSourcePath( file.getPath().toPortableString() );
         folders.get( file.getFolder().getPath().toPortableString() ).add( file );
     }
@@ -177,6 +180,13 @@ public class MemoryFileSystem
         return modifiedFilesSinceLastMark;
     }
 
+    /**
+     * Returns the number of times a file has been written or removed
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public boolean existsFolder(MemoryFolder folder) {
         return existsFolder( folder.getPath().toPortableString() );
     }
@@ -229,6 +239,7 @@ public class MemoryFileSystem
             } else {
                 String fileName = res.getPath().toPortableString();
                 fileContents.remove( fileName );
+                modificationCount++;
                 if (modifiedFilesSinceLastMark != null) {
                     modifiedFilesSinceLastMark.add( fileName );
                 }
@@ -241,6 +252,7 @@ public class MemoryFileSystem
         if ( file.exists() ) {
             String fileName = file.getPath().toPortableString();
             fileContents.remove( fileName );
+            modificationCount++;
             if (modifiedFilesSinceLastMark != null) {
                 modifiedFilesSinceLastMark.add( fileName );
             }
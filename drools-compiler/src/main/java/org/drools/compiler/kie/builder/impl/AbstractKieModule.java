@@ -98,6 +98,9 @@ public abstract class AbstractKieModule
 
     private Collection<ReleaseId> unresolvedDependencies;
 
+    private transient byte[] contentDigest;
+    private transient int contentDigestVersion;
+
     public AbstractKieModule() { }
 
     public AbstractKieModule(ReleaseId releaseId, KieModuleModel kModuleModel) {
@@ -113,6 +116,23 @@ public abstract class AbstractKieModule
         return kieDependencies == null ? Collections.<ReleaseId, InternalKieModule> emptyMap() : kieDependencies;
     }
 
+    @Override
+    public synchronized byte[] getContentDigest() {
+        int contentVersion = getContentVersion();
+        if ( contentDigest == null || contentDigestVersion != contentVersion ) {
+            contentDigest = SharedKieModuleArtifacts.computeContentDigest( this );
+            contentDigestVersion = contentVersion;
+        }
+        return contentDigest;
+    }
+
+    /**
+     * Returns a number changing every time the files of this KieModule do
+     */
+    protected int getContentVersion() {
+        return 0;
+    }
+
     public void addKieDependency(InternalKieModule dependency) {
         if (kieDependencies == null) {
             kieDependencies = new HashMap<>();
@@ -111,6 +111,13 @@ public interface InternalKieModule extends KieModule, Serializable {
 
     long getCreationTimestamp();
 
+    /**
+     * Returns the digest of the files of this KieModule, without its dependencies
+     */
+    default byte[] getContentDigest() {
+        return SharedKieModuleArtifacts.computeContentDigest( this );
+    }
+
     InputStream getPomAsStream();
 
     PomModel getPomModel();
@@ -20,12 +20,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import javax.management.ObjectName;
 import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
@@ -73,6 +77,7 @@ import org.kie.internal.builder.ChangeType;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,17 +93,31 @@ public class KieContainerImpl
 
     public static final String ALPHA_NETWORK_COMPILER_OPTION = "drools.alphaNetworkCompiler";
 
-    private KieProject kProject;
+    /**
+     * When enabled, an update of this container to a new version of its KieModule doesn't modify the existing
+     * KieBases in place: the KieBases in use are fully built from the new KieModule without locking the current
+     * ones and then atomically swapped with them. The sessions already created keep working on the former KieBases
+     * until they are disposed: the container only stops handing them out, and releases each former KieBase together
+     * with its last session.
+     */
+    public static final String SWAP_ON_UPDATE_OPTION = "drools.swapOnUpdate";
+
+    private volatile KieProject kProject;
 
-    private final Map<String, KieBase> kBases = new ConcurrentHashMap<String, KieBase>();
+    private volatile Map<String, KieBase> kBases = new ConcurrentHashMap<String, KieBase>();
+
+    private final Object swapLock = new Object();
 
     private final Map<String, KieSession> kSessions = new ConcurrentHashMap<String, KieSession>();
     private final Map<String, StatelessKieSession> statelessKSessions = new ConcurrentHashMap<String, StatelessKieSession>();
 
+    // the kbases replaced by a swap that still have live sessions: they are released when their last session is disposed
+    private final Set<KieBase> replacedKBases = Collections.newSetFromMap( new IdentityHashMap<>() );
+
     private final KieRepository        kr;
 
     private ReleaseId configuredReleaseId;
-    private ReleaseId containerReleaseId;
+    private volatile ReleaseId containerReleaseId;
 
     private final String containerId;
 
@@ -192,23 +211,122 @@ public class KieContainerImpl
 
     public Results updateToVersion(ReleaseId newReleaseId) {
         checkNotClasspathKieProject();
-        Results results = update(((KieModuleKieProject) kProject).getInternalKieModule(), newReleaseId);
-        if (results != null) {
-            containerReleaseId = newReleaseId;
-        } else {
-            results = new ResultsImpl();
-            ( (ResultsImpl) results ).addMessage( Message.Level.ERROR, null, "Cannot find KieModule with ReleaseId: " + newReleaseId );
+        if (isSwapOnUpdateEnabled()) {
+            return swapToVersion(newReleaseId);
+        }
+        // an in place update can't interleave with a swap running in background
+        synchronized (swapLock) {
+            Results results = update(((KieModuleKieProject) kProject).getInternalKieModule(), newReleaseId);
+            if (results != null) {
+                containerReleaseId = newReleaseId;
+            } else {
+                results = kieModuleNotFound(newReleaseId);
+            }
+            return results;
         }
-        return results;
+    }
+
+    /**
+     * Builds in background the KieBases of the new version of the KieModule and, if they can be created without
+     * errors, atomically swaps them with the current ones, regardless of the {@link #SWAP_ON_UPDATE_OPTION}.
+     * In the meanwhile this container can be used as before the update.
+     */
+    public CompletableFuture<Results> updateToVersionAsync(ReleaseId newReleaseId) {
+        checkNotClasspathKieProject();
+        return CompletableFuture.supplyAsync( () -> swapToVersion(newReleaseId), ExecutorProviderFactory.getExecutorProvider().getExecutor() );
     }
 
     public Results updateToKieModule(InternalKieModule newKM) {
         checkNotClasspathKieProject();
-        Results results = update(((KieModuleKieProject) kProject).getInternalKieModule(), newKM);
-        containerReleaseId = newKM.getReleaseId();
+        if (isSwapOnUpdateEnabled()) {
+            return swapToKieModule(newKM, newKM.getReleaseId());
+        }
+        synchronized (swapLock) {
+            Results results = update(((KieModuleKieProject) kProject).getInternalKieModule(), newKM);
+            containerReleaseId = newKM.getReleaseId();
+            return results;
+        }
+    }
+
+    private Results kieModuleNotFound(ReleaseId releaseId) {
+        ResultsImpl results = new ResultsImpl();
+        results.addMessage( Message.Level.ERROR, null, "Cannot find KieModule with ReleaseId: " + releaseId );
         return results;
     }
 
+    private boolean isSwapOnUpdateEnabled() {
+        InternalKieModule kieModule = ((KieModuleKieProject) kProject).getInternalKieModule();
+        String value = kieModule.getKieModuleModel() != null ?
+                       kieModule.getKieModuleModel().getConfigurationProperty( SWAP_ON_UPDATE_OPTION ) :
+                       null;
+        return Boolean.parseBoolean( value != null ? value : System.getProperty( SWAP_ON_UPDATE_OPTION ) );
+    }
+
+    private Results swapToVersion(ReleaseId newReleaseId) {
+        InternalKieModule newKM = (InternalKieModule) kr.getKieModule( newReleaseId );
+        if (newKM == null) {
+            return kieModuleNotFound(newReleaseId);
+        }
+        return swapToKieModule(newKM, newReleaseId);
+    }
+
+    private Results swapToKieModule(InternalKieModule newKM, ReleaseId newReleaseId) {
+        synchronized (swapLock) {
+            KieModuleKieProject newProject = SharedKieModuleArtifacts.isEnabled( newKM ) ?
+                    KieModuleKieProject.withSharedArtifacts( newKM, SharedKieModuleArtifacts.acquire( newKM ) ) :
+                    new KieModuleKieProject( newKM, newKM.getModuleClassLoader() );
+            newProject.init();
+
+            // the new kbases are fully built, including their compiled alpha networks, before being exposed
+            ResultsImpl results = new ResultsImpl();
+            Map<String, KieBase> newKBases = new ConcurrentHashMap<String, KieBase>();
+            for (String kBaseName : kBases.keySet()) {
+                KieBaseModelImpl kBaseModel = (KieBaseModelImpl) newProject.getKieBaseModel( kBaseName );
+                if (kBaseModel == null) {
+                    continue;
+                }
+                KieBase kBase = createKieBase( kBaseModel, newProject, results, newReleaseId );
+                if (kBase == null) {
+                    // the new version can't be built: keep using the current one
+                    newProject.releaseSharedArtifacts();
+                    return results;
+                }
+                newKBases.put( kBaseName, kBase );
+            }
+
+            KieProject oldProject = kProject;
+            SharedKieModuleArtifacts oldSharedArtifacts = getSharedArtifacts();
+            Set<KieBase> oldKBases = Collections.newSetFromMap( new IdentityHashMap<>() );
+            oldKBases.addAll( kBases.values() );
+            oldKBases.removeAll( newKBases.values() );
+
+            kProject = newProject;
+            kBases = newKBases;
+            containerReleaseId = newReleaseId;
+            sessionConfsCache.clear();
+
+            // the sessions already handed out keep running on the replaced kbases, but they are no longer cached
+            evictSessions( oldKBases::contains );
+            for (KieBase kb : oldKBases) {
+                // the shared kbases don't belong to this container: the release of the shared artifacts is enough
+                if ( oldSharedArtifacts == null || !oldSharedArtifacts.isShared( kb ) ) {
+                    synchronized (replacedKBases) {
+                        if ( kb.getKieSessions().isEmpty() ) {
+                            releaseKieBase( kb );
+                        } else {
+                            replacedKBases.add( kb );
+                        }
+                    }
+                }
+            }
+
+            if (oldProject instanceof KieModuleKieProject) {
+                ((KieModuleKieProject) oldProject).releaseSharedArtifacts();
+            }
+            return results;
+        }
+    }
+
     public Results updateDependencyToVersion(ReleaseId currentReleaseId, ReleaseId newReleaseId) {
         ReleaseId installedReleaseId = getReleaseId();
         if (currentReleaseId.getGroupId().equals(installedReleaseId.getGroupId()) &&
@@ -223,7 +341,9 @@ public class KieContainerImpl
         InternalKieModule currentKM = currentReleaseId.equals(newReleaseId) ?
                 (InternalKieModule) ((KieRepositoryImpl) kr).getOldKieModule(currentReleaseId) :
                 (InternalKieModule) kr.getKieModule(currentReleaseId);
-        return update(currentKM, newReleaseId);
+        synchronized (swapLock) {
+            return update(currentKM, newReleaseId);
+        }
     }
 
     private void checkNotClasspathKieProject() {
@@ -238,6 +358,16 @@ public class KieContainerImpl
     }
 
     private Results update( InternalKieModule currentKM, InternalKieModule newKM ) {
+        // the kbases and the class loader shared with other containers can't be updated in place: this container
+        // stops using them, and recreates its kbases from the new KieModule. The sessions it already handed out,
+        // like the ones of the other containers, keep running on the shared kbases.
+        final SharedKieModuleArtifacts sharedArtifacts = getSharedArtifacts();
+        if ( sharedArtifacts != null ) {
+            evictSessions( sharedArtifacts::isShared );
+            kBases.values().removeIf( sharedArtifacts::isShared );
+            ((KieModuleKieProject) kProject).unshareArtifacts();
+        }
+
         final KieJarChangeSet cs = currentKM.getChanges( newKM );
         List<String> modifiedClassNames = getModifiedClasses(cs);
         final boolean modifyingUsedClass = isModifyingUsedClass( modifiedClassNames, getClassLoader() ) || isModifyingUsedFunction(cs);
@@ -279,6 +409,34 @@ public class KieContainerImpl
         return results;
     }
 
+    /**
+     * Removes from the caches the sessions created out of the kbases matching the given predicate, so that they are
+     * recreated on the kbases now in use. The evicted sessions are left untouched, since their callers may still use them.
+     */
+    private void evictSessions( Predicate<KieBase> evictedKBase ) {
+        boolean mbeansEnabled = isMBeanOptionEnabled();
+        for (Iterator<Entry<String, KieSession>> i = kSessions.entrySet().iterator(); i.hasNext(); ) {
+            Entry<String, KieSession> kv = i.next();
+            InternalKnowledgeBase kBase = (InternalKnowledgeBase) kv.getValue().getKieBase();
+            if ( evictedKBase.test( kBase ) ) {
+                i.remove();
+                if ( mbeansEnabled ) {
+                    DroolsManagementAgent.getInstance().unregisterKnowledgeSessionBean( new CBSKey( containerId, kBase.getId(), kv.getKey() ) );
+                }
+            }
+        }
+        for (Iterator<Entry<String, StatelessKieSession>> i = statelessKSessions.entrySet().iterator(); i.hasNext(); ) {
+            Entry<String, StatelessKieSession> kv = i.next();
+            InternalKnowledgeBase kBase = (InternalKnowledgeBase) kv.getValue().getKieBase();
+            if ( evictedKBase.test( kBase ) ) {
+                i.remove();
+                if ( mbeansEnabled ) {
+                    DroolsManagementAgent.getInstance().unregisterKnowledgeSessionBean( new CBSKey( containerId, kBase.getId(), kv.getKey() ) );
+                }
+            }
+        }
+    }
+
     private boolean isModifyingUsedFunction(KieJarChangeSet cs) {
         return cs.getChanges().values()
                 .stream()
@@ -373,14 +531,17 @@ public class KieContainerImpl
     }
 
     public KieBase getKieBase(String kBaseName) {
+        // a concurrent swap replaces both the project and the kbases: work on a consistent snapshot of them
+        KieProject kProject = this.kProject;
+        Map<String, KieBase> kBases = this.kBases;
         KieBase kBase = kBases.get( kBaseName );
         if ( kBase == null ) {
-            KieBaseModelImpl kBaseModel = getKieBaseModelImpl(kBaseName);
+            KieBaseModelImpl kBaseModel = getKieBaseModelImpl(kProject, kBaseName);
             synchronized (kBaseModel) {
                 kBase = kBases.get( kBaseName );
                 if ( kBase == null ) {
                     ResultsImpl msgs = new ResultsImpl();
-                    kBase = createKieBase(kBaseModel, kProject, msgs, null);
+                    kBase = createKieBase(kBaseModel, kProject, msgs);
                     if (kBase == null) {
                         // build error, throw runtime exception
                         throw new RuntimeException("Error while creating KieBase" + msgs.filterMessages(Level.ERROR));
@@ -392,6 +553,19 @@ public class KieContainerImpl
         return kBase;
     }
 
+    private InternalKnowledgeBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages) {
+        return createKieBase(kBaseModel, kieProject, messages, containerReleaseId);
+    }
+
+    private InternalKnowledgeBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, ReleaseId resolvedReleaseId) {
+        SharedKieModuleArtifacts sharedArtifacts = kieProject instanceof KieModuleKieProject ?
+                ((KieModuleKieProject) kieProject).getSharedArtifacts() :
+                null;
+        return sharedArtifacts != null ?
+                sharedArtifacts.getKieBase( kBaseModel.getName(), name -> createKieBase(kBaseModel, kieProject, messages, null, true, null) ) :
+                createKieBase(kBaseModel, kieProject, messages, null, false, resolvedReleaseId);
+    }
+
     public KieBase newKieBase(KieBaseConfiguration conf) {
         KieBaseModel defaultKieBaseModel = kProject.getDefaultKieBaseModel();
         if (defaultKieBaseModel == null) {
@@ -410,15 +584,26 @@ public class KieContainerImpl
         return kBase;
     }
 
-    private KieBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, KieBaseConfiguration conf) {
+    private InternalKnowledgeBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, KieBaseConfiguration conf) {
+        return createKieBase(kBaseModel, kieProject, messages, conf, false, containerReleaseId);
+    }
+
+    private InternalKnowledgeBase createKieBase(KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, KieBaseConfiguration conf,
+                                                boolean shared, ReleaseId resolvedReleaseId) {
         InternalKieModule kModule = kieProject.getKieModuleForKBase( kBaseModel.getName() );
         InternalKnowledgeBase kBase = kModule.createKieBase(kBaseModel, kieProject, messages, conf);
         if ( kBase == null ) {
             return null;
         }
-        kBase.setResolvedReleaseId(containerReleaseId);
-        kBase.setContainerId(containerId);
-        kBase.setKieContainer(this);
+        if ( shared ) {
+            // a kbase shared among many containers doesn't belong to any of them
+            kBase.setResolvedReleaseId(kModule.getReleaseId());
+            kBase.setContainerId(((KieModuleKieProject) kieProject).getSharedArtifacts().getContainerId());
+        } else {
+            kBase.setResolvedReleaseId(resolvedReleaseId);
+            kBase.setContainerId(containerId);
+            kBase.setKieContainer(this);
+        }
         kBase.initMBeans();
 
         generateCompiledAlphaNetwork(kBaseModel, kModule, kBase);
@@ -439,6 +624,10 @@ public class KieContainerImpl
     }
 
     private KieBaseModelImpl getKieBaseModelImpl(String kBaseName) {
+        return getKieBaseModelImpl(kProject, kBaseName);
+    }
+
+    private KieBaseModelImpl getKieBaseModelImpl(KieProject kProject, String kBaseName) {
         KieBaseModelImpl kBaseModel = (KieBaseModelImpl) kProject.getKieBaseModel(kBaseName);
         if (kBaseModel == null) {
             throw new RuntimeException( "The requested KieBase \"" + kBaseName + "\" does not exist" );
@@ -663,6 +852,10 @@ public class KieContainerImpl
     public void dispose() {
         sessionConfsCache.clear();
         kBases.values().forEach( kb -> ( (InternalKnowledgeBase) kb ).setKieContainer( null ) );
+        synchronized (replacedKBases) {
+            replacedKBases.forEach( this::releaseKieBase );
+            replacedKBases.clear();
+        }
 
         Set<DroolsManagementAgent.CBSKey> cbskeys = new HashSet<DroolsManagementAgent.CBSKey>();
         if ( isMBeanOptionEnabled() ) {
@@ -684,20 +877,48 @@ public class KieContainerImpl
             for (CBSKey c : cbskeys) {
                 DroolsManagementAgent.getInstance().unregisterKnowledgeSessionBean(c);
             }
+            SharedKieModuleArtifacts sharedArtifacts = getSharedArtifacts();
             for (KieBase kb : kBases.values()) {
-                DroolsManagementAgent.getInstance().unregisterKnowledgeBase((InternalKnowledgeBase) kb);
+                if ( sharedArtifacts == null || !sharedArtifacts.isShared( kb ) ) {
+                    DroolsManagementAgent.getInstance().unregisterKnowledgeBase((InternalKnowledgeBase) kb);
+                }
             }
             DroolsManagementAgent.getInstance().unregisterMBeansFromOwner(this);
         }
 
+        if ( kProject instanceof KieModuleKieProject ) {
+            ((KieModuleKieProject) kProject).releaseSharedArtifacts();
+        }
+
         ((InternalKieServices) KieServices.Factory.get()).clearRefToContainerId(this.containerId, this);
     }
 
+    private SharedKieModuleArtifacts getSharedArtifacts() {
+        return kProject instanceof KieModuleKieProject ? ((KieModuleKieProject) kProject).getSharedArtifacts() : null;
+    }
+
     @Override
     public void disposeSession(KieSession kieSession) {
         if (!isMBeanOptionEnabled()) {
             kSessions.values().remove( kieSession );
         }
+        KieBase kBase = kieSession.getKieBase();
+        synchronized (replacedKBases) {
+            if ( replacedKBases.contains( kBase ) && kBase.getKieSessions().isEmpty() ) {
+                replacedKBases.remove( kBase );
+                releaseKieBase( kBase );
+            }
+        }
+    }
+
+    /**
+     * Detaches a kbase no longer used by this container, unregistering its MBean
+     */
+    private void releaseKieBase(KieBase kBase) {
+        ( (InternalKnowledgeBase) kBase ).setKieContainer( null );
+        if ( isMBeanOptionEnabled() ) {
+            DroolsManagementAgent.getInstance().unregisterKnowledgeBase( (InternalKnowledgeBase) kBase );
+        }
     }
 
     private boolean isMBeanOptionEnabled() {
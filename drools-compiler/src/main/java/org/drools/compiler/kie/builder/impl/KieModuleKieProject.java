@@ -47,6 +47,8 @@ public class KieModuleKieProject extends AbstractKieProject {
 
     private ProjectClassLoader cl;
 
+    private SharedKieModuleArtifacts sharedArtifacts;
+
     public KieModuleKieProject( InternalKieModule kieModule ) {
         this( kieModule, null );
     }
@@ -56,6 +58,16 @@ public class KieModuleKieProject extends AbstractKieProject {
         this.cl = kieModule.createModuleClassLoader( parent );
     }
 
+    private KieModuleKieProject(InternalKieModule kieModule, ProjectClassLoader cl, SharedKieModuleArtifacts sharedArtifacts) {
+        this.kieModule = kieModule;
+        this.cl = cl;
+        this.sharedArtifacts = sharedArtifacts;
+    }
+
+    public static KieModuleKieProject withSharedArtifacts(InternalKieModule kieModule, SharedKieModuleArtifacts sharedArtifacts) {
+        return new KieModuleKieProject( kieModule, sharedArtifacts.getClassLoader(), sharedArtifacts );
+    }
+
     public void init() {
         if ( kieModules == null ) {
             Collection<InternalKieModule> depKieModules = kieModule.getKieDependencies().values();
@@ -63,7 +75,10 @@ public class KieModuleKieProject extends AbstractKieProject {
             kieModules = new ArrayList<InternalKieModule>();
             kieModules.addAll( depKieModules );
             kieModules.add( kieModule );
-            cl.storeClasses( getClassesMap() );
+            if ( sharedArtifacts == null ) {
+                // a shared class loader already contains the classes of this module
+                cl.storeClasses( getClassesMap() );
+            }
         }
     }
 
@@ -99,6 +114,29 @@ public class KieModuleKieProject extends AbstractKieProject {
         return this.cl;
     }
 
+    public SharedKieModuleArtifacts getSharedArtifacts() {
+        return sharedArtifacts;
+    }
+
+    public synchronized void releaseSharedArtifacts() {
+        if ( sharedArtifacts != null ) {
+            sharedArtifacts.release();
+            sharedArtifacts = null;
+        }
+    }
+
+    /**
+     * Stops sharing the artifacts of the KieModule: this project gets its own class loader, that can be updated
+     * without affecting the other containers sharing them
+     */
+    public synchronized void unshareArtifacts() {
+        if ( sharedArtifacts != null ) {
+            releaseSharedArtifacts();
+            this.cl = this.kieModule.createModuleClassLoader( this.kieModule.getModuleClassLoader() );
+            this.cl.storeClasses( getClassesMap() );
+        }
+    }
+
     public Map<String, KieBaseModel> updateToModule(InternalKieModule updatedKieModule) {
         Map<String, KieBaseModel> oldKieBaseModels = new HashMap<String, KieBaseModel>();
         oldKieBaseModels.putAll( kBaseModels );
@@ -116,6 +154,12 @@ public class KieModuleKieProject extends AbstractKieProject {
             this.kieModule.addKieDependency(updatedKieModule);
         }
 
+        if ( sharedArtifacts != null ) {
+            // an updated project can no longer share the artifacts of the original KieModule
+            releaseSharedArtifacts();
+            this.cl = this.kieModule.createModuleClassLoader( this.kieModule.getModuleClassLoader() );
+        }
+
         synchronized (this) {
             cleanIndex();
             init(); // this might override class definitions, not sure we can do it any other way though
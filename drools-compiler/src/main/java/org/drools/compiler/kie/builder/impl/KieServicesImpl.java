@@ -185,13 +185,18 @@ public class KieServicesImpl implements InternalKieServices {
         if (kieModule == null) {
             throw new RuntimeException("Cannot find KieModule: " + releaseId);
         }
-        if (classLoader == null) {
-            classLoader = kieModule.getModuleClassLoader();
-        }
-        KieProject kProject = new KieModuleKieProject( kieModule, classLoader );
-        if (classLoader != kProject.getClassLoader()) {
-            // if the new kproject has a different classloader than the original one it has to be initialized
-            kProject.init();
+        KieProject kProject;
+        if (classLoader == null && SharedKieModuleArtifacts.isEnabled( kieModule )) {
+            kProject = KieModuleKieProject.withSharedArtifacts( kieModule, SharedKieModuleArtifacts.acquire( kieModule ) );
+        } else {
+            if (classLoader == null) {
+                classLoader = kieModule.getModuleClassLoader();
+            }
+            kProject = new KieModuleKieProject( kieModule, classLoader );
+            if (classLoader != kProject.getClassLoader()) {
+                // if the new kproject has a different classloader than the original one it has to be initialized
+                kProject.init();
+            }
         }
 
     	if (containerId == null) {
@@ -208,6 +213,9 @@ public class KieServicesImpl implements InternalKieServices {
             	throw new IllegalStateException("There's already another KieContainer created with the id "+containerId);
             }
         } else {
+            if (kProject instanceof KieModuleKieProject) {
+                ((KieModuleKieProject) kProject).releaseSharedArtifacts();
+            }
             throw new IllegalStateException("There's already another KieContainer created with the id "+containerId);
         }
     }
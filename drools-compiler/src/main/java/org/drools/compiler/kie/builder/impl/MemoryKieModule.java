@@ -84,6 +84,11 @@ public class MemoryKieModule extends AbstractKieModule
         return mfs.getFileNames();
     }
 
+    @Override
+    protected int getContentVersion() {
+        return mfs.getModificationCount();
+    }
+
     public MemoryFileSystem getMemoryFileSystem() {
         return this.mfs;
     }
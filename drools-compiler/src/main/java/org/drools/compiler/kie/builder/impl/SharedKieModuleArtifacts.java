@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.kie.builder.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.management.DroolsManagementAgent;
+import org.drools.reflective.classloader.ProjectClassLoader;
+
+/**
+ * The immutable artifacts shared by all the KieContainers created on KieModules with identical content
+ * when the {@link #SHARE_KIE_BASES_OPTION} is enabled: a single ProjectClassLoader, holding the classes
+ * compiled in the kjar, and a single instance of each KieBase, together with its Rete network and
+ * generated classes. Sessions and any other mutable state remain owned by each container.
+ *
+ * The identity of a KieModule is established by a digest of its ReleaseId, of its content and of the
+ * content of its dependencies. The digest of the content is computed once per KieModule, and computed again
+ * only if the content changes, as the one of a MemoryKieModule can after it has been built.
+ * The artifacts are reference counted and dropped when the last container using them is disposed.
+ *
+ * The shared KieBases don't belong to any container: their MBeans are registered under an id derived from
+ * the digest, and unregistered when the artifacts are dropped.
+ */
+public class SharedKieModuleArtifacts {
+
+    public static final String SHARE_KIE_BASES_OPTION = "drools.shareKieBases";
+
+    private static final String SHARED_CONTAINER_ID_PREFIX = "shared-";
+
+    private static final Map<String, SharedKieModuleArtifacts> artifactsByDigest = new HashMap<>();
+
+    private final String digest;
+    private final ProjectClassLoader classLoader;
+    private final Map<String, InternalKnowledgeBase> kBases = new ConcurrentHashMap<>();
+
+    private int users;
+
+    private SharedKieModuleArtifacts( String digest, ProjectClassLoader classLoader ) {
+        this.digest = digest;
+        this.classLoader = classLoader;
+    }
+
+    public static boolean isEnabled( InternalKieModule kieModule ) {
+        String value = kieModule.getKieModuleModel() != null ?
+                       kieModule.getKieModuleModel().getConfigurationProperty( SHARE_KIE_BASES_OPTION ) :
+                       null;
+        return Boolean.parseBoolean( value != null ? value : System.getProperty( SHARE_KIE_BASES_OPTION ) );
+    }
+
+    public static SharedKieModuleArtifacts acquire( InternalKieModule kieModule ) {
+        String digest = computeDigest( kieModule );
+        synchronized (artifactsByDigest) {
+            SharedKieModuleArtifacts artifacts = artifactsByDigest.get( digest );
+            if ( artifacts == null ) {
+                ProjectClassLoader classLoader = kieModule.createModuleClassLoader( kieModule.getModuleClassLoader() );
+                classLoader.storeClasses( getClassesMap( kieModule ) );
+                artifacts = new SharedKieModuleArtifacts( digest, classLoader );
+                artifactsByDigest.put( digest, artifacts );
+            }
+            artifacts.users++;
+            return artifacts;
+        }
+    }
+
+    public void release() {
+        synchronized (artifactsByDigest) {
+            if ( --users == 0 ) {
+                artifactsByDigest.remove( digest );
+                // before new artifacts with the same digest can register their KieBases under the same id
+                for ( InternalKnowledgeBase kBase : kBases.values() ) {
+                    if ( kBase.getConfiguration().isMBeansEnabled() ) {
+                        DroolsManagementAgent.getInstance().unregisterKnowledgeBase( kBase );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id the shared KieBases are registered with, in place of the one of the container using them
+     */
+    public String getContainerId() {
+        return SHARED_CONTAINER_ID_PREFIX + digest;
+    }
+
+    public ProjectClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public InternalKnowledgeBase getKieBase( String kBaseName, Function<String, InternalKnowledgeBase> kBaseFactory ) {
+        return kBases.computeIfAbsent( kBaseName, kBaseFactory );
+    }
+
+    public boolean isShared( Object kBase ) {
+        return kBases.containsValue( kBase );
+    }
+
+    private static Map<String, byte[]> getClassesMap( InternalKieModule kieModule ) {
+        Map<String, byte[]> classes = new HashMap<>();
+        for ( InternalKieModule dependency : kieModule.getKieDependencies().values() ) {
+            classes.putAll( dependency.getClassesMap() );
+        }
+        classes.putAll( kieModule.getClassesMap() );
+        return classes;
+    }
+
+    private static String computeDigest( InternalKieModule kieModule ) {
+        MessageDigest md = newMessageDigest();
+        updateDigest( md, kieModule );
+        StringBuilder sb = new StringBuilder();
+        for ( byte b : md.digest() ) {
+            sb.append( String.format( "%02x", b ) );
+        }
+        return sb.toString();
+    }
+
+    private static void updateDigest( MessageDigest md, InternalKieModule kieModule ) {
+        md.update( kieModule.getReleaseId().toString().getBytes( StandardCharsets.UTF_8 ) );
+        md.update( kieModule.getContentDigest() );
+        List<InternalKieModule> dependencies = new ArrayList<>( kieModule.getKieDependencies().values() );
+        dependencies.sort( Comparator.comparing( dependency -> dependency.getReleaseId().toString() ) );
+        for ( InternalKieModule dependency : dependencies ) {
+            updateDigest( md, dependency );
+        }
+    }
+
+    /**
+     * Computes the digest of the files of the given KieModule, without its dependencies
+     */
+    static byte[] computeContentDigest( InternalKieModule kieModule ) {
+        MessageDigest md = newMessageDigest();
+        List<String> fileNames = new ArrayList<>( kieModule.getFileNames() );
+        Collections.sort( fileNames );
+        for ( String fileName : fileNames ) {
+            md.update( fileName.getBytes( StandardCharsets.UTF_8 ) );
+            byte[] bytes = kieModule.getBytes( fileName );
+            if ( bytes != null ) {
+                md.update( bytes );
+            }
+        }
+        return md.digest();
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance( "SHA-256" );
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException( e );
+        }
+    }
+}
@@ -45,4 +45,15 @@ public class KnowledgeBuilderConfigurationImplTest {
         }
     }
 
+    @Test
+    public void testParallelParseThresholdConfiguration() {
+        try {
+            System.getProperties().put(KnowledgeBuilderConfigurationImpl.PARALLEL_PARSE_THRESHOLD_PROPERTY, "-1");
+            KnowledgeBuilderConfigurationImpl kbConfigImpl = new KnowledgeBuilderConfigurationImpl();
+            assertThat(kbConfigImpl.getParallelParseThreshold(), is(-1));
+        } finally {
+            System.getProperties().remove(KnowledgeBuilderConfigurationImpl.PARALLEL_PARSE_THRESHOLD_PROPERTY);
+        }
+    }
+
 }
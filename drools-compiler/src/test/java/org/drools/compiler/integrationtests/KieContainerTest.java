@@ -20,6 +20,7 @@ import java.io.StringReader;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -28,8 +29,13 @@ import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.compiler.io.Folder;
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.core.impl.InternalKieContainer;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
 import org.drools.compiler.kie.builder.impl.MemoryKieModule;
+import org.drools.compiler.kie.builder.impl.SharedKieModuleArtifacts;
 import org.junit.Test;
+import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieModule;
 import org.kie.api.builder.Message.Level;
@@ -399,6 +405,144 @@ public class KieContainerTest extends CommonTestMethodBase {
         assertNotNull(sessionModel);
     }
 
+    @Test
+    public void testSharedKieBases() {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie", "test-shared-kbases", "1.0.0");
+        createAndDeployJar( ks, releaseId, createDRL("ruleA") );
+
+        try {
+            System.setProperty( SharedKieModuleArtifacts.SHARE_KIE_BASES_OPTION, "true" );
+            KieContainer kieContainer1 = ks.newKieContainer(releaseId);
+            KieContainer kieContainer2 = ks.newKieContainer(releaseId);
+
+            assertSame( kieContainer1.getClassLoader(), kieContainer2.getClassLoader() );
+            assertSame( kieContainer1.getKieBase(), kieContainer2.getKieBase() );
+
+            KieSession ksession1 = kieContainer1.newKieSession();
+            KieSession ksession2 = kieContainer2.newKieSession();
+            assertNotSame( ksession1, ksession2 );
+
+            List<String> list = new ArrayList<>();
+            ksession1.setGlobal( "list", list );
+            ksession1.fireAllRules();
+            assertEquals( 1, list.size() );
+
+            // updating a container detaches it from the shared kbases leaving the other containers untouched
+            ReleaseId newReleaseId = ks.newReleaseId("org.kie", "test-shared-kbases", "1.0.1");
+            createAndDeployJar( ks, newReleaseId, createDRL("ruleB") );
+            kieContainer2.updateToVersion( newReleaseId );
+            assertNotSame( kieContainer1.getKieBase(), kieContainer2.getKieBase() );
+            assertNotSame( kieContainer1.getClassLoader(), kieContainer2.getClassLoader() );
+            // the sessions created before the update keep running on the shared kbase
+            ksession2.setGlobal( "list", list );
+            ksession2.fireAllRules();
+            assertEquals( 2, list.size() );
+            assertNotNull( kieContainer1.getKieBase().getRule( "org.kie.test", "ruleA" ) );
+            assertNotNull( kieContainer2.getKieBase().getRule( "org.kie.test", "ruleB" ) );
+            // the sessions of the detached container no longer run on the shared kbase
+            assertSame( kieContainer2.getKieBase(), kieContainer2.getKieSession().getKieBase() );
+
+            ClassLoader sharedClassLoader = kieContainer1.getClassLoader();
+            kieContainer1.dispose();
+            kieContainer2.dispose();
+
+            // once the last container using them is disposed the shared artifacts are released
+            KieContainer kieContainer5 = ks.newKieContainer(releaseId);
+            assertNotSame( sharedClassLoader, kieContainer5.getClassLoader() );
+            kieContainer5.dispose();
+        } finally {
+            System.clearProperty( SharedKieModuleArtifacts.SHARE_KIE_BASES_OPTION );
+        }
+
+        KieContainer kieContainer3 = ks.newKieContainer(releaseId);
+        KieContainer kieContainer4 = ks.newKieContainer(releaseId);
+        assertNotSame( kieContainer3.getKieBase(), kieContainer4.getKieBase() );
+        kieContainer3.dispose();
+        kieContainer4.dispose();
+    }
+
+    @Test
+    public void testSwapOnUpdate() {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie", "test-swap-on-update", "1.0.0");
+        createAndDeployJar( ks, releaseId, createDRL("ruleA") );
+
+        try {
+            System.setProperty( KieContainerImpl.SWAP_ON_UPDATE_OPTION, "true" );
+            KieContainer kieContainer = ks.newKieContainer(releaseId);
+            KieBase oldKieBase = kieContainer.getKieBase();
+            KieSession oldSession = kieContainer.newKieSession();
+            KieSession cachedSession = kieContainer.getKieSession();
+
+            ReleaseId newReleaseId = ks.newReleaseId("org.kie", "test-swap-on-update", "1.0.1");
+            createAndDeployJar( ks, newReleaseId, createDRL("ruleB") );
+            Results results = kieContainer.updateToVersion( newReleaseId );
+            assertFalse( results.hasMessages( Level.ERROR ) );
+            assertEquals( "1.0.1", ( (InternalKieContainer) kieContainer ).getContainerReleaseId().getVersion() );
+
+            // the new kbase is a brand new one while the former one is left untouched
+            assertNotSame( oldKieBase, kieContainer.getKieBase() );
+            assertEquals( "1.0.1", ( (InternalKnowledgeBase) kieContainer.getKieBase() ).getResolvedReleaseId().getVersion() );
+            assertNotNull( oldKieBase.getRule( "org.kie.test", "ruleA" ) );
+            assertNull( oldKieBase.getRule( "org.kie.test", "ruleB" ) );
+
+            // the existing sessions keep working on the former kbase until they are disposed
+            List<String> oldList = new ArrayList<>();
+            oldSession.setGlobal( "list", oldList );
+            oldSession.fireAllRules();
+            assertEquals( Collections.singletonList( "ruleA" ), oldList );
+
+            // while the cached ones are no longer handed out
+            assertTrue( ( (StatefulKnowledgeSessionImpl) cachedSession ).isAlive() );
+            assertNotSame( cachedSession, kieContainer.getKieSession() );
+            assertSame( kieContainer.getKieBase(), kieContainer.getKieSession().getKieBase() );
+
+            // the former kbase is released together with its last session
+            oldSession.dispose();
+            assertSame( kieContainer, ( (InternalKnowledgeBase) oldKieBase ).getKieContainer() );
+            cachedSession.dispose();
+            assertNull( ( (InternalKnowledgeBase) oldKieBase ).getKieContainer() );
+
+            KieSession newSession = kieContainer.newKieSession();
+            List<String> newList = new ArrayList<>();
+            newSession.setGlobal( "list", newList );
+            newSession.fireAllRules();
+            assertEquals( Collections.singletonList( "ruleB" ), newList );
+            newSession.dispose();
+
+            kieContainer.dispose();
+        } finally {
+            System.clearProperty( KieContainerImpl.SWAP_ON_UPDATE_OPTION );
+        }
+    }
+
+    @Test
+    public void testUpdateToVersionAsync() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie", "test-update-async", "1.0.0");
+        createAndDeployJar( ks, releaseId, createDRL("ruleA") );
+
+        KieContainer kieContainer = ks.newKieContainer(releaseId);
+        KieBase oldKieBase = kieContainer.getKieBase();
+
+        // a missing version leaves the container on the current one
+        Results results = ( (KieContainerImpl) kieContainer ).updateToVersionAsync( ks.newReleaseId("org.kie", "test-update-async", "1.0.1") ).get();
+        assertEquals( 1, results.getMessages( Level.ERROR ).size() );
+        assertSame( oldKieBase, kieContainer.getKieBase() );
+        assertEquals( "1.0.0", ( (InternalKieContainer) kieContainer ).getContainerReleaseId().getVersion() );
+
+        ReleaseId newReleaseId = ks.newReleaseId("org.kie", "test-update-async", "1.0.2");
+        createAndDeployJar( ks, newReleaseId, createDRL("ruleB") );
+        results = ( (KieContainerImpl) kieContainer ).updateToVersionAsync( newReleaseId ).get();
+        assertFalse( results.hasMessages( Level.ERROR ) );
+        assertNotSame( oldKieBase, kieContainer.getKieBase() );
+        assertNotNull( kieContainer.getKieBase().getRule( "org.kie.test", "ruleB" ) );
+        assertEquals( "1.0.2", ( (InternalKieContainer) kieContainer ).getContainerReleaseId().getVersion() );
+
+        kieContainer.dispose();
+    }
+
     private String createDRL(String ruleName) {
         return "package org.kie.test\n" +
                "global java.util.List list\n" +
@@ -39,6 +39,7 @@ import org.kie.api.internal.utils.ServiceRegistryImpl;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.CompositeKnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.io.ResourceFactory;
@@ -570,4 +571,29 @@ public class KnowledgeBuilderTest {
 
         }
     }
+
+    @Test
+    public void testBatchParsesDrlsInParallel() {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        CompositeKnowledgeBuilder compositeBuilder = kbuilder.batch().type( ResourceType.DRL );
+        for ( int i = 0; i < 50; i++ ) {
+            String drl =
+                    "package org.drools.test" + ( i % 5 ) + ";\n" +
+                    "import org.drools.compiler.Cheese;\n" +
+                    "rule R" + i + "\n" +
+                    "when Cheese( price > " + i + " ) then end\n";
+            compositeBuilder.add( ResourceFactory.newByteArrayResource( drl.getBytes() ) );
+        }
+        compositeBuilder.build();
+
+        if ( kbuilder.hasErrors() ) {
+            fail( kbuilder.getErrors().toString() );
+        }
+        assertEquals( 5, kbuilder.getKnowledgePackages().size() );
+        int rules = 0;
+        for ( KiePackage kp : kbuilder.getKnowledgePackages() ) {
+            rules += kp.getRules().size();
+        }
+        assertEquals( 50, rules );
+    }
 }
@@ -23,6 +23,7 @@ import javax.management.ObjectName;
 
 import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.kie.builder.impl.KieServicesImpl;
+import org.drools.compiler.kie.builder.impl.SharedKieModuleArtifacts;
 import org.drools.core.ClockType;
 import org.drools.core.impl.InternalKieContainer;
 import org.drools.core.impl.InternalKnowledgeBase;
@@ -59,6 +60,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class MBeansMonitoringTest extends CommonTestMethodBase {
@@ -190,6 +192,46 @@ public class MBeansMonitoringTest extends CommonTestMethodBase {
     	assertEquals( 10001, ((Number) expOffset).longValue() );
     }
     
+    @Test
+    public void testSharedKieBaseMBeans() throws Exception {
+        String drl = "package org.drools.compiler.test\n" +
+                "rule X\n" +
+                "when\n" +
+                "then\n" +
+                "end";
+
+        KieServices ks = KieServices.Factory.get();
+
+        KieModuleModel kproj = ks.newKieModuleModel();
+        kproj.setConfigurationProperty( SharedKieModuleArtifacts.SHARE_KIE_BASES_OPTION, "true" );
+        kproj.newKieBaseModel( KBASE1 ).setDefault( true )
+                .newKieSessionModel( KSESSION1 ).setDefault( true );
+
+        ReleaseId releaseId1 = ks.newReleaseId( "org.kie.test", "mbeans-shared", "1.0.0" );
+        createKJar( ks, kproj, releaseId1, null, drl );
+
+        KieContainer kc1 = ks.newKieContainer( "shared1", releaseId1 );
+        KieContainer kc2 = ks.newKieContainer( "shared2", releaseId1 );
+
+        KieBase kiebase = kc1.getKieBase( KBASE1 );
+        assertSame( kiebase, kc2.getKieBase( KBASE1 ) );
+        KieSession ksession1 = kc1.newKieSession( KSESSION1 );
+        KieSession ksession2 = kc2.newKieSession( KSESSION1 );
+        assertEquals( 1, ksession1.fireAllRules() );
+        assertEquals( 1, ksession2.fireAllRules() );
+
+        // the shared kbase is registered once, under an id that is not the one of any of the containers
+        MBeanServer mbserver = ManagementFactory.getPlatformMBeanServer();
+        ObjectName kbOn = DroolsManagementAgent.createObjectNameFor( (InternalKnowledgeBase) kiebase );
+        assertTrue( mbserver.isRegistered( kbOn ) );
+        assertFalse( kbOn.toString().contains( "shared1" ) );
+
+        kc1.dispose();
+        assertTrue( mbserver.isRegistered( kbOn ) );
+        kc2.dispose();
+        assertFalse( mbserver.isRegistered( kbOn ) );
+    }
+
     @Test
     public void testContainerMBeans() throws Exception {
     	String drl = "package org.drools.compiler.test\n" +
@@ -1,6 +1,7 @@
 package org.drools.core.base;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -32,6 +33,11 @@ public class TraitDisabledHelper implements TraitHelper {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public <T, K> List<T> donAll(Activation activation, Collection<K> cores, Collection<Class<? extends Thing>> traits, boolean logical, Mode... modes) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T, K, X extends TraitableBean> Thing<K> shed(TraitableBean<K, X> core, Class<T> trait, Activation activation) {
         throw new UnsupportedOperationException();
@@ -1,6 +1,7 @@
 package org.drools.core.base;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -19,6 +20,8 @@ public interface TraitHelper {
 
     <T, K> T don(Activation activation, K core, Class<T> trait, boolean logical, Mode... modes);
 
+    <T, K> List<T> donAll(Activation activation, Collection<K> cores, Collection<Class<? extends Thing>> traits, boolean logical, Mode... modes);
+
     <T, K, X extends TraitableBean> Thing<K> shed(TraitableBean<K, X> core, Class<T> trait, Activation activation);
 
     void replaceCore(InternalFactHandle handle, Object object, Object originalObject, BitMask modificationMask, Class<? extends Object> aClass, Activation activation);
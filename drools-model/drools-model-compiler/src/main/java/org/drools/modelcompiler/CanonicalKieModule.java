@@ -759,6 +759,11 @@ public class CanonicalKieModule implements InternalKieModule {
         return internalKieModule.getCreationTimestamp();
     }
 
+    @Override
+    public byte[] getContentDigest() {
+        return internalKieModule.getContentDigest();
+    }
+
     @Override
     public InputStream getPomAsStream() {
         return internalKieModule.getPomAsStream();
@@ -0,0 +1,84 @@
+package org.drools.modelcompiler.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.builder.impl.CompositeKnowledgeBuilderImpl;
+import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parse stage of a {@link CompositeKnowledgeBuilderImpl} batch with and without parallel parsing.
+ * The number of cores used by the parallel parse can be varied running the benchmark with
+ * <code>-jvmArgsAppend -XX:ActiveProcessorCount=N</code>.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParseDrlBenchmark {
+
+    @Param({"1000"})
+    private int numberOfFiles;
+
+    @Param({"20"})
+    private int numberOfRulesPerFile;
+
+    @Param({"-1", "0"})
+    private int parallelParseThreshold;
+
+    private List<Resource> drls;
+
+    @Setup(Level.Trial)
+    public void generateDrls() {
+        drls = new ArrayList<>();
+        for (int i = 0; i < numberOfFiles; i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("package org.drools.modelcompiler.benchmarks;\n\n");
+            sb.append("import " + Person.class.getCanonicalName() + ";\n\n");
+            for (int j = 0; j < numberOfRulesPerFile; j++) {
+                sb.append("rule R_" + i + "_" + j + " when\n");
+                sb.append("  $p1 : Person(name == \"Mark_" + i + "_" + j + "\")\n");
+                sb.append("  $p2 : Person(name != \"Mark_" + i + "_" + j + "\", age > $p1.age)\n");
+                sb.append("then\n");
+                sb.append("  System.out.println($p2.getName() + \" is older than \" + $p1.getName());\n");
+                sb.append("end\n\n");
+            }
+            Resource drl = ResourceFactory.newByteArrayResource(sb.toString().getBytes());
+            drl.setSourcePath("rules" + i + ".drl");
+            drls.add(drl);
+        }
+    }
+
+    @Benchmark
+    public KnowledgeBuilderImpl parseDrls() {
+        KnowledgeBuilderConfigurationImpl conf = new KnowledgeBuilderConfigurationImpl();
+        conf.setParallelParseThreshold(parallelParseThreshold);
+        KnowledgeBuilderImpl kBuilder = new KnowledgeBuilderImpl(conf);
+        CompositeKnowledgeBuilderImpl batch = new CompositeKnowledgeBuilderImpl(kBuilder);
+        for (Resource drl : drls) {
+            batch.add(drl, ResourceType.DRL);
+        }
+        batch.build(false);
+        return kBuilder;
+    }
+}
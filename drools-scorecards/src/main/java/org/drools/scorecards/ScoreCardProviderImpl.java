@@ -15,21 +15,29 @@
 
 package org.drools.scorecards;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
 import org.drools.compiler.compiler.ScoreCardProvider;
+import org.drools.core.util.IoUtils;
 import org.drools.core.util.StringUtils;
+import org.drools.scorecards.model.CompiledScorecard;
 import org.kie.api.KieBase;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.internal.builder.ScoreCardConfiguration;
 import org.kie.internal.io.ResourceFactory;
 import org.kie.internal.utils.KieHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ScoreCardProviderImpl
         implements
         ScoreCardProvider {
 
+    private final static Logger logger = LoggerFactory.getLogger(ScoreCardProviderImpl.class);
+
     @Deprecated
     public String loadFromInputStream(InputStream is,
                                       ScoreCardConfiguration configuration) {
@@ -70,6 +78,42 @@ public class ScoreCardProviderImpl
         return null;
     }
 
+    /**
+     * Compile an Excel scorecard straight to a {@link CompiledScorecard}, bypassing the PMML and DRL translations of
+     * {@link #getKieBaseFromInputStream(InputStream, ScoreCardConfiguration)}. The result is looked up in the
+     * {@link ScorecardCompilationCache} first, so that an unchanged spreadsheet is parsed only once.
+     * @return the compiled scorecard, or <code>null</code> if the input is not an Excel spreadsheet or has errors
+     */
+    @Override
+    public CompiledScorecard getCompiledScorecardFromInputStream(InputStream is, ScoreCardConfiguration configuration) {
+        String inputTypeExcel = ScoreCardConfiguration.SCORECARD_INPUT_TYPE.EXCEL.toString();
+        if (configuration != null && configuration.getInputType() != null && !inputTypeExcel.equalsIgnoreCase(configuration.getInputType())) {
+            return null;
+        }
+        String worksheetName = configuration == null || StringUtils.isEmpty(configuration.getWorksheetName()) ?
+                ScorecardCompiler.DEFAULT_SHEET_NAME :
+                configuration.getWorksheetName();
+        byte[] content;
+        try {
+            content = IoUtils.readBytesFromInputStream(is);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+        String key = ScorecardCompilationCache.isEnabled() ? ScorecardCompilationCache.getKey(content, worksheetName) : null;
+        CompiledScorecard toReturn = key != null ? ScorecardCompilationCache.get(key) : null;
+        if (toReturn == null) {
+            ScorecardCompiler scorecardCompiler = new ScorecardCompiler();
+            if (scorecardCompiler.compileFromExcel(new ByteArrayInputStream(content), worksheetName)) {
+                toReturn = scorecardCompiler.getCompiledScorecard();
+            }
+            if (toReturn != null && key != null) {
+                ScorecardCompilationCache.put(key, toReturn);
+            }
+        }
+        return toReturn;
+    }
+
     @Deprecated
     private String compileStream(InputStream is,
                                  ScoreCardConfiguration configuration) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.drools.core.util.Drools;
+import org.drools.scorecards.model.CompiledScorecard;
+import org.kie.pmml.assembler.ContentHashCache;
+
+/**
+ * Cache of the scorecards compiled out of the spreadsheets, keyed by the hash of their content and of the worksheet
+ * name, so that an unchanged spreadsheet is neither parsed nor translated again.
+ * <p>
+ * The last {@value ContentHashCache#MEMORY_ENTRIES} scorecards are kept in memory. When the {@value #CACHE_DIR_PROPERTY}
+ * system property is set, they are also stored in that directory, to be reused across restarts; the
+ * Drools version is part of the key, so that an upgrade never reuses stale scorecards.
+ * The {@value #CACHE_DISABLED_PROPERTY} system property disables the cache.
+ */
+public class ScorecardCompilationCache {
+
+    public static final String CACHE_DIR_PROPERTY = "drools.scorecards.cache.dir";
+    public static final String CACHE_DISABLED_PROPERTY = "drools.scorecards.cache.disabled";
+    private static final String CACHE_FILE_EXTENSION = ".scard";
+
+    private static final ContentHashCache<CompiledScorecard> cache = new ContentHashCache<>("scorecard",
+                                                                                           Drools.getFullVersion(),
+                                                                                           CACHE_DIR_PROPERTY,
+                                                                                           CACHE_FILE_EXTENSION,
+                                                                                           new CompiledScorecardCodec());
+
+    private ScorecardCompilationCache() {
+        // Avoid instantiation
+    }
+
+    public static boolean isEnabled() {
+        return !Boolean.getBoolean(CACHE_DISABLED_PROPERTY);
+    }
+
+    /**
+     * Remove all the entries kept in memory; the ones stored in {@value #CACHE_DIR_PROPERTY} are left untouched
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    static String getKey(byte[] content, String worksheetName) {
+        return cache.getKey(content, worksheetName);
+    }
+
+    static CompiledScorecard get(String key) {
+        return cache.get(key);
+    }
+
+    static void put(String key, CompiledScorecard scorecard) {
+        cache.put(key, scorecard);
+    }
+
+    private static class CompiledScorecardCodec implements ContentHashCache.Codec<CompiledScorecard> {
+
+        @Override
+        public void write(DataOutputStream out, CompiledScorecard value) throws IOException {
+            value.writeTo(out);
+        }
+
+        @Override
+        public CompiledScorecard read(DataInputStream in) throws IOException {
+            return CompiledScorecard.readFrom(in);
+        }
+    }
+}
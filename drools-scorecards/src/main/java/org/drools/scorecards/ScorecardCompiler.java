@@ -21,6 +21,8 @@ import org.drools.core.util.IoUtils;
 import org.kie.pmml.pmml_4_2.PMML4Compiler;
 import org.kie.pmml.pmml_4_2.PMML4Unit;
 import org.kie.pmml.pmml_4_2.model.PMML4UnitImpl;
+import org.drools.scorecards.model.CompiledScorecard;
+import org.drools.scorecards.model.CompiledScorecardFactory;
 import org.drools.scorecards.parser.AbstractScorecardParser;
 import org.drools.scorecards.parser.ScorecardParseException;
 import org.drools.scorecards.parser.xls.XLSScorecardParser;
@@ -140,6 +142,22 @@ public class ScorecardCompiler {
         return drl;
     }
 
+    /**
+     * Compile the parsed scorecard straight to plain Java, without dumping the PMML document and generating its DRL.
+     * @return the compiled scorecard, or <code>null</code> if nothing was parsed or the scorecard could not be compiled
+     */
+    public CompiledScorecard getCompiledScorecard() {
+        if (pmmlDocument == null) {
+            return null;
+        }
+        try {
+            return CompiledScorecardFactory.compile(pmmlDocument);
+        } catch (ScorecardParseException e) {
+            logger.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
     /* convienence method for use from Guvnor*/
     public static String convertToDRL(PMML pmml, DrlType drlType) {
         if (pmml != null) {
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.pmml.pmml_4_2.extensions.AggregationStrategy;
+
+import static org.drools.core.util.IoUtils.UTF8_CHARSET;
+
+/**
+ * A scorecard evaluated in plain Java, without generating and compiling the rules of the PMML scorecard.
+ * <p>
+ * For each characteristic, the first attribute whose predicate is true contributes its partial score, as PMML
+ * prescribes. The partial scores are aggregated with the scoring strategy of the spreadsheet and added to the
+ * initial score. The points of each reason code are the differences between the partial scores and the baseline
+ * scores of their characteristics, following the <i>pointsBelow</i> or <i>pointsAbove</i> algorithm.
+ * <p>
+ * It is immutable and can be shared by many threads. It can be stored, e.g. in a kjar or in a cache, and loaded back
+ * without parsing the spreadsheet again; it is written with a plain binary format instead of the Java serialization,
+ * so that reading it never instantiates arbitrary classes.
+ */
+public class CompiledScorecard {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final String modelName;
+    private final double initialScore;
+    private final AggregationStrategy strategy;
+    private final boolean useReasonCodes;
+    private final boolean pointsBelow;
+    private final List<Characteristic> characteristics;
+
+    public CompiledScorecard(String modelName,
+                             double initialScore,
+                             AggregationStrategy strategy,
+                             boolean useReasonCodes,
+                             boolean pointsBelow,
+                             List<Characteristic> characteristics) {
+        this.modelName = modelName;
+        this.initialScore = initialScore;
+        this.strategy = strategy;
+        this.useReasonCodes = useReasonCodes;
+        this.pointsBelow = pointsBelow;
+        this.characteristics = Collections.unmodifiableList(new ArrayList<>(characteristics));
+    }
+
+    /**
+     * @return the read <code>CompiledScorecard</code>, or <code>null</code> if it has been written with another format
+     */
+    public static CompiledScorecard readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+        String modelName = readString(in);
+        double initialScore = in.readDouble();
+        AggregationStrategy strategy = readEnum(in, AggregationStrategy.class);
+        boolean useReasonCodes = in.readBoolean();
+        boolean pointsBelow = in.readBoolean();
+        int characteristicsSize = readSize(in);
+        List<Characteristic> characteristics = new ArrayList<>();
+        for (int i = 0; i < characteristicsSize; i++) {
+            characteristics.add(Characteristic.readFrom(in));
+        }
+        return new CompiledScorecard(modelName, initialScore, strategy, useReasonCodes, pointsBelow, characteristics);
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        writeString(out, modelName);
+        out.writeDouble(initialScore);
+        writeString(out, strategy.name());
+        out.writeBoolean(useReasonCodes);
+        out.writeBoolean(pointsBelow);
+        out.writeInt(characteristics.size());
+        for (Characteristic characteristic : characteristics) {
+            characteristic.writeTo(out);
+        }
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    public double getInitialScore() {
+        return initialScore;
+    }
+
+    public AggregationStrategy getStrategy() {
+        return strategy;
+    }
+
+    public boolean isUseReasonCodes() {
+        return useReasonCodes;
+    }
+
+    public boolean isPointsBelow() {
+        return pointsBelow;
+    }
+
+    public List<Characteristic> getCharacteristics() {
+        return characteristics;
+    }
+
+    /**
+     * @param fields the values of the input fields, by name; the predicates on a missing or null field are
+     * unknown, so that the attributes they belong to never match
+     */
+    public ScorecardResult score(Map<String, ?> fields) {
+        double total = 0.0;
+        int count = 0;
+        Map<String, BigDecimal> points = useReasonCodes ? new LinkedHashMap<>() : null;
+        for (Characteristic characteristic : characteristics) {
+            Attribute attribute = characteristic.match(fields);
+            if (attribute == null) {
+                continue;
+            }
+            double value = strategy.isWeighted() ? attribute.partialScore * attribute.weight : attribute.partialScore;
+            total = aggregate(total, value, count++);
+            if (points != null && attribute.reasonCode != null) {
+                double difference = pointsBelow ?
+                        characteristic.baselineScore - attribute.partialScore :
+                        attribute.partialScore - characteristic.baselineScore;
+                points.merge(attribute.reasonCode, BigDecimal.valueOf(difference), BigDecimal::add);
+            }
+        }
+        if (count > 0 && "average".equals(strategy.getAggregator())) {
+            total = total / count;
+        }
+        return new ScorecardResult(initialScore + total, rank(points));
+    }
+
+    private double aggregate(double total, double value, int count) {
+        if (count == 0) {
+            return value;
+        }
+        switch (strategy.getAggregator()) {
+            case "max":
+                return Math.max(total, value);
+            case "min":
+                return Math.min(total, value);
+            default:
+                return total + value;
+        }
+    }
+
+    private static LinkedHashMap<String, Double> rank(Map<String, BigDecimal> points) {
+        LinkedHashMap<String, Double> ranking = new LinkedHashMap<>();
+        if (points != null) {
+            List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(points.entrySet());
+            entries.sort((e1, e2) -> e2.getValue().compareTo(e1.getValue()));
+            for (Map.Entry<String, BigDecimal> entry : entries) {
+                ranking.put(entry.getKey(), entry.getValue().doubleValue());
+            }
+        }
+        return ranking;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(UTF8_CHARSET);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[readSize(in)];
+        in.readFully(bytes);
+        return new String(bytes, UTF8_CHARSET);
+    }
+
+    static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumType) throws IOException {
+        String name = readString(in);
+        try {
+            return Enum.valueOf(enumType, name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Invalid " + enumType.getSimpleName() + " " + name);
+        }
+    }
+
+    static int readSize(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size " + size);
+        }
+        return size;
+    }
+
+    public static class Characteristic {
+
+        private final String name;
+        private final double baselineScore;
+        private final Attribute[] attributes;
+
+        public Characteristic(String name, double baselineScore, List<Attribute> attributes) {
+            this.name = name;
+            this.baselineScore = baselineScore;
+            this.attributes = attributes.toArray(new Attribute[attributes.size()]);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getBaselineScore() {
+            return baselineScore;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            writeString(out, name);
+            out.writeDouble(baselineScore);
+            out.writeInt(attributes.length);
+            for (Attribute attribute : attributes) {
+                attribute.writeTo(out);
+            }
+        }
+
+        static Characteristic readFrom(DataInputStream in) throws IOException {
+            String name = readString(in);
+            double baselineScore = in.readDouble();
+            int attributesSize = readSize(in);
+            List<Attribute> attributes = new ArrayList<>();
+            for (int i = 0; i < attributesSize; i++) {
+                attributes.add(Attribute.readFrom(in));
+            }
+            return new Characteristic(name, baselineScore, attributes);
+        }
+
+        Attribute match(Map<String, ?> fields) {
+            for (Attribute attribute : attributes) {
+                if (Boolean.TRUE.equals(attribute.predicate.evaluate(fields))) {
+                    return attribute;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static class Attribute {
+
+        private final ScorecardPredicate predicate;
+        private final double partialScore;
+        private final double weight;
+        private final String reasonCode;
+
+        public Attribute(ScorecardPredicate predicate, double partialScore, double weight, String reasonCode) {
+            this.predicate = predicate;
+            this.partialScore = partialScore;
+            this.weight = weight;
+            this.reasonCode = reasonCode;
+        }
+
+        public double getPartialScore() {
+            return partialScore;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public String getReasonCode() {
+            return reasonCode;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            predicate.writeTo(out);
+            out.writeDouble(partialScore);
+            out.writeDouble(weight);
+            writeString(out, reasonCode);
+        }
+
+        static Attribute readFrom(DataInputStream in) throws IOException {
+            return new Attribute(ScorecardPredicate.readFrom(in), in.readDouble(), in.readDouble(), readString(in));
+        }
+    }
+}
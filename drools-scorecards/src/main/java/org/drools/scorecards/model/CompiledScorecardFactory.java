@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.dmg.pmml.pmml_4_2.descr.Attribute;
+import org.dmg.pmml.pmml_4_2.descr.Characteristic;
+import org.dmg.pmml.pmml_4_2.descr.Characteristics;
+import org.dmg.pmml.pmml_4_2.descr.CompoundPredicate;
+import org.dmg.pmml.pmml_4_2.descr.DATATYPE;
+import org.dmg.pmml.pmml_4_2.descr.DataField;
+import org.dmg.pmml.pmml_4_2.descr.PMML;
+import org.dmg.pmml.pmml_4_2.descr.Scorecard;
+import org.dmg.pmml.pmml_4_2.descr.SimplePredicate;
+import org.dmg.pmml.pmml_4_2.descr.SimpleSetPredicate;
+import org.drools.core.util.StringUtils;
+import org.drools.scorecards.model.ScorecardPredicate.BooleanOperator;
+import org.drools.scorecards.model.ScorecardPredicate.FieldType;
+import org.drools.scorecards.model.ScorecardPredicate.Operator;
+import org.drools.scorecards.parser.ScorecardParseException;
+import org.drools.scorecards.pmml.PMMLOperators;
+import org.drools.scorecards.pmml.ScorecardPMMLExtensionNames;
+import org.drools.scorecards.pmml.ScorecardPMMLUtils;
+import org.kie.pmml.pmml_4_2.extensions.AggregationStrategy;
+
+/**
+ * Builds a {@link CompiledScorecard} straight out of the PMML document of a scorecard, as produced by the
+ * spreadsheet parser, skipping both its serialization to XML and the generation of the DRL.
+ */
+public class CompiledScorecardFactory {
+
+    // the values of a PMML Array are separated by blanks, unless they are quoted
+    private static final Pattern ARRAY_VALUE = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"|(\\S+)");
+
+    private CompiledScorecardFactory() {
+        // Avoid instantiation
+    }
+
+    public static CompiledScorecard compile(PMML pmmlDocument) throws ScorecardParseException {
+        Map<String, FieldType> fieldTypes = getFieldTypes(pmmlDocument);
+        for (Object model : pmmlDocument.getAssociationModelsAndBaselineModelsAndClusteringModels()) {
+            if (model instanceof Scorecard) {
+                return compile((Scorecard) model, fieldTypes);
+            }
+        }
+        throw new ScorecardParseException("No Scorecard found in the PMML document");
+    }
+
+    static CompiledScorecard compile(Scorecard scorecard, Map<String, FieldType> fieldTypes) throws ScorecardParseException {
+        boolean useReasonCodes = Boolean.TRUE.equals(scorecard.getUseReasonCodes());
+        List<CompiledScorecard.Characteristic> characteristics = new ArrayList<>();
+        for (Object obj : scorecard.getExtensionsAndCharacteristicsAndMiningSchemas()) {
+            if (obj instanceof Characteristics) {
+                for (Characteristic characteristic : ((Characteristics) obj).getCharacteristics()) {
+                    characteristics.add(compile(scorecard, characteristic, useReasonCodes, fieldTypes));
+                }
+            }
+        }
+        String strategyName = ScorecardPMMLUtils.getExtensionValue(scorecard.getExtensionsAndCharacteristicsAndMiningSchemas(),
+                                                                   ScorecardPMMLExtensionNames.SCORECARD_SCORING_STRATEGY);
+        AggregationStrategy strategy;
+        try {
+            strategy = StringUtils.isEmpty(strategyName) ? AggregationStrategy.AGGREGATE_SCORE : AggregationStrategy.valueOf(strategyName);
+        } catch (IllegalArgumentException e) {
+            throw new ScorecardParseException("Unknown scoring strategy " + strategyName);
+        }
+        Double initialScore = scorecard.getInitialScore();
+        String algorithm = scorecard.getReasonCodeAlgorithm();
+        return new CompiledScorecard(scorecard.getModelName(),
+                                     initialScore != null ? initialScore : 0.0,
+                                     strategy,
+                                     useReasonCodes,
+                                     algorithm == null || "pointsBelow".equals(algorithm),
+                                     characteristics);
+    }
+
+    private static CompiledScorecard.Characteristic compile(Scorecard scorecard,
+                                                            Characteristic characteristic,
+                                                            boolean useReasonCodes,
+                                                            Map<String, FieldType> fieldTypes) throws ScorecardParseException {
+        // characteristics and attributes inherit the baseline score and the reason code, as in the rule based scorecards
+        Double baselineScore = characteristic.getBaselineScore() != null ? characteristic.getBaselineScore() : scorecard.getBaselineScore();
+        if (useReasonCodes && baselineScore == null) {
+            throw new ScorecardParseException("Missing baseline score for characteristic " + characteristic.getName());
+        }
+        List<CompiledScorecard.Attribute> attributes = new ArrayList<>();
+        for (Attribute attribute : characteristic.getAttributes()) {
+            if (attribute.getComplexPartialScore() != null) {
+                throw new ScorecardParseException("Complex partial scores are not supported, in characteristic " + characteristic.getName());
+            }
+            String reasonCode = StringUtils.isEmpty(attribute.getReasonCode()) ? characteristic.getReasonCode() : attribute.getReasonCode();
+            String weight = ScorecardPMMLUtils.getExtensionValue(attribute.getExtensions(), ScorecardPMMLExtensionNames.CHARACTERTISTIC_WEIGHT);
+            try {
+                attributes.add(new CompiledScorecard.Attribute(getPredicate(attribute, fieldTypes),
+                                                               attribute.getPartialScore() != null ? attribute.getPartialScore() : 0.0,
+                                                               StringUtils.isEmpty(weight) ? 1.0 : Double.parseDouble(weight),
+                                                               StringUtils.isEmpty(reasonCode) ? null : reasonCode));
+            } catch (IllegalArgumentException e) {
+                throw new ScorecardParseException("Invalid attribute in characteristic " + characteristic.getName() + ": " + e.getMessage(), e);
+            }
+        }
+        return new CompiledScorecard.Characteristic(characteristic.getName(),
+                                                    baselineScore != null ? baselineScore : 0.0,
+                                                    attributes);
+    }
+
+    private static ScorecardPredicate getPredicate(Attribute attribute, Map<String, FieldType> fieldTypes) {
+        if (attribute.getSimplePredicate() != null) {
+            return getPredicate(attribute.getSimplePredicate(), fieldTypes);
+        } else if (attribute.getSimpleSetPredicate() != null) {
+            return getPredicate(attribute.getSimpleSetPredicate(), fieldTypes);
+        } else if (attribute.getCompoundPredicate() != null) {
+            return getPredicate(attribute.getCompoundPredicate(), fieldTypes);
+        } else if (attribute.getTrue() != null) {
+            return ScorecardPredicate.constant(true);
+        } else if (attribute.getFalse() != null) {
+            return ScorecardPredicate.constant(false);
+        }
+        throw new IllegalArgumentException("no predicate for reason code " + attribute.getReasonCode());
+    }
+
+    private static ScorecardPredicate getPredicate(Object predicate, Map<String, FieldType> fieldTypes) {
+        if (predicate instanceof SimplePredicate) {
+            SimplePredicate simple = (SimplePredicate) predicate;
+            return ScorecardPredicate.simple(simple.getField(),
+                                             getFieldType(simple.getField(), fieldTypes),
+                                             getOperator(simple.getOperator()),
+                                             simple.getValue());
+        } else if (predicate instanceof SimpleSetPredicate) {
+            SimpleSetPredicate set = (SimpleSetPredicate) predicate;
+            if (!PMMLOperators.IS_IN.equals(set.getBooleanOperator()) && !PMMLOperators.IS_NOT_IN.equals(set.getBooleanOperator())) {
+                throw new IllegalArgumentException("unknown set operator " + set.getBooleanOperator());
+            }
+            return ScorecardPredicate.set(set.getField(),
+                                          getFieldType(set.getField(), fieldTypes),
+                                          PMMLOperators.IS_IN.equals(set.getBooleanOperator()),
+                                          getArrayValues(set.getArray().getContent()));
+        } else if (predicate instanceof CompoundPredicate) {
+            CompoundPredicate compound = (CompoundPredicate) predicate;
+            List<ScorecardPredicate> predicates = new ArrayList<>();
+            for (Object nested : compound.getSimplePredicatesAndCompoundPredicatesAndSimpleSetPredicates()) {
+                predicates.add(getPredicate(nested, fieldTypes));
+            }
+            return ScorecardPredicate.compound(getBooleanOperator(compound.getBooleanOperator()), predicates);
+        }
+        throw new IllegalArgumentException("unsupported predicate " + predicate.getClass().getSimpleName());
+    }
+
+    static List<String> getArrayValues(String content) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = ARRAY_VALUE.matcher(content != null ? content : "");
+        while (matcher.find()) {
+            values.add(matcher.group(1) != null ? matcher.group(1).replace("\\\"", "\"") : matcher.group(2));
+        }
+        return values;
+    }
+
+    private static Operator getOperator(String operator) {
+        switch (operator) {
+            case PMMLOperators.EQUAL:
+                return Operator.EQUAL;
+            case PMMLOperators.NOT_EQUAL:
+                return Operator.NOT_EQUAL;
+            case PMMLOperators.LESS_THAN:
+                return Operator.LESS_THAN;
+            case PMMLOperators.LESS_OR_EQUAL:
+                return Operator.LESS_OR_EQUAL;
+            case PMMLOperators.GREATER_THAN:
+                return Operator.GREATER_THAN;
+            case PMMLOperators.GREATER_OR_EQUAL:
+                return Operator.GREATER_OR_EQUAL;
+            default:
+                throw new IllegalArgumentException("unsupported operator " + operator);
+        }
+    }
+
+    private static BooleanOperator getBooleanOperator(String operator) {
+        switch (operator) {
+            case "and":
+                return BooleanOperator.AND;
+            case "or":
+                return BooleanOperator.OR;
+            case "xor":
+                return BooleanOperator.XOR;
+            case "surrogate":
+                return BooleanOperator.SURROGATE;
+            default:
+                throw new IllegalArgumentException("unsupported boolean operator " + operator);
+        }
+    }
+
+    private static FieldType getFieldType(String field, Map<String, FieldType> fieldTypes) {
+        FieldType toReturn = fieldTypes.get(field);
+        return toReturn != null ? toReturn : FieldType.TEXT;
+    }
+
+    private static Map<String, FieldType> getFieldTypes(PMML pmmlDocument) {
+        Map<String, FieldType> toReturn = new HashMap<>();
+        if (pmmlDocument.getDataDictionary() == null) {
+            return toReturn;
+        }
+        for (DataField dataField : pmmlDocument.getDataDictionary().getDataFields()) {
+            DATATYPE dataType = dataField.getDataType();
+            if (dataType == DATATYPE.DOUBLE || dataType == DATATYPE.FLOAT || dataType == DATATYPE.INTEGER) {
+                toReturn.put(dataField.getName(), FieldType.NUMBER);
+            } else if (dataType == DATATYPE.BOOLEAN) {
+                toReturn.put(dataField.getName(), FieldType.BOOLEAN);
+            } else {
+                toReturn.put(dataField.getName(), FieldType.TEXT);
+            }
+        }
+        return toReturn;
+    }
+}
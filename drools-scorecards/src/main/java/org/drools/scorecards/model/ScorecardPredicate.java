@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The predicate of a scorecard attribute, evaluated against the input fields with the three-valued logic of PMML:
+ * a predicate on a missing field is neither true nor false, and its result is <code>null</code>.
+ */
+public abstract class ScorecardPredicate {
+
+    private static final byte CONSTANT = 0;
+    private static final byte SIMPLE = 1;
+    private static final byte SET = 2;
+    private static final byte COMPOUND = 3;
+
+    public abstract Boolean evaluate(Map<String, ?> fields);
+
+    abstract void writeTo(DataOutputStream out) throws IOException;
+
+    static ScorecardPredicate readFrom(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case CONSTANT:
+                return new Constant(in.readBoolean());
+            case SIMPLE:
+                try {
+                    return new Simple(CompiledScorecard.readString(in),
+                                      CompiledScorecard.readEnum(in, FieldType.class),
+                                      CompiledScorecard.readEnum(in, Operator.class),
+                                      CompiledScorecard.readString(in));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            case SET:
+                String field = CompiledScorecard.readString(in);
+                FieldType type = CompiledScorecard.readEnum(in, FieldType.class);
+                boolean isIn = in.readBoolean();
+                int valuesSize = CompiledScorecard.readSize(in);
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < valuesSize; i++) {
+                    values.add(CompiledScorecard.readString(in));
+                }
+                return new InSet(field, type, isIn, values);
+            case COMPOUND:
+                BooleanOperator operator = CompiledScorecard.readEnum(in, BooleanOperator.class);
+                int predicatesSize = CompiledScorecard.readSize(in);
+                List<ScorecardPredicate> predicates = new ArrayList<>();
+                for (int i = 0; i < predicatesSize; i++) {
+                    predicates.add(readFrom(in));
+                }
+                return new Compound(operator, predicates);
+            default:
+                throw new IOException("Invalid predicate kind " + kind);
+        }
+    }
+
+    /**
+     * The values are written as strings, which convert back to the same value
+     */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        CompiledScorecard.writeString(out, value != null ? value.toString() : null);
+    }
+
+    public enum FieldType {
+        NUMBER,
+        TEXT,
+        BOOLEAN
+    }
+
+    public enum Operator {
+        EQUAL,
+        NOT_EQUAL,
+        LESS_THAN,
+        LESS_OR_EQUAL,
+        GREATER_THAN,
+        GREATER_OR_EQUAL
+    }
+
+    public enum BooleanOperator {
+        AND,
+        OR,
+        XOR,
+        SURROGATE
+    }
+
+    public static ScorecardPredicate constant(boolean value) {
+        return new Constant(value);
+    }
+
+    public static ScorecardPredicate simple(String field, FieldType type, Operator operator, String value) {
+        return new Simple(field, type, operator, value);
+    }
+
+    public static ScorecardPredicate set(String field, FieldType type, boolean isIn, List<String> values) {
+        return new InSet(field, type, isIn, values);
+    }
+
+    public static ScorecardPredicate compound(BooleanOperator operator, List<ScorecardPredicate> predicates) {
+        return new Compound(operator, predicates);
+    }
+
+    static Object convert(FieldType type, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (type) {
+            case NUMBER:
+                if (value instanceof Number) {
+                    return ((Number) value).doubleValue();
+                }
+                try {
+                    return Double.valueOf(value.toString().trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            case BOOLEAN:
+                return value instanceof Boolean ? value : Boolean.valueOf(value.toString().trim());
+            default:
+                return value.toString();
+        }
+    }
+
+    static class Constant extends ScorecardPredicate {
+
+        private final boolean value;
+
+        Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(CONSTANT);
+            out.writeBoolean(value);
+        }
+
+        @Override
+        public Boolean evaluate(Map<String, ?> fields) {
+            return value;
+        }
+    }
+
+    static class Simple extends ScorecardPredicate {
+
+        private final String field;
+        private final FieldType type;
+        private final Operator operator;
+        private final Object value;
+
+        Simple(String field, FieldType type, Operator operator, String value) {
+            this.field = field;
+            this.type = type;
+            this.operator = operator;
+            this.value = convert(type, value);
+            if (this.value == null) {
+                throw new IllegalArgumentException("Invalid value '" + value + "' for field " + field);
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(SIMPLE);
+            CompiledScorecard.writeString(out, field);
+            CompiledScorecard.writeString(out, type.name());
+            CompiledScorecard.writeString(out, operator.name());
+            writeValue(out, value);
+        }
+
+        @Override
+        public Boolean evaluate(Map<String, ?> fields) {
+            Object input = convert(type, fields.get(field));
+            if (input == null) {
+                return null;
+            }
+            switch (operator) {
+                case EQUAL:
+                    return input.equals(value);
+                case NOT_EQUAL:
+                    return !input.equals(value);
+            }
+            int comparison = type == FieldType.NUMBER ?
+                    Double.compare((Double) input, (Double) value) :
+                    input.toString().compareTo(value.toString());
+            switch (operator) {
+                case LESS_THAN:
+                    return comparison < 0;
+                case LESS_OR_EQUAL:
+                    return comparison <= 0;
+                case GREATER_THAN:
+                    return comparison > 0;
+                default:
+                    return comparison >= 0;
+            }
+        }
+    }
+
+    static class InSet extends ScorecardPredicate {
+
+        private final String field;
+        private final FieldType type;
+        private final boolean isIn;
+        private final Set<Object> values = new HashSet<>();
+
+        InSet(String field, FieldType type, boolean isIn, List<String> values) {
+            this.field = field;
+            this.type = type;
+            this.isIn = isIn;
+            for (String value : values) {
+                this.values.add(convert(type, value));
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(SET);
+            CompiledScorecard.writeString(out, field);
+            CompiledScorecard.writeString(out, type.name());
+            out.writeBoolean(isIn);
+            out.writeInt(values.size());
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        }
+
+        @Override
+        public Boolean evaluate(Map<String, ?> fields) {
+            Object input = convert(type, fields.get(field));
+            if (input == null) {
+                return null;
+            }
+            return values.contains(input) == isIn;
+        }
+    }
+
+    static class Compound extends ScorecardPredicate {
+
+        private final BooleanOperator operator;
+        private final ScorecardPredicate[] predicates;
+
+        Compound(BooleanOperator operator, List<ScorecardPredicate> predicates) {
+            this.operator = operator;
+            this.predicates = predicates.toArray(new ScorecardPredicate[predicates.size()]);
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(COMPOUND);
+            CompiledScorecard.writeString(out, operator.name());
+            out.writeInt(predicates.length);
+            for (ScorecardPredicate predicate : predicates) {
+                predicate.writeTo(out);
+            }
+        }
+
+        @Override
+        public Boolean evaluate(Map<String, ?> fields) {
+            switch (operator) {
+                case AND:
+                    return and(fields);
+                case OR:
+                    return or(fields);
+                case XOR:
+                    return xor(fields);
+                default:
+                    return surrogate(fields);
+            }
+        }
+
+        private Boolean and(Map<String, ?> fields) {
+            Boolean toReturn = Boolean.TRUE;
+            for (ScorecardPredicate predicate : predicates) {
+                Boolean result = predicate.evaluate(fields);
+                if (Boolean.FALSE.equals(result)) {
+                    return Boolean.FALSE;
+                }
+                if (result == null) {
+                    toReturn = null;
+                }
+            }
+            return toReturn;
+        }
+
+        private Boolean or(Map<String, ?> fields) {
+            Boolean toReturn = Boolean.FALSE;
+            for (ScorecardPredicate predicate : predicates) {
+                Boolean result = predicate.evaluate(fields);
+                if (Boolean.TRUE.equals(result)) {
+                    return Boolean.TRUE;
+                }
+                if (result == null) {
+                    toReturn = null;
+                }
+            }
+            return toReturn;
+        }
+
+        private Boolean xor(Map<String, ?> fields) {
+            boolean toReturn = false;
+            for (ScorecardPredicate predicate : predicates) {
+                Boolean result = predicate.evaluate(fields);
+                if (result == null) {
+                    return null;
+                }
+                toReturn ^= result;
+            }
+            return toReturn;
+        }
+
+        private Boolean surrogate(Map<String, ?> fields) {
+            for (ScorecardPredicate predicate : predicates) {
+                Boolean result = predicate.evaluate(fields);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+    }
+}
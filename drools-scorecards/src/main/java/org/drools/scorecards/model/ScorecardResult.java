@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of a {@link CompiledScorecard}: the final score and, when the scorecard uses reason codes, the points
+ * of each reason code, sorted from the highest to the lowest as in the <code>ranking</code> of the rule based scorecards.
+ */
+public class ScorecardResult {
+
+    private final double score;
+    private final LinkedHashMap<String, Double> ranking;
+
+    ScorecardResult(double score, LinkedHashMap<String, Double> ranking) {
+        this.score = score;
+        this.ranking = ranking;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Map<String, Double> getRanking() {
+        return Collections.unmodifiableMap(ranking);
+    }
+
+    /**
+     * @return the highest ranked reason code, or <code>null</code> if the first reason code has negative points
+     */
+    public String getReasonCode() {
+        if (ranking.isEmpty()) {
+            return null;
+        }
+        Map.Entry<String, Double> first = ranking.entrySet().iterator().next();
+        return first.getValue() >= 0 ? first.getKey() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ScorecardResult{score=" + score + ", ranking=" + ranking + "}";
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.scorecards;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.drools.core.builder.conf.impl.ScoreCardConfigurationImpl;
+import org.drools.scorecards.model.CompiledScorecard;
+import org.drools.scorecards.model.ScorecardResult;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.internal.builder.ScoreCardConfiguration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledScorecardTest {
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ScorecardCompilationCache.CACHE_DIR_PROPERTY);
+        ScorecardCompilationCache.clear();
+    }
+
+    @Test
+    public void testScoringStrategies() {
+        Map<String, Object> fields = fields(10.0, null, null, false);
+        //age==10 (score=30, w=20), validLicense==FALSE (score=-1, w=1)
+        assertEquals(29.0, score("scorecards", fields), 0.0);
+        assertEquals(14.5, score("scorecards_avg", fields), 0.0);
+        assertEquals(-1.0, score("scorecards_min", fields), 0.0);
+        assertEquals(30.0, score("scorecards_max", fields), 0.0);
+        assertEquals(599.0, score("scorecards_w_aggregate", fields), 0.0);
+        assertEquals(299.5, score("scorecards_w_avg", fields), 0.0);
+        assertEquals(600.0, score("scorecards_w_max", fields), 0.0);
+        assertEquals(-1.0, score("scorecards_w_min", fields), 0.0);
+        //initialScore = 100
+        assertEquals(129.0, score("scorecards_initial_score", fields), 0.0);
+        assertEquals(699.0, score("scorecards_w_aggregate_initial", fields), 0.0);
+        assertEquals(399.5, score("scorecards_w_avg_initial", fields), 0.0);
+    }
+
+    @Test
+    public void testReasonCodes() {
+        CompiledScorecard scorecard = compile("/scoremodel_reasoncodes.xls", "scorecards");
+
+        ScorecardResult result = scorecard.score(fields(10.0, null, null, false));
+        assertEquals(129.0, result.getScore(), 1e-6);
+        assertEquals(2, result.getRanking().size());
+        assertEquals(16.0, result.getRanking().get("VL002"), 0.0);
+        assertEquals(-20.0, result.getRanking().get("AGE02"), 0.0);
+        assertEquals("VL002", result.getReasonCode());
+
+        result = scorecard.score(fields(0.0, "SKYDIVER", null, false));
+        assertEquals(99.0, result.getScore(), 1e-6);
+        assertEquals(Arrays.asList("OCC01", "VL002", "AGE01"), Arrays.asList(result.getRanking().keySet().toArray()));
+        assertEquals(109.0, result.getRanking().get("OCC01"), 0.0);
+        assertEquals(0.0, result.getRanking().get("AGE01"), 0.0);
+        assertEquals("OCC01", result.getReasonCode());
+
+        result = scorecard.score(fields(20.0, "TEACHER", "AP", true));
+        assertEquals(141.0, result.getScore(), 1e-6);
+        assertEquals(Arrays.asList("OCC02", "RS001", "VL001", "AGE03"), Arrays.asList(result.getRanking().keySet().toArray()));
+        assertEquals(-30.0, result.getRanking().get("AGE03"), 0.0);
+        assertEquals("OCC02", result.getReasonCode());
+    }
+
+    @Test
+    public void testPointsAbove() {
+        CompiledScorecard scorecard = compile("/scoremodel_reasoncodes.xls", "scorecards_pointsAbove");
+
+        ScorecardResult result = scorecard.score(fields(0.0, "SKYDIVER", null, false));
+        assertEquals(-1.0, result.getScore(), 1e-6);
+        assertEquals(Arrays.asList("AGE01", "VL002", "OCC01"), Arrays.asList(result.getRanking().keySet().toArray()));
+        assertEquals(-109.0, result.getRanking().get("OCC01"), 0.0);
+        assertEquals("AGE01", result.getReasonCode());
+
+        result = scorecard.score(fields(20.0, "TEACHER", "AP", true));
+        assertEquals(41.0, result.getScore(), 1e-6);
+        assertEquals(Arrays.asList("AGE03", "VL001", "RS001", "OCC02"), Arrays.asList(result.getRanking().keySet().toArray()));
+        assertEquals("AGE03", result.getReasonCode());
+    }
+
+    @Test
+    public void testWithoutReasonCodes() {
+        CompiledScorecard scorecard = compile("/scoremodel_c.xls", "scorecards");
+        ScorecardResult result = scorecard.score(fields(33.0, "PROGRAMMER", "KN", true));
+        assertEquals(56.0, result.getScore(), 1e-6);
+        assertTrue(result.getRanking().isEmpty());
+        assertNull(result.getReasonCode());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CompiledScorecard scorecard = compile("/scoremodel_reasoncodes.xls", "scorecards");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scorecard.writeTo(new DataOutputStream(out));
+        CompiledScorecard copy = CompiledScorecard.readFrom(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+        assertEquals(scorecard.getModelName(), copy.getModelName());
+        assertEquals(scorecard.getStrategy(), copy.getStrategy());
+        for (Map<String, Object> fields : Arrays.asList(fields(10.0, null, null, false),
+                                                        fields(0.0, "SKYDIVER", null, false),
+                                                        fields(20.0, "TEACHER", "AP", true))) {
+            assertEquals(scorecard.score(fields).getScore(), copy.score(fields).getScore(), 0.0);
+            assertEquals(scorecard.score(fields).getRanking(), copy.score(fields).getRanking());
+        }
+    }
+
+    @Test
+    public void testPersistentCache() throws Exception {
+        System.setProperty(ScorecardCompilationCache.CACHE_DIR_PROPERTY, cacheFolder.getRoot().getAbsolutePath());
+        byte[] content = Files.readAllBytes(new File(CompiledScorecardTest.class.getResource("/scoremodel_reasoncodes.xls").toURI()).toPath());
+        String key = ScorecardCompilationCache.getKey(content, "scorecards");
+        assertNotEquals(key, ScorecardCompilationCache.getKey(content, "scorecards_pointsAbove"));
+
+        ScorecardCompilationCache.put(key, compile("/scoremodel_reasoncodes.xls", "scorecards"));
+        ScorecardCompilationCache.clear();
+        CompiledScorecard retrieved = ScorecardCompilationCache.get(key);
+        assertNotNull(retrieved);
+        assertEquals(141.0, retrieved.score(fields(20.0, "TEACHER", "AP", true)).getScore(), 1e-6);
+
+        // a cache file with another format, e.g. Java serialized objects, is ignored
+        File cacheFile = cacheFolder.getRoot().listFiles()[0];
+        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(cacheFile.toPath()))) {
+            out.writeObject(new ArrayList<>());
+        }
+        ScorecardCompilationCache.clear();
+        assertNull(ScorecardCompilationCache.get(key));
+    }
+
+    @Test
+    public void testCompilationCache() {
+        ScoreCardProviderImpl provider = new ScoreCardProviderImpl();
+        ScoreCardConfiguration configuration = new ScoreCardConfigurationImpl();
+        configuration.setWorksheetName("scorecards_avg");
+
+        CompiledScorecard scorecard = provider.getCompiledScorecardFromInputStream(CompiledScorecardTest.class.getResourceAsStream("/scoremodel_scoring_strategies.xls"), configuration);
+        assertNotNull(scorecard);
+        assertSame(scorecard, provider.getCompiledScorecardFromInputStream(CompiledScorecardTest.class.getResourceAsStream("/scoremodel_scoring_strategies.xls"), configuration));
+
+        configuration.setWorksheetName("scorecards_max");
+        CompiledScorecard other = provider.getCompiledScorecardFromInputStream(CompiledScorecardTest.class.getResourceAsStream("/scoremodel_scoring_strategies.xls"), configuration);
+        assertEquals(30.0, other.score(fields(10.0, null, null, false)).getScore(), 0.0);
+    }
+
+    private static double score(String worksheetName, Map<String, Object> fields) {
+        return compile("/scoremodel_scoring_strategies.xls", worksheetName).score(fields).getScore();
+    }
+
+    private static CompiledScorecard compile(String resource, String worksheetName) {
+        ScorecardCompiler scorecardCompiler = new ScorecardCompiler();
+        assertTrue(scorecardCompiler.compileFromExcel(CompiledScorecardTest.class.getResourceAsStream(resource), worksheetName));
+        CompiledScorecard scorecard = scorecardCompiler.getCompiledScorecard();
+        assertNotNull(scorecard);
+        return scorecard;
+    }
+
+    private static Map<String, Object> fields(Double age, String occupation, String residenceState, Boolean validLicense) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("age", age);
+        fields.put("occupation", occupation);
+        fields.put("residenceState", residenceState);
+        fields.put("validLicense", validLicense);
+        return fields;
+    }
+}
@@ -22,6 +22,7 @@ import org.drools.compiler.compiler.ScoreCardFactory;
 import org.drools.compiler.compiler.ScoreCardProvider;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.scorecards.example.Applicant;
+import org.drools.scorecards.model.CompiledScorecard;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.api.KieBase;
@@ -74,6 +75,17 @@ public class ScorecardProviderTest {
         assertNotNull(kbase);
     }
 
+    @Test
+    public void testCompiledScorecard() {
+        InputStream is = ScorecardProviderTest.class.getResourceAsStream("/scoremodel_c.xls");
+        assertNotNull(is);
+
+        ScoreCardConfiguration scconf = KnowledgeBuilderFactory.newScoreCardConfiguration();
+        scconf.setWorksheetName("scorecards");
+        Object scorecard = scoreCardProvider.getCompiledScorecardFromInputStream(is, scconf);
+        assertTrue(scorecard instanceof CompiledScorecard);
+    }
+
     @Test
     public void testKnowledgeBaseWithExection() {
         InputStream is = ScorecardProviderTest.class.getResourceAsStream("/scoremodel_c.xls");
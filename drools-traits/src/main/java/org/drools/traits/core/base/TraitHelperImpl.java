@@ -98,6 +98,28 @@ public class TraitHelperImpl implements Externalizable,
         }
     }
 
+    public <T, K> List<T> donAll( Activation activation, Collection<K> cores, Collection<Class<? extends Thing>> traits, boolean logical, Mode... modes ) {
+        List<T> things = new ArrayList<T>( cores.size() );
+        if ( traits.isEmpty() ) {
+            for ( K core : cores ) {
+                things.add( (T) don( activation, core, Thing.class, logical ) );
+            }
+            return things;
+        }
+
+        TraitFactoryImpl builder = TraitFactoryImpl.getTraitBuilderForKnowledgeBase( entryPoint.getKnowledgeBase() );
+        for ( K core : cores ) {
+            Object inner = core instanceof Thing ? ( (Thing) core ).getCore() : core;
+            try {
+                things.add( applyManyTraits( activation, inner, traits, null, logical, builder, modes ) );
+            } catch ( LogicalTypeInconsistencyException ltie ) {
+                ltie.printStackTrace();
+                things.add( null );
+            }
+        }
+        return things;
+    }
+
     public <T, K> T don( Activation activation, K core, Class<T> trait, boolean logical, Mode... modes ) {
         return don( activation, core, trait, null, logical, modes );
     }
@@ -195,9 +217,12 @@ public class TraitHelperImpl implements Externalizable,
     }
 
     protected <T, K> T applyManyTraits( Activation activation, K core, Collection<Class<? extends Thing>> traits, Object value, boolean logical, Mode... modes ) throws LogicalTypeInconsistencyException {
-        // Precondition : traits is not empty, checked by don
-
         TraitFactoryImpl builder = TraitFactoryImpl.getTraitBuilderForKnowledgeBase(entryPoint.getKnowledgeBase() );
+        return applyManyTraits( activation, core, traits, value, logical, builder, modes );
+    }
+
+    protected <T, K> T applyManyTraits( Activation activation, K core, Collection<Class<? extends Thing>> traits, Object value, boolean logical, TraitFactoryImpl builder, Mode... modes ) throws LogicalTypeInconsistencyException {
+        // Precondition : traits is not empty, checked by don
 
         TraitableBean inner = makeTraitable( core, builder, logical, activation );
 
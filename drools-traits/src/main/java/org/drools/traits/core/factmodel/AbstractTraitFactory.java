@@ -28,6 +28,7 @@ import java.lang.reflect.Method;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.core.base.ClassFieldAccessor;
 import org.drools.core.base.ClassFieldAccessorStore;
@@ -60,6 +61,12 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
 
     protected Map<String, Constructor> factoryCache = new HashMap<>();
 
+    // lock-free view of the factoryCache, keyed by the core and trait classes to avoid building a key on every don
+    protected transient Map<Class<?>, Map<Class<?>, Constructor>> proxyConstructors = new ConcurrentHashMap<>();
+
+    // slots of the soft fields of the INDEXED proxies, per core class
+    protected transient Map<Class<?>, IndexedPropertyMap.Layout> propertyLayouts = new ConcurrentHashMap<>();
+
     protected Map<Class, Class<? extends CoreWrapper<?>>> wrapperCache = new HashMap<>();
 
     public AbstractTraitFactory() {
@@ -74,7 +81,7 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
                 if (!(cbf.getPropertyWrapperBuilder() instanceof TraitMapProxyClassBuilderImpl)) {
                     cbf.setPropertyWrapperBuilder(new TraitMapPropertyWrapperClassBuilderImpl());
                 }
-                if (!(cbf.getTraitProxyBuilder() instanceof TraitMapProxyClassBuilderImpl)) {
+                if (!(cbf.getTraitProxyBuilder() instanceof TraitMapProxyClassBuilderImpl) || cbf.getTraitProxyBuilder() instanceof TraitIndexedProxyClassBuilderImpl) {
                     cbf.setTraitProxyBuilder(new TraitMapProxyClassBuilderImpl());
                 }
                 break;
@@ -86,6 +93,14 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
                     cbf.setTraitProxyBuilder(new TraitTripleProxyClassBuilderImpl());
                 }
                 break;
+            case INDEXED:
+                if (!(cbf.getPropertyWrapperBuilder() instanceof TraitMapPropertyWrapperClassBuilderImpl)) {
+                    cbf.setPropertyWrapperBuilder(new TraitMapPropertyWrapperClassBuilderImpl());
+                }
+                if (!(cbf.getTraitProxyBuilder() instanceof TraitIndexedProxyClassBuilderImpl)) {
+                    cbf.setTraitProxyBuilder(new TraitIndexedProxyClassBuilderImpl());
+                }
+                break;
             default:
                 throw new RuntimeException(" This should not happen : unexpected property wrapping method " + newMode);
         }
@@ -118,13 +133,17 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
             return (T) core.getTrait(traitName);
         }
 
-        String key = getKey(core.getClass(), trait);
-
-        Constructor<T> konst;
-        synchronized (this) {
-            konst = factoryCache.get(key);
-            if (konst == null) {
-                konst = cacheConstructor(key, core, trait);
+        Constructor<T> konst = getCachedConstructor(core.getClass(), trait);
+        if (konst == null) {
+            String key = getKey(core.getClass(), trait);
+            synchronized (this) {
+                konst = factoryCache.get(key);
+                if (konst == null) {
+                    konst = cacheConstructor(key, core, trait);
+                }
+            }
+            if (konst != null) {
+                proxyConstructors.computeIfAbsent(core.getClass(), k -> new ConcurrentHashMap<>()).put(trait, konst);
             }
         }
 
@@ -133,10 +152,13 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
         try {
             switch (mode) {
                 case MAP:
-                    proxy = konst.newInstance(core, core._getDynamicProperties(), hier.getCode(trait.getName()), hier.getBottom(), logical);
+                    proxy = konst.newInstance(core, core._getDynamicProperties(), hier.getCode(traitName), hier.getBottom(), logical);
                     break;
                 case TRIPLES:
-                    proxy = konst.newInstance(core, getTripleStore(), getTripleFactory(), hier.getCode(trait.getName()), hier.getBottom(), logical);
+                    proxy = konst.newInstance(core, getTripleStore(), getTripleFactory(), hier.getCode(traitName), hier.getBottom(), logical);
+                    break;
+                case INDEXED:
+                    proxy = konst.newInstance(core, getIndexedProperties(core), hier.getCode(traitName), hier.getBottom(), logical);
                     break;
                 default:
                     throw new RuntimeException(" This should not happen : unexpected property wrapping method " + mode);
@@ -149,6 +171,26 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
         throw new LogicalTypeInconsistencyException("Could not apply trait " + trait + " to object " + core, trait, core.getClass());
     }
 
+    private Constructor<T> getCachedConstructor(Class<?> coreKlass, Class<?> trait) {
+        Map<Class<?>, Constructor> konsts = proxyConstructors.get(coreKlass);
+        return konsts != null ? konsts.get(trait) : null;
+    }
+
+    private Map<String, Object> getIndexedProperties(K core) {
+        Map<String, Object> properties = core._getDynamicProperties();
+        if (properties == null) {
+            properties = new IndexedPropertyMap(getPropertyLayout(core.getClass()));
+            core._setDynamicProperties(properties);
+        } else if (properties instanceof IndexedPropertyMap) {
+            ((IndexedPropertyMap) properties).attach(getPropertyLayout(core.getClass()));
+        }
+        return properties;
+    }
+
+    public IndexedPropertyMap.Layout getPropertyLayout(Class<?> coreKlass) {
+        return propertyLayouts.computeIfAbsent(coreKlass, k -> new IndexedPropertyMap.Layout());
+    }
+
     protected Constructor<T> cacheConstructor(String key, K core, Class<?> trait) {
         Class<T> proxyClass = buildProxyClass(core, trait);
         if (proxyClass == null) {
@@ -159,6 +201,7 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
 
             switch (mode) {
                 case MAP:
+                case INDEXED:
                     konst = proxyClass.getConstructor(core.getClass(), Map.class, BitSet.class, BitSet.class, boolean.class);
                     break;
                 case TRIPLES:
@@ -245,7 +288,9 @@ public abstract class AbstractTraitFactory<T extends Thing<K>, K extends Traitab
 
         proxyBuilder.init(tdef, rcf.getBaseTraitProxyClass(), getTraitRegistry());
         try {
-            byte[] proxy = proxyBuilder.buildClass(cdef, getRootClassLoader());
+            byte[] proxy = proxyBuilder instanceof TraitIndexedProxyClassBuilderImpl ?
+                    ((TraitIndexedProxyClassBuilderImpl) proxyBuilder).buildClass(cdef, getRootClassLoader(), getPropertyLayout(coreKlass)) :
+                    proxyBuilder.buildClass(cdef, getRootClassLoader());
             registerAndLoadTypeDefinition(proxyName, proxy);
         } catch (Exception e) {
             e.printStackTrace();
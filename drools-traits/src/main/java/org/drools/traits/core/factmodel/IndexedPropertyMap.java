@@ -0,0 +1,396 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.traits.core.factmodel;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic properties of a traitable core, kept in a flat array rather than in a hash map.
+ * The soft fields of the proxies built in {@link VirtualPropertyMode#INDEXED} mode get a slot in the {@link Layout}
+ * that the trait factory keeps for the core class, so that they are read and written by index.
+ * Any other property, e.g. one set through the property wrappers, is kept by name in a plain map.
+ */
+public class IndexedPropertyMap extends AbstractMap<String, Object> implements Externalizable {
+
+    // the layout of the maps read back from a stream, until the trait factory attaches them to the one of their core
+    private static final Layout DETACHED = new Layout();
+
+    // marks a property explicitly set to null, as an empty slot means the property is absent
+    private static final Object NULL_VALUE = new Object();
+
+    private Layout layout;
+    private Object[] values;
+    private int size;
+    private Map<String, Object> others;
+    // the layout slots below this one are known to have no property left in others
+    private int reconciled;
+
+    public IndexedPropertyMap() {
+        this( DETACHED );
+    }
+
+    public IndexedPropertyMap( Layout layout ) {
+        this.layout = layout;
+        this.values = new Object[ layout.size() ];
+    }
+
+    /**
+     * Used by the indexed proxies, which may also be given a plain map, e.g. by a map-based core
+     */
+    public static Object get( Map<String, Object> map, int index, String name ) {
+        return map instanceof IndexedPropertyMap ? ( (IndexedPropertyMap) map ).get( index, name ) : map.get( name );
+    }
+
+    public static Object put( Map<String, Object> map, int index, String name, Object value ) {
+        return map instanceof IndexedPropertyMap ? ( (IndexedPropertyMap) map ).put( index, name, value ) : map.put( name, value );
+    }
+
+    public Object get( int index, String name ) {
+        if ( ! layout.isAt( index, name ) ) {
+            return get( name );
+        }
+        if ( index >= reconciled && others != null ) {
+            reconcile();
+        }
+        return index < values.length ? unmask( values[ index ] ) : null;
+    }
+
+    public Object put( int index, String name, Object value ) {
+        if ( ! layout.isAt( index, name ) ) {
+            return put( name, value );
+        }
+        if ( index >= reconciled && others != null ) {
+            reconcile();
+        }
+        return setSlot( index, value );
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Moves the properties to the given layout, e.g. the one of the trait factory of a core read back from a stream
+     */
+    public void attach( Layout layout ) {
+        if ( this.layout == layout ) {
+            return;
+        }
+        for ( int j = 0; j < values.length; j++ ) {
+            if ( values[ j ] != null ) {
+                getOthers().put( this.layout.getName( j ), unmask( values[ j ] ) );
+            }
+        }
+        this.layout = layout;
+        this.values = new Object[ layout.size() ];
+        this.size = 0;
+        this.reconciled = 0;
+    }
+
+    @Override
+    public int size() {
+        return others != null ? size + others.size() : size;
+    }
+
+    @Override
+    public boolean containsKey( Object key ) {
+        int index = slotOf( key );
+        if ( index < 0 ) {
+            return others != null && others.containsKey( key );
+        }
+        return index < values.length && values[ index ] != null;
+    }
+
+    @Override
+    public Object get( Object key ) {
+        int index = slotOf( key );
+        if ( index < 0 ) {
+            return others != null ? others.get( key ) : null;
+        }
+        return index < values.length ? unmask( values[ index ] ) : null;
+    }
+
+    @Override
+    public Object put( String key, Object value ) {
+        int index = slotOf( key );
+        if ( index < 0 ) {
+            return getOthers().put( key, value );
+        }
+        return setSlot( index, value );
+    }
+
+    @Override
+    public Object remove( Object key ) {
+        int index = slotOf( key );
+        if ( index < 0 ) {
+            return others != null ? others.remove( key ) : null;
+        }
+        return index < values.length ? clearSlot( index ) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill( values, null );
+        size = 0;
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * The slot of the given property, if any
+     */
+    private int slotOf( Object key ) {
+        int index = layout.indexOf( key );
+        if ( index >= reconciled && others != null ) {
+            reconcile();
+        }
+        return index;
+    }
+
+    /**
+     * Moves to their slots the properties set by name before the slots were assigned, when a proxy of a new trait
+     * has been built. Others only needs to be checked again once the layout has grown
+     */
+    private void reconcile() {
+        int layoutSize = layout.size();
+        Iterator<Entry<String, Object>> iter = others.entrySet().iterator();
+        while ( iter.hasNext() ) {
+            Entry<String, Object> entry = iter.next();
+            int index = layout.indexOf( entry.getKey() );
+            if ( index >= 0 && index < layoutSize ) {
+                setSlot( index, entry.getValue() );
+                iter.remove();
+            }
+        }
+        if ( others.isEmpty() ) {
+            others = null;
+        }
+        reconciled = layoutSize;
+    }
+
+    private Map<String, Object> getOthers() {
+        if ( others == null ) {
+            others = new HashMap<>();
+        }
+        return others;
+    }
+
+    private Object setSlot( int index, Object value ) {
+        if ( index >= values.length ) {
+            values = Arrays.copyOf( values, Math.max( index + 1, layout.size() ) );
+        }
+        Object old = values[ index ];
+        if ( old == null ) {
+            size++;
+        }
+        values[ index ] = value == null ? NULL_VALUE : value;
+        return unmask( old );
+    }
+
+    private Object clearSlot( int index ) {
+        Object old = values[ index ];
+        if ( old != null ) {
+            values[ index ] = null;
+            size--;
+        }
+        return unmask( old );
+    }
+
+    private static Object unmask( Object value ) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        out.writeInt( size() );
+        for ( Entry<String, Object> entry : entrySet() ) {
+            out.writeObject( entry.getKey() );
+            out.writeObject( entry.getValue() );
+        }
+    }
+
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        int n = in.readInt();
+        for ( int j = 0; j < n; j++ ) {
+            String key = (String) in.readObject();
+            put( key, in.readObject() );
+        }
+    }
+
+    /**
+     * The slots of the soft fields of a core class, owned by the trait factory. Slots are only ever appended, so an
+     * index assigned to a field name when a proxy class is built stays valid for all the maps of that core class
+     */
+    public static class Layout {
+
+        private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+        private volatile String[] names = new String[ 0 ];
+
+        Layout() {
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        public String getName( int index ) {
+            return names[ index ];
+        }
+
+        public int indexOf( Object name ) {
+            Integer index = name != null ? indexes.get( name ) : null;
+            return index != null ? index : -1;
+        }
+
+        synchronized int reserve( String name ) {
+            Integer index = indexes.get( name );
+            if ( index == null ) {
+                String[] current = names;
+                index = current.length;
+                String[] extended = Arrays.copyOf( current, index + 1 );
+                // field names are interned, as the string constants the proxies pass to isAt are, so that equals
+                // mostly returns on its identity check
+                extended[ index ] = name.intern();
+                names = extended;
+                indexes.put( extended[ index ], index );
+            }
+            return index;
+        }
+
+        boolean isAt( int index, String name ) {
+            String[] current = names;
+            return index >= 0 && index < current.length && name.equals( current[ index ] );
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return IndexedPropertyMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<Entry<String, Object>>() {
+                private int next = advance( 0 );
+                private int last = -1;
+                private Iterator<Entry<String, Object>> othersIterator;
+                private boolean lastInOthers;
+
+                private int advance( int from ) {
+                    while ( from < values.length && values[ from ] == null ) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                public boolean hasNext() {
+                    if ( next < values.length ) {
+                        return true;
+                    }
+                    if ( othersIterator == null && others != null ) {
+                        othersIterator = others.entrySet().iterator();
+                    }
+                    return othersIterator != null && othersIterator.hasNext();
+                }
+
+                public Entry<String, Object> next() {
+                    if ( ! hasNext() ) {
+                        throw new NoSuchElementException();
+                    }
+                    if ( next >= values.length ) {
+                        lastInOthers = true;
+                        return othersIterator.next();
+                    }
+                    last = next;
+                    next = advance( next + 1 );
+                    return new IndexedEntry( last );
+                }
+
+                public void remove() {
+                    if ( lastInOthers ) {
+                        othersIterator.remove();
+                        return;
+                    }
+                    if ( last < 0 ) {
+                        throw new IllegalStateException();
+                    }
+                    clearSlot( last );
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    private class IndexedEntry implements Entry<String, Object> {
+
+        private final int index;
+
+        private IndexedEntry( int index ) {
+            this.index = index;
+        }
+
+        public String getKey() {
+            return layout.getName( index );
+        }
+
+        public Object getValue() {
+            return unmask( values[ index ] );
+        }
+
+        public Object setValue( Object value ) {
+            return setSlot( index, value );
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if ( ! ( o instanceof Entry ) ) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            Object value = getValue();
+            return getKey().equals( e.getKey() ) && ( value == null ? e.getValue() == null : value.equals( e.getValue() ) );
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ ( value == null ? 0 : value.hashCode() );
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
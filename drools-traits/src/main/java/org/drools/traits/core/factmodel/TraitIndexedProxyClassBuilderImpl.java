@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.traits.core.factmodel;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+
+import org.drools.core.factmodel.BuildUtils;
+import org.drools.core.factmodel.ClassDefinition;
+import org.drools.core.factmodel.FieldDefinition;
+import org.mvel2.asm.MethodVisitor;
+import org.mvel2.asm.Type;
+
+/**
+ * Builds the same proxies as the map-based builder, but the soft fields are accessed through the slot that the
+ * {@link IndexedPropertyMap.Layout} of the core class assigns to them, rather than hashing their name on every access.
+ * The layout is the one the trait factory keeps for the core class, see {@link AbstractTraitFactory#getPropertyLayout(Class)}.
+ */
+public class TraitIndexedProxyClassBuilderImpl extends TraitMapProxyClassBuilderImpl {
+
+    private static final String GET_DESCRIPTOR = "(" + Type.getDescriptor( Map.class ) + Type.INT_TYPE.getDescriptor() + Type.getDescriptor( String.class ) + ")" + Type.getDescriptor( Object.class );
+    private static final String PUT_DESCRIPTOR = "(" + Type.getDescriptor( Map.class ) + Type.INT_TYPE.getDescriptor() + Type.getDescriptor( String.class ) + Type.getDescriptor( Object.class ) + ")" + Type.getDescriptor( Object.class );
+
+    private transient IndexedPropertyMap.Layout layout;
+
+    @Override
+    public byte[] buildClass( ClassDefinition core, ClassLoader classLoader ) throws IOException,
+            SecurityException,
+            IllegalArgumentException,
+            ClassNotFoundException,
+            NoSuchMethodException,
+            IllegalAccessException,
+            InvocationTargetException,
+            InstantiationException,
+            NoSuchFieldException {
+        // proxies built without the layout of their trait factory still work, resolving their soft fields by name
+        return buildClass( core, classLoader, new IndexedPropertyMap.Layout() );
+    }
+
+    public byte[] buildClass( ClassDefinition core, ClassLoader classLoader, IndexedPropertyMap.Layout layout ) throws IOException,
+            SecurityException,
+            IllegalArgumentException,
+            ClassNotFoundException,
+            NoSuchMethodException,
+            IllegalAccessException,
+            InvocationTargetException,
+            InstantiationException,
+            NoSuchFieldException {
+        this.layout = layout;
+        try {
+            return super.buildClass( core, classLoader );
+        } finally {
+            layout = null;
+        }
+    }
+
+    @Override
+    protected void putSoftValue( MethodVisitor mv, FieldDefinition field, String proxy ) {
+        String type = field.getTypeName();
+        String name = field.resolveAlias();
+
+        mv.visitVarInsn( ALOAD, 0 );
+        mv.visitFieldInsn( GETFIELD, BuildUtils.getInternalType( proxy ), "map", Type.getDescriptor( Map.class ) );
+        mv.visitLdcInsn( layout.reserve( name ) );
+        mv.visitLdcInsn( name );
+        mv.visitVarInsn( BuildUtils.varType( type ), 1 );
+        if ( BuildUtils.isPrimitive( type ) ) {
+            TraitFactoryImpl.valueOf( mv, type );
+        }
+        mv.visitMethodInsn( INVOKESTATIC, Type.getInternalName( IndexedPropertyMap.class ), "put", PUT_DESCRIPTOR, false );
+    }
+
+    @Override
+    protected void getSoftValue( MethodVisitor mv, FieldDefinition field, String proxy ) {
+        String name = field.resolveAlias();
+
+        mv.visitVarInsn( ALOAD, 0 );
+        mv.visitFieldInsn( GETFIELD, BuildUtils.getInternalType( proxy ), "map", Type.getDescriptor( Map.class ) );
+        mv.visitLdcInsn( layout.reserve( name ) );
+        mv.visitLdcInsn( name );
+        mv.visitMethodInsn( INVOKESTATIC, Type.getInternalName( IndexedPropertyMap.class ), "get", GET_DESCRIPTOR, false );
+    }
+}
@@ -457,6 +457,21 @@ public class TraitMapProxyClassBuilderImpl extends AbstractProxyClassBuilderImpl
             logicalSetter( mv, field, proxy, core );
         }
 
+        putSoftValue( mv, field, proxy );
+        mv.visitInsn( POP );
+        mv.visitInsn( RETURN );
+
+        mv.visitMaxs( 0, 0 );
+        mv.visitEnd();
+
+    }
+
+    /**
+     * Stores the setter argument in the soft field, leaving the previous value on the stack
+     */
+    protected void putSoftValue( MethodVisitor mv, FieldDefinition field, String proxy ) {
+        String type = field.getTypeName();
+
         mv.visitVarInsn( ALOAD, 0 );
         mv.visitFieldInsn( GETFIELD, BuildUtils.getInternalType( proxy ), "map", Type.getDescriptor( Map.class ) );
         mv.visitLdcInsn( field.resolveAlias() );
@@ -466,12 +481,6 @@ public class TraitMapProxyClassBuilderImpl extends AbstractProxyClassBuilderImpl
         }
         mv.visitMethodInsn( INVOKEINTERFACE, Type.getInternalName( Map.class ), "put",
                             "(" + Type.getDescriptor( Object.class ) + Type.getDescriptor( Object.class ) + ")" + Type.getDescriptor( Object.class ), true );
-        mv.visitInsn( POP );
-        mv.visitInsn( RETURN );
-
-        mv.visitMaxs( 0, 0 );
-        mv.visitEnd();
-
     }
 
 
@@ -489,14 +498,7 @@ public class TraitMapProxyClassBuilderImpl extends AbstractProxyClassBuilderImpl
                                            null,
                                            null );
         mv.visitCode();
-        mv.visitVarInsn( ALOAD, 0 );
-        mv.visitFieldInsn( GETFIELD, BuildUtils.getInternalType( proxy ), "map", Type.getDescriptor( Map.class ) );
-        mv.visitLdcInsn( field.resolveAlias() );
-        mv.visitMethodInsn( INVOKEINTERFACE,
-                            Type.getInternalName( Map.class ),
-                            "get",
-                            "(" + Type.getDescriptor( Object.class ) + ")" + Type.getDescriptor( Object.class ),
-                            true );
+        getSoftValue( mv, field, proxy );
 
         String actualType = BuildUtils.isPrimitive( type ) ? BuildUtils.box( type ) : type;
 
@@ -529,6 +531,20 @@ public class TraitMapProxyClassBuilderImpl extends AbstractProxyClassBuilderImpl
         mv.visitEnd();
     }
 
+    /**
+     * Loads the (boxed) value of the soft field on the stack
+     */
+    protected void getSoftValue( MethodVisitor mv, FieldDefinition field, String proxy ) {
+        mv.visitVarInsn( ALOAD, 0 );
+        mv.visitFieldInsn( GETFIELD, BuildUtils.getInternalType( proxy ), "map", Type.getDescriptor( Map.class ) );
+        mv.visitLdcInsn( field.resolveAlias() );
+        mv.visitMethodInsn( INVOKEINTERFACE,
+                            Type.getInternalName( Map.class ),
+                            "get",
+                            "(" + Type.getDescriptor( Object.class ) + ")" + Type.getDescriptor( Object.class ),
+                            true );
+    }
+
     protected void buildCommonMethods(ClassWriter cw, String proxy ) {
 
         String proxyType = BuildUtils.getInternalType( proxy );
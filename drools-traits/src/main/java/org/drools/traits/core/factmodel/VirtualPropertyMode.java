@@ -20,6 +20,7 @@ package org.drools.traits.core.factmodel;
 public enum VirtualPropertyMode {
 
     MAP,
-    TRIPLES;
+    TRIPLES,
+    INDEXED;
 
 }
@@ -44,6 +44,7 @@ import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.NamedEntryPoint;
 import org.drools.core.common.ObjectTypeConfigurationRegistry;
 import org.drools.traits.core.factmodel.Entity;
+import org.drools.traits.core.factmodel.IndexedPropertyMap;
 import org.drools.traits.core.factmodel.LogicalTypeInconsistencyException;
 import org.drools.traits.core.factmodel.MapWrapper;
 import org.drools.core.factmodel.traits.Thing;
@@ -125,7 +126,8 @@ public class TraitTest extends CommonTraitTest {
         return Arrays.asList( new VirtualPropertyMode[][]
                                       {
                                               { VirtualPropertyMode.MAP },
-                                              { VirtualPropertyMode.TRIPLES }
+                                              { VirtualPropertyMode.TRIPLES },
+                                              { VirtualPropertyMode.INDEXED }
                                       } );
     }
 
@@ -833,6 +835,11 @@ public class TraitTest extends CommonTraitTest {
                 assertTrue( proxyFields instanceof MapWrapper );
                 assertTrue( coreTraits instanceof TraitTypeMapImpl);
                 assertTrue( coreProperties instanceof HashMap );
+            } else if ( mode == VirtualPropertyMode.INDEXED ) {
+                assertTrue( proxyFields instanceof MapWrapper );
+                assertTrue( coreTraits instanceof TraitTypeMapImpl);
+                assertTrue( coreProperties instanceof IndexedPropertyMap );
+                assertSame( tFactory.getPropertyLayout( imp.getClass() ), ( (IndexedPropertyMap) coreProperties ).getLayout() );
             } else {
                 assertEquals( "org.drools.compiler.trait.test.Student.org.drools.compiler.trait.test.Imp_ProxyWrapper", proxyFields.getClass().getName() );
 
@@ -4825,6 +4832,66 @@ public class TraitTest extends CommonTraitTest {
         assertTrue( list.containsAll( Arrays.asList( 0, 1, 2, 3 ) ) );
     }
 
+    @Test
+    public void testDonManyTraitsOnManyCores() {
+        String drl = "" +
+                     "package org.drools.core.factmodel.traits.test;\n" +
+                     "\n" +
+                     "import org.drools.core.factmodel.traits.*;\n" +
+                     "import org.drools.core.common.InternalWorkingMemoryEntryPoint;\n" +
+                     "import java.util.*;\n" +
+                     "\n" +
+                     "global List list; \n" +
+                     "" +
+                     "declare trait A score : int end \n" +
+                     "declare trait B end \n" +
+                     "\n" +
+                     "declare TBean @Traitable @propertyReactive id : int end \n" +
+                     "" +
+                     "rule Init \n" +
+                     "when \n" +
+                     "then\n" +
+                     "  for ( int j = 0; j < 3; j++ ) { insert( new TBean( j ) ); } \n" +
+                     "end\n" +
+                     "" +
+                     "rule \"Don All\" " +
+                     "when \n" +
+                     "  $s : String( this == \"go\" ) \n" +
+                     "  $cs : List( size == 3 ) from collect( TBean() ) \n" +
+                     "then \n" +
+                     "  delete( $s ); \n" +
+                     "  InternalWorkingMemoryEntryPoint ep = (InternalWorkingMemoryEntryPoint) drools.getEntryPoint( \"DEFAULT\" ); \n" +
+                     "  List things = ep.getTraitHelper().donAll( drools.getMatch(), $cs, Arrays.asList( A.class, B.class ), false ); \n" +
+                     "  list.add( things.size() ); \n" +
+                     "end \n" +
+                     "" +
+                     "rule Score \n" +
+                     "when\n" +
+                     "  $a : A( this isA B, score == 0 ) \n" +
+                     "then \n" +
+                     "  $a.setScore( 42 ); \n" +
+                     "  list.add( $a.getScore() ); \n" +
+                     "end \n";
+
+        KieSession ksession = loadKnowledgeBaseFromString(drl).newKieSession();
+        TraitFactoryImpl.setMode(mode, ksession.getKieBase() );
+        ArrayList list = new ArrayList();
+        ksession.setGlobal( "list", list );
+
+        ksession.fireAllRules();
+        assertTrue( list.isEmpty() );
+
+        ksession.insert( "go" );
+        ksession.fireAllRules();
+
+        assertEquals( Arrays.asList( 3, 42, 42, 42 ), list );
+        for ( Object o : ksession.getObjects( new ClassObjectFilter( TraitableBean.class ) ) ) {
+            TraitableBean core = (TraitableBean) o;
+            assertTrue( core.hasTrait( "org.drools.core.factmodel.traits.test.A" ) );
+            assertTrue( core.hasTrait( "org.drools.core.factmodel.traits.test.B" ) );
+        }
+    }
+
     @Test
     public void testDonManyTraitsAtOnce2() {
         String drl = "" +
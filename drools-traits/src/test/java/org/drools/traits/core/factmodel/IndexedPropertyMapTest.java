@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.traits.core.factmodel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedPropertyMapTest {
+
+    @Test
+    public void testAccessByNameAndIndex() {
+        IndexedPropertyMap map = new IndexedPropertyMap( new IndexedPropertyMap.Layout() );
+        int age = map.getLayout().reserve( "age" );
+
+        assertNull( map.put( "name", "john" ) );
+        assertNull( map.put( age, "age", 18 ) );
+
+        assertEquals( 2, map.size() );
+        assertEquals( 18, map.get( "age" ) );
+        assertEquals( "john", map.get( "name" ) );
+
+        assertEquals( 18, map.put( "age", 19 ) );
+        assertEquals( 19, map.get( age, "age" ) );
+
+        // a stale index is resolved by name
+        assertEquals( "john", map.get( age, "name" ) );
+        assertEquals( "john", map.get( -1, "name" ) );
+    }
+
+    @Test
+    public void testUserKeysDoNotGrowTheLayout() {
+        IndexedPropertyMap.Layout layout = new IndexedPropertyMap.Layout();
+        IndexedPropertyMap map = new IndexedPropertyMap( layout );
+        map.put( new String( "name" ), "john" );
+
+        assertEquals( 0, layout.size() );
+        assertEquals( -1, layout.indexOf( "name" ) );
+        assertEquals( "john", map.get( "name" ) );
+
+        // once a proxy assigns a slot to the property, its value is moved there
+        int name = layout.reserve( "name" );
+        assertEquals( "john", map.get( name, "name" ) );
+        assertEquals( 1, map.size() );
+        assertEquals( "john", map.put( name, "name", "paul" ) );
+        assertEquals( "paul", map.get( "name" ) );
+        assertEquals( 1, map.size() );
+    }
+
+    @Test
+    public void testIndexedAccessWithPropertiesByName() {
+        IndexedPropertyMap.Layout layout = new IndexedPropertyMap.Layout();
+        int age = layout.reserve( "age" );
+        IndexedPropertyMap map = new IndexedPropertyMap( layout );
+        map.put( "nickname", "jo" );
+        map.put( "surname", "doe" );
+
+        // the properties kept by name don't get in the way of the ones with a slot
+        assertNull( map.put( age, "age", 18 ) );
+        assertEquals( 18, map.get( age, "age" ) );
+        assertEquals( 3, map.size() );
+
+        // once the layout grows, the properties that got a slot are moved there, and the others stay by name
+        int nickname = layout.reserve( "nickname" );
+        assertEquals( "jo", map.get( nickname, "nickname" ) );
+        assertEquals( "jo", map.put( nickname, "nickname", "joe" ) );
+        assertEquals( "joe", map.get( "nickname" ) );
+        assertEquals( "doe", map.get( age, "surname" ) );
+        assertEquals( 3, map.size() );
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put( "age", 18 );
+        expected.put( "nickname", "joe" );
+        expected.put( "surname", "doe" );
+        assertEquals( expected, map );
+    }
+
+    @Test
+    public void testNullValues() {
+        IndexedPropertyMap map = new IndexedPropertyMap( new IndexedPropertyMap.Layout() );
+        int age = map.getLayout().reserve( "age" );
+        map.put( "name", null );
+        map.put( age, "age", null );
+
+        assertTrue( map.containsKey( "name" ) );
+        assertTrue( map.containsKey( "age" ) );
+        assertFalse( map.containsKey( "surname" ) );
+        assertNull( map.get( "name" ) );
+        assertNull( map.get( age, "age" ) );
+        assertEquals( 2, map.size() );
+
+        assertNull( map.remove( "name" ) );
+        assertNull( map.remove( "age" ) );
+        assertFalse( map.containsKey( "name" ) );
+        assertFalse( map.containsKey( "age" ) );
+        assertTrue( map.isEmpty() );
+    }
+
+    @Test
+    public void testLayoutIsShared() {
+        IndexedPropertyMap.Layout layout = new IndexedPropertyMap.Layout();
+        int a = layout.reserve( "a" );
+        IndexedPropertyMap map1 = new IndexedPropertyMap( layout );
+        map1.put( a, "a", 1 );
+
+        int b = layout.reserve( "b" );
+        map1.put( b, "b", 2 );
+        IndexedPropertyMap map2 = new IndexedPropertyMap( layout );
+        map2.put( b, "b", 3 );
+
+        assertEquals( 2, map1.size() );
+        assertEquals( 1, map2.size() );
+        assertEquals( 2, map1.get( b, "b" ) );
+        assertEquals( 3, map2.get( b, "b" ) );
+        assertNull( map2.get( a, "a" ) );
+    }
+
+    @Test
+    public void testMapSemantics() {
+        IndexedPropertyMap map = new IndexedPropertyMap( new IndexedPropertyMap.Layout() );
+        Map<String, Object> expected = new HashMap<>();
+        for ( int j = 0; j < 10; j++ ) {
+            // half of the properties have a slot, the others are kept by name
+            if ( j % 2 == 0 ) {
+                map.getLayout().reserve( "p" + j );
+            }
+            map.put( "p" + j, j );
+            expected.put( "p" + j, j );
+        }
+        assertEquals( expected, map );
+
+        Iterator<Map.Entry<String, Object>> iter = map.entrySet().iterator();
+        while ( iter.hasNext() ) {
+            Map.Entry<String, Object> entry = iter.next();
+            if ( (Integer) entry.getValue() % 3 == 0 ) {
+                iter.remove();
+                expected.remove( entry.getKey() );
+            } else {
+                entry.setValue( -1 );
+                expected.put( entry.getKey(), -1 );
+            }
+        }
+        assertEquals( expected, map );
+        assertEquals( 6, map.size() );
+
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertFalse( map.entrySet().iterator().hasNext() );
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        IndexedPropertyMap.Layout layout = new IndexedPropertyMap.Layout();
+        int name = layout.reserve( "name" );
+        IndexedPropertyMap map = new IndexedPropertyMap( layout );
+        map.put( name, "name", "john" );
+        map.put( "nothing", null );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( map );
+        }
+        IndexedPropertyMap copy;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            copy = (IndexedPropertyMap) in.readObject();
+        }
+
+        assertNotSame( layout, copy.getLayout() );
+        assertEquals( map, copy );
+        assertTrue( copy.containsKey( "nothing" ) );
+
+        copy.attach( layout );
+        assertSame( layout, copy.getLayout() );
+        assertEquals( "john", copy.get( name, "name" ) );
+        assertEquals( map, copy );
+    }
+}
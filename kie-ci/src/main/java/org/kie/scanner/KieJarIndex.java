@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.drools.compiler.kproject.models.KieModuleModelImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.drools.core.util.IoUtils.readBytesFromInputStream;
+
+/**
+ * The subset of the content of a jar relevant for a {@link KieModuleMetaDataImpl}: the names of the classes,
+ * the processes, the forms and the kmodule meta infos it contains.
+ *
+ * The index of a jar, typically resolved from the local maven repository, is built once and persisted in a file
+ * next to the jar itself, so that following metadata queries on the same artifact don't have to open and scan it again.
+ * The persisted index is discarded and rebuilt when the size or the last modification time of the jar change.
+ * This behaviour can be switched off by setting the {@link KieModuleMetaDataImpl#PERSISTENT_INDEX_PROPERTY}
+ * system property to false.
+ */
+class KieJarIndex {
+
+    private static final Logger log = LoggerFactory.getLogger( KieJarIndex.class );
+
+    static final String INDEX_FILE_SUFFIX = ".kieindex";
+
+    private static final int INDEX_FORMAT_VERSION = 1;
+
+    private final List<String> classEntries = new ArrayList<>();
+    private final Map<String, byte[]> processes = new LinkedHashMap<>();
+    private final Map<String, byte[]> forms = new LinkedHashMap<>();
+    private final List<byte[]> metaInfos = new ArrayList<>();
+
+    private KieJarIndex() { }
+
+    List<String> getClassEntries() {
+        return classEntries;
+    }
+
+    Map<String, byte[]> getProcesses() {
+        return processes;
+    }
+
+    Map<String, byte[]> getForms() {
+        return forms;
+    }
+
+    List<byte[]> getMetaInfos() {
+        return metaInfos;
+    }
+
+    static boolean isPersistentIndexEnabled() {
+        return Boolean.parseBoolean( System.getProperty( KieModuleMetaDataImpl.PERSISTENT_INDEX_PROPERTY, "true" ) );
+    }
+
+    static File getIndexFile( File jarFile ) {
+        return new File( jarFile.getPath() + INDEX_FILE_SUFFIX );
+    }
+
+    static KieJarIndex of( File jarFile, boolean persistent ) {
+        if ( !persistent ) {
+            return scan( jarFile );
+        }
+        File indexFile = getIndexFile( jarFile );
+        KieJarIndex index = read( jarFile, indexFile );
+        if ( index == null ) {
+            index = scan( jarFile );
+            write( jarFile, indexFile, index );
+        }
+        return index;
+    }
+
+    static KieJarIndex scan( File jarFile ) {
+        KieJarIndex index = new KieJarIndex();
+        try (ZipFile zipFile = new ZipFile( jarFile )) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while ( entries.hasMoreElements() ) {
+                ZipEntry entry = entries.nextElement();
+                String pathName = entry.getName();
+                if ( pathName.endsWith( ".class" ) ) {
+                    index.classEntries.add( pathName );
+                } else if ( KieModuleMetaDataImpl.isProcessFile( pathName ) ) {
+                    index.processes.put( pathName, readEntry( zipFile, entry ) );
+                } else if ( KieModuleMetaDataImpl.isFormFile( pathName ) ) {
+                    index.forms.put( pathName, readEntry( zipFile, entry ) );
+                } else if ( pathName.endsWith( KieModuleModelImpl.KMODULE_INFO_JAR_PATH ) ) {
+                    index.metaInfos.add( readEntry( zipFile, entry ) );
+                }
+            }
+        } catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+        return index;
+    }
+
+    private static byte[] readEntry( ZipFile zipFile, ZipEntry entry ) throws IOException {
+        try (InputStream is = zipFile.getInputStream( entry )) {
+            return readBytesFromInputStream( is );
+        }
+    }
+
+    static KieJarIndex read( File jarFile, File indexFile ) {
+        if ( !indexFile.isFile() ) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( indexFile ) ) )) {
+            if ( in.readInt() != INDEX_FORMAT_VERSION || in.readLong() != jarFile.length() || in.readLong() != jarFile.lastModified() ) {
+                return null;
+            }
+            KieJarIndex index = new KieJarIndex();
+            for ( int i = in.readInt(); i > 0; i-- ) {
+                index.classEntries.add( in.readUTF() );
+            }
+            readEntries( in, index.processes );
+            readEntries( in, index.forms );
+            for ( int i = in.readInt(); i > 0; i-- ) {
+                index.metaInfos.add( readBytes( in ) );
+            }
+            return index;
+        } catch ( IOException e ) {
+            log.debug( "Unable to read the index " + indexFile + ", the jar " + jarFile + " will be scanned again", e );
+            return null;
+        }
+    }
+
+    static void write( File jarFile, File indexFile, KieJarIndex index ) {
+        File tmpFile = null;
+        try {
+            tmpFile = File.createTempFile( indexFile.getName(), ".tmp", indexFile.getParentFile() );
+            try (DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tmpFile ) ) )) {
+                out.writeInt( INDEX_FORMAT_VERSION );
+                out.writeLong( jarFile.length() );
+                out.writeLong( jarFile.lastModified() );
+                out.writeInt( index.classEntries.size() );
+                for ( String classEntry : index.classEntries ) {
+                    out.writeUTF( classEntry );
+                }
+                writeEntries( out, index.processes );
+                writeEntries( out, index.forms );
+                out.writeInt( index.metaInfos.size() );
+                for ( byte[] metaInfo : index.metaInfos ) {
+                    writeBytes( out, metaInfo );
+                }
+            }
+            Files.move( tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        } catch ( IOException | SecurityException e ) {
+            // the local repository could be read only: the index is just an optimization, so go on without it
+            log.debug( "Unable to write the index " + indexFile + " for the jar " + jarFile, e );
+            if ( tmpFile != null ) {
+                tmpFile.delete();
+            }
+        }
+    }
+
+    private static void readEntries( DataInputStream in, Map<String, byte[]> entries ) throws IOException {
+        for ( int i = in.readInt(); i > 0; i-- ) {
+            entries.put( in.readUTF(), readBytes( in ) );
+        }
+    }
+
+    private static void writeEntries( DataOutputStream out, Map<String, byte[]> entries ) throws IOException {
+        out.writeInt( entries.size() );
+        for ( Map.Entry<String, byte[]> entry : entries.entrySet() ) {
+            out.writeUTF( entry.getKey() );
+            writeBytes( out, entry.getValue() );
+        }
+    }
+
+    private static byte[] readBytes( DataInputStream in ) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully( bytes );
+        return bytes;
+    }
+
+    private static void writeBytes( DataOutputStream out, byte[] bytes ) throws IOException {
+        out.writeInt( bytes.length );
+        out.write( bytes );
+    }
+}
@@ -16,21 +16,17 @@
 package org.kie.scanner;
 
 import java.io.File;
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import org.appformer.maven.integration.ArtifactResolver;
 import org.appformer.maven.integration.DependencyDescriptor;
@@ -46,10 +42,11 @@ import org.eclipse.aether.artifact.Artifact;
 import static org.appformer.maven.integration.ArtifactResolver.getResolverFor;
 import static org.drools.core.util.ClassUtils.convertResourceToClassName;
 import static org.drools.core.util.IoUtils.UTF8_CHARSET;
-import static org.drools.core.util.IoUtils.readBytesFromZipEntry;
 
 public class KieModuleMetaDataImpl implements KieModuleMetaData {
 
+    public static final String PERSISTENT_INDEX_PROPERTY = "kie.scanner.persistentJarIndex";
+
     private final Map<String, Collection<String>> classes = new HashMap<>();
 
     private final Map<String, String> processes = new HashMap<>();
@@ -197,29 +194,22 @@ public class KieModuleMetaDataImpl implements KieModuleMetaData {
     private void addJar( File jarFile, URI uri ) {
         if (!jars.containsKey(uri)) {
             jars.put(uri, jarFile);
-            scanJar(jarFile);
+            indexJar(KieJarIndex.of(jarFile, KieJarIndex.isPersistentIndexEnabled()));
         }
     }
 
-    private void scanJar(File jarFile) {
-        try (ZipFile zipFile = new ZipFile( jarFile )) {
-            Enumeration< ? extends ZipEntry> entries = zipFile.entries();
-            while ( entries.hasMoreElements() ) {
-                ZipEntry entry = entries.nextElement();
-                String pathName = entry.getName();
-                if(isProcessFile(pathName)){
-                    processes.put(pathName, new String(readBytesFromZipEntry(jarFile, entry), UTF8_CHARSET));
-                } else if (isFormFile(pathName)) {
-                    forms.put(pathName, new String(readBytesFromZipEntry(jarFile, entry), UTF8_CHARSET));
-                }
-                if (!indexClass(pathName)) {
-                    if (pathName.endsWith(KieModuleModelImpl.KMODULE_INFO_JAR_PATH)) {
-                        indexMetaInfo(readBytesFromZipEntry(jarFile, entry));
-                    }
-                }
-            }
-        } catch ( IOException e ) {
-            throw new RuntimeException( e );
+    private void indexJar(KieJarIndex jarIndex) {
+        for (String classEntry : jarIndex.getClassEntries()) {
+            indexClass(classEntry);
+        }
+        for (Map.Entry<String, byte[]> process : jarIndex.getProcesses().entrySet()) {
+            processes.put(process.getKey(), new String(process.getValue(), UTF8_CHARSET));
+        }
+        for (Map.Entry<String, byte[]> form : jarIndex.getForms().entrySet()) {
+            forms.put(form.getKey(), new String(form.getValue(), UTF8_CHARSET));
+        }
+        for (byte[] metaInfo : jarIndex.getMetaInfos()) {
+            indexMetaInfo(metaInfo);
         }
     }
 
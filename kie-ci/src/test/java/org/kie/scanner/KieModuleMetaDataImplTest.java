@@ -16,13 +16,29 @@
 
 package org.kie.scanner;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class KieModuleMetaDataImplTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testIsProcessFile() {
         assertTrue(KieModuleMetaDataImpl.isProcessFile("abc.bpmn"));
@@ -36,4 +52,39 @@ public class KieModuleMetaDataImplTest {
         assertTrue(KieModuleMetaDataImpl.isFormFile("abc.frm"));
         assertFalse(KieModuleMetaDataImpl.isFormFile("abc.form"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPersistentJarIndex() throws IOException {
+        File jarFile = temporaryFolder.newFile("dep.jar");
+        writeJar(jarFile, "org/example/Person.class", "org/example/Address.class", "process.bpmn2", "form.frm");
+
+        File indexFile = KieJarIndex.getIndexFile(jarFile);
+        assertFalse(indexFile.exists());
+
+        KieJarIndex scanned = KieJarIndex.of(jarFile, true);
+        assertTrue(indexFile.exists());
+        assertEquals(2, scanned.getClassEntries().size());
+
+        KieJarIndex read = KieJarIndex.read(jarFile, indexFile);
+        assertNotNull(read);
+        assertEquals(scanned.getClassEntries(), read.getClassEntries());
+        assertArrayEquals(scanned.getProcesses().get("process.bpmn2"), read.getProcesses().get("process.bpmn2"));
+        assertArrayEquals(scanned.getForms().get("form.frm"), read.getForms().get("form.frm"));
+
+        // a modified jar invalidates its index
+        writeJar(jarFile, "org/example/Person.class");
+        jarFile.setLastModified(jarFile.lastModified() + 1000);
+        assertNull(KieJarIndex.read(jarFile, indexFile));
+        assertEquals(1, KieJarIndex.of(jarFile, true).getClassEntries().size());
+    }
+
+    private static void writeJar(File jarFile, String... entries) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(jarFile))) {
+            for (String entry : entries) {
+                zos.putNextEntry(new ZipEntry(entry));
+                zos.write(entry.getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.kie.dmn.api.core;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
 
@@ -64,6 +65,23 @@ public interface DMNRuntime extends DMNRuntimeEventManager {
      */
     DMNResult evaluateAll( DMNModel model, DMNContext context );
 
+    /**
+     * Evaluate all decisions for the model, for each of the given contexts.
+     *
+     * The contexts are consumed lazily and the results are returned in the same order as the contexts,
+     * so that an arbitrarily large batch can be evaluated without holding all of it in memory.
+     * Implementations may evaluate several contexts concurrently: in that case the registered
+     * listeners are notified from multiple threads.
+     *
+     * @param model the model to evaluate
+     * @param contexts the contexts with all the input variables
+     *
+     * @return the results of the evaluations, in the order of the contexts
+     */
+    default Stream<DMNResult> evaluateAll( DMNModel model, Stream<DMNContext> contexts ) {
+        return contexts.map( context -> evaluateAll( model, context ) );
+    }
+
     /**
      * Evaluate the decision identified by the given name and
      * all dependent decisions, given the context
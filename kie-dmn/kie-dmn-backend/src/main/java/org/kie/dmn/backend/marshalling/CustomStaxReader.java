@@ -1,5 +1,6 @@
 package org.kie.dmn.backend.marshalling;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,9 +32,16 @@ public class CustomStaxReader extends StaxReader {
         moveDown(); //needed because this class overrides pullNextEvent, moveDown.
     }
     
+    /**
+     * Returns the namespaces declared by the current element, in an immutable empty map if there are none
+     */
     public Map<String, String> getNsContext() {
+        int namespaceCount = in.getNamespaceCount();
+        if (namespaceCount == 0) {
+            return Collections.emptyMap();
+        }
         Map<String, String> nsContext = new HashMap<>();
-        for (int nsIndex = 0; nsIndex < in.getNamespaceCount(); nsIndex++) {
+        for (int nsIndex = 0; nsIndex < namespaceCount; nsIndex++) {
             String nsPrefix = in.getNamespacePrefix(nsIndex);
             String nsId = in.getNamespaceURI(nsIndex);
             nsContext.put(nsPrefix!=null?nsPrefix:XMLConstants.DEFAULT_NS_PREFIX, nsId );
@@ -74,8 +82,12 @@ public class CustomStaxReader extends StaxReader {
         return this.in.getAttributeValue( namespaceURI, this.encodeAttribute(name) );
     }
     
+    /**
+     * Returns the attributes of the current element with an explicit namespace prefix, in an immutable empty map if
+     * there are none
+     */
     public Map<QName, String> getAdditionalAttributes() {
-        Map<QName, String> result = new HashMap<>();
+        Map<QName, String> result = Collections.emptyMap();
         for (int aIndex = 0; aIndex < in.getAttributeCount(); aIndex++) {
             String attributePrefix = in.getAttributePrefix(aIndex);
             
@@ -83,6 +95,9 @@ public class CustomStaxReader extends StaxReader {
             if ( attributePrefix == null ) { attributePrefix = XMLConstants.DEFAULT_NS_PREFIX; }
             
             if ( !XMLConstants.DEFAULT_NS_PREFIX.equals(attributePrefix) ) {
+                if ( result.isEmpty() ) {
+                    result = new HashMap<>();
+                }
                 result.put( new QName(in.getAttributeNamespace(aIndex), in.getAttributeLocalName(aIndex), attributePrefix), in.getAttributeValue(aIndex) );
             }
         }
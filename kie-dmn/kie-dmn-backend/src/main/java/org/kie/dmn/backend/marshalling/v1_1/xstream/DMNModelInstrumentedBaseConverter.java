@@ -50,12 +50,19 @@ public abstract class DMNModelInstrumentedBaseConverter
 
         CustomStaxReader customStaxReader = (CustomStaxReader) reader.underlyingReader();
         
+        // most elements, as the rules of the decision tables, declare neither namespaces nor additional attributes:
+        // their maps are not allocated
         Map<String, String> currentNSCtx = customStaxReader.getNsContext();
-        mib.getNsContext().putAll(currentNSCtx);
+        if (!currentNSCtx.isEmpty()) {
+            mib.getNsContext().putAll(currentNSCtx);
+        }
 
         mib.setLocation( customStaxReader.getLocation() );
         
-        mib.setAdditionalAttributes( customStaxReader.getAdditionalAttributes() );
+        Map<QName, String> additionalAttributes = customStaxReader.getAdditionalAttributes();
+        if (!additionalAttributes.isEmpty()) {
+            mib.setAdditionalAttributes( additionalAttributes );
+        }
     }
     
     @Override
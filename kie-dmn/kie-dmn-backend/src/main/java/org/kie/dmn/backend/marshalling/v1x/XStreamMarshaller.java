@@ -16,13 +16,11 @@
 
 package org.kie.dmn.backend.marshalling.v1x;
 
-import java.io.BufferedReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import javax.xml.stream.XMLStreamReader;
 
@@ -35,6 +33,15 @@ import org.kie.dmn.model.api.Definitions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Unmarshals DMN models through the XStream converters of their version, streaming the document through a single
+ * StAX pass.
+ * <p>
+ * There is no dedicated StAX unmarshaller bypassing XStream, and the rules of the decision tables are materialised
+ * eagerly, as regular model objects: what large decision tables are spared is the per-element allocation of the maps
+ * of namespaces and additional attributes, created only for the elements declaring any (see
+ * <code>DMNUnmarshallingBenchmark</code> in drools-benchmarks for the time and the memory allocated per parse).
+ */
 public class XStreamMarshaller implements DMNMarshaller {
 
     private static Logger logger = LoggerFactory.getLogger( XStreamMarshaller.class );
@@ -114,9 +121,15 @@ public class XStreamMarshaller implements DMNMarshaller {
 
     @Override
     public Definitions unmarshal(Reader isr) {
-        try (BufferedReader buffer = new BufferedReader(isr)) {
-            String xml = buffer.lines().collect(Collectors.joining("\n"));
-            return unmarshal(xml);
+        try (Reader reader = isr) {
+            // read in one buffer, as the version is inferred from the root element before the actual unmarshalling
+            StringBuilder xml = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                xml.append(buffer, 0, read);
+            }
+            return unmarshal(xml.toString());
         } catch (Exception e) {
             logger.error("Error unmarshalling DMN model from reader.", e);
         }
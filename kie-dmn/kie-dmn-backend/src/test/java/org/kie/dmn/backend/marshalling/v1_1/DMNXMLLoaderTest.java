@@ -21,6 +21,7 @@ import java.io.InputStreamReader;
 import java.util.Arrays;
 
 import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -82,6 +83,26 @@ public class DMNXMLLoaderTest {
         assertThat( idata.getVariable().getTypeRef().getNamespaceURI(), is( XMLConstants.NULL_NS_URI ) );
     }
 
+    @Test
+    public void testLoadingNamespacesAndAdditionalAttributes() {
+        final DMNMarshaller DMNMarshaller = DMNMarshallerFactory.newDefaultMarshaller();
+
+        final InputStream is = this.getClass().getResourceAsStream( "0001-input-data-string.dmn" );
+        final InputStreamReader isr = new InputStreamReader( is );
+        final Definitions def = DMNMarshaller.unmarshal( isr );
+        assertThat( def.getNsContext().get( "feel" ), is( org.kie.dmn.model.v1_1.KieDMNModelInstrumentedBase.URI_FEEL ) );
+
+        LiteralExpression le = (LiteralExpression) ((Decision) def.getDrgElement().get( 0 )).getExpression();
+        assertThat( le.getNsContext().isEmpty(), is( true ) );
+        assertThat( le.getNamespaceURI( "feel" ), is( org.kie.dmn.model.v1_1.KieDMNModelInstrumentedBase.URI_FEEL ) );
+        assertThat( le.getAdditionalAttributes().isEmpty(), is( true ) );
+
+        // the elements declaring no additional attributes can still be given some
+        QName kind = new QName( "http://www.example.com", "kind", "ex" );
+        le.getAdditionalAttributes().put( kind, "test" );
+        assertThat( le.getAdditionalAttributes().get( kind ), is( "test" ) );
+    }
+
     @Test
     public void testLoadingDecisionServices() {
         final DMNMarshaller DMNMarshaller = DMNMarshallerFactory.newMarshallerWithExtensions(Arrays.asList(new DecisionServicesExtensionRegister()));
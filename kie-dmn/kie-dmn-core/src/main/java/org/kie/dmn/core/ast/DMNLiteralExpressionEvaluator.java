@@ -69,6 +69,15 @@ public class DMNLiteralExpressionEvaluator
         }
     }
 
+    /**
+     * Creates an evaluator of an expression whose kind is already known, as the ones generated at build time
+     */
+    public DMNLiteralExpressionEvaluator(CompiledExpression expression, LiteralExpression expressionNode, boolean isFunctionDef) {
+        this.expressionNode = expressionNode;
+        this.expression = expression;
+        this.isFunctionDef = isFunctionDef;
+    }
+
     public boolean isFunctionDefinition() {
         return isFunctionDef;
     }
@@ -81,6 +81,12 @@ public class DMNCompilerConfigurationImpl implements DMNCompilerConfiguration {
             return (T) new CoerceDecisionServiceSingletonOutputOption(properties.get(CoerceDecisionServiceSingletonOutputOption.PROPERTY_NAME));
         } else if (ExecModelCompilerOption.class.equals(option)) {
             return (T) new ExecModelCompilerOption(properties.get(ExecModelCompilerOption.PROPERTY_NAME));
+        } else if (ParallelEvaluationOption.class.equals(option)) {
+            return (T) new ParallelEvaluationOption(properties.get(ParallelEvaluationOption.PROPERTY_NAME));
+        } else if (DecisionCacheOption.class.equals(option)) {
+            return (T) new DecisionCacheOption(properties.get(DecisionCacheOption.PROPERTY_NAME),
+                                               properties.get(DecisionCacheOption.MAX_SIZE_PROPERTY_NAME),
+                                               properties.get(DecisionCacheOption.TTL_PROPERTY_NAME));
         }
         return null;
     }
@@ -66,6 +66,7 @@ import org.kie.dmn.core.compiler.ImportDMNResolverUtil.ImportType;
 import org.kie.dmn.core.impl.BaseDMNTypeImpl;
 import org.kie.dmn.core.impl.CompositeTypeImpl;
 import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.core.impl.DecisionCache;
 import org.kie.dmn.core.impl.SimpleTypeImpl;
 import org.kie.dmn.core.pmml.DMNImportPMMLInfo;
 import org.kie.dmn.core.util.Msg;
@@ -241,6 +242,12 @@ public class DMNCompilerImpl implements DMNCompiler {
 
         processItemDefinitions(ctx, model, dmndefs);
         processDrgElements(ctx, model, dmndefs);
+        model.setParallelEvaluation(cc.getOption(ParallelEvaluationOption.class).isParallelEvaluation());
+        model.computeDecisionLevels();
+        DecisionCacheOption decisionCacheOption = cc.getOption(DecisionCacheOption.class);
+        if (decisionCacheOption.isEnabledForModel(model.getName()) && !model.hasErrors()) {
+            model.setDecisionCache(new DecisionCache(model, decisionCacheOption));
+        }
         return model;
     }
 
@@ -60,6 +60,7 @@ import org.kie.dmn.feel.lang.CompiledExpression;
 import org.kie.dmn.feel.lang.impl.RootExecutionFrame;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTestImpl;
 import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
 import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
 import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
@@ -689,10 +690,12 @@ public class DMNEvaluatorCompiler {
                         ctx.exitFrame();
                     }
                 }
-                rule.getInputEntry().add( (c, x) -> tests.stream().anyMatch( t -> {
+                // the text of the input entry allows the decision table to index it
+                UnaryTest inputEntry = (c, x) -> tests.stream().anyMatch( t -> {
                     Boolean result = t.apply( c, x );
                     return result != null && result;
-                } ) );
+                } );
+                rule.getInputEntry().add( new UnaryTestImpl( inputEntry, ut != null ? ut.getText() : null ) );
             }
             for ( LiteralExpression le : dr.getOutputEntry() ) {
                 String expressionText = le.getText();
@@ -871,7 +874,7 @@ public class DMNEvaluatorCompiler {
         }
     }
 
-    private DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
         DMNLiteralExpressionEvaluator evaluator = null;
         if (expression.getExpressionLanguage() == null || expression.getExpressionLanguage().equals(expression.getURIFEEL())) {
             String exprText = expression.getText();
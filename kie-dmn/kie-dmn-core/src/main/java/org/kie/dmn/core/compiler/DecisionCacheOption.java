@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Enables the caching of the results of the decisions, keyed on the values of the input data each decision transitively
+ * depends on. The value of the option is either "true", to cache all the decisions of all the models, or a comma separated
+ * list of model names, to cache all the decisions of those models, and of model name#decision name pairs, to cache only the
+ * given decisions. A decision should be cached only when its result is fully determined by its inputs: for instance not if
+ * it uses the current date or time, and its input values should not be mutated once evaluated. On a cache hit the events
+ * fired while evaluating the expression of the decision, like the decision table ones, are not fired.
+ */
+public class DecisionCacheOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.decisionCache";
+
+    /**
+     * The maximum number of results cached per decision
+     */
+    public static final String MAX_SIZE_PROPERTY_NAME = PROPERTY_NAME + ".maxSize";
+
+    /**
+     * The time to live of the cached results in milliseconds, 0 to never expire them
+     */
+    public static final String TTL_PROPERTY_NAME = PROPERTY_NAME + ".ttl";
+
+    /**
+     * The default value for this option
+     */
+    public static final String DEFAULT_VALUE = "false";
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    public static final long DEFAULT_TTL = 0;
+
+    private final String value;
+    private final boolean allDecisions;
+    private final Set<String> cachedNames;
+    private final int maxSize;
+    private final long ttl;
+
+    public DecisionCacheOption(boolean value) {
+        this(String.valueOf(value), DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    public DecisionCacheOption(String value, String maxSize, String ttl) {
+        this(value, maxSize == null ? DEFAULT_MAX_SIZE : Integer.parseInt(maxSize.trim()), ttl == null ? DEFAULT_TTL : Long.parseLong(ttl.trim()));
+    }
+
+    public DecisionCacheOption(String value, int maxSize, long ttl) {
+        String option = value == null ? DEFAULT_VALUE : value.trim();
+        this.value = option;
+        this.allDecisions = Boolean.parseBoolean(option);
+        this.cachedNames = allDecisions || option.isEmpty() || option.equalsIgnoreCase("false") ?
+                Collections.emptySet() :
+                Collections.unmodifiableSet(Arrays.stream(option.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toCollection(LinkedHashSet::new)));
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isEnabled() {
+        return allDecisions || !cachedNames.isEmpty();
+    }
+
+    public boolean isEnabledForModel(String modelName) {
+        return allDecisions || cachedNames.contains(modelName) || cachedNames.stream().anyMatch(n -> n.startsWith(modelName + "#"));
+    }
+
+    public boolean isEnabledForDecision(String modelName, String decisionName) {
+        return allDecisions || cachedNames.contains(modelName) || cachedNames.contains(modelName + "#" + decisionName);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * When enabled, the independent decisions of a model are evaluated concurrently: the decisions are grouped by their depth
+ * in the decision graph at compile time, and the decisions of the same depth are evaluated in parallel. Only worth for models
+ * with several expensive decisions not depending on each other. Models importing other models or containing decision
+ * services, and runtimes with registered listeners, are always evaluated sequentially.
+ */
+public class ParallelEvaluationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.parallelEvaluation";
+
+    /**
+     * The default value for this option
+     */
+    public static final boolean DEFAULT_VALUE = false;
+
+    private final boolean parallelEvaluation;
+
+    public ParallelEvaluationOption(boolean value) {
+        this.parallelEvaluation = value;
+    }
+
+    public ParallelEvaluationOption(String value) {
+        this.parallelEvaluation = value == null ? DEFAULT_VALUE : Boolean.valueOf(value);
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+}
@@ -5,8 +5,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.drools.core.util.IoUtils;
 
@@ -15,6 +17,7 @@ public class DMNRuleClassFile {
     public final static String RULE_CLASS_FILE_NAME = "META-INF/kie/dmn";
     private ClassLoader classLoader;
     private List<String> classFile;
+    private Set<String> compiledClasses;
 
     public DMNRuleClassFile(ClassLoader classLoader) {
         this.classLoader = classLoader;
@@ -49,6 +52,10 @@ public class DMNRuleClassFile {
     }
 
     public Optional<String> getCompiledClass(String className) {
-        return getClassFile().stream().filter(ms -> ms.equals(className)).findFirst();
+        // looked up once per compiled expression, so the index is not scanned every time
+        if (compiledClasses == null) {
+            compiledClasses = new HashSet<>(getClassFile());
+        }
+        return compiledClasses.contains(className) ? Optional.of(className) : Optional.empty();
     }
 }
@@ -20,11 +20,14 @@ import java.util.Optional;
 
 import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
 import org.kie.dmn.core.compiler.DMNCompilerContext;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNEvaluatorCompiler;
 import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.LiteralExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,4 +69,26 @@ public class ExecModelDMNClassLoaderCompiler extends DMNEvaluatorCompiler {
             }
         }).orElseThrow(() -> new RuntimeException("No evaluator class found in file: " + dmnRuleClassFile));
     }
+
+    @Override
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+        if (!LiteralExpressionSourceGenerator.isEnabled(compiler)) {
+            return super.compileLiteralExpression(ctx, model, node, exprName, expression);
+        }
+        String literalExpressionClassName = LiteralExpressionSourceGenerator.getGeneratedClassName(model, exprName, expression);
+        Optional<String> generatedClass = dmnRuleClassFile.getCompiledClass(literalExpressionClassName);
+        if (!generatedClass.isPresent()) {
+            // function definitions, and the kjars built before literal expressions were generated, are compiled as usual
+            return super.compileLiteralExpression(ctx, model, node, exprName, expression);
+        }
+        try {
+            Class<?> literalExpressionClass = getRootClassLoader().loadClass(generatedClass.get());
+            CompiledFEELExpression compiledExpression = (CompiledFEELExpression) literalExpressionClass.getField(LiteralExpressionSourceGenerator.EXPRESSION_INSTANCE_NAME).get(null);
+
+            logger.debug("Read compiled literal expression from class loader: " + literalExpressionClassName);
+            return new DMNLiteralExpressionEvaluator(compiledExpression, expression, false);
+        } catch (IllegalAccessException | NoSuchFieldException | ClassNotFoundException e) {
+            throw new RuntimeException("Cannot instantiate class" + e);
+        }
+    }
 }
@@ -40,6 +40,7 @@ import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.model.api.DMNModelInstrumentedBase;
 import org.kie.dmn.model.api.DRGElement;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.Expression;
 import org.kie.internal.jci.CompilationProblem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,14 +93,22 @@ public class ExecModelDMNEvaluatorCompiler extends DMNEvaluatorCompiler {
     }
 
     protected static String getDecisionTableName(String dtName, DecisionTable dt) {
+        return getExpressionName(dtName, dt);
+    }
+
+    /**
+     * Returns the name identifying the given expression in its model: the name of its DRG element when it is the
+     * top level one, otherwise its id or, in absence of it, its path from the DRG element
+     */
+    protected static String getExpressionName(String exprName, Expression expression) {
         String decisionName;
-        if (dt.getParent() instanceof DRGElement) {
-            decisionName = dtName;
+        if (expression.getParent() instanceof DRGElement) {
+            decisionName = exprName;
         } else {
-            if (dt.getId() != null) {
-                decisionName = dt.getId();
+            if (expression.getId() != null) {
+                decisionName = expression.getId();
             } else {
-                DMNModelInstrumentedBase cursor = dt;
+                DMNModelInstrumentedBase cursor = expression;
                 List<String> path = new ArrayList<>();
                 while (!(cursor instanceof DRGElement)) {
                     int indexOf = cursor.getParent().getChildren().indexOf(cursor);
@@ -17,6 +17,7 @@
 package org.kie.dmn.core.compiler.execmodelbased;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
@@ -24,10 +25,12 @@ import org.kie.dmn.api.core.AfterGeneratingSourcesListener;
 import org.kie.dmn.api.core.GeneratedSource;
 import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
 import org.kie.dmn.core.compiler.DMNCompilerContext;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.LiteralExpression;
 
 public class ExecModelDMNMavenSourceCompiler extends ExecModelDMNEvaluatorCompiler {
     private GeneratorsEnum[] ALL_GENERATORS = new GeneratorsEnum[] {
@@ -57,6 +60,34 @@ public class ExecModelDMNMavenSourceCompiler extends ExecModelDMNEvaluatorCompil
         return null;
     }
 
+    @Override
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+        DMNExpressionEvaluator evaluator = super.compileLiteralExpression(ctx, model, node, exprName, expression);
+        // function definitions are left to the runtime, which compiles them into FEEL functions
+        if (LiteralExpressionSourceGenerator.isEnabled(compiler) && evaluator instanceof DMNLiteralExpressionEvaluator && !((DMNLiteralExpressionEvaluator) evaluator).isFunctionDefinition()) {
+            generateLiteralExpression(ctx, model, exprName, expression);
+        }
+        return evaluator;
+    }
+
+    private void generateLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, String exprName, LiteralExpression expression) {
+        String javaSource;
+        try {
+            javaSource = new LiteralExpressionSourceGenerator().generate(ctx, model, exprName, expression);
+        } catch (RuntimeException e) {
+            // the expression is compiled at runtime as when it is not found in the kjar
+            logger.debug("Unable to generate the source of the literal expression " + exprName + ", it will be compiled at runtime", e);
+            return;
+        }
+        String className = LiteralExpressionSourceGenerator.getGeneratedClassName(model, exprName, expression);
+        String fileName = "src/main/java/" + className.replace('.', '/') + ".java";
+        List<GeneratedSource> generatedSources = Collections.singletonList(new GeneratedSource(fileName, javaSource));
+
+        for(AfterGeneratingSourcesListener listener : afterGeneratingSourcesListeners) {
+            listener.accept(generatedSources);
+        }
+    }
+
     public AbstractModelEvaluator generateEvaluator( DMNCompilerContext ctx, DTableModel dTableModel ) {
 
         MemoryFileSystem srcMfs = new MemoryFileSystem();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.compiler.DMNCompilerContext;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.compiler.ExecModelCompilerOption;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.model.api.LiteralExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.dmn.core.compiler.execmodelbased.FeelExpressionSourceGenerator.instanceName;
+
+/**
+ * Generates the class holding the compiled FEEL of a literal expression, so that it can be built into the kjar
+ * together with the decision tables and loaded by {@link ExecModelDMNClassLoaderCompiler} instead of being parsed and
+ * compiled again at runtime.
+ * <p>
+ * The generated classes evaluate the expressions with the FEEL codegen backend instead of the interpreted one, so they
+ * are generated and loaded only when {@link ExecModelCompilerOption} is enabled, both when the kjar is built and when
+ * it is loaded: otherwise the literal expressions are interpreted as usual.
+ */
+public class LiteralExpressionSourceGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiteralExpressionSourceGenerator.class);
+
+    static final String TYPE = "LiteralExpression";
+    static final String EXPRESSION_CLASS_NAME = "Expression";
+    static final String EXPRESSION_INSTANCE_NAME = instanceName(EXPRESSION_CLASS_NAME);
+
+    /**
+     * @return whether the literal expressions of the models built by the given compiler are compiled with the FEEL
+     * codegen backend, as enabled by {@link ExecModelCompilerOption}
+     */
+    static boolean isEnabled(DMNCompilerImpl compiler) {
+        return ((DMNCompilerConfigurationImpl) compiler.getDmnCompilerConfig()).isUseExecModelCompiler();
+    }
+
+    public static String getGeneratedClassName(DMNModelImpl model, String exprName, LiteralExpression expression) {
+        return getPackageName(model) + "." + getClassName(model, exprName, expression) + TYPE;
+    }
+
+    private static String getPackageName(DMNModelImpl model) {
+        return CodegenStringUtil.escapeIdentifier(model.getNamespace());
+    }
+
+    private static String getClassName(DMNModelImpl model, String exprName, LiteralExpression expression) {
+        // the models sharing a namespace generate their classes in the same package
+        return CodegenStringUtil.escapeIdentifier(model.getName() + "/" + ExecModelDMNEvaluatorCompiler.getExpressionName(exprName, expression));
+    }
+
+    public String generate(DMNCompilerContext ctx, DMNModelImpl model, String exprName, LiteralExpression expression) {
+        String pkgName = getPackageName(model);
+        String className = getClassName(model, exprName, expression);
+
+        JavaParserSourceGenerator sourceGenerator = new JavaParserSourceGenerator(className, TYPE, pkgName);
+        sourceGenerator.addImports(org.kie.dmn.feel.codegen.feel11.CompiledCustomFEELFunction.class,
+                                   org.kie.dmn.feel.codegen.feel11.CompiledFEELSupport.class,
+                                   EvaluationContext.class,
+                                   CompiledFEELExpression.class);
+        sourceGenerator.addStaticImportStar(org.kie.dmn.feel.codegen.feel11.CompiledFEELSemanticMappings.class);
+
+        CompilerContext compilerContext = ctx.toCompilerContext();
+        compilerContext.setFEELTypeRegistry(model.getTypeRegistry());
+        sourceGenerator.addInnerClassWithName(ctx.getFeelHelper().generateFeelExpressionSource(expression.getText(), compilerContext), EXPRESSION_CLASS_NAME);
+        sourceGenerator.addField(EXPRESSION_CLASS_NAME, CompiledFEELExpression.class, EXPRESSION_INSTANCE_NAME);
+
+        String source = sourceGenerator.getSource();
+        if (logger.isDebugEnabled()) {
+            logger.debug(className + ":\n" + source);
+        }
+        return source;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+/**
+ * Iterates over the results of the evaluation of a batch of contexts, submitting the evaluations to an executor
+ * while the results are consumed. The contexts are pulled from the source only by the consuming thread, and no more than
+ * a fixed number of evaluations are in flight, or completed but not yet consumed, at any time.
+ * The results are returned in the order of the contexts.
+ */
+class BatchEvaluationIterator implements Iterator<DMNResult> {
+
+    private final Iterator<DMNContext> contexts;
+    private final Function<DMNContext, DMNResult> evaluator;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    private final Deque<CompletableFuture<DMNResult>> inFlight = new ArrayDeque<>();
+
+    BatchEvaluationIterator(Iterator<DMNContext> contexts, Function<DMNContext, DMNResult> evaluator) {
+        this(contexts, evaluator, ForkJoinPool.commonPool(), 2 * Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    BatchEvaluationIterator(Iterator<DMNContext> contexts, Function<DMNContext, DMNResult> evaluator, Executor executor, int maxInFlight) {
+        this.contexts = contexts;
+        this.evaluator = evaluator;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public boolean hasNext() {
+        submit();
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public DMNResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CompletableFuture<DMNResult> result = inFlight.poll();
+        // refill the window before waiting, so that the pool is kept busy while this thread is blocked
+        submit();
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            cancel();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels the evaluations not yet started, when the consumer stops before the end of the batch
+     */
+    void cancel() {
+        for (CompletableFuture<DMNResult> result : inFlight) {
+            result.cancel(false);
+        }
+        inFlight.clear();
+    }
+
+    private void submit() {
+        while (inFlight.size() < maxInFlight && contexts.hasNext()) {
+            DMNContext context = contexts.next();
+            inFlight.add(CompletableFuture.supplyAsync(() -> evaluator.apply(context), executor));
+        }
+    }
+}
@@ -94,6 +94,18 @@ public class DMNModelImpl
      * a compile-time preference to indicate if type-check should be performed during runtime evaluation. 
      */
     private boolean runtimeTypeCheck = false;
+    /**
+     * a compile-time preference to indicate if the independent decisions should be evaluated concurrently during runtime evaluation.
+     */
+    private boolean parallelEvaluation = false;
+    /**
+     * the decisions grouped by their depth in the decision graph, or null if the model can't be evaluated in parallel.
+     */
+    private List<List<DecisionNode>> decisionLevels;
+    /**
+     * the cache of the results of the decisions, or null if not enabled for this model.
+     */
+    private DecisionCache decisionCache;
 
     private Map<String, QName> importAliases = new HashMap<>();
     private ImportChain importChain;
@@ -409,6 +421,83 @@ public class DMNModelImpl
         this.runtimeTypeCheck = runtimeTypeCheck;
     }
 
+    /**
+     * @return a compile-time preference to indicate if the independent decisions should be evaluated concurrently during runtime evaluation.
+     */
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.parallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * @return the cache of the results of the decisions of this model, or null if not enabled.
+     */
+    public DecisionCache getDecisionCache() {
+        return decisionCache;
+    }
+
+    public void setDecisionCache(DecisionCache decisionCache) {
+        this.decisionCache = decisionCache;
+    }
+
+    /**
+     * @return the decisions of this model grouped by their depth in the decision graph, each decision depending only on
+     * the decisions of the previous levels, or null if this model can't be evaluated in parallel.
+     */
+    public List<List<DecisionNode>> getDecisionLevels() {
+        return decisionLevels;
+    }
+
+    /**
+     * Topologically orders the decisions of this model, grouping them by their depth in the decision graph. The decisions of
+     * each level are kept in the order they are defined in the model, so that their parallel evaluation is deterministic.
+     */
+    public void computeDecisionLevels() {
+        this.decisionLevels = null;
+        if (!importAliases.isEmpty() || !decisionServices.isEmpty()) {
+            // imported decisions and decision services are evaluated in their own scope
+            return;
+        }
+        Map<DecisionNode, Integer> depths = new HashMap<>();
+        List<List<DecisionNode>> levels = new ArrayList<>();
+        for (DecisionNode decision : decisions.values()) {
+            int depth = computeDecisionDepth(decision, depths);
+            if (depth < 0) {
+                // cyclic dependency, already reported at compile time
+                return;
+            }
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(decision);
+        }
+        this.decisionLevels = Collections.unmodifiableList(levels);
+    }
+
+    private static int computeDecisionDepth(DecisionNode decision, Map<DecisionNode, Integer> depths) {
+        Integer depth = depths.get(decision);
+        if (depth != null) {
+            // -1 when the decision is still being visited
+            return depth;
+        }
+        depths.put(decision, -1);
+        int result = 0;
+        for (DMNNode dependency : ((DecisionNodeImpl) decision).getDependencies().values()) {
+            if (dependency instanceof DecisionNode) {
+                int dependencyDepth = computeDecisionDepth((DecisionNode) dependency, depths);
+                if (dependencyDepth < 0) {
+                    return -1;
+                }
+                result = Math.max(result, dependencyDepth + 1);
+            }
+        }
+        depths.put(decision, result);
+        return result;
+    }
+
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(serializedAs);
@@ -456,6 +545,9 @@ public class DMNModelImpl
         this.messages  = compiledModel.messages  ;
         this.types     = compiledModel.types     ;
         this.runtimeTypeCheck = compiledModel.runtimeTypeCheck;
+        this.parallelEvaluation = compiledModel.parallelEvaluation;
+        this.decisionLevels = compiledModel.decisionLevels;
+        this.decisionCache = compiledModel.decisionCache;
         this.importAliases = compiledModel.importAliases;
     }
 
@@ -16,14 +16,22 @@
 
 package org.kie.dmn.core.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.namespace.QName;
 
@@ -50,9 +58,11 @@ import org.kie.dmn.core.ast.DMNDecisionServiceEvaluator;
 import org.kie.dmn.core.ast.DMNFunctionWithReturnType;
 import org.kie.dmn.core.ast.DecisionNodeImpl;
 import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
+import org.kie.dmn.core.ast.EvaluatorResultImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -72,6 +82,7 @@ public class DMNRuntimeImpl
     private final DMNRuntimeKB runtimeKB;
 
     private boolean overrideRuntimeTypeCheck = false;
+    private boolean overrideParallelEvaluation = false;
 
     public DMNRuntimeImpl(DMNRuntimeKB runtimeKB) {
         this.runtimeKB = runtimeKB != null ? runtimeKB : new VoidDMNRuntimeKB();
@@ -104,18 +115,104 @@ public class DMNRuntimeImpl
     public DMNResult evaluateAll(DMNModel model, DMNContext context) {
         Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+        return evaluateAll(model, context, getLocalDecisions(model), performRuntimeTypeCheck(model));
+    }
+
+    /**
+     * Evaluates the contexts of the batch on the common fork-join pool, keeping at most twice as many evaluations in flight
+     * as the parallelism of the pool, so that the memory used is bounded regardless of the size of the batch. The decisions to
+     * evaluate and the runtime type check option are resolved once for the whole batch.
+     */
+    @Override
+    public Stream<DMNResult> evaluateAll(DMNModel model, Stream<DMNContext> contexts) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        Objects.requireNonNull(contexts, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "contexts"));
+        Set<DecisionNode> decisions = getLocalDecisions(model);
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
-        DMNResultImpl result = createResult( model, context );
+        BatchEvaluationIterator results = new BatchEvaluationIterator(contexts.iterator(), context -> {
+            Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+            return evaluateAll(model, context, decisions, performRuntimeTypeCheck);
+        });
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(results::cancel)
+                            .onClose(contexts::close);
+    }
+
+    private DMNResult evaluateAll(DMNModel model, DMNContext context, Set<DecisionNode> decisions, boolean performRuntimeTypeCheck) {
+        DMNResultImpl result = createResult( model, context, decisions );
         DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll( eventManager, model, result );
-        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
-        Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
-        for( DecisionNode decision : decisions ) {
-            evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+        if (performParallelEvaluation(model)) {
+            evaluateDecisionLevels(context, result, ((DMNModelImpl) model).getDecisionLevels(), performRuntimeTypeCheck);
+        } else {
+            for( DecisionNode decision : decisions ) {
+                evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+            }
         }
         DMNRuntimeEventManagerUtils.fireAfterEvaluateAll( eventManager, model, result );
         return result;
     }
 
+    /**
+     * Evaluates the decisions of each level concurrently, every one on its own copy of the result, then merges the copies back
+     * in the order of the decisions in the level, so that the context and the messages of the result don't depend on the scheduling.
+     */
+    private void evaluateDecisionLevels(DMNContext context, DMNResultImpl result, List<List<DecisionNode>> levels, boolean typeCheck) {
+        for (List<DecisionNode> level : levels) {
+            if (level.size() == 1) {
+                evaluateDecision(context, result, level.get(0), typeCheck);
+                continue;
+            }
+            List<DMNResultImpl> forks = new ArrayList<>(level.size());
+            List<CompletableFuture<Boolean>> evaluations = new ArrayList<>(level.size() - 1);
+            for (int i = 0; i < level.size(); i++) {
+                DMNResultImpl fork = forkResult(result);
+                forks.add(fork);
+                if (i > 0) {
+                    DecisionNode decision = level.get(i);
+                    evaluations.add(CompletableFuture.supplyAsync(() -> evaluateDecision(context, fork, decision, typeCheck), ForkJoinPool.commonPool()));
+                }
+            }
+            // the first decision of the level is evaluated by the calling thread
+            evaluateDecision(context, forks.get(0), level.get(0), typeCheck);
+            try {
+                evaluations.forEach(CompletableFuture::join);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            for (DMNResultImpl fork : forks) {
+                for (Map.Entry<String, Object> entry : fork.getContext().getAll().entrySet()) {
+                    if (!result.getContext().isDefined(entry.getKey())) {
+                        result.getContext().set(entry.getKey(), entry.getValue());
+                    }
+                }
+                result.addAll(fork.getMessages());
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the result with its own context and messages, sharing the decision results, as the evaluation of a decision
+     * only updates its own decision result.
+     */
+    private static DMNResultImpl forkResult(DMNResultImpl result) {
+        DMNResultImpl fork = new DMNResultImpl(result.getModel());
+        fork.setContext(result.getContext().clone());
+        for (DMNDecisionResult decisionResult : result.getDecisionResults()) {
+            fork.addDecisionResult(decisionResult);
+        }
+        return fork;
+    }
+
+    /**
+     * The engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
+     */
+    private static Set<DecisionNode> getLocalDecisions(DMNModel model) {
+        return model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+    }
+
     @Override
     @Deprecated
     public DMNResult evaluateDecisionByName(DMNModel model, String decisionName, DMNContext context) {
@@ -227,10 +324,14 @@ public class DMNRuntimeImpl
     }
 
     private DMNResultImpl createResult(DMNModel model, DMNContext context) {
+        return createResult(model, context, getLocalDecisions(model));
+    }
+
+    private DMNResultImpl createResult(DMNModel model, DMNContext context, Set<DecisionNode> decisions) {
         DMNResultImpl result = new DMNResultImpl(model);
         result.setContext( context.clone() );
 
-        for (DecisionNode decision : model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet())) {
+        for (DecisionNode decision : decisions) {
             result.addDecisionResult(new DMNDecisionResultImpl(decision.getId(), decision.getName()));
         }
         return result;
@@ -648,7 +749,7 @@ public class DMNRuntimeImpl
                 return false;
             }
             try {
-                EvaluatorResult er = decision.getEvaluator().evaluate( this, result );
+                EvaluatorResult er = evaluateDecisionExpression( decision, result );
                 if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
                     Object value = er.getResult();
                     if( ! decision.getResultType().isCollection() && value instanceof Collection &&
@@ -712,6 +813,35 @@ public class DMNRuntimeImpl
         }
     }
 
+    /**
+     * Evaluates the expression of the decision, looking up first the decision cache of the model when it is enabled for the decision.
+     * Only the successful evaluations not reporting any message are cached. A cached result skips the events fired while evaluating
+     * the expression, like the ones of the decision tables and of the BKMs, so the cache is bypassed when there are listeners.
+     * The key includes the values of the upstream decisions found in the context rather than evaluated, see {@link DecisionCache}.
+     */
+    private EvaluatorResult evaluateDecisionExpression(DecisionNodeImpl decision, DMNResultImpl result) {
+        DecisionCache cache = ((DMNModelImpl) result.getModel()).getDecisionCache();
+        if (cache == null || eventManager.hasListeners() || result.getContext().scopeNamespace().isPresent() ||
+                !decision.getModelNamespace().equals(result.getModel().getNamespace())) {
+            return decision.getEvaluator().evaluate(this, result);
+        }
+        DecisionCache.Entries entries = cache.getEntries(decision.getId());
+        List<Object> key = entries != null ? entries.keyOf(result) : null;
+        if (key == null) {
+            return decision.getEvaluator().evaluate(this, result);
+        }
+        DecisionCache.CachedResult cached = entries.get(key);
+        if (cached != null) {
+            return new EvaluatorResultImpl(cached.getValue(), EvaluatorResult.ResultType.SUCCESS);
+        }
+        int messages = result.getMessages().size();
+        EvaluatorResult er = decision.getEvaluator().evaluate(this, result);
+        if (er.getResultType() == EvaluatorResult.ResultType.SUCCESS && result.getMessages().size() == messages) {
+            entries.put(key, er.getResult());
+        }
+        return er;
+    }
+
     private boolean checkDependencyValueIsValid(DMNNode dep, DMNResultImpl result) {
         if (dep instanceof InputDataNode) {
             InputDataNodeImpl inputDataNode = (InputDataNodeImpl) dep;
@@ -745,9 +875,21 @@ public class DMNRuntimeImpl
         return overrideRuntimeTypeCheck || ((DMNModelImpl) model).isRuntimeTypeCheck();
     }
 
+    /**
+     * The decisions are evaluated in parallel only when no listener is registered, as the events would otherwise be fired
+     * in a non deterministic order.
+     */
+    public boolean performParallelEvaluation(DMNModel model) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        DMNModelImpl modelImpl = (DMNModelImpl) model;
+        return (overrideParallelEvaluation || modelImpl.isParallelEvaluation()) && modelImpl.getDecisionLevels() != null && !eventManager.hasListeners();
+    }
+
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.overrideParallelEvaluation = ((ParallelEvaluationOption) option).isParallelEvaluation();
         }
     }
 
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.ast.InputDataNode;
+import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
+import org.kie.dmn.core.ast.DecisionNodeImpl;
+import org.kie.dmn.core.compiler.DecisionCacheOption;
+import org.kie.dmn.feel.lang.types.impl.ComparablePeriod;
+
+/**
+ * The cache of the results of the decisions of a model, keyed on the values of the input data each decision transitively
+ * depends on, created at compile time when the {@link DecisionCacheOption} is enabled for the model.
+ * The upstream decisions whose values were not evaluated out of those input data, because they were set in the context
+ * by the caller or passed as input decisions of a decision service, are part of the key as well.
+ *
+ * Each decision has its own least recently used cache, bounded in size and, optionally, expiring the results after a given
+ * time. The cache is shared by all the evaluations of the model, so it can be accessed concurrently.
+ *
+ * Only the inputs and the results of immutable types, like numbers, strings, booleans and the temporal types, are cached:
+ * a context, a list or a Java object could be modified after having been cached, either as a key or as a result.
+ */
+public class DecisionCache {
+
+    private static final Object UNDEFINED = new Object();
+    private static final Object EVALUATED = new Object();
+
+    private final Map<String, Entries> entriesById;
+
+    public DecisionCache(DMNModelImpl model, DecisionCacheOption option) {
+        Map<String, Entries> entries = new HashMap<>();
+        for (DecisionNode decision : model.getDecisions()) {
+            if (!decision.getModelNamespace().equals(model.getNamespace()) || !option.isEnabledForDecision(model.getName(), decision.getName())) {
+                continue;
+            }
+            Set<String> inputs = new TreeSet<>();
+            boolean localInputs = true;
+            for (InputDataNode input : model.getRequiredInputsForDecisionId(decision.getId())) {
+                // imported input data are resolved through the import alias, they are not supported
+                localInputs &= input.getModelNamespace().equals(model.getNamespace());
+                inputs.add(input.getName());
+            }
+            Map<String, DecisionNode> upstream = new LinkedHashMap<>();
+            collectUpstreamDecisions(((DecisionNodeImpl) decision).getDependencies().values(), upstream);
+            for (DecisionNode upstreamDecision : upstream.values()) {
+                localInputs &= upstreamDecision.getModelNamespace().equals(model.getNamespace());
+            }
+            if (localInputs) {
+                entries.put(decision.getId(), new Entries(decision.getName(), new ArrayList<>(inputs), new ArrayList<>(upstream.values()),
+                                                          option.getMaxSize(), option.getTtl()));
+            }
+        }
+        this.entriesById = Collections.unmodifiableMap(entries);
+    }
+
+    private static void collectUpstreamDecisions(Collection<DMNNode> dependencies, Map<String, DecisionNode> upstream) {
+        for (DMNNode dependency : dependencies) {
+            if (dependency instanceof DecisionNode) {
+                if (upstream.putIfAbsent(dependency.getId(), (DecisionNode) dependency) == null) {
+                    collectUpstreamDecisions(((DecisionNodeImpl) dependency).getDependencies().values(), upstream);
+                }
+            } else if (dependency instanceof BusinessKnowledgeModelNode) {
+                collectUpstreamDecisions(((BusinessKnowledgeModelNodeImpl) dependency).getDependencies().values(), upstream);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached results of the given decision, or null if the decision is not cached
+     */
+    Entries getEntries(String decisionId) {
+        return entriesById.get(decisionId);
+    }
+
+    public long getHitCount(String decisionName) {
+        Entries entries = getEntriesByName(decisionName);
+        return entries != null ? entries.hits.sum() : 0;
+    }
+
+    public long getMissCount(String decisionName) {
+        Entries entries = getEntriesByName(decisionName);
+        return entries != null ? entries.misses.sum() : 0;
+    }
+
+    public long getEvictionCount(String decisionName) {
+        Entries entries = getEntriesByName(decisionName);
+        return entries != null ? entries.evictions.sum() : 0;
+    }
+
+    public int size(String decisionName) {
+        Entries entries = getEntriesByName(decisionName);
+        return entries != null ? entries.size() : 0;
+    }
+
+    public void clear() {
+        entriesById.values().forEach(Entries::clear);
+    }
+
+    private Entries getEntriesByName(String decisionName) {
+        return entriesById.values().stream().filter(e -> e.decisionName.equals(decisionName)).findFirst().orElse(null);
+    }
+
+    static boolean isImmutable(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean ||
+                value instanceof BigDecimal || value instanceof BigInteger || value instanceof Integer || value instanceof Long || value instanceof Double ||
+                value instanceof LocalDate || value instanceof LocalTime || value instanceof LocalDateTime || value instanceof OffsetTime ||
+                value instanceof OffsetDateTime || value instanceof ZonedDateTime || value instanceof Duration || value instanceof Period ||
+                value instanceof ComparablePeriod;
+    }
+
+    static class CachedResult {
+        private final Object value;
+        private final long expiration;
+
+        private CachedResult(Object value, long expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+
+        Object getValue() {
+            return value;
+        }
+    }
+
+    static class Entries {
+
+        private final String decisionName;
+        private final List<String> inputs;
+        private final List<DecisionNode> upstreamDecisions;
+        private final long ttlNanos;
+        private final Map<List<Object>, CachedResult> results;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        private Entries(String decisionName, List<String> inputs, List<DecisionNode> upstreamDecisions, int maxSize, long ttl) {
+            this.decisionName = decisionName;
+            this.inputs = inputs;
+            this.upstreamDecisions = upstreamDecisions;
+            this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+            this.results = new LinkedHashMap<List<Object>, CachedResult>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResult> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Returns the values of the input data the decision depends on, distinguishing the undefined inputs from the null ones,
+         * followed by the values of the upstream decisions not evaluated out of those input data, or null if any of them is
+         * of a mutable type
+         */
+        List<Object> keyOf(DMNResultImpl result) {
+            DMNContext context = result.getContext();
+            List<Object> key = new ArrayList<>(inputs.size() + upstreamDecisions.size());
+            for (String input : inputs) {
+                if (!addValue(key, context, input)) {
+                    return null;
+                }
+            }
+            for (DecisionNode decision : upstreamDecisions) {
+                DMNDecisionResult decisionResult = result.getDecisionResultById(decision.getId());
+                if (decisionResult != null && decisionResult.getEvaluationStatus() == DMNDecisionResult.DecisionEvaluationStatus.SUCCEEDED) {
+                    key.add(EVALUATED);
+                } else if (!addValue(key, context, decision.getName())) {
+                    return null;
+                }
+            }
+            return key;
+        }
+
+        private static boolean addValue(List<Object> key, DMNContext context, String name) {
+            if (!context.isDefined(name)) {
+                key.add(UNDEFINED);
+                return true;
+            }
+            Object value = context.get(name);
+            if (!isImmutable(value)) {
+                return false;
+            }
+            key.add(value);
+            return true;
+        }
+
+        CachedResult get(List<Object> key) {
+            CachedResult result;
+            synchronized (results) {
+                result = results.get(key);
+                if (result != null && ttlNanos > 0 && System.nanoTime() - result.expiration > 0) {
+                    results.remove(key);
+                    evictions.increment();
+                    result = null;
+                }
+            }
+            if (result != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return result;
+        }
+
+        void put(List<Object> key, Object value) {
+            if (!isImmutable(value)) {
+                return;
+            }
+            CachedResult result = new CachedResult(value, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0);
+            synchronized (results) {
+                results.put(key, result);
+            }
+        }
+
+        int size() {
+            synchronized (results) {
+                return results.size();
+            }
+        }
+
+        void clear() {
+            synchronized (results) {
+                results.clear();
+            }
+        }
+    }
+}
@@ -43,6 +43,9 @@ import org.kie.dmn.core.assembler.DMNResourceDependenciesSorter;
 import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.DecisionCacheOption;
+import org.kie.dmn.core.compiler.ExecModelCompilerOption;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.compiler.profiles.ExtendedDMNProfile;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
@@ -108,6 +111,23 @@ public class DMNRuntimeBuilder {
         return this;
     }
 
+    public DMNRuntimeBuilder setOption(ParallelEvaluationOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), "" + option.isParallelEvaluation());
+        return this;
+    }
+
+    public DMNRuntimeBuilder setOption(DecisionCacheOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), option.getValue());
+        ctx.cc.setProperty(DecisionCacheOption.MAX_SIZE_PROPERTY_NAME, "" + option.getMaxSize());
+        ctx.cc.setProperty(DecisionCacheOption.TTL_PROPERTY_NAME, "" + option.getTtl());
+        return this;
+    }
+
+    public DMNRuntimeBuilder setOption(ExecModelCompilerOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), "" + option.isUseExecModelCompiler());
+        return this;
+    }
+
     public DMNRuntimeBuilder setRootClassLoader(ClassLoader classLoader) {
         ctx.cc.setRootClassLoader(classLoader);
         return this;
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -126,6 +127,27 @@ public class DMNRuntimeTest extends BaseInterpretedVsCompiledTest {
         assertThat( result.get( "Yearly Salary" ), is( new BigDecimal( "12000" ) ) );
     }
 
+    @Test
+    public void testEvaluateAllBatch() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("simple-item-def.dmn", this.getClass() );
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/kie-dmn/itemdef", "simple-item-def" );
+        assertThat( dmnModel, notNullValue() );
+
+        final List<DMNResult> results = runtime.evaluateAll(dmnModel, IntStream.range(0, 1000).mapToObj(i -> {
+            final DMNContext context = DMNFactory.newContext();
+            context.set( "Monthly Salary", i );
+            return context;
+        })).collect(Collectors.toList());
+
+        assertThat( results, hasSize( 1000 ) );
+        for ( int i = 0; i < results.size(); i++ ) {
+            final DMNResult dmnResult = results.get( i );
+            assertThat(DMNRuntimeUtil.formatMessages(dmnResult.getMessages()), dmnResult.hasErrors(), is(false));
+            assertThat( dmnResult.getContext().get( "Monthly Salary" ), is( i ) );
+            assertThat( dmnResult.getContext().get( "Yearly Salary" ), is( new BigDecimal( 12 * i ) ) );
+        }
+    }
+
     @Test
     public void testCompositeItemDefinition() {
         final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0008-LX-arithmetic.dmn", this.getClass() );
@@ -17,13 +17,22 @@
 package org.kie.dmn.core;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.junit.Test;
 import org.kie.dmn.api.core.DMNContext;
 import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNResult;
 import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DecisionNode;
 import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.api.event.DefaultDMNRuntimeEventListener;
+import org.kie.dmn.core.compiler.DecisionCacheOption;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.impl.DecisionCache;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
 import org.kie.dmn.core.util.DMNRuntimeUtil;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -71,6 +80,85 @@ public class VacationDaysTest extends BaseInterpretedVsCompiledTest {
         executeTest( 60, 20, 30 );
     }
 
+    @Test
+    public void testParallelEvaluation() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass() );
+        ((DMNRuntimeImpl) runtime).setOption( new ParallelEvaluationOption( true ) );
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days" );
+        assertThat( dmnModel, notNullValue() );
+
+        final List<List<DecisionNode>> levels = ((DMNModelImpl) dmnModel).getDecisionLevels();
+        assertThat( levels, notNullValue() );
+        assertThat( levels.size(), is( 2 ) );
+        assertThat( levels.get( 0 ).size(), is( 4 ) );
+        assertThat( levels.get( 1 ).get( 0 ).getName(), is( "Total Vacation Days" ) );
+        assertThat( ((DMNRuntimeImpl) runtime).performParallelEvaluation( dmnModel ), is( true ) );
+
+        final int[][] cases = { { 16, 1, 27 }, { 25, 5, 22 }, { 44, 20, 24 }, { 44, 30, 30 }, { 50, 20, 24 }, { 50, 30, 30 }, { 60, 20, 30 } };
+        for ( final int[] c : cases ) {
+            final DMNContext context = DMNFactory.newContext();
+            context.set( "Age", c[0] );
+            context.set( "Years of Service", c[1] );
+
+            final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context );
+            assertThat( DMNRuntimeUtil.formatMessages( dmnResult.getMessages() ), dmnResult.hasErrors(), is( false ) );
+            assertThat( dmnResult.getContext().get( "Total Vacation Days" ), is( BigDecimal.valueOf( c[2] ) ) );
+            assertThat( dmnResult.getDecisionResults().size(), is( 5 ) );
+        }
+    }
+
+    @Test
+    public void testDecisionCache() {
+        final DMNRuntime runtime = DMNRuntimeBuilder.fromDefaults()
+                .setOption( new DecisionCacheOption( "0020-vacation-days#Total Vacation Days", 10, 0 ) )
+                .buildConfiguration()
+                .fromClasspathResource( "0020-vacation-days.dmn", this.getClass() )
+                .getOrElseThrow( RuntimeException::new );
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days" );
+        assertThat( dmnModel, notNullValue() );
+        final DecisionCache cache = ((DMNModelImpl) dmnModel).getDecisionCache();
+        assertThat( cache, notNullValue() );
+
+        final int[][] cases = { { 16, 1, 27 }, { 16, 1, 27 }, { 25, 5, 22 }, { 16, 1, 27 } };
+        for ( final int[] c : cases ) {
+            final DMNContext context = DMNFactory.newContext();
+            context.set( "Age", c[0] );
+            context.set( "Years of Service", c[1] );
+
+            final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context );
+            assertThat( DMNRuntimeUtil.formatMessages( dmnResult.getMessages() ), dmnResult.hasErrors(), is( false ) );
+            assertThat( dmnResult.getContext().get( "Total Vacation Days" ), is( BigDecimal.valueOf( c[2] ) ) );
+            assertThat( dmnResult.getDecisionResultByName( "Total Vacation Days" ).getResult(), is( BigDecimal.valueOf( c[2] ) ) );
+        }
+        assertThat( cache.getMissCount( "Total Vacation Days" ), is( 2L ) );
+        assertThat( cache.getHitCount( "Total Vacation Days" ), is( 2L ) );
+        assertThat( cache.size( "Total Vacation Days" ), is( 2 ) );
+        // not enabled for the other decisions
+        assertThat( cache.getMissCount( "Base Vacation Days" ), is( 0L ) );
+
+        // an upstream decision set in the context is part of the key, instead of being assumed evaluated out of the inputs
+        for ( int i = 0; i < 2; i++ ) {
+            final DMNContext context = DMNFactory.newContext();
+            context.set( "Age", 16 );
+            context.set( "Years of Service", 1 );
+            context.set( "Base Vacation Days", 30 );
+            final DMNResult dmnResult = runtime.evaluateAll( dmnModel, context );
+            assertThat( DMNRuntimeUtil.formatMessages( dmnResult.getMessages() ), dmnResult.hasErrors(), is( false ) );
+            assertThat( dmnResult.getContext().get( "Total Vacation Days" ), is( BigDecimal.valueOf( 35 ) ) );
+        }
+        assertThat( cache.getMissCount( "Total Vacation Days" ), is( 3L ) );
+        assertThat( cache.getHitCount( "Total Vacation Days" ), is( 3L ) );
+
+        // a cached result would skip the events of the decision tables evaluated by the decision
+        runtime.addListener( new DefaultDMNRuntimeEventListener() { } );
+        final DMNContext context = DMNFactory.newContext();
+        context.set( "Age", 16 );
+        context.set( "Years of Service", 1 );
+        assertThat( runtime.evaluateAll( dmnModel, context ).getContext().get( "Total Vacation Days" ), is( BigDecimal.valueOf( 27 ) ) );
+        assertThat( cache.getHitCount( "Total Vacation Days" ), is( 3L ) );
+        assertThat( cache.getMissCount( "Total Vacation Days" ), is( 3L ) );
+    }
+
     private void executeTest(final int age, final int yearsService, final int expectedVacationDays ) {
         final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass() );
         final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days" );
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.drools.compiler.commons.jci.compilers.CompilationResult;
+import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
+import org.kie.dmn.api.core.GeneratedSource;
+
+import static org.drools.modelcompiler.builder.JavaParserCompiler.getCompiler;
+
+/**
+ * Serves the classes generated by the deferred compilation of some DMN models, and their index, as the ClassLoader of
+ * a kjar does
+ */
+public class PrecompiledClassLoader extends ClassLoader {
+
+    private static final String SOURCE_FOLDER = "src/main/java/";
+
+    private final Map<String, byte[]> classes;
+    private final String classFile;
+
+    public PrecompiledClassLoader(ClassLoader parent, Map<String, byte[]> classes, String classFile) {
+        super(parent);
+        this.classes = classes;
+        this.classFile = classFile;
+    }
+
+    /**
+     * Compiles the given sources, as generated by {@link ExecModelDMNMavenSourceCompiler}, into a new ClassLoader
+     */
+    public static PrecompiledClassLoader compile(List<GeneratedSource> generatedSources, ClassLoader parent) {
+        MemoryFileSystem srcMfs = new MemoryFileSystem();
+        MemoryFileSystem trgMfs = new MemoryFileSystem();
+        for (GeneratedSource generatedSource : generatedSources) {
+            srcMfs.write(generatedSource.getFileName(), generatedSource.getSourceContent().getBytes());
+        }
+        String[] fileNames = generatedSources.stream().map(GeneratedSource::getFileName).toArray(String[]::new);
+        CompilationResult result = getCompiler().compile(fileNames, srcMfs, trgMfs, parent);
+        if (result.getErrors().length > 0) {
+            throw new IllegalStateException("Unable to compile the generated sources: " + Arrays.toString(result.getErrors()));
+        }
+
+        Map<String, byte[]> classes = new HashMap<>();
+        for (String fileName : trgMfs.getFileNames()) {
+            classes.put(fileName.replace('/', '.').substring(0, fileName.length() - ".class".length()), trgMfs.getBytes(fileName));
+        }
+        String classFile = generatedSources.stream()
+                .map(s -> s.getFileName().substring(SOURCE_FOLDER.length(), s.getFileName().length() - ".java".length()).replace('/', '.'))
+                .collect(Collectors.joining("\n"));
+        return new PrecompiledClassLoader(parent, classes, classFile);
+    }
+
+    /**
+     * @return a new ClassLoader serving the same classes, which are defined again when loaded through it
+     */
+    public PrecompiledClassLoader copy() {
+        return new PrecompiledClassLoader(getParent(), classes, classFile);
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = classes.get(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        if (DMNRuleClassFile.RULE_CLASS_FILE_NAME.equals(name)) {
+            return new ByteArrayInputStream(classFile.getBytes());
+        }
+        return super.getResourceAsStream(name);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.core.DMNRuntimeTest;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
+import org.kie.dmn.core.ast.DecisionNodeImpl;
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.compiler.ExecModelCompilerOption;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+import org.kie.dmn.feel.codegen.feel11.ProcessedExpression;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PrecompiledLiteralExpressionTest {
+
+    @Test
+    public void testLiteralExpression() {
+        ClassLoader precompiled = precompile("0008-LX-arithmetic.dmn");
+        DMNRuntime runtime = newRuntime(precompiled, "0008-LX-arithmetic.dmn");
+        DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/kie-dmn", "0008-LX-arithmetic");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+        assertLoadedFrom(precompiled, dmnModel, "payment");
+
+        DMNContext context = DMNFactory.newContext();
+        Map<String, Object> loan = new HashMap<>();
+        loan.put("principal", 600000);
+        loan.put("rate", 0.0375);
+        loan.put("termMonths", 360);
+        context.set("loan", loan);
+
+        DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+        assertThat(DMNRuntimeUtil.formatMessages(dmnResult.getMessages()), dmnResult.hasErrors(), is(false));
+        assertThat(dmnResult.getContext().get("payment"), is(new BigDecimal("2778.693549432766768088520383236299")));
+    }
+
+    @Test
+    public void testBusinessKnowledgeModel() {
+        ClassLoader precompiled = precompile("0009-invocation-arithmetic.dmn");
+        DMNRuntime runtime = newRuntime(precompiled, "0009-invocation-arithmetic.dmn");
+        DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_cb28c255-91cd-4c01-ac7b-1a9cb1ecdb11", "literal invocation1");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+        assertLoadedFrom(precompiled, dmnModel, "MonthlyPayment");
+
+        Map<String, Object> loan = new HashMap<>();
+        loan.put("amount", BigDecimal.valueOf(600000));
+        loan.put("rate", new BigDecimal("0.0375"));
+        loan.put("term", BigDecimal.valueOf(360));
+        DMNContext context = DMNFactory.newContext();
+        context.set("fee", 100);
+        context.set("Loan", loan);
+
+        DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+        assertThat(DMNRuntimeUtil.formatMessages(dmnResult.getMessages()), dmnResult.hasErrors(), is(false));
+        assertThat(((BigDecimal) dmnResult.getContext().get("MonthlyPayment")).setScale(8, BigDecimal.ROUND_DOWN),
+                   is(new BigDecimal("2878.69354943277").setScale(8, BigDecimal.ROUND_DOWN)));
+    }
+
+    @Test
+    public void testNotPrecompiled() {
+        // a kjar without the generated literal expressions compiles them at runtime
+        ClassLoader notPrecompiled = new PrecompiledClassLoader(PrecompiledLiteralExpressionTest.class.getClassLoader(), new HashMap<>(), "unknown.Class");
+        assertInterpreted(newRuntime(notPrecompiled, "0008-LX-arithmetic.dmn"));
+    }
+
+    @Test
+    public void testExecModelCompilerDisabled() {
+        // without the option, the literal expressions are neither generated nor loaded, and are interpreted as usual
+        assertThat(generateSources("0008-LX-arithmetic.dmn", false).stream().anyMatch(s -> s.getFileName().endsWith(LiteralExpressionSourceGenerator.TYPE + ".java")), is(false));
+        ClassLoader precompiled = precompile("0008-LX-arithmetic.dmn");
+        assertInterpreted(newRuntime(precompiled, "0008-LX-arithmetic.dmn", false));
+    }
+
+    private static void assertInterpreted(DMNRuntime runtime) {
+        DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/kie-dmn", "0008-LX-arithmetic");
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+        DMNLiteralExpressionEvaluator evaluator = (DMNLiteralExpressionEvaluator) ((DecisionNodeImpl) dmnModel.getDecisionByName("payment")).getEvaluator();
+        assertThat(evaluator.getExpression(), instanceOf(ProcessedExpression.class));
+    }
+
+    private static void assertLoadedFrom(ClassLoader precompiled, DMNModel dmnModel, String decisionName) {
+        DMNLiteralExpressionEvaluator evaluator = (DMNLiteralExpressionEvaluator) ((DecisionNodeImpl) dmnModel.getDecisionByName(decisionName)).getEvaluator();
+        assertEquals(precompiled, evaluator.getExpression().getClass().getClassLoader());
+    }
+
+    private static DMNRuntime newRuntime(ClassLoader rootClassLoader, String resourceName) {
+        return newRuntime(rootClassLoader, resourceName, true);
+    }
+
+    private static DMNRuntime newRuntime(ClassLoader rootClassLoader, String resourceName, boolean useExecModelCompiler) {
+        return DMNRuntimeBuilder.fromDefaults()
+                .setRootClassLoader(rootClassLoader)
+                .setOption(new ExecModelCompilerOption(useExecModelCompiler))
+                .buildConfiguration()
+                .fromClasspathResource(resourceName, DMNRuntimeTest.class)
+                .getOrElseThrow(RuntimeException::new);
+    }
+
+    /**
+     * Builds the given model as the kjar build does, returning a ClassLoader with the generated classes
+     */
+    private static ClassLoader precompile(String resourceName) {
+        List<GeneratedSource> generatedSources = generateSources(resourceName, true);
+        assertTrue(generatedSources.stream().anyMatch(s -> s.getFileName().endsWith(LiteralExpressionSourceGenerator.TYPE + ".java")));
+        return PrecompiledClassLoader.compile(generatedSources, PrecompiledLiteralExpressionTest.class.getClassLoader());
+    }
+
+    private static List<GeneratedSource> generateSources(String resourceName, boolean useExecModelCompiler) {
+        List<GeneratedSource> generatedSources = new ArrayList<>();
+        DMNRuntimeBuilder.fromDefaults()
+                .setOption(new ExecModelCompilerOption(useExecModelCompiler))
+                .buildConfigurationUsingCustomCompiler(cc -> {
+                    ((DMNCompilerConfigurationImpl) cc).setDeferredCompilation(true);
+                    cc.addListener(generatedSources::addAll);
+                    return new DMNCompilerImpl(cc);
+                })
+                .fromClasspathResource(resourceName, DMNRuntimeTest.class)
+                .getOrElseThrow(RuntimeException::new);
+        return generatedSources;
+    }
+}
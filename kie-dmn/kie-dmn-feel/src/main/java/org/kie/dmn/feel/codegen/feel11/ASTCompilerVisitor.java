@@ -216,7 +216,11 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
     public DirectCompilerResult visit(NameRefNode n) {
         String nameRef = EvalHelper.normalizeVariableName(n.getText());
         Type type = scopeHelper.resolveType(nameRef).orElse(BuiltInType.UNKNOWN);
-        return DirectCompilerResult.of(FeelCtx.getValue(nameRef), type);
+        String slotName = Constants.variableSlotName(nameRef);
+        DirectCompilerResult result = DirectCompilerResult.of(FeelCtx.getValue(nameRef, slotName), type);
+        result.addFieldDesclaration(Constants.variableSlots());
+        result.addFieldDesclaration(Constants.variableSlot(slotName, nameRef));
+        return result;
     }
 
     @Override
@@ -27,6 +27,8 @@ import ch.obermuhlner.math.big.BigDecimalMath;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent;
 import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.ast.InfixOpNode;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.lang.types.impl.ComparablePeriod;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
@@ -165,6 +167,20 @@ public class CompiledFEELSemanticMappings {
         return true;
     }
 
+    /**
+     * Reads the variable through its slot when the expression is evaluated in the global frame, falling back to
+     * {@link #getValue(EvaluationContext, String)} otherwise
+     */
+    public static Object getValue(EvaluationContext ctx, VariableSlots slots, int slot, String varName) {
+        if (ctx instanceof EvaluationContextImpl) {
+            Object value = ((EvaluationContextImpl) ctx).getSlotValue(slots, slot);
+            if (value != VariableSlots.UNDEFINED) {
+                return value;
+            }
+        }
+        return getValue(ctx, varName);
+    }
+
     public static Object getValue(EvaluationContext ctx, String varName) {
         Object value = ctx.getValue(varName);
         if (value == null && !ctx.isDefined(varName)) {
@@ -204,6 +204,10 @@ public class CompilerBytecodeLoader {
         public int compare(FieldDeclaration o1, FieldDeclaration o2) {
             String s1 = o1.getVariable(0).getNameAsString();
             String s2 = o2.getVariable(0).getNameAsString();
+            // the variable slots are initialized from the layout
+            if (s1.equals(Constants.VARIABLE_SLOTS_N) || s2.equals(Constants.VARIABLE_SLOTS_N)) {
+                return s1.equals(Constants.VARIABLE_SLOTS_N) ? (s2.equals(Constants.VARIABLE_SLOTS_N) ? 0 : -1) : 1;
+            }
             // heuristic to sort longest field names at the bottom.
             // Should be substituted with proper dependency tracking
             return s1.length() < 5 && s2.length() < 5 ? s1.compareTo(s2) : s1.length() - s2.length() ;
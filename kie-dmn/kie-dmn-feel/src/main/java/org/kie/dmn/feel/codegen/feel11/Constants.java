@@ -31,12 +31,15 @@ import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
 import com.github.javaparser.ast.type.Type;
 import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
 
@@ -56,6 +59,8 @@ public class Constants {
             Range.RangeBoundary.class.getCanonicalName();
     public static final Expression BuiltInTypeT = parseExpression("org.kie.dmn.feel.lang.types.BuiltInType");
     public static final ClassOrInterfaceType FunctionT = parseClassOrInterfaceType("java.util.function.Function<EvaluationContext, Object>");
+    public static final ClassOrInterfaceType VariableSlotsT = parseClassOrInterfaceType(VariableSlots.class.getCanonicalName());
+    public static final String VARIABLE_SLOTS_N = "VARIABLE_SLOTS";
 
     public static FieldDeclaration of(Type type, String name, Expression initializer) {
         return new FieldDeclaration(
@@ -97,6 +102,20 @@ public class Constants {
         return "ZZFN_" + CodegenStringUtil.escapeIdentifier(originalText);
     }
 
+    public static FieldDeclaration variableSlots() {
+        ObjectCreationExpr initializer = new ObjectCreationExpr();
+        initializer.setType(VariableSlotsT);
+        return of(VariableSlotsT, VARIABLE_SLOTS_N, initializer);
+    }
+
+    public static FieldDeclaration variableSlot(String name, String nameRef) {
+        return of(PrimitiveType.intType(), name, new MethodCallExpr(new NameExpr(VARIABLE_SLOTS_N), "add", NodeList.nodeList(new StringLiteralExpr(nameRef))));
+    }
+
+    public static String variableSlotName(String nameRef) {
+        return "VS_" + CodegenStringUtil.escapeIdentifier(nameRef);
+    }
+
     public static FieldAccessExpr rangeBoundary(RangeNode.IntervalBoundary boundary) {
         return new FieldAccessExpr(
                 new NameExpr(RangeBoundary),
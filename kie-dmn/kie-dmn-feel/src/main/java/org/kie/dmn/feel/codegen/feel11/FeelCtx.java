@@ -41,6 +41,10 @@ public class FeelCtx {
         return new MethodCallExpr(null, "getValue", new NodeList<>(FEELCTX, new StringLiteralExpr(nameRef)));
     }
 
+    public static MethodCallExpr getValue(String nameRef, String slotFieldName) {
+        return new MethodCallExpr(null, "getValue", new NodeList<>(FEELCTX, new NameExpr(Constants.VARIABLE_SLOTS_N), new NameExpr(slotFieldName), new StringLiteralExpr(nameRef)));
+    }
+
     public static MethodCallExpr current() {
         return new MethodCallExpr(FeelCtx.FEELCTX, "current");
     }
@@ -55,6 +55,7 @@ public class EvaluationContextImpl implements EvaluationContext {
         // and then create a global frame to be the starting frame
         // for function evaluation
         ExecutionFrameImpl global = new ExecutionFrameImpl(RootExecutionFrame.INSTANCE, size);
+        global.enableSlots();
         push( global );
     }
 
@@ -122,6 +123,15 @@ public class EvaluationContextImpl implements EvaluationContext {
         return peek().getValue( name );
     }
 
+    /**
+     * Returns the value of the given slot if the current frame is the global one, or {@link VariableSlots#UNDEFINED}
+     * if the value has to be looked up by name
+     */
+    public Object getSlotValue(VariableSlots slots, int slot) {
+        ExecutionFrame frame = peek();
+        return frame instanceof ExecutionFrameImpl ? ((ExecutionFrameImpl) frame).getSlotValue(slots, slot) : VariableSlots.UNDEFINED;
+    }
+
     @Override
     public Object getValue(String[] name) {
         if (name.length == 1) {
@@ -17,6 +17,7 @@
 package org.kie.dmn.feel.lang.impl;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.kie.dmn.feel.util.EvalHelper;
@@ -30,6 +31,11 @@ public class ExecutionFrameImpl
     private Map<String, Object> variables;
     private Object rootObject;
 
+    private boolean slotsEnabled;
+    private Map<VariableSlots, Object[]> slotValues;
+    private VariableSlots lastSlots;
+    private Object[] lastSlotValues;
+
     public ExecutionFrameImpl(ExecutionFrame parentFrame) {
         this.parentFrame = parentFrame;
         this.variables = new HashMap<>();
@@ -57,8 +63,9 @@ public class ExecutionFrameImpl
                 return dv.getValueResult().getOrElse(null);
             }
         }
-        if ( variables.containsKey( symbol ) ) {
-            return variables.get( symbol );
+        Object value = variables.get( symbol );
+        if ( value != null || variables.containsKey( symbol ) ) {
+            return value;
         }
         if ( parentFrame != null ) {
             return parentFrame.getValue( symbol );
@@ -66,6 +73,43 @@ public class ExecutionFrameImpl
         return null;
     }
 
+    /**
+     * Allows the values of this frame to be read through {@link VariableSlots}: only meant for the global frame of an
+     * evaluation, whose parent frames are not modified while it is evaluated
+     */
+    public void enableSlots() {
+        this.slotsEnabled = true;
+    }
+
+    /**
+     * Returns the value of the given slot of the given layout, resolving its name the first time it is read, or
+     * {@link VariableSlots#UNDEFINED} if the value has to be looked up by name
+     */
+    public Object getSlotValue(VariableSlots slots, int slot) {
+        if ( !slotsEnabled || rootObject != null ) {
+            return VariableSlots.UNDEFINED;
+        }
+        if ( lastSlots != slots ) {
+            // many compiled expressions can be evaluated in turn on the same frame, each with its own layout
+            if ( slotValues == null ) {
+                slotValues = new IdentityHashMap<>();
+            }
+            lastSlotValues = slotValues.computeIfAbsent( slots, VariableSlots::newValues );
+            lastSlots = slots;
+        }
+        Object[] values = lastSlotValues;
+        Object value = values[slot];
+        if ( value == VariableSlots.UNRESOLVED ) {
+            String name = slots.getName( slot );
+            value = getValue( name );
+            if ( value == null && !isDefined( name ) ) {
+                value = VariableSlots.UNDEFINED;
+            }
+            values[slot] = value;
+        }
+        return value;
+    }
+
     @Override
     public boolean isDefined(String symbol) {
         symbol = EvalHelper.normalizeVariableName( symbol );
@@ -87,7 +131,16 @@ public class ExecutionFrameImpl
 
     @Override
     public void setValue(String symbol, Object value) {
-        this.variables.put( EvalHelper.normalizeVariableName( symbol ), value );
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        this.variables.put( symbol, value );
+        if ( slotValues != null ) {
+            for ( Map.Entry<VariableSlots, Object[]> entry : slotValues.entrySet() ) {
+                int slot = entry.getKey().indexOf( symbol );
+                if ( slot >= 0 ) {
+                    entry.getValue()[slot] = value;
+                }
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of the variables referenced by name in a compiled FEEL expression: each distinct name is given a fixed
+ * slot index when the compiled expression is initialized, and the global frame of an evaluation keeps the values of the
+ * slots in an array, resolving each name only the first time it is referenced.
+ */
+public class VariableSlots {
+
+    /**
+     * The value of a slot whose name is not defined in the frame, whose lookup has to go through the name
+     */
+    public static final Object UNDEFINED = new Object();
+
+    static final Object UNRESOLVED = new Object();
+
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+
+    /**
+     * Returns the slot of the given normalized name, adding it to the layout if needed.
+     * Only meant to be called while the compiled expression owning the layout is initialized.
+     */
+    public int add(String name) {
+        int slot = indexOf(name);
+        if (slot < 0) {
+            slot = names.size();
+            names.add(name);
+            slotsByName.put(name, slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the slot of the given normalized name, or -1 if the name is not part of the layout
+     */
+    public int indexOf(String name) {
+        Integer slot = slotsByName.get(name);
+        return slot != null ? slot : -1;
+    }
+
+    public String getName(int slot) {
+        return names.get(slot);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    Object[] newValues() {
+        Object[] values = new Object[names.size()];
+        Arrays.fill(values, UNRESOLVED);
+        return values;
+    }
+}
@@ -27,6 +27,10 @@ public class UnaryTestImpl implements UnaryTest {
         this.delegate = delegate;
     }
    
+    public String getText() {
+        return text;
+    }
+
     @Override
     public String toString() {
         return text;
@@ -56,6 +56,7 @@ public class DecisionTableImpl implements DecisionTable {
     private List<DTDecisionRule> decisionRules;
     private HitPolicy            hitPolicy;
     private boolean              hasDefaultValues;
+    private DecisionTableIndex   index;
 
     private FEEL feel;
 
@@ -73,6 +74,7 @@ public class DecisionTableImpl implements DecisionTable {
         this.decisionRules = decisionRules;
         this.hitPolicy = hitPolicy;
         this.hasDefaultValues = outputs.stream().allMatch( o -> o.getDefaultValue() != null );
+        this.index = DecisionTableIndex.build( inputs, decisionRules );
         this.feel = feel;
     }
 
@@ -248,9 +250,20 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        int[] candidates = index != null ? index.getCandidates( params ) : null;
+        if ( candidates == null ) {
+            for ( DTDecisionRule decisionRule : decisionRules ) {
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            // the candidates are visited in the order of the rules, as required by the hit policies
+            for ( int i : candidates ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -276,7 +289,8 @@ public class DecisionTableImpl implements DecisionTable {
         for( int i = 0; i < params.length; i++ ) {
             CompiledExpression compiledInput = inputs.get(i).getCompiledInput();
             if ( compiledInput instanceof CompiledFEELExpression) {
-                ctx.setValue("?", ((CompiledFEELExpression) compiledInput).apply(ctx));
+                // the input expression has already been evaluated by resolveActualInputs
+                ctx.setValue("?", params[i]);
             }
             if( ! satisfies( ctx, params[i], rule.getInputEntry().get( i ) ) ) {
                 return false;
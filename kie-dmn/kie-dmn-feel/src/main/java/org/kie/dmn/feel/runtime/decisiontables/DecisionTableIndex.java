@@ -0,0 +1,394 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTestImpl;
+
+/**
+ * A per input column index of the rules of a decision table, built when the decision table is compiled.
+ *
+ * The input entries made only of literal strings, booleans and numbers, of comparisons with a number and of numeric
+ * ranges are indexed: the first ones through a hash index, the numeric ones through an interval index partitioning
+ * the numbers in the segments delimited by the bounds used in the column. Any other input entry, including the
+ * "-" wildcard, is considered satisfied by any input value. Each column maps its values and segments to the sorted
+ * ids of the rules they select, the wildcard rules being kept apart, so that the index takes space linear in the
+ * size of the decision table. The candidate rules for a given set of inputs are the intersection of the rules
+ * selected by each column.
+ *
+ * The index only prunes the rules which can't match: the candidates still have to be checked with their unary tests.
+ */
+class DecisionTableIndex {
+
+    /**
+     * Upper bound, relative to the number of rules, of the rule ids held by the interval index of a single column:
+     * a column whose ranges overlap too much to be indexed in linear space is left to the linear scan
+     */
+    private static final int MAX_SEGMENT_POSTINGS_PER_RULE = 32;
+
+    private static final int[] NO_RULES = new int[0];
+
+    private static final String NUMBER = "(-?\\d+(?:\\.\\d+)?)";
+    private static final Pattern NUMBER_PATTERN = Pattern.compile( NUMBER );
+    private static final Pattern COMPARISON_PATTERN = Pattern.compile( "(<=|>=|<|>)\\s*" + NUMBER );
+    private static final Pattern RANGE_PATTERN = Pattern.compile( "([\\[(\\]])\\s*" + NUMBER + "\\s*\\.\\.\\s*" + NUMBER + "\\s*([\\])\\[])" );
+
+    private final ColumnIndex[] columns;
+
+    private DecisionTableIndex( ColumnIndex[] columns ) {
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the index of the given rules or null if none of the input columns can be indexed
+     */
+    static DecisionTableIndex build( List<DTInputClause> inputs, List<DTDecisionRule> rules ) {
+        ColumnIndex[] columns = new ColumnIndex[inputs.size()];
+        boolean indexed = false;
+        for ( int i = 0; i < columns.length; i++ ) {
+            if ( !inputs.get( i ).isCollection() ) {
+                columns[i] = ColumnIndex.build( i, rules );
+                indexed |= columns[i] != null;
+            }
+        }
+        return indexed ? new DecisionTableIndex( columns ) : null;
+    }
+
+    /**
+     * Returns the sorted ids of the rules which could match the given inputs, or null if no rule can be excluded
+     */
+    int[] getCandidates( Object[] inputs ) {
+        int[] candidates = null;
+        for ( int i = 0; i < columns.length; i++ ) {
+            if ( columns[i] == null ) {
+                continue;
+            }
+            int[] postings = columns[i].getPostings( inputs[i] );
+            if ( postings == null ) {
+                continue;
+            }
+            candidates = candidates == null ?
+                    union( columns[i].wildcards, postings ) :
+                    intersect( candidates, columns[i].wildcards, postings );
+        }
+        return candidates;
+    }
+
+    /**
+     * Merges two sorted and disjoint arrays of rule ids
+     */
+    static int[] union( int[] a, int[] b ) {
+        if ( a.length == 0 ) {
+            return b;
+        }
+        if ( b.length == 0 ) {
+            return a;
+        }
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while ( i < a.length && j < b.length ) {
+            result[k++] = a[i] < b[j] ? a[i++] : b[j++];
+        }
+        while ( i < a.length ) {
+            result[k++] = a[i++];
+        }
+        while ( j < b.length ) {
+            result[k++] = b[j++];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rule ids of the sorted candidates which are also in one of the two other sorted arrays
+     */
+    static int[] intersect( int[] candidates, int[] a, int[] b ) {
+        int[] result = new int[candidates.length];
+        int i = 0, j = 0, k = 0;
+        for ( int rule : candidates ) {
+            while ( i < a.length && a[i] < rule ) {
+                i++;
+            }
+            while ( j < b.length && b[j] < rule ) {
+                j++;
+            }
+            if ( ( i < a.length && a[i] == rule ) || ( j < b.length && b[j] == rule ) ) {
+                result[k++] = rule;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf( result, k );
+    }
+
+    private static class ColumnIndex {
+
+        private final int[] wildcards;
+
+        private final Map<Object, int[]> valuePostings;
+
+        private final BigDecimal[] bounds;
+        private final int[][] segmentPostings;
+
+        private ColumnIndex( int[] wildcards, Map<Object, int[]> valuePostings, BigDecimal[] bounds, int[][] segmentPostings ) {
+            this.wildcards = wildcards;
+            this.valuePostings = valuePostings;
+            this.bounds = bounds;
+            this.segmentPostings = segmentPostings;
+        }
+
+        /**
+         * Returns the sorted ids of the rules, other than the wildcard ones, which could match the given input,
+         * or null if the input is not indexed
+         */
+        int[] getPostings( Object input ) {
+            if ( input instanceof String || input instanceof Boolean ) {
+                return valuePostings.getOrDefault( input, NO_RULES );
+            }
+            if ( input instanceof BigDecimal ) {
+                int pos = Arrays.binarySearch( bounds, input );
+                return segmentPostings[pos >= 0 ? 2 * pos + 1 : 2 * ( -pos - 1 )];
+            }
+            // nulls and values of other types are not indexed
+            return null;
+        }
+
+        static ColumnIndex build( int column, List<DTDecisionRule> rules ) {
+            List<Integer> wildcards = new ArrayList<>();
+            Map<Object, List<Integer>> rulesByValue = new HashMap<>();
+            List<Interval> intervals = new ArrayList<>();
+            TreeSet<BigDecimal> boundsSet = new TreeSet<>();
+
+            for ( int r = 0; r < rules.size(); r++ ) {
+                List<UnaryTest> inputEntry = rules.get( r ).getInputEntry();
+                List<Object> entry = inputEntry.size() > column ? parseEntry( inputEntry.get( column ) ) : null;
+                if ( entry == null ) {
+                    wildcards.add( r );
+                    continue;
+                }
+                for ( Object test : entry ) {
+                    if ( test instanceof Interval ) {
+                        Interval interval = (Interval) test;
+                        interval.rule = r;
+                        intervals.add( interval );
+                        if ( interval.low != null ) {
+                            boundsSet.add( interval.low );
+                        }
+                        if ( interval.high != null ) {
+                            boundsSet.add( interval.high );
+                        }
+                    } else {
+                        List<Integer> valueRules = rulesByValue.computeIfAbsent( test, k -> new ArrayList<>() );
+                        if ( valueRules.isEmpty() || valueRules.get( valueRules.size() - 1 ) != r ) {
+                            valueRules.add( r );
+                        }
+                    }
+                }
+            }
+            if ( wildcards.size() == rules.size() ) {
+                // nothing to index
+                return null;
+            }
+
+            BigDecimal[] bounds = boundsSet.toArray( new BigDecimal[boundsSet.size()] );
+            int[][] segmentPostings = buildSegmentPostings( intervals, bounds, (long) MAX_SEGMENT_POSTINGS_PER_RULE * rules.size() );
+            if ( segmentPostings == null ) {
+                // the ranges overlap too much
+                return null;
+            }
+
+            Map<Object, int[]> valuePostings = new HashMap<>();
+            for ( Map.Entry<Object, List<Integer>> entry : rulesByValue.entrySet() ) {
+                valuePostings.put( entry.getKey(), toArray( entry.getValue() ) );
+            }
+            return new ColumnIndex( toArray( wildcards ), valuePostings, bounds, segmentPostings );
+        }
+
+        /**
+         * Returns, for each segment, the sorted ids of the rules having an interval that contains it, or null if
+         * they would be more than the given limit
+         */
+        private static int[][] buildSegmentPostings( List<Interval> intervals, BigDecimal[] bounds, long maxPostings ) {
+            int segments = 2 * bounds.length + 1;
+            int[] sizes = new int[segments];
+            long total = 0;
+            for ( Interval interval : intervals ) {
+                // segment 2k+1 is the k-th bound, while segment 2k is the open interval below it
+                interval.first = interval.low == null ? 0 :
+                        2 * Arrays.binarySearch( bounds, interval.low ) + ( interval.lowClosed ? 1 : 2 );
+                interval.last = interval.high == null ? segments - 1 :
+                        2 * Arrays.binarySearch( bounds, interval.high ) + ( interval.highClosed ? 1 : 0 );
+                total += Math.max( 0, interval.last - interval.first + 1 );
+                if ( total > maxPostings ) {
+                    return null;
+                }
+                for ( int s = interval.first; s <= interval.last; s++ ) {
+                    sizes[s]++;
+                }
+            }
+
+            int[][] segmentPostings = new int[segments][];
+            for ( int s = 0; s < segments; s++ ) {
+                segmentPostings[s] = sizes[s] == 0 ? NO_RULES : new int[sizes[s]];
+                sizes[s] = 0;
+            }
+            // the intervals are in the order of their rules, so the postings come out sorted
+            for ( Interval interval : intervals ) {
+                for ( int s = interval.first; s <= interval.last; s++ ) {
+                    int size = sizes[s];
+                    // the same rule may have many intervals containing the segment
+                    if ( size == 0 || segmentPostings[s][size - 1] != interval.rule ) {
+                        segmentPostings[s][sizes[s]++] = interval.rule;
+                    }
+                }
+            }
+            for ( int s = 0; s < segments; s++ ) {
+                if ( sizes[s] < segmentPostings[s].length ) {
+                    segmentPostings[s] = Arrays.copyOf( segmentPostings[s], sizes[s] );
+                }
+            }
+            return segmentPostings;
+        }
+
+        private static int[] toArray( List<Integer> rules ) {
+            int[] array = new int[rules.size()];
+            for ( int i = 0; i < array.length; i++ ) {
+                array[i] = rules.get( i );
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Parses the text of an input entry into the list of the values and of the numeric intervals it is made of,
+     * or returns null if the input entry contains any test that can't be indexed
+     */
+    static List<Object> parseEntry( UnaryTest test ) {
+        if ( !( test instanceof UnaryTestImpl ) ) {
+            return null;
+        }
+        String text = ( (UnaryTestImpl) test ).getText();
+        if ( text == null ) {
+            return null;
+        }
+        List<String> parts = splitTopLevel( text.trim() );
+        if ( parts == null ) {
+            return null;
+        }
+        List<Object> entry = new ArrayList<>();
+        for ( String part : parts ) {
+            Object parsed = parseTest( part.trim() );
+            if ( parsed == null ) {
+                return null;
+            }
+            entry.add( parsed );
+        }
+        return entry;
+    }
+
+    private static Object parseTest( String test ) {
+        if ( test.length() >= 2 && test.charAt( 0 ) == '"' && test.charAt( test.length() - 1 ) == '"' ) {
+            String value = test.substring( 1, test.length() - 1 );
+            return value.indexOf( '"' ) < 0 && value.indexOf( '\\' ) < 0 ? value : null;
+        }
+        if ( test.equals( "true" ) || test.equals( "false" ) ) {
+            return Boolean.valueOf( test );
+        }
+        Matcher matcher = NUMBER_PATTERN.matcher( test );
+        if ( matcher.matches() ) {
+            BigDecimal value = new BigDecimal( matcher.group( 1 ) );
+            return new Interval( value, true, value, true );
+        }
+        matcher = COMPARISON_PATTERN.matcher( test );
+        if ( matcher.matches() ) {
+            BigDecimal value = new BigDecimal( matcher.group( 2 ) );
+            switch ( matcher.group( 1 ) ) {
+                case "<":
+                    return new Interval( null, false, value, false );
+                case "<=":
+                    return new Interval( null, false, value, true );
+                case ">":
+                    return new Interval( value, false, null, false );
+                default:
+                    return new Interval( value, true, null, false );
+            }
+        }
+        matcher = RANGE_PATTERN.matcher( test );
+        if ( matcher.matches() ) {
+            return new Interval( new BigDecimal( matcher.group( 2 ) ), matcher.group( 1 ).equals( "[" ),
+                                 new BigDecimal( matcher.group( 3 ) ), matcher.group( 4 ).equals( "]" ) );
+        }
+        return null;
+    }
+
+    /**
+     * Splits a list of unary tests on the commas that are not part of a string literal or of a range
+     */
+    private static List<String> splitTopLevel( String text ) {
+        if ( text.isEmpty() || text.equals( "-" ) ) {
+            return null;
+        }
+        List<String> parts = new ArrayList<>();
+        boolean inString = false;
+        int depth = 0;
+        int start = 0;
+        for ( int i = 0; i < text.length(); i++ ) {
+            char c = text.charAt( i );
+            if ( c == '"' ) {
+                inString = !inString;
+            } else if ( !inString ) {
+                if ( c == '(' || c == '[' ) {
+                    depth++;
+                } else if ( c == ')' || c == ']' ) {
+                    depth--;
+                } else if ( c == ',' && depth == 0 ) {
+                    parts.add( text.substring( start, i ) );
+                    start = i + 1;
+                }
+            }
+        }
+        if ( inString ) {
+            return null;
+        }
+        parts.add( text.substring( start ) );
+        return parts;
+    }
+
+    private static class Interval {
+        private final BigDecimal low;
+        private final boolean lowClosed;
+        private final BigDecimal high;
+        private final boolean highClosed;
+        private int rule;
+        private int first;
+        private int last;
+
+        private Interval( BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed ) {
+            this.low = low;
+            this.lowClosed = lowClosed;
+            this.high = high;
+            this.highClosed = highClosed;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.kie.dmn.api.feel.runtime.events.FEELEvent;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.ExactMath;
 
 public class MeanFunction
         extends BaseFEELFunction {
@@ -48,7 +49,8 @@ public class MeanFunction
         
         Function<BigDecimal, FEELFnResult<BigDecimal>> ifRight = (sum) -> {
             try {
-                return FEELFnResult.ofResult( sum.divide( BigDecimal.valueOf( list.size() ), MathContext.DECIMAL128 ) );
+                BigDecimal exact = ExactMath.divide( sum, list.size() );
+                return FEELFnResult.ofResult( exact != null ? exact : sum.divide( BigDecimal.valueOf( list.size() ), MathContext.DECIMAL128 ) );
             } catch (Exception e) {
                 return FEELFnResult.ofError( new InvalidParametersEvent(Severity.ERROR, "unable to perform division to calculate the mean", e) );
             }
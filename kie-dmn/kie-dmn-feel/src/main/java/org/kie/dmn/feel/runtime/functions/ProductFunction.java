@@ -23,6 +23,7 @@ import java.util.List;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.ExactMath;
 
 public class ProductFunction
         extends BaseFEELFunction {
@@ -36,8 +37,24 @@ public class ProductFunction
         if ( list == null ) {
             return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "the list cannot be null"));
         }
-        BigDecimal product = list.isEmpty() ? BigDecimal.ZERO : BigDecimal.ONE;
+        if ( list.isEmpty() ) {
+            return FEELFnResult.ofResult( BigDecimal.ZERO );
+        }
+        // the integer elements are multiplied on a long, until the first element that is not or the first overflow
+        long exactProduct = 1;
+        BigDecimal product = null;
         for ( Object element : list ) {
+            if ( product == null ) {
+                if ( ExactMath.isExactInteger( element ) ) {
+                    try {
+                        exactProduct = Math.multiplyExact( exactProduct, ((Number) element).longValue() );
+                        continue;
+                    } catch ( ArithmeticException e ) {
+                        // overflow, the product continues on BigDecimal
+                    }
+                }
+                product = BigDecimal.valueOf( exactProduct );
+            }
             if ( element instanceof BigDecimal ) {
                 product = product.multiply( (BigDecimal) element );
             } else if ( element instanceof Number ) {
@@ -46,7 +63,7 @@ public class ProductFunction
                 return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "an element in the list is not suitable for the product"));
             }
         }
-        return FEELFnResult.ofResult( product );
+        return FEELFnResult.ofResult( product != null ? product : BigDecimal.valueOf( exactProduct ) );
     }
 
     public FEELFnResult<BigDecimal> invoke(@ParameterName("list") Number single) {
@@ -25,6 +25,7 @@ import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
 import org.kie.dmn.feel.runtime.functions.FEELFnResult;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.ExactMath;
 
 public class SumFunction
         extends BaseFEELFunction {
@@ -37,8 +38,21 @@ public class SumFunction
         if ( list == null || list.isEmpty() ) {
             return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "cannot be null or empty"));
         }
-        BigDecimal sum = BigDecimal.ZERO;
+        // the integer elements are summed on a long, until the first element that is not or the first overflow
+        long exactSum = 0;
+        BigDecimal sum = null;
         for ( Object element : list ) {
+            if ( sum == null ) {
+                if ( ExactMath.isExactInteger( element ) ) {
+                    long value = ((Number) element).longValue();
+                    long result = exactSum + value;
+                    if ( ((exactSum ^ result) & (value ^ result)) >= 0 ) {
+                        exactSum = result;
+                        continue;
+                    }
+                }
+                sum = BigDecimal.valueOf( exactSum );
+            }
             if ( element instanceof BigDecimal ) {
                 sum = sum.add( (BigDecimal) element );
             } else if ( element instanceof Number ) {
@@ -52,7 +66,7 @@ public class SumFunction
                 return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "an element in the list is not a number"));
             }
         }
-        return FEELFnResult.ofResult( sum );
+        return FEELFnResult.ofResult( sum != null ? sum : BigDecimal.valueOf( exactSum ) );
     }
 
     public FEELFnResult<BigDecimal> invoke(@ParameterName("list") Number single) {
@@ -56,7 +56,7 @@ import org.slf4j.LoggerFactory;
 public class EvalHelper {
     public static final Logger LOG = LoggerFactory.getLogger( EvalHelper.class );
 
-    private static final Map<String, Method> accessorCache = new ConcurrentHashMap<>();
+    private static volatile ClassValue<Map<String, Optional<Method>>> accessorCache = newAccessorCache();
 
     public static String normalizeVariableName(String name) {
         // private static final Pattern SPACES_PATTERN = Pattern.compile( "[\\s\u00A0]+" );
@@ -409,10 +409,10 @@ public class EvalHelper {
                     return PropertyValueResult.notDefined();
             }
         } else {
-            Method getter = getGenericAccessor( current.getClass(), property );
+            PropertyAccessors.Accessor getter = PropertyAccessors.getAccessor( current.getClass(), property );
             if ( getter != null ) {
                 try {
-                    result = getter.invoke(current);
+                    result = getter.get(current);
                     if (result instanceof Character) {
                         result = result.toString();
                     } else if ( result instanceof java.util.Date ) {
@@ -452,21 +452,29 @@ public class EvalHelper {
     public static Method getGenericAccessor(Class<?> clazz, String field) {
         LOG.trace( "getGenericAccessor({}, {})", clazz, field );
 
-        String accessorQualifiedName = new StringBuilder(clazz.getCanonicalName())
-			.append(".").append(field).toString();
-
-        return accessorCache.computeIfAbsent(accessorQualifiedName, key ->
-        	Stream.of( clazz.getMethods() )
+        // cached per class, so that same named classes of different ClassLoaders don't share their accessors
+        return accessorCache.get( clazz ).computeIfAbsent( field, key ->
+            Optional.ofNullable( Stream.of( clazz.getMethods() )
             .filter( m -> Optional.ofNullable( m.getAnnotation( FEELProperty.class ) )
                     .map( ann -> ann.value().equals( field ) )
                     .orElse( false )
             )
             .findFirst()
-            .orElse( getAccessor( clazz, field ) ));
+            .orElseGet( () -> getAccessor( clazz, field ) ) ) ).orElse( null );
     }
 
     public static void clearGenericAccessorCache() {
-        accessorCache.clear();
+        accessorCache = newAccessorCache();
+        PropertyAccessors.clearCache();
+    }
+
+    private static ClassValue<Map<String, Optional<Method>>> newAccessorCache() {
+        return new ClassValue<Map<String, Optional<Method>>>() {
+            @Override
+            protected Map<String, Optional<Method>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 
     /**
@@ -529,6 +537,10 @@ public class EvalHelper {
     public static Boolean compare(Object left, Object right, EvaluationContext ctx, BiPredicate<Comparable, Comparable> op) {
         if ( left == null || right == null ) {
             return null;
+        }
+        Integer exact = ExactMath.compare( left, right );
+        if ( exact != null ) {
+            return op.test( exact, 0 );
         } else if (left instanceof ChronoPeriod && right instanceof ChronoPeriod) {
             // periods have special compare semantics in FEEL as it ignores "days". Only months and years are compared
             Long l = ComparablePeriod.toTotalMonths((ChronoPeriod) left);
@@ -568,6 +580,10 @@ public class EvalHelper {
         if ( left == null || right == null ) {
             return left == right;
         }
+        Integer exact = ExactMath.compare( left, right );
+        if ( exact != null ) {
+            return exact == 0;
+        }
 
         // spec defines that "a=[a]", i.e., singleton collections should be treated as the single element
         // and vice-versa
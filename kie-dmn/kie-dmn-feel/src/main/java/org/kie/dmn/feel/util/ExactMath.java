@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Fast paths for the arithmetic on FEEL numbers, performed on longs when both operands are integers with less than 19
+ * digits and the result is exact. Such results have less than 34 digits, so they are not rounded by
+ * {@link java.math.MathContext#DECIMAL128}, and have scale 0, which is the scale BigDecimal would choose for them: the
+ * returned values are equal, scale included, to the ones computed with BigDecimal.
+ *
+ * The comparisons of such integers are performed on longs as well, while two BigDecimals are compared directly.
+ *
+ * Each operation returns null when the fast path can't be taken, in which case the caller has to fall back to BigDecimal.
+ */
+public final class ExactMath {
+
+    /**
+     * The bound, exclusive, of the absolute value of the integers handled by the fast paths: the sum of two of them can't
+     * overflow a long
+     */
+    private static final long MAX_EXACT = 999_999_999_999_999_999L;
+
+    private ExactMath() {
+        // It is not allowed to create instances of util classes.
+    }
+
+    /**
+     * Returns true if the given value is an integer handled by the fast paths, whose value is then given by
+     * {@link Number#longValue()}
+     */
+    public static boolean isExactInteger(Object value) {
+        if ( value instanceof BigDecimal ) {
+            BigDecimal bd = (BigDecimal) value;
+            return bd.scale() == 0 && bd.precision() <= 18;
+        }
+        if ( value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+            return true;
+        }
+        if ( value instanceof Long ) {
+            long l = (Long) value;
+            return l <= MAX_EXACT && l >= -MAX_EXACT;
+        }
+        return false;
+    }
+
+    public static BigDecimal add(Object left, Object right) {
+        if ( isExactInteger( left ) && isExactInteger( right ) ) {
+            return BigDecimal.valueOf( ((Number) left).longValue() + ((Number) right).longValue() );
+        }
+        return null;
+    }
+
+    public static BigDecimal subtract(Object left, Object right) {
+        if ( isExactInteger( left ) && isExactInteger( right ) ) {
+            return BigDecimal.valueOf( ((Number) left).longValue() - ((Number) right).longValue() );
+        }
+        return null;
+    }
+
+    public static BigDecimal multiply(Object left, Object right) {
+        if ( isExactInteger( left ) && isExactInteger( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            long result = l * r;
+            // the operands are far from Long.MIN_VALUE, so the product overflowed iff it can't be divided back
+            if ( l == 0 || result / l == r ) {
+                return BigDecimal.valueOf( result );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the sign of the comparison of the given numbers, as -1, 0 or 1, or null if the fast path can't be taken
+     */
+    public static Integer compare(Object left, Object right) {
+        if ( isExactInteger( left ) && isExactInteger( right ) ) {
+            return Long.compare( ((Number) left).longValue(), ((Number) right).longValue() );
+        }
+        if ( left instanceof BigDecimal && right instanceof BigDecimal ) {
+            return Integer.signum( ((BigDecimal) left).compareTo( (BigDecimal) right ) );
+        }
+        return null;
+    }
+
+    public static BigDecimal divide(Object left, Object right) {
+        if ( isExactInteger( left ) && isExactInteger( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            // the division by 0 and the inexact ones are left to BigDecimal
+            if ( r != 0 && l % r == 0 ) {
+                return BigDecimal.valueOf( l / r );
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The accessors of the properties of the Java objects navigated by FEEL, resolved with
+ * {@link EvalHelper#getGenericAccessor(Class, String)} and turned into functions generated through
+ * {@link LambdaMetafactory}, so that reading a property costs a direct call of the getter instead of a reflective invocation.
+ *
+ * The accessors are cached per class, so the ones of the classes of an unloaded ClassLoader are released with it. When the
+ * class of a getter is not visible from the ClassLoader of the FEEL runtime, as for the classes of a kjar, the generated
+ * function can't be linked against it and the accessor invokes a {@link MethodHandle} of the getter instead. Only the
+ * getters that can't be accessed through a MethodHandle fall back to the reflective invocation.
+ */
+public final class PropertyAccessors {
+
+    private static final Logger LOG = LoggerFactory.getLogger( PropertyAccessors.class );
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Accessor.class );
+    private static final MethodType GET_TYPE = MethodType.methodType( Object.class, Object.class );
+
+    private static volatile ClassValue<Map<String, Optional<Accessor>>> accessors = newAccessors();
+
+    /**
+     * A getter of a property, throwing the same exceptions of a reflective {@link Method#invoke(Object, Object...)}
+     */
+    @FunctionalInterface
+    public interface Accessor {
+
+        Object get(Object target) throws IllegalAccessException, InvocationTargetException;
+    }
+
+    private PropertyAccessors() {
+        // It is not allowed to create instances of util classes.
+    }
+
+    /**
+     * Returns the accessor of the given property of the given class, or null if the class doesn't have such a property
+     */
+    public static Accessor getAccessor(Class<?> clazz, String property) {
+        Map<String, Optional<Accessor>> classAccessors = accessors.get( clazz );
+        Optional<Accessor> accessor = classAccessors.get( property );
+        if ( accessor == null ) {
+            accessor = classAccessors.computeIfAbsent( property, p -> Optional.ofNullable( EvalHelper.getGenericAccessor( clazz, p ) ).map( PropertyAccessors::generate ) );
+        }
+        return accessor.orElse( null );
+    }
+
+    public static void clearCache() {
+        accessors = newAccessors();
+    }
+
+    static Accessor generate(Method getter) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect( getter );
+        } catch ( IllegalAccessException e ) {
+            LOG.debug( "Unable to access {} through a MethodHandle, falling back to reflection", getter, e );
+            return getter::invoke;
+        }
+        if ( isVisible( getter.getDeclaringClass() ) ) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory( MethodHandles.lookup(), "get", ACCESSOR_TYPE, GET_TYPE, handle, handle.type().wrap() );
+                Accessor generated = (Accessor) site.getTarget().invokeExact();
+                return target -> {
+                    try {
+                        return generated.get( target );
+                    } catch ( RuntimeException | Error e ) {
+                        // keeps the exceptions raised by the getter distinguishable, as the reflective invocation does
+                        throw new InvocationTargetException( e );
+                    }
+                };
+            } catch ( Throwable e ) {
+                LOG.debug( "Unable to generate the accessor of {}, falling back to its MethodHandle", getter, e );
+            }
+        }
+        MethodHandle getterHandle = handle.asType( GET_TYPE );
+        return target -> {
+            try {
+                return (Object) getterHandle.invokeExact( target );
+            } catch ( Throwable e ) {
+                throw new InvocationTargetException( e );
+            }
+        };
+    }
+
+    /**
+     * The generated accessors reference the getter's class from the ClassLoader of this class
+     */
+    private static boolean isVisible(Class<?> clazz) {
+        try {
+            return Class.forName( clazz.getName(), false, PropertyAccessors.class.getClassLoader() ) == clazz;
+        } catch ( ClassNotFoundException | LinkageError e ) {
+            return false;
+        }
+    }
+
+    private static ClassValue<Map<String, Optional<Accessor>>> newAccessors() {
+        return new ClassValue<Map<String, Optional<Accessor>>>() {
+            @Override
+            protected Map<String, Optional<Accessor>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+}
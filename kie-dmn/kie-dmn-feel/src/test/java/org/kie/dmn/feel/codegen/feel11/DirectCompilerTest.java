@@ -472,6 +472,43 @@ public class DirectCompilerTest {
         assertThat(result, is(BigDecimal.valueOf(2016)));
     }
 
+    @Test
+    public void testVariableSlots() {
+        Type numberType = BuiltInType.NUMBER;
+        CompiledFEELExpression expression = parse("a + a * b + sum(for a in [1, 2] return a + b) + {a: 10, c: a + b}.c", mapOf(entry("a", numberType), entry("b", numberType)));
+
+        EvaluationContext context = CodegenTestUtil.newEmptyEvaluationContext();
+        context.setValue("a", 2);
+        context.setValue("b", 3);
+        // 2 + 2*3 + (1+3 + 2+3) + (10+3)
+        assertThat(expression.apply(context), is(BigDecimal.valueOf(30)));
+
+        // the values set after the slots are bound are seen by the next evaluations
+        context.setValue("a", 1);
+        // 1 + 1*3 + (1+3 + 2+3) + (10+3)
+        assertThat(expression.apply(context), is(BigDecimal.valueOf(26)));
+
+        assertThat(expression.apply(CodegenTestUtil.newEmptyEvaluationContext()), nullValue());
+    }
+
+    @Test
+    public void testVariableSlotsOfAlternatingExpressions() {
+        Type numberType = BuiltInType.NUMBER;
+        CompiledFEELExpression sum = parse("a + b", mapOf(entry("a", numberType), entry("b", numberType)));
+        CompiledFEELExpression product = parse("b * a", mapOf(entry("a", numberType), entry("b", numberType)));
+
+        EvaluationContext context = CodegenTestUtil.newEmptyEvaluationContext();
+        context.setValue("a", 2);
+        context.setValue("b", 3);
+        assertThat(sum.apply(context), is(BigDecimal.valueOf(5)));
+        assertThat(product.apply(context), is(BigDecimal.valueOf(6)));
+
+        // the values set are written through to the slots of both expressions
+        context.setValue("b", 4);
+        assertThat(sum.apply(context), is(BigDecimal.valueOf(6)));
+        assertThat(product.apply(context), is(BigDecimal.valueOf(8)));
+    }
+
     private CompiledFEELExpression parse(String input) {
         return parse( input, Collections.emptyMap() );
     }
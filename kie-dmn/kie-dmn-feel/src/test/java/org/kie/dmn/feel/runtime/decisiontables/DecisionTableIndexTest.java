@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTestImpl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionTableIndexTest {
+
+    private final FEEL feel = FEEL.newInstance();
+    private final EvaluationContext ctx = ((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), Collections.emptyMap());
+
+    @Test
+    public void testParseEntry() {
+        assertNull(DecisionTableIndex.parseEntry(entry("-")));
+        assertNull(DecisionTableIndex.parseEntry(entry("not(\"a\")")));
+        assertNull(DecisionTableIndex.parseEntry(entry("date(\"2020-01-01\")")));
+        assertNull(DecisionTableIndex.parseEntry(entry("\"a\", ? > 10")));
+        assertEquals(Arrays.asList("a", "b"), DecisionTableIndex.parseEntry(entry("\"a\", \"b\"")));
+        assertEquals(Collections.singletonList(Boolean.TRUE), DecisionTableIndex.parseEntry(entry("true")));
+        assertEquals(2, DecisionTableIndex.parseEntry(entry("[1..10], > 20")).size());
+    }
+
+    @Test
+    public void testCandidatesContainAllMatches() {
+        String[] categories = { "\"gold\"", "\"silver\"", "\"bronze\"", "\"gold\", \"silver\"", "-", "not(\"gold\")" };
+        String[] amounts = { "< 100", "[100..500)", ">= 500", "250", "(-10..0]", "-", "]50..60[", "[0..100], > 50" };
+        List<DTInputClause> inputs = Arrays.asList(new DTInputClause("category", null, null, null, false),
+                                                   new DTInputClause("amount", null, null, null, false));
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for (String category : categories) {
+            for (String amount : amounts) {
+                DTDecisionRule rule = new DTDecisionRule(rules.size());
+                rule.getInputEntry().add(entry(category));
+                rule.getInputEntry().add(entry(amount));
+                rules.add(rule);
+            }
+        }
+
+        DecisionTableIndex index = DecisionTableIndex.build(inputs, rules);
+        assertNotNull(index);
+
+        Object[] categoryValues = { "gold", "silver", "bronze", "platinum", null, Boolean.TRUE };
+        Object[] amountValues = { new BigDecimal("-10"), BigDecimal.ZERO, new BigDecimal("50"), new BigDecimal("55.5"), new BigDecimal("99.99"),
+                                  new BigDecimal("100"), new BigDecimal("250.00"), new BigDecimal("500"), new BigDecimal("1000"), null, "100" };
+        for (Object category : categoryValues) {
+            for (Object amount : amountValues) {
+                Object[] params = { category, amount };
+                int[] candidates = index.getCandidates(params);
+                int candidatesNumber = 0;
+                for (int i = 0; i < rules.size(); i++) {
+                    boolean candidate = candidates == null || Arrays.binarySearch(candidates, i) >= 0;
+                    if (candidate) {
+                        candidatesNumber++;
+                    }
+                    if (matches(rules.get(i), params)) {
+                        assertTrue("Rule " + i + " matching " + category + ", " + amount + " is not a candidate", candidate);
+                    }
+                }
+                if (category instanceof String && amount instanceof BigDecimal) {
+                    assertTrue(candidatesNumber < rules.size());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingRangesAreNotIndexed() {
+        List<DTInputClause> inputs = Collections.singletonList(new DTInputClause("amount", null, null, null, false));
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DTDecisionRule rule = new DTDecisionRule(i);
+            rule.getInputEntry().add(entry(">= " + i));
+            rules.add(rule);
+        }
+        // the interval index would hold a quadratic number of rule ids
+        assertNull(DecisionTableIndex.build(inputs, rules));
+    }
+
+    @Test
+    public void testUnionAndIntersection() {
+        assertArrayEquals(new int[] { 0, 1, 3, 4, 7 }, DecisionTableIndex.union(new int[] { 1, 4 }, new int[] { 0, 3, 7 }));
+        assertArrayEquals(new int[] { 2 }, DecisionTableIndex.union(new int[0], new int[] { 2 }));
+        assertArrayEquals(new int[] { 1, 3, 7 }, DecisionTableIndex.intersect(new int[] { 0, 1, 3, 5, 7 }, new int[] { 1, 7 }, new int[] { 3, 4 }));
+        assertArrayEquals(new int[0], DecisionTableIndex.intersect(new int[] { 0, 5 }, new int[0], new int[] { 3 }));
+    }
+
+    private boolean matches(DTDecisionRule rule, Object[] params) {
+        for (int i = 0; i < params.length; i++) {
+            if (!rule.getInputEntry().get(i).apply(ctx, params[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private UnaryTest entry(String text) {
+        List<UnaryTest> tests = feel.evaluateUnaryTests(text);
+        return new UnaryTestImpl((c, x) -> tests.stream().anyMatch(t -> {
+            Boolean result = t.apply(c, x);
+            return result != null && result;
+        }), text);
+    }
+}
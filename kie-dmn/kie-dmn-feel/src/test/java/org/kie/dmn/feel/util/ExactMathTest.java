@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.dmn.feel.runtime.functions.MeanFunction;
+import org.kie.dmn.feel.runtime.functions.SumFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExactMathTest {
+
+    private static final List<Object> VALUES = Arrays.asList(0, 1, -1, 7, -12, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                                                             3_000_000_000L, -4_000_000_007L, 999_999_999_999_999_999L,
+                                                             -999_999_999_999_999_999L, new BigDecimal("42"),
+                                                             new BigDecimal("123456789012"), new BigDecimal("-999999999999999999"));
+
+    @Test
+    public void testIsExactInteger() {
+        assertTrue(ExactMath.isExactInteger(5));
+        assertTrue(ExactMath.isExactInteger((short) 5));
+        assertTrue(ExactMath.isExactInteger(new BigDecimal("123")));
+        assertFalse(ExactMath.isExactInteger(null));
+        assertFalse(ExactMath.isExactInteger("5"));
+        assertFalse(ExactMath.isExactInteger(5.0d));
+        assertFalse(ExactMath.isExactInteger(new BigDecimal("1.0")));
+        assertFalse(ExactMath.isExactInteger(new BigDecimal("1E+3")));
+        assertFalse(ExactMath.isExactInteger(new BigDecimal("1000000000000000000")));
+        assertFalse(ExactMath.isExactInteger(Long.MAX_VALUE));
+        assertFalse(ExactMath.isExactInteger(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testSameResultsAsDecimal128() {
+        for (Object left : VALUES) {
+            for (Object right : VALUES) {
+                BigDecimal l = EvalHelper.getBigDecimalOrNull(left);
+                BigDecimal r = EvalHelper.getBigDecimalOrNull(right);
+                assertEquals(l.add(r, MathContext.DECIMAL128), ExactMath.add(left, right));
+                assertEquals(l.subtract(r, MathContext.DECIMAL128), ExactMath.subtract(left, right));
+                BigDecimal product = ExactMath.multiply(left, right);
+                if (product != null) {
+                    assertEquals(l.multiply(r, MathContext.DECIMAL128), product);
+                } else {
+                    assertTrue(l.multiply(r).abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0);
+                }
+                BigDecimal quotient = ExactMath.divide(left, right);
+                if (quotient != null) {
+                    assertEquals(l.divide(r, MathContext.DECIMAL128), quotient);
+                } else {
+                    assertTrue(r.signum() == 0 || l.remainder(r).signum() != 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSameComparisonsAsBigDecimal() {
+        for (Object left : VALUES) {
+            for (Object right : VALUES) {
+                int expected = EvalHelper.getBigDecimalOrNull(left).compareTo(EvalHelper.getBigDecimalOrNull(right));
+                assertEquals(Integer.valueOf(expected), ExactMath.compare(left, right));
+                assertEquals(expected < 0, EvalHelper.compare(left, right, null, (l, r) -> l.compareTo(r) < 0));
+                assertEquals(expected == 0, EvalHelper.isEqual(left, right, null));
+            }
+        }
+        assertEquals(Integer.valueOf(-1), ExactMath.compare(new BigDecimal("0.5"), new BigDecimal("1")));
+        assertEquals(Integer.valueOf(0), ExactMath.compare(new BigDecimal("1.0"), new BigDecimal("1")));
+        // too large for a long: left to BigDecimal
+        assertNull(ExactMath.compare(Long.MAX_VALUE, 1));
+        assertNull(ExactMath.compare(1.5d, 1));
+        assertNull(ExactMath.compare("1", 1));
+    }
+
+    @Test
+    public void testNotExact() {
+        assertNull(ExactMath.add(1, new BigDecimal("0.5")));
+        assertNull(ExactMath.multiply(1.5d, 2));
+        assertNull(ExactMath.divide(1, 3));
+        assertNull(ExactMath.divide(1, 0));
+    }
+
+    @Test
+    public void testSumAndMean() {
+        assertEquals(new BigDecimal("6"), new SumFunction().invoke(Arrays.asList(1, 2, 3)).getOrElse(null));
+        assertEquals(new BigDecimal("6.5"), new SumFunction().invoke(Arrays.asList(1, 2, new BigDecimal("3.5"))).getOrElse(null));
+        assertEquals(new BigDecimal("1999999999999999998"),
+                     new SumFunction().invoke(Arrays.asList(999_999_999_999_999_999L, 999_999_999_999_999_999L)).getOrElse(null));
+        assertEquals(new BigDecimal("9999999999999999990"),
+                     new SumFunction().invoke(Collections.nCopies(10, 999_999_999_999_999_999L)).getOrElse(null));
+        assertEquals(new BigDecimal("2"), new MeanFunction().invoke(Arrays.asList(1, 2, 3)).getOrElse(null));
+        assertEquals(new BigDecimal("2.5"), new MeanFunction().invoke(Arrays.asList(1, 2, 3, 4)).getOrElse(null));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.kie.dmn.feel.model.Address;
+import org.kie.dmn.feel.model.Person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PropertyAccessorsTest {
+
+    @Test
+    public void testGeneratedAccessors() throws Exception {
+        Address address = new Address();
+        Person person = new Person("John", "Doe", address);
+        person.setAge(47);
+
+        assertEquals("John", PropertyAccessors.getAccessor(Person.class, "first name").get(person));
+        assertEquals(47, PropertyAccessors.getAccessor(Person.class, "age").get(person));
+        assertSame(address, PropertyAccessors.getAccessor(Person.class, "home address").get(person));
+        assertNull(PropertyAccessors.getAccessor(Person.class, "unknown"));
+        assertSame(PropertyAccessors.getAccessor(Person.class, "age"), PropertyAccessors.getAccessor(Person.class, "age"));
+    }
+
+    @Test
+    public void testGetterException() throws Exception {
+        PropertyAccessors.Accessor accessor = PropertyAccessors.getAccessor(Failing.class, "value");
+        try {
+            accessor.get(new Failing());
+            fail();
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertFalse(EvalHelper.getDefinedValue(new Failing(), "value").getValueResult().isRight());
+    }
+
+    @Test
+    public void testClassOfChildClassLoader() throws Exception {
+        // a copy of Pojo defined by a child ClassLoader is not visible from the one of PropertyAccessors, as for the classes of a kjar
+        Class<?> childClass = new ChildClassLoader(Pojo.class).loadClass(Pojo.class.getName());
+        assertNotSame(Pojo.class, childClass);
+
+        Object pojo = childClass.getConstructor(String.class).newInstance("a value");
+        assertEquals("a value", PropertyAccessors.getAccessor(childClass, "value").get(pojo));
+        try {
+            PropertyAccessors.getAccessor(childClass, "failing").get(pojo);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testDefinedValue() {
+        Person person = new Person("John", "Doe", 47);
+        assertEquals(new BigDecimal(47), EvalHelper.getDefinedValue(person, "age").getValueResult().getOrElse(null));
+        assertEquals("Doe", EvalHelper.getDefinedValue(person, "last name").getValueResult().getOrElse(null));
+        assertFalse(EvalHelper.getDefinedValue(person, "unknown").isDefined());
+    }
+
+    public static class Pojo {
+
+        private final String value;
+
+        public Pojo(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static class ChildClassLoader extends ClassLoader {
+
+        private final Class<?> redefined;
+
+        private ChildClassLoader(Class<?> redefined) {
+            super(redefined.getClassLoader());
+            this.redefined = redefined;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(redefined.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    String resource = name.replace('.', '/') + ".class";
+                    try (InputStream in = getParent().getResourceAsStream(resource)) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        byte[] buffer = new byte[4096];
+                        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                            out.write(buffer, 0, read);
+                        }
+                        byte[] bytes = out.toByteArray();
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return clazz;
+            }
+        }
+    }
+
+    public static class Failing {
+
+        public String getValue() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -43,7 +43,10 @@ public abstract class KieDMNModelInstrumentedBase implements DMNModelInstrumente
     private DMNModelInstrumentedBase parent;
     private final java.util.List<DMNModelInstrumentedBase> children = new ArrayList<>();
     private Location location;
-    private Map<QName, String> additionalAttributes = new HashMap<>();
+    /**
+     * Created on first access, since most elements have no additional attribute
+     */
+    private volatile Map<QName, String> additionalAttributes;
 
     public String getIdentifierString() {
         if( this instanceof TNamedElement && ((TNamedElement)this).getName() != null ) {
@@ -101,7 +104,17 @@ public abstract class KieDMNModelInstrumentedBase implements DMNModelInstrumente
     }
     
     public Map<QName, String> getAdditionalAttributes() {
-        return additionalAttributes;
+        Map<QName, String> result = additionalAttributes;
+        if (result == null) {
+            synchronized (this) {
+                result = additionalAttributes;
+                if (result == null) {
+                    result = new HashMap<>();
+                    additionalAttributes = result;
+                }
+            }
+        }
+        return result;
     }
 
     public DMNModelInstrumentedBase getParent() {
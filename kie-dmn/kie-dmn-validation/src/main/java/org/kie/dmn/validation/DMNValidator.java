@@ -19,6 +19,7 @@ package org.kie.dmn.validation;
 import java.io.File;
 import java.io.Reader;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.kie.dmn.api.core.DMNMessage;
 import org.kie.dmn.model.api.Definitions;
@@ -138,6 +139,15 @@ public interface DMNValidator {
          */
         public ValidatorBuilder usingImports(ValidatorImportReaderResolver r);
 
+        /**
+         * An Executor to run concurrently the {@link DMNValidator.Validation#VALIDATE_MODEL} of the models, for instance
+         * {@link java.util.concurrent.ForkJoinPool#commonPool()} when validating many models at once.
+         * The messages are returned in the same order as when validating the models sequentially, which is the default.
+         *
+         * @return a reference to this, so the API can be used fluently
+         */
+        public ValidatorBuilder usingExecutor(Executor executor);
+
         /**
          * Validate the models and return the results. 
          * 
@@ -29,6 +29,10 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,8 +48,11 @@ import javax.xml.validation.Validator;
 import org.drools.core.util.Drools;
 import org.kie.api.KieBase;
 import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.builder.ReleaseId;
 import org.kie.api.command.BatchExecutionCommand;
 import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.dmn.api.core.DMNCompiler;
 import org.kie.dmn.api.core.DMNCompilerConfiguration;
@@ -88,6 +95,7 @@ import static org.kie.dmn.validation.DMNValidator.Validation.VALIDATE_SCHEMA;
 
 public class DMNValidatorImpl implements DMNValidator {
     public static final Logger LOG = LoggerFactory.getLogger(DMNValidatorImpl.class);
+    private static final QName DYNAMIC_DECISION_SERVICE_QNAME = new QName("http://www.trisotech.com/2015/triso/modeling", "dynamicDecisionService");
     static final Schema schemav1_1;
     static {
         try {
@@ -130,6 +138,17 @@ public class DMNValidatorImpl implements DMNValidator {
      */
     private Optional<KieContainer> kieContainer;
 
+    /**
+     * The stateless sessions of the validation rules, reused across the validations and grown on demand by the
+     * concurrent ones.
+     */
+    private Optional<KieContainerSessionsPool> kieSessionsPool;
+
+    /**
+     * The KieModule of the validation rules, kept here as the KieRepository may evict it.
+     */
+    private static KieModule validationRulesModule;
+
     /**
      * Collect at init time the runtime issues which prevented to build the `kieContainer` correctly.
      */
@@ -141,34 +160,7 @@ public class DMNValidatorImpl implements DMNValidator {
     private final DMNDTAnalyser dmnDTValidator;
 
     public DMNValidatorImpl(List<DMNProfile> dmnProfiles) {
-        final KieServices ks = KieServices.Factory.get();
-        final KieContainer kieContainer = KieHelper.getKieContainer(
-                ks.newReleaseId( "org.kie", "kie-dmn-validation", Drools.getFullVersion() ),
-                ks.getResources().newReaderResource(new StringReader("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + 
-                        "<kmodule xmlns=\"http://www.drools.org/xsd/kmodule\">\n" + 
-                        "  <kbase name=\"kbase_DMNv1x\" default=\"false\" packages=\"org.kie.dmn.validation.DMNv1x\" />\n" + 
-                        "  <kbase name=\"kbase_DMNv1_1\" default=\"false\" includes=\"kbase_DMNv1x\" packages=\"org.kie.dmn.validation.DMNv1_1\">\n" + 
-                        "    <ksession name=\"ksession_DMNv1_1\" default=\"false\" type=\"stateless\"/>\n" + 
-                        "  </kbase>\n" + 
-                        "  <kbase name=\"kbase_DMNv1_2\" default=\"false\" includes=\"kbase_DMNv1x\" packages=\"org.kie.dmn.validation.DMNv1_2\">\n" + 
-                        "    <ksession name=\"ksession_DMNv1_2\" default=\"false\" type=\"stateless\"/>\n" + 
-                        "  </kbase>\n" + 
-                        "</kmodule>")).setTargetPath("META-INF/kmodule.xml"),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-auth-req.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-bkm.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-business-context.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-context.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-decision.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-dmnelementref.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-dtable.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-info-req.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-inputdata.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-know-req.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-know-source.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_1/dmn-validation-rules-typeref.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_2/dmn-validation-rules-typeref.drl", getClass() ),
-                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_2/dmn-validation-rules-dmndi.drl", getClass()));
+        final KieContainer kieContainer = newValidationRulesContainer();
         if( kieContainer != null ) {
             if (LOG.isDebugEnabled()) {
                 for (String kbName : kieContainer.getKieBaseNames()) {
@@ -178,8 +170,10 @@ public class DMNValidatorImpl implements DMNValidator {
                 }
             }
             this.kieContainer = Optional.of( kieContainer );
+            this.kieSessionsPool = Optional.of( kieContainer.newKieSessionsPool( 1 ) );
         } else {
             this.kieContainer = Optional.empty();
+            this.kieSessionsPool = Optional.empty();
             LOG.error("Unable to load embedded DMN validation rules file." );
             String message = MsgUtil.createMessage( Msg.FAILED_VALIDATOR );
             failedInitMsg.add(new DMNMessageImpl(DMNMessage.Severity.ERROR, message, Msg.FAILED_VALIDATOR.getType(), null ) );
@@ -192,7 +186,51 @@ public class DMNValidatorImpl implements DMNValidator {
         dmnDTValidator = new DMNDTAnalyser(this.dmnProfiles);
     }
     
+    /**
+     * The validation rules are built into a KieModule only once per JVM: each validator then creates its own
+     * KieContainer out of it, without compiling again the rules. The KieModule is added back to the KieRepository
+     * every time, as the repository only keeps the most recently used versions of each artifact.
+     */
+    private static synchronized KieContainer newValidationRulesContainer() {
+        final KieServices ks = KieServices.Factory.get();
+        final ReleaseId releaseId = ks.newReleaseId( "org.kie", "kie-dmn-validation", Drools.getFullVersion() );
+        if (validationRulesModule == null) {
+            KieHelper.createJar(ks,
+                                releaseId,
+                                ks.getResources().newReaderResource(new StringReader("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + 
+                                        "<kmodule xmlns=\"http://www.drools.org/xsd/kmodule\">\n" + 
+                                        "  <kbase name=\"kbase_DMNv1x\" default=\"false\" packages=\"org.kie.dmn.validation.DMNv1x\" />\n" + 
+                                        "  <kbase name=\"kbase_DMNv1_1\" default=\"false\" includes=\"kbase_DMNv1x\" packages=\"org.kie.dmn.validation.DMNv1_1\">\n" + 
+                                        "    <ksession name=\"ksession_DMNv1_1\" default=\"false\" type=\"stateless\"/>\n" + 
+                                        "  </kbase>\n" + 
+                                        "  <kbase name=\"kbase_DMNv1_2\" default=\"false\" includes=\"kbase_DMNv1x\" packages=\"org.kie.dmn.validation.DMNv1_2\">\n" + 
+                                        "    <ksession name=\"ksession_DMNv1_2\" default=\"false\" type=\"stateless\"/>\n" + 
+                                        "  </kbase>\n" + 
+                                        "</kmodule>")).setTargetPath("META-INF/kmodule.xml"),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-auth-req.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-bkm.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-business-context.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-context.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-decision.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-dmnelementref.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-dtable.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-info-req.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-inputdata.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-know-req.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1x/dmn-validation-rules-know-source.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_1/dmn-validation-rules-typeref.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_2/dmn-validation-rules-typeref.drl", DMNValidatorImpl.class ),
+                                ks.getResources().newClassPathResource("org/kie/dmn/validation/DMNv1_2/dmn-validation-rules-dmndi.drl", DMNValidatorImpl.class));
+            validationRulesModule = ks.getRepository().getKieModule(releaseId);
+        } else {
+            ks.getRepository().addKieModule(validationRulesModule);
+        }
+        return ks.newKieContainer(releaseId);
+    }
+
     public void dispose() {
+        kieSessionsPool.ifPresent( KieContainerSessionsPool::shutdown );
         kieContainer.ifPresent( KieContainer::dispose );
     }
 
@@ -201,6 +239,7 @@ public class DMNValidatorImpl implements DMNValidator {
         private final EnumSet<Validation> flags;
         private final DMNValidatorImpl validator;
         private ValidatorImportReaderResolver importResolver;
+        private Executor executor;
 
         public ValidatorBuilderImpl(DMNValidatorImpl dmnValidatorImpl, Validation[] options) {
             this.validator = dmnValidatorImpl;
@@ -213,6 +252,12 @@ public class DMNValidatorImpl implements DMNValidator {
             return this;
         }
 
+        @Override
+        public ValidatorBuilder usingExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         @Override
         public List<DMNMessage> theseModels(File... files) {
             DMNMessageManager results = new DefaultDMNMessagesManager();
@@ -313,49 +358,115 @@ public class DMNValidatorImpl implements DMNValidator {
         }
 
         private void validateDefinitions(List<Definitions> definitions, DMNMessageManager results) {
-            List<Definitions> otherModel_Definitions = new ArrayList<>();
+            if (executor == null || !flags.contains(VALIDATE_MODEL) || definitions.size() < 2) {
+                List<Definitions> otherModel_Definitions = new ArrayList<>();
+                List<DMNModel> otherModel_DMNModels = new ArrayList<>();
+                for (Definitions dmnModel : definitions) {
+                    try {
+                        if (flags.contains(VALIDATE_MODEL)) {
+                            results.addAll(validator.validateModel(dmnModel, otherModel_Definitions));
+                            otherModel_Definitions.add(dmnModel);
+                        }
+                        compileModel(dmnModel, otherModel_DMNModels).accept(results);
+                    } catch (Throwable t) {
+                        reportRuntimeProblem(results, t);
+                    }
+                }
+                return;
+            }
+            // compiling a model normalizes its Definitions, that the rules read as DMNImports of the following models:
+            // all the models are compiled before their rules are validated concurrently
+            List<Consumer<DMNMessageManager>> modelCompilations = compileModels(definitions);
+            List<CompletableFuture<List<DMNMessage>>> modelValidations = validateModelsAsync(definitions);
+            for (int i = 0; i < definitions.size(); i++) {
+                try {
+                    results.addAll(join(modelValidations.get(i)));
+                    modelCompilations.get(i).accept(results);
+                } catch (Throwable t) {
+                    reportRuntimeProblem(results, t);
+                }
+            }
+        }
+
+        /**
+         * Compiles the models in order, each one with the models preceding it; returns for each model how to report the
+         * outcome of its compilation, in the same order the sequential validation reports them.
+         */
+        private List<Consumer<DMNMessageManager>> compileModels(List<Definitions> definitions) {
+            List<Consumer<DMNMessageManager>> modelCompilations = new ArrayList<>();
             List<DMNModel> otherModel_DMNModels = new ArrayList<>();
             for (Definitions dmnModel : definitions) {
                 try {
-                    if (flags.contains(VALIDATE_MODEL)) {
-                        results.addAll(validator.validateModel(dmnModel, otherModel_Definitions));
-                        otherModel_Definitions.add(dmnModel);
-                    }
-                    if (flags.contains(VALIDATE_COMPILATION) || flags.contains(ANALYZE_DECISION_TABLE)) {
-                        DMNCompilerImpl compiler = new DMNCompilerImpl(validator.dmnCompilerConfig);
-                        Function<String, Reader> relativeResolver = null;
-                        if (importResolver != null) {
-                            relativeResolver = locationURI -> importResolver.newReader(dmnModel.getNamespace(),
-                                                                                       dmnModel.getName(),
-                                                                                       locationURI);
-                        }
-                        DMNModel model = compiler.compile(dmnModel,
-                                                          otherModel_DMNModels,
-                                                          null,
-                                                          relativeResolver);
-                        if (model != null) {
-                            results.addAll(model.getMessages());
-                            otherModel_DMNModels.add(model);
-                            if (flags.contains(ANALYZE_DECISION_TABLE)) {
-                                List<DTAnalysis> vs = validator.dmnDTValidator.analyse(model, flags);
-                                List<DMNMessage> dtAnalysisResults = vs.stream().flatMap(a -> a.asDMNMessages().stream()).collect(Collectors.toList());
-                                results.addAllUnfiltered(dtAnalysisResults);
-                            }
-                        } else {
-                            throw new IllegalStateException("Compiled model is null!");
-                        }
-                    }
+                    modelCompilations.add(compileModel(dmnModel, otherModel_DMNModels));
                 } catch (Throwable t) {
-                    MsgUtil.reportMessage(LOG,
-                                          DMNMessage.Severity.ERROR,
-                                          null,
-                                          results,
-                                          t,
-                                          null,
-                                          Msg.VALIDATION_RUNTIME_PROBLEM,
-                                          t.getMessage());
+                    modelCompilations.add(results -> reportRuntimeProblem(results, t));
                 }
             }
+            return modelCompilations;
+        }
+
+        private Consumer<DMNMessageManager> compileModel(Definitions dmnModel, List<DMNModel> otherModel_DMNModels) {
+            if (!flags.contains(VALIDATE_COMPILATION) && !flags.contains(ANALYZE_DECISION_TABLE)) {
+                return results -> { };
+            }
+            DMNCompilerImpl compiler = new DMNCompilerImpl(validator.dmnCompilerConfig);
+            Function<String, Reader> relativeResolver = null;
+            if (importResolver != null) {
+                relativeResolver = locationURI -> importResolver.newReader(dmnModel.getNamespace(),
+                                                                           dmnModel.getName(),
+                                                                           locationURI);
+            }
+            DMNModel model = compiler.compile(dmnModel,
+                                              otherModel_DMNModels,
+                                              null,
+                                              relativeResolver);
+            if (model == null) {
+                throw new IllegalStateException("Compiled model is null!");
+            }
+            otherModel_DMNModels.add(model);
+            if (!flags.contains(ANALYZE_DECISION_TABLE)) {
+                return results -> results.addAll(model.getMessages());
+            }
+            List<DTAnalysis> vs = validator.dmnDTValidator.analyse(model, flags);
+            List<DMNMessage> dtAnalysisResults = vs.stream().flatMap(a -> a.asDMNMessages().stream()).collect(Collectors.toList());
+            return results -> {
+                results.addAll(model.getMessages());
+                results.addAllUnfiltered(dtAnalysisResults);
+            };
+        }
+
+        private static void reportRuntimeProblem(DMNMessageManager results, Throwable t) {
+            MsgUtil.reportMessage(LOG,
+                                  DMNMessage.Severity.ERROR,
+                                  null,
+                                  results,
+                                  t,
+                                  null,
+                                  Msg.VALIDATION_RUNTIME_PROBLEM,
+                                  t.getMessage());
+        }
+
+        /**
+         * Starts the validation of the rules of each model on the executor, with the models preceding it as imports, the
+         * same ones it is validated with sequentially.
+         */
+        private List<CompletableFuture<List<DMNMessage>>> validateModelsAsync(List<Definitions> definitions) {
+            List<CompletableFuture<List<DMNMessage>>> modelValidations = new ArrayList<>();
+            for (int i = 0; i < definitions.size(); i++) {
+                Definitions dmnModel = definitions.get(i);
+                List<Definitions> otherModel_Definitions = definitions.subList(0, i);
+                modelValidations.add(CompletableFuture.supplyAsync(() -> validator.validateModel(dmnModel, otherModel_Definitions), executor));
+            }
+            return modelValidations;
+        }
+
+        private static List<DMNMessage> join(CompletableFuture<List<DMNMessage>> modelValidation) throws Throwable {
+            try {
+                return modelValidation.join();
+            } catch (CompletionException e) {
+                // reported as the sequential validation would do
+                throw e.getCause() != null ? e.getCause() : e;
+            }
         }
 
         private List<Definitions> internalValidatorSortModels(List<Definitions> ms) {
@@ -563,14 +674,14 @@ public class DMNValidatorImpl implements DMNValidator {
             kieSessionName = "ksession_DMNv1_1";
         }
 
-        StatelessKieSession kieSession = kieContainer.get().newStatelessKieSession(kieSessionName);
+        StatelessKieSession kieSession = kieSessionsPool.get().newStatelessKieSession(kieSessionName);
         MessageReporter reporter = new MessageReporter();
         kieSession.setGlobal( "reporter", reporter );
 
         // exclude dynamicDecisionService for validation
         List<DMNModelInstrumentedBase> dmnModelElements = allChildren(dmnModel)
                        .filter(d -> !(d instanceof DecisionService &&
-                               Boolean.parseBoolean(d.getAdditionalAttributes().get(new QName("http://www.trisotech.com/2015/triso/modeling", "dynamicDecisionService")))))
+                               Boolean.parseBoolean(d.getAdditionalAttributes().get(DYNAMIC_DECISION_SERVICE_QNAME))))
                        .collect(toList());
         BatchExecutionCommand batch = CommandFactory.newBatchExecution(Arrays.asList(CommandFactory.newInsertElements(dmnModelElements, "DEFAULT", false, "DEFAULT"),
                                                                                      CommandFactory.newInsertElements(otherModel_Definitions, "DMNImports", false, "DMNImports")));
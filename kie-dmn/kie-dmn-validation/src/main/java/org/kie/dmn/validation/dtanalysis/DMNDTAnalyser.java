@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -359,7 +360,9 @@ public class DMNDTAnalyser {
             List<Interval> activeIntervals = new ArrayList<>();
             Bound<?> lastBound = bounds.get(0);
             for (Bound<?> currentBound : bounds) {
-                LOG.debug("lastBound {} currentBound {}      activeIntervals {} == rules {}", lastBound, currentBound, activeIntervals, activeIntervalsToRules(activeIntervals));
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("lastBound {} currentBound {}      activeIntervals {} == rules {}", lastBound, currentBound, activeIntervals, activeIntervalsToRules(activeIntervals));
+                }
                 if (activeIntervals.size() > 1 && canBeNewCurrInterval(lastBound, currentBound)) {
                     Interval analysisInterval = new Interval(lastBound.isUpperBound() ? Interval.invertBoundary(lastBound.getBoundaryType()) : lastBound.getBoundaryType(),
                                                              lastBound.getValue(),
@@ -392,7 +395,6 @@ public class DMNDTAnalyser {
     private static void findGaps(DTAnalysis analysis, DDTATable ddtaTable, int jColIdx, Interval[] currentIntervals, Collection<Integer> activeRules) {
         LOG.debug("findGaps jColIdx {}, currentIntervals {}, activeRules {}", jColIdx, currentIntervals, activeRules);
         if (jColIdx < ddtaTable.inputCols()) {
-            findBoundsSorted(ddtaTable, jColIdx, activeRules);
             List<Bound> bounds = findBoundsSorted(ddtaTable, jColIdx, activeRules);
             Interval domainRange = ddtaTable.getInputs().get(jColIdx).getDomainMinMax();
 
@@ -407,7 +409,9 @@ public class DMNDTAnalyser {
             List<Interval> activeIntervals = new ArrayList<>();
             Bound<?> lastBound = null;
             for (Bound<?> currentBound : bounds) {
-                LOG.debug("lastBound {} currentBound {}      activeIntervals {} == rules {}", lastBound, currentBound, activeIntervals, activeIntervalsToRules(activeIntervals));
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("lastBound {} currentBound {}      activeIntervals {} == rules {}", lastBound, currentBound, activeIntervals, activeIntervalsToRules(activeIntervals));
+                }
                 if (activeIntervals.isEmpty() && lastBound != null && !Bound.adOrOver(lastBound, currentBound)) {
                     currentIntervals[jColIdx] = lastDimensionUncoveredInterval(lastBound, currentBound, domainRange);
                     Hyperrectangle gap = new Hyperrectangle(ddtaTable.inputCols(), buildEdgesForHyperrectangleFromIntervals(currentIntervals, jColIdx));
@@ -445,7 +449,8 @@ public class DMNDTAnalyser {
     private static List<Bound> findBoundsSorted(DDTATable ddtaTable, int jColIdx, Collection<Integer> activeRules) {
         List<Interval> intervals = ddtaTable.projectOnColumnIdx(jColIdx);
         if (!activeRules.isEmpty()) {
-            intervals = intervals.stream().filter(i -> activeRules.contains(i.getRule())).collect(Collectors.toList());
+            Set<Integer> activeRulesSet = new HashSet<>(activeRules);
+            intervals = intervals.stream().filter(i -> activeRulesSet.contains(i.getRule())).collect(Collectors.toList());
         }
         LOG.debug("intervals {}", intervals);
         List<Bound> bounds = intervals.stream().flatMap(i -> Stream.of(i.getLowerBound(), i.getUpperBound())).collect(Collectors.toList());
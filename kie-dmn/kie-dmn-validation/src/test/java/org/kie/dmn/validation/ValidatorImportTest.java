@@ -21,6 +21,8 @@ import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -136,6 +138,26 @@ public class ValidatorImportTest extends AbstractValidatorTest {
                                                                                                  .equals("http://www.trisotech.com/definitions/_70df1ad5-2a33-4ede-b8b2-869988ac1d30#_1d52934e-aa4e-47c9-a011-fc989d795664")));
     }
 
+    @Test
+    public void testWrongImportBaseModelUsingExecutor() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<DMNMessage> messages = validator.validateUsing(Validation.VALIDATE_MODEL,
+                                                                      Validation.VALIDATE_COMPILATION)
+                                                       .usingExecutor(executor)
+                                                       .theseModels(getFile("import/Wrong-Import-base-model.dmn"), // the sorting puts it 2nd
+                                                                    getFile("import/Base-model.dmn"));
+            final List<DMNMessage> sequential = validator.validateUsing(Validation.VALIDATE_MODEL,
+                                                                        Validation.VALIDATE_COMPILATION)
+                                                         .theseModels(getFile("import/Wrong-Import-base-model.dmn"),
+                                                                      getFile("import/Base-model.dmn"));
+            assertThat(ValidatorUtil.formatMessages(messages), ValidatorUtil.formatMessages(messages), is(ValidatorUtil.formatMessages(sequential)));
+            assertTrue(messages.stream().anyMatch(p -> p.getMessageType().equals(DMNMessageType.REQ_NOT_FOUND)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testWrongImportBaseModelFromDefinitionsInput() throws IOException {
         final List<DMNMessage> messages = validator.validateUsing(Validation.VALIDATE_MODEL)
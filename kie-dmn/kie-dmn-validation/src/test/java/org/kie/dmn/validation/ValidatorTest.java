@@ -23,8 +23,10 @@ import java.io.Reader;
 import java.net.URISyntaxException;
 import java.util.List;
 
+import org.drools.core.util.Drools;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.kie.api.KieServices;
 import org.kie.api.builder.Message.Level;
 import org.kie.dmn.api.core.DMNMessage;
 import org.kie.dmn.api.core.DMNMessageType;
@@ -130,6 +132,20 @@ public class ValidatorTest extends AbstractValidatorTest {
         assertThat( ValidatorUtil.formatMessages( validate ), validate.size(), is( 0 ) );
     }
 
+    @Test
+    public void testValidationRulesEvictedFromKieRepository() {
+        // as the KieRepository does once it holds too many versions of the artifact
+        final KieServices ks = KieServices.Factory.get();
+        ks.getRepository().removeKieModule( ks.newReleaseId( "org.kie", "kie-dmn-validation", Drools.getFullVersion() ) );
+        final DMNValidator newValidator = DMNValidatorFactory.newValidator();
+        try {
+            List<DMNMessage> validate = newValidator.validate( getReader( "NAME_IS_VALID.dmn" ), VALIDATE_SCHEMA, VALIDATE_MODEL, VALIDATE_COMPILATION);
+            assertThat( ValidatorUtil.formatMessages( validate ), validate.size(), is( 0 ) );
+        } finally {
+            newValidator.dispose();
+        }
+    }
+
     @Test
     public void testNAME_INVALID_empty_name() {
         List<DMNMessage> validate = validator.validate( getReader( "DROOLS-1447.dmn" ), VALIDATE_SCHEMA, VALIDATE_MODEL, VALIDATE_COMPILATION);
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.commons;
+
+/**
+ * Generates a <b>MiningModel</b> summing <code>segments</code> <b>RegressionModel</b>s, each of them selected by a
+ * <b>SimplePredicate</b> on <b>input1</b>.
+ * <p>
+ * It is shared by <b>kie-pmml-benchmarks-mining</b> and <b>kie-pmml-benchmarks-legacy</b>, the only aggregation
+ * supported by both implementations for <b>RegressionModel</b> segments being <b>sum</b>.
+ */
+public final class SumRegressionEnsembleSource {
+
+    public static final String MODEL_NAME = "SumRegressionEnsemble";
+    public static final String[] INPUTS = {"input1", "input2", "input3"};
+
+    private SumRegressionEnsembleSource() {
+        // Avoid instantiation
+    }
+
+    public static String getSource(final int segments) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("<PMML xmlns=\"http://www.dmg.org/PMML-4_2\" version=\"4.2\">\n")
+                .append("  <Header/>\n")
+                .append("  <DataDictionary numberOfFields=\"4\">\n");
+        for (String input : INPUTS) {
+            builder.append("    <DataField name=\"").append(input).append("\" optype=\"continuous\" dataType=\"double\"/>\n");
+        }
+        builder.append("    <DataField name=\"result\" optype=\"continuous\" dataType=\"double\"/>\n")
+                .append("  </DataDictionary>\n")
+                .append("  <MiningModel modelName=\"").append(MODEL_NAME).append("\" functionName=\"regression\">\n");
+        appendMiningSchema(builder, "    ");
+        builder.append("    <Segmentation multipleModelMethod=\"sum\">\n");
+        for (int i = 0; i < segments; i++) {
+            builder.append("      <Segment id=\"").append(i + 1).append("\">\n")
+                    .append("        <SimplePredicate field=\"input1\" operator=\"greaterThan\" value=\"").append((i % 10) * 10).append("\"/>\n")
+                    .append("        <RegressionModel modelName=\"").append(MODEL_NAME).append("Segment").append(i + 1)
+                    .append("\" functionName=\"regression\" targetFieldName=\"result\">\n");
+            appendMiningSchema(builder, "          ");
+            builder.append("          <RegressionTable intercept=\"").append(i).append("\">\n");
+            for (int j = 0; j < INPUTS.length; j++) {
+                builder.append("            <NumericPredictor name=\"").append(INPUTS[j]).append("\" exponent=\"").append(j + 1)
+                        .append("\" coefficient=\"").append((i + j) % 7 + 1).append("\"/>\n");
+            }
+            builder.append("          </RegressionTable>\n")
+                    .append("        </RegressionModel>\n")
+                    .append("      </Segment>\n");
+        }
+        builder.append("    </Segmentation>\n")
+                .append("  </MiningModel>\n")
+                .append("</PMML>\n");
+        return builder.toString();
+    }
+
+    private static void appendMiningSchema(final StringBuilder builder, final String indent) {
+        builder.append(indent).append("<MiningSchema>\n");
+        for (String input : INPUTS) {
+            builder.append(indent).append("  <MiningField name=\"").append(input).append("\" usageType=\"active\"/>\n");
+        }
+        builder.append(indent).append("  <MiningField name=\"result\" usageType=\"target\"/>\n")
+                .append(indent).append("</MiningSchema>\n");
+    }
+}
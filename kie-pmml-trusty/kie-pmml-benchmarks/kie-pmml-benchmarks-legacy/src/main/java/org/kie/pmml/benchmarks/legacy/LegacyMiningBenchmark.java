@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.legacy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.benchmarks.commons.SumRegressionEnsembleSource;
+import org.kie.pmml.pmml_4_2.PMML4ExecutionHelper;
+import org.kie.pmml.pmml_4_2.PMMLRequestDataBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.benchmarks.commons.SumRegressionEnsembleSource.MODEL_NAME;
+
+/**
+ * Evaluates with the legacy <b>kie-pmml</b> the <b>sum</b> ensemble of <b>RegressionModel</b>s evaluated by the trusty
+ * implementation in <b>kie-pmml-benchmarks-mining</b>
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class LegacyMiningBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyMiningBenchmark.class);
+
+    @Param({"4", "50", "300"})
+    int segments;
+
+    private PMML4ExecutionHelper helper;
+    private PMMLRequestData pmmlRequestData;
+
+    @Setup
+    public void setupModel() {
+        logger.debug("setup model...");
+        final byte[] content = SumRegressionEnsembleSource.getSource(segments).getBytes(StandardCharsets.UTF_8);
+        helper = PMML4ExecutionHelper.PMML4ExecutionHelperFactory.getExecutionHelper(MODEL_NAME, content, null, true);
+        logger.debug("setup pmmlRequestData...");
+        pmmlRequestData = new PMMLRequestDataBuilder("123", MODEL_NAME)
+                .addParameter("input1", 55.0, Double.class)
+                .addParameter("input2", 3.0, Double.class)
+                .addParameter("input3", 1.5, Double.class)
+                .build();
+    }
+
+    @Benchmark
+    public PMML4Result evaluate() {
+        return helper.submitRequest(pmmlRequestData);
+    }
+}
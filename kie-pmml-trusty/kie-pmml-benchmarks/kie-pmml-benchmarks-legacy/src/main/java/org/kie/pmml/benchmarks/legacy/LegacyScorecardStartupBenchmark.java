@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.legacy;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.pmml.assembler.PMMLCompilationCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds a <code>KieBase</code> with {@link #SCORECARDS} legacy scorecards, as done at startup, with the
+ * <code>PMMLCompilationCache</code> disabled, kept in memory or read from its directory
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 3)
+public class LegacyScorecardStartupBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyScorecardStartupBenchmark.class);
+    private static final int SCORECARDS = 40;
+    private static final String FILE_NAME = "LegacyScorecard.pmml";
+    private static final String MODEL_NAME = "Sample Score";
+    private static final String MODEL_PACKAGE = "org.drools.scorecards.example";
+
+    @Param({"disabled", "memory", "persistent"})
+    String cache;
+
+    private String[] sources;
+
+    @Setup
+    public void setupSources() throws Exception {
+        logger.debug("setup sources...");
+        final String source;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getClassLoader().getResourceAsStream(FILE_NAME), StandardCharsets.UTF_8))) {
+            source = reader.lines().collect(Collectors.joining("\n"));
+        }
+        sources = new String[SCORECARDS];
+        for (int i = 0; i < SCORECARDS; i++) {
+            sources[i] = source.replace("modelName=\"" + MODEL_NAME + "\"", "modelName=\"" + MODEL_NAME + " " + i + "\"")
+                    .replace("value=\"" + MODEL_PACKAGE + "\"", "value=\"" + MODEL_PACKAGE + i + "\"");
+        }
+        System.setProperty(PMMLCompilationCache.CACHE_DISABLED_PROPERTY, String.valueOf("disabled".equals(cache)));
+        if ("persistent".equals(cache)) {
+            System.setProperty(PMMLCompilationCache.CACHE_DIR_PROPERTY, Files.createTempDirectory("kie-pmml-cache").toString());
+        } else {
+            System.clearProperty(PMMLCompilationCache.CACHE_DIR_PROPERTY);
+        }
+        PMMLCompilationCache.clear();
+        logger.debug("populate cache...");
+        buildKieBase();
+    }
+
+    /**
+     * Leave only the persistent entries, as after a restart
+     */
+    @Setup(Level.Iteration)
+    public void clearMemoryCache() {
+        if ("persistent".equals(cache)) {
+            PMMLCompilationCache.clear();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(PMMLCompilationCache.CACHE_DISABLED_PROPERTY);
+        System.clearProperty(PMMLCompilationCache.CACHE_DIR_PROPERTY);
+    }
+
+    @Benchmark
+    public KieBase buildKieBase() {
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        for (int i = 0; i < SCORECARDS; i++) {
+            kfs.write("src/main/resources/LegacyScorecard" + i + ".pmml", sources[i]);
+        }
+        final KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        final ReleaseId relId = kieBuilder.getKieModule().getReleaseId();
+        return ks.newKieContainer(relId).getKieBase();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.mining;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.benchmarks.commons.SumRegressionEnsembleSource;
+import org.kie.pmml.evaluator.api.executor.PMMLContext;
+import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.benchmarks.commons.SumRegressionEnsembleSource.MODEL_NAME;
+
+/**
+ * Evaluates a <b>sum</b> ensemble of <b>RegressionModel</b>s; the same ensemble is evaluated by the legacy
+ * implementation in <b>kie-pmml-benchmarks-legacy</b>
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class MiningBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(MiningBenchmark.class);
+
+    @Param({"4", "50", "300"})
+    int segments;
+
+    private PMMLRuntime pmmlRuntime;
+    private PMMLContext pmmlContext;
+
+    @Setup
+    public void setupModel() {
+        logger.debug("setup model...");
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.write("src/main/resources/SumRegressionEnsemble.pmml", SumRegressionEnsembleSource.getSource(segments));
+        final KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        final ReleaseId relId = kieBuilder.getKieModule().getReleaseId();
+        pmmlRuntime = ks.newKieContainer(relId).getKieBase().newKieSession().getKieRuntime(PMMLRuntime.class);
+        logger.debug("setup pmmlContext...");
+        PMMLRequestData pmmlRequestData = new PMMLRequestData("123", MODEL_NAME);
+        pmmlRequestData.addRequestParam("input1", 55.0);
+        pmmlRequestData.addRequestParam("input2", 3.0);
+        pmmlRequestData.addRequestParam("input3", 1.5);
+        pmmlContext = new PMMLContextImpl(pmmlRequestData);
+    }
+
+    @Benchmark
+    public PMML4Result evaluate() {
+        return pmmlRuntime.evaluate(MODEL_NAME, pmmlContext);
+    }
+}
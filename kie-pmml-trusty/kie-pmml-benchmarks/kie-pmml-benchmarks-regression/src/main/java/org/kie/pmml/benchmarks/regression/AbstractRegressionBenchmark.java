@@ -28,6 +28,8 @@ import org.kie.api.pmml.PMML4Result;
 import org.kie.api.runtime.KieSession;
 import org.kie.pmml.commons.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchRequestData;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchResult;
 import org.kie.pmml.evaluator.api.executor.PMMLContext;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -64,7 +66,15 @@ public abstract class AbstractRegressionBenchmark {
         model = pmmlRuntime.getModel(modelName).orElseThrow(() -> new KiePMMLException("Failed to retrieve the model"));
     }
 
+    protected KiePMMLModel getModel() {
+        return model;
+    }
+
     protected PMML4Result evaluate() {
         return pmmlRuntime.evaluate(model.getName(), pmmlContext);
     }
+
+    protected PMMLBatchResult evaluate(final PMMLBatchRequestData requestData) {
+        return pmmlRuntime.evaluate(model.getName(), requestData);
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.regression;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchRequestData;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchResult;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the rows per second scored one <code>PMMLContext</code> at a time with the ones scored through
+ * a single <code>PMMLBatchRequestData</code>
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class BatchRegressionBenchmark extends AbstractRegressionBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchRegressionBenchmark.class);
+    private static final int ROWS = 1000;
+
+    private PMMLRequestData[] rowRequests;
+    private PMMLBatchRequestData batchRequestData;
+
+    @Setup
+    public void setupModel() throws Exception {
+        logger.debug("setup model...");
+        modelName = "Sample for linear regression";
+        fileName = "LinearRegressionSample.pmml";
+        super.setupModel();
+        logger.debug("setup rows...");
+        final int[] ages = new int[ROWS];
+        final double[] salaries = new double[ROWS];
+        final String[] carLocations = new String[ROWS];
+        rowRequests = new PMMLRequestData[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            ages[row] = 20 + row % 50;
+            salaries[row] = 1000 + row;
+            carLocations[row] = row % 2 == 0 ? "carpark" : "street";
+            PMMLRequestData pmmlRequestData = new PMMLRequestData(String.valueOf(row), modelName);
+            pmmlRequestData.addRequestParam("age", ages[row]);
+            pmmlRequestData.addRequestParam("salary", salaries[row]);
+            pmmlRequestData.addRequestParam("car_location", carLocations[row]);
+            rowRequests[row] = pmmlRequestData;
+        }
+        batchRequestData = new PMMLBatchRequestData("123", modelName, ROWS)
+                .addColumn("age", ages)
+                .addColumn("salary", salaries)
+                .addColumn("car_location", Arrays.copyOf(carLocations, ROWS, Object[].class));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void evaluateSingleRows(Blackhole blackhole) {
+        for (PMMLRequestData rowRequest : rowRequests) {
+            pmmlContext = new PMMLContextImpl(rowRequest);
+            blackhole.consume(evaluate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public PMMLBatchResult evaluateBatch() {
+        return evaluate(batchRequestData);
+    }
+}
@@ -15,12 +15,19 @@
  */
 package org.kie.pmml.benchmarks.regression;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.kie.api.pmml.PMML4Result;
 import org.kie.api.pmml.PMMLRequestData;
 import org.kie.pmml.evaluator.api.executor.PMMLContext;
 import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionClassificationTable;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionModel;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionTable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -59,6 +66,10 @@ public class CategoricalBatchBenchmark extends AbstractRegressionBenchmark {
     @Param({"0", "1", "2", "3", "4", "5", "6"})
     int index;
 
+    private List<KiePMMLRegressionTable> categoryTables;
+    private List<double[][]> numericInputs;
+    private List<Object[][]> categoricalInputs;
+
     private static PMMLContext readCSV(String line) {
         if (line.startsWith("Age")) {
             return null;
@@ -76,6 +87,20 @@ public class CategoricalBatchBenchmark extends AbstractRegressionBenchmark {
         return new PMMLContextImpl(pmmlRequestData);
     }
 
+    private static Map<String, Object> readCSVInputData(String line) {
+        final String[] split = line.split(",");
+        final Map<String, Object> toReturn = new HashMap<>();
+        toReturn.put("Age", Integer.valueOf(split[0]));
+        toReturn.put("Employment", split[1]);
+        toReturn.put("Education", split[2]);
+        toReturn.put("Marital", split[3]);
+        toReturn.put("Occupation", split[4]);
+        toReturn.put("Income", Double.valueOf(split[5]));
+        toReturn.put("Gender", split[6]);
+        toReturn.put("Hours", Integer.valueOf(split[8]));
+        return toReturn;
+    }
+
     @Setup
     public void setupModel() throws Exception {
         logger.debug("setup model...");
@@ -84,10 +109,38 @@ public class CategoricalBatchBenchmark extends AbstractRegressionBenchmark {
         super.setupModel();
         logger.debug("setup pmmlContext...");
         pmmlContext = readCSV(LINES[index]);
+        logger.debug("setup rows...");
+        final KiePMMLRegressionClassificationTable classificationTable = (KiePMMLRegressionClassificationTable) ((KiePMMLRegressionModel) getModel()).getRegressionTable();
+        categoryTables = new ArrayList<>(classificationTable.getCategoryTableMap().values());
+        numericInputs = new ArrayList<>();
+        categoricalInputs = new ArrayList<>();
+        for (KiePMMLRegressionTable categoryTable : categoryTables) {
+            final double[][] tableNumericInputs = new double[LINES.length][];
+            final Object[][] tableCategoricalInputs = new Object[LINES.length][];
+            for (int i = 0; i < LINES.length; i++) {
+                final Map<String, Object> inputData = readCSVInputData(LINES[i]);
+                tableNumericInputs[i] = categoryTable.getNumericInputs(inputData);
+                tableCategoricalInputs[i] = categoryTable.getCategoricalInputs(inputData);
+            }
+            numericInputs.add(tableNumericInputs);
+            categoricalInputs.add(tableCategoricalInputs);
+        }
     }
 
     @Benchmark
     public PMML4Result evaluate() {
         return super.evaluate();
     }
+
+    /**
+     * Scores all the {@link #LINES} at once through the indexed inputs of each category <code>KiePMMLRegressionTable</code>
+     */
+    @Benchmark
+    public double[][] evaluateRows() {
+        final double[][] toReturn = new double[categoryTables.size()][];
+        for (int i = 0; i < toReturn.length; i++) {
+            toReturn[i] = categoryTables.get(i).evaluateRegression(numericInputs.get(i), categoricalInputs.get(i));
+        }
+        return toReturn;
+    }
 }
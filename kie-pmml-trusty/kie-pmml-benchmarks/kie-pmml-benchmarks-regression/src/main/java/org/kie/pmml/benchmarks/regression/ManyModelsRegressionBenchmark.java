@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.regression;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.evaluator.api.executor.PMMLContext;
+import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.kie.pmml.evaluator.core.utils.KnowledgeBaseUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deploys {@link #MODELS} regression models in the same <code>KieBase</code>, to compare the model lookup through the
+ * <code>KieBase</code> packages with the one through the <code>PMMLRuntime</code> index
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class ManyModelsRegressionBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ManyModelsRegressionBenchmark.class);
+    private static final int MODELS = 50;
+    private static final String FILE_NAME = "LinearRegressionSample.pmml";
+    private static final String MODEL_NAME = "Sample for linear regression";
+
+    private KieBase kieBase;
+    private PMMLRuntime pmmlRuntime;
+    private String[] modelNames;
+    private PMMLContext[] pmmlContexts;
+    private int counter;
+
+    @Setup
+    public void setupModels() throws Exception {
+        logger.debug("setup models...");
+        final String source;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getClassLoader().getResourceAsStream(FILE_NAME), StandardCharsets.UTF_8))) {
+            source = reader.lines().collect(Collectors.joining("\n"));
+        }
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        modelNames = new String[MODELS];
+        pmmlContexts = new PMMLContext[MODELS];
+        for (int i = 0; i < MODELS; i++) {
+            modelNames[i] = MODEL_NAME + " " + i;
+            kfs.write("src/main/resources/LinearRegressionSample" + i + ".pmml",
+                      source.replace("modelName=\"" + MODEL_NAME + "\"", "modelName=\"" + modelNames[i] + "\""));
+            PMMLRequestData pmmlRequestData = new PMMLRequestData("123", modelNames[i]);
+            pmmlRequestData.addRequestParam("age", 22);
+            pmmlRequestData.addRequestParam("salary", 2345.43);
+            pmmlRequestData.addRequestParam("car_location", "carpark");
+            pmmlContexts[i] = new PMMLContextImpl(pmmlRequestData);
+        }
+        final KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        final ReleaseId relId = kieBuilder.getKieModule().getReleaseId();
+        kieBase = ks.newKieContainer(relId).getKieBase();
+        pmmlRuntime = kieBase.newKieSession().getKieRuntime(PMMLRuntime.class);
+    }
+
+    /**
+     * The per-call discovery the <code>PMMLRuntime</code> did before the index
+     */
+    @Benchmark
+    public Optional<KiePMMLModel> lookupKieBase() {
+        return KnowledgeBaseUtils.getModel(kieBase, modelNames[nextModel()]);
+    }
+
+    @Benchmark
+    public Optional<KiePMMLModel> lookupIndex() {
+        return pmmlRuntime.getModel(modelNames[nextModel()]);
+    }
+
+    @Benchmark
+    public PMML4Result evaluate() {
+        final int model = nextModel();
+        return pmmlRuntime.evaluate(modelNames[model], pmmlContexts[model]);
+    }
+
+    private int nextModel() {
+        counter = counter == MODELS - 1 ? 0 : counter + 1;
+        return counter;
+    }
+}
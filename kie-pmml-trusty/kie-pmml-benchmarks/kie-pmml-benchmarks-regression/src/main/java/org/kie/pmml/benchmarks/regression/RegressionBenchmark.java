@@ -15,11 +15,16 @@
  */
 package org.kie.pmml.benchmarks.regression;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.kie.api.pmml.PMML4Result;
 import org.kie.api.pmml.PMMLRequestData;
 import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionModel;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionTable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -42,6 +47,11 @@ import org.slf4j.LoggerFactory;
 public class RegressionBenchmark extends AbstractRegressionBenchmark {
 
     private static final Logger logger = LoggerFactory.getLogger(RegressionBenchmark.class);
+    private static final int ROWS = 1000;
+
+    private KiePMMLRegressionTable regressionTable;
+    private double[][] numericInputs;
+    private Object[][] categoricalInputs;
 
     @Setup
     public void setupModel() throws Exception {
@@ -55,10 +65,28 @@ public class RegressionBenchmark extends AbstractRegressionBenchmark {
         pmmlRequestData.addRequestParam("salary", 2345.43);
         pmmlRequestData.addRequestParam("car_location", "carpark");
         pmmlContext = new PMMLContextImpl(pmmlRequestData);
+        logger.debug("setup rows...");
+        regressionTable = ((KiePMMLRegressionModel) getModel()).getRegressionTable();
+        final Map<String, Object> inputData = new HashMap<>();
+        inputData.put("age", 22);
+        inputData.put("salary", 2345.43);
+        inputData.put("car_location", "carpark");
+        numericInputs = new double[ROWS][];
+        categoricalInputs = new Object[ROWS][];
+        Arrays.fill(numericInputs, regressionTable.getNumericInputs(inputData));
+        Arrays.fill(categoricalInputs, regressionTable.getCategoricalInputs(inputData));
     }
 
     @Benchmark
     public PMML4Result evaluate() {
         return super.evaluate();
     }
+
+    /**
+     * Scores {@link #ROWS} rows at once through the indexed inputs of the <code>KiePMMLRegressionTable</code>
+     */
+    @Benchmark
+    public double[] evaluateRows() {
+        return regressionTable.evaluateRegression(numericInputs, categoricalInputs);
+    }
 }
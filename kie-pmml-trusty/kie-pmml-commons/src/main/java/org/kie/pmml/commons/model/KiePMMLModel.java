@@ -92,6 +92,16 @@ public abstract class KiePMMLModel extends AbstractKiePMMLBase {
      */
     public abstract Object evaluate(final Object knowledgeBase, Map<String, Object> requestData);
 
+    /**
+     * By default a model is not meant to be evaluated by many threads at once, since an evaluation may keep its results
+     * in the <b>outputFieldsMap</b>.
+     * To be eventually overridden.
+     * @return
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+
 
     public abstract static class Builder<T extends KiePMMLModel> extends AbstractKiePMMLBase.Builder<T> {
 
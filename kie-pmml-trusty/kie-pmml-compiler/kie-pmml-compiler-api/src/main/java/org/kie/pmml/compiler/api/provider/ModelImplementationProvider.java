@@ -29,6 +29,15 @@ public interface ModelImplementationProvider<T extends Model, E extends KiePMMLM
 
     PMML_MODEL getPMMLModelType();
 
+    /**
+     * When more implementations of the same <code>PMML_MODEL</code> are on the classpath, the one with the highest
+     * priority compiles the model, regardless of the classpath order
+     * @return
+     */
+    default int getPriority() {
+        return 0;
+    }
+
     /**
      *
      * @param dataDictionary
@@ -15,6 +15,7 @@
  */
 package org.kie.pmml.compiler.commons.implementations;
 
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -82,14 +83,16 @@ public class KiePMMLModelRetriever {
     }
 
     /**
-     * Returns a <code>Stream</code> with <code>ModelImplementationProvider</code> targeting the given <code>Model</code>
+     * Returns a <code>Stream</code> with <code>ModelImplementationProvider</code> targeting the given <code>Model</code>,
+     * sorted by descending priority
      * @param model
      * @return
      */
     private static Stream<ModelImplementationProvider<Model, KiePMMLModel>> getModelImplementationProviderStream(final Model model) {
         final PMML_MODEL pmmlMODEL = PMML_MODEL.byName(model.getClass().getSimpleName());
-        return modelImplementationProviderFinder.getImplementations(false)
+        return modelImplementationProviderFinder.<Model, KiePMMLModel>getImplementations(false)
                 .stream()
-                .filter(implementation -> pmmlMODEL.equals(implementation.getPMMLModelType()));
+                .filter(implementation -> pmmlMODEL.equals(implementation.getPMMLModelType()))
+                .sorted(Comparator.comparingInt((ModelImplementationProvider<Model, KiePMMLModel> implementation) -> implementation.getPriority()).reversed());
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.api.executor;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+
+/**
+ * Columnar input of a batch evaluation: the values of each field are given as an array, with one item for each row.
+ * <p>
+ * The columns may be <code>double[]</code>, <code>int[]</code>, <code>long[]</code>, <code>boolean[]</code> or
+ * <code>Object[]</code>. A missing value is represented by <code>Double.NaN</code> in a <code>double[]</code> and by
+ * <code>null</code> in an <code>Object[]</code>, while a field without column is missing in every row.
+ */
+public class PMMLBatchRequestData {
+
+    private static final String WRONG_COLUMN_SIZE = "Column %s has %s values, expected %s";
+
+    private final String correlationId;
+    private final String modelName;
+    private final int rows;
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+
+    public PMMLBatchRequestData(final String correlationId, final String modelName, final int rows) {
+        this.correlationId = correlationId;
+        this.modelName = modelName;
+        this.rows = rows;
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final double[] values) {
+        return putColumn(fieldName, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final int[] values) {
+        return putColumn(fieldName, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final long[] values) {
+        return putColumn(fieldName, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final boolean[] values) {
+        return putColumn(fieldName, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final Object[] values) {
+        return putColumn(fieldName, values);
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the columns, by field name
+     */
+    public Map<String, Object> getColumns() {
+        return Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * @param fieldName
+     * @param row
+     * @return the value of the given field in the given row, or <code>null</code> if it is missing
+     */
+    public Object getValue(final String fieldName, final int row) {
+        return getValue(columns.get(fieldName), row);
+    }
+
+    /**
+     * @param column a column of this <code>PMMLBatchRequestData</code>, or <code>null</code>
+     * @param row
+     * @return the value of the given column in the given row, or <code>null</code> if it is missing
+     */
+    public static Object getValue(final Object column, final int row) {
+        if (column == null) {
+            return null;
+        } else if (column instanceof double[]) {
+            final double value = ((double[]) column)[row];
+            return Double.isNaN(value) ? null : value;
+        } else if (column instanceof Object[]) {
+            return ((Object[]) column)[row];
+        } else {
+            return Array.get(column, row);
+        }
+    }
+
+    private PMMLBatchRequestData putColumn(final String fieldName, final Object values) {
+        final int length = Array.getLength(values);
+        if (length != rows) {
+            throw new KiePMMLException(String.format(WRONG_COLUMN_SIZE, fieldName, length, rows));
+        }
+        columns.put(fieldName, values);
+        return this;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.api.executor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Columnar result of a batch evaluation: the result code and each result variable are given as an array, with one
+ * item for each row of the <code>PMMLBatchRequestData</code>.
+ * <p>
+ * A result variable not returned by the evaluation of a row is <code>null</code> in that row.
+ */
+public class PMMLBatchResult {
+
+    private final String correlationId;
+    private final String resultObjectName;
+    private final String[] resultCodes;
+    private final Map<String, Object[]> resultVariables = new ConcurrentHashMap<>();
+
+    public PMMLBatchResult(final String correlationId, final String resultObjectName, final int rows) {
+        this.correlationId = correlationId;
+        this.resultObjectName = resultObjectName;
+        this.resultCodes = new String[rows];
+    }
+
+    /**
+     * Set the result of the given row; different rows may be set concurrently
+     * @param row
+     * @param resultCode
+     * @param resultVariables
+     */
+    public void setRowResult(final int row, final String resultCode, final Map<String, Object> resultVariables) {
+        resultCodes[row] = resultCode;
+        resultVariables.forEach((name, value) -> this.resultVariables.computeIfAbsent(name, key -> new Object[resultCodes.length])[row] = value);
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getResultObjectName() {
+        return resultObjectName;
+    }
+
+    public int getRows() {
+        return resultCodes.length;
+    }
+
+    public String[] getResultCodes() {
+        return resultCodes;
+    }
+
+    /**
+     * @return the columns of the result variables, by name
+     */
+    public Map<String, Object[]> getResultVariables() {
+        return Collections.unmodifiableMap(resultVariables);
+    }
+}
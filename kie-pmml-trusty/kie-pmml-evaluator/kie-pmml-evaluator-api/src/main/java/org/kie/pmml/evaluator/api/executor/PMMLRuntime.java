@@ -47,4 +47,14 @@ public interface PMMLRuntime {
      * @return the result of the evaluation
      */
     PMML4Result evaluate(final String modelName, final PMMLContext context);
+
+    /**
+     * Evaluate the model over all the rows of the given columnar input. The <b>missingValueReplacement</b>s are
+     * applied to whole columns, while the <b>Transformations</b> and the model are still evaluated one row at a time;
+     * the rows are evaluated in parallel if the model supports it.
+     * @param modelName the name of the model to evaluate
+     * @param requestData the columns of the input variables
+     * @return the columns of the results, in the order of the rows
+     */
+    PMMLBatchResult evaluate(final String modelName, final PMMLBatchRequestData requestData);
 }
@@ -30,6 +30,15 @@ public interface PMMLModelEvaluator {
      */
     PMML_MODEL getPMMLModelType();
 
+    /**
+     * @param model a model of the <code>PMMLModelType</code> of this <code>PMMLModelExecutor</code>
+     * @return <code>true</code> if the given model has been compiled by the implementation this
+     * <code>PMMLModelExecutor</code> belongs to, when more of them target the same <code>PMMLModelType</code>
+     */
+    default boolean canEvaluate(final KiePMMLModel model) {
+        return true;
+    }
+
     /**
      * Evaluate the model, given the context
      * @param knowledgeBase The <code>KieBase</code> we are currently working on.
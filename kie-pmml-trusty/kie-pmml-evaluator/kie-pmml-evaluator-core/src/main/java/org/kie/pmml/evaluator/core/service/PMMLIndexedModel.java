@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.core.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
+import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
+
+/**
+ * A <code>KiePMMLModel</code> together with its <code>PMMLModelEvaluator</code> and its <b>Transformations</b>,
+ * resolved once when the <code>PMMLModelIndex</code> is built
+ */
+public class PMMLIndexedModel {
+
+    private final KiePMMLModel model;
+    private final PMMLModelEvaluator evaluator;
+    private final List<Map.Entry<String, Function<List<KiePMMLNameValue>, Object>>> commonTransformations;
+    private final List<Map.Entry<String, Function<List<KiePMMLNameValue>, Object>>> localTransformations;
+
+    /**
+     * @param model
+     * @param evaluator the <code>PMMLModelEvaluator</code> of the model, or <code>null</code> if there is none
+     */
+    public PMMLIndexedModel(final KiePMMLModel model, final PMMLModelEvaluator evaluator) {
+        this.model = model;
+        this.evaluator = evaluator;
+        this.commonTransformations = Collections.unmodifiableList(new ArrayList<>(model.getCommonTransformationsMap().entrySet()));
+        this.localTransformations = Collections.unmodifiableList(new ArrayList<>(model.getLocalTransformationsMap().entrySet()));
+    }
+
+    public KiePMMLModel getModel() {
+        return model;
+    }
+
+    public Optional<PMMLModelEvaluator> getEvaluator() {
+        return Optional.ofNullable(evaluator);
+    }
+
+    public List<Map.Entry<String, Function<List<KiePMMLNameValue>, Object>>> getCommonTransformations() {
+        return commonTransformations;
+    }
+
+    public List<Map.Entry<String, Function<List<KiePMMLNameValue>, Object>>> getLocalTransformations() {
+        return localTransformations;
+    }
+
+    public boolean hasTransformations() {
+        return !commonTransformations.isEmpty() || !localTransformations.isEmpty();
+    }
+}
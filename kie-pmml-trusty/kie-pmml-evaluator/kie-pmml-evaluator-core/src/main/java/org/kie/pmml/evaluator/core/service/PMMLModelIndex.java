@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.core.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kie.api.KieBase;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
+import org.kie.pmml.evaluator.core.utils.KnowledgeBaseUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Immutable name-to-<code>PMMLIndexedModel</code> snapshot of the <code>KiePMMLModel</code>s of a <code>KieBase</code>
+ */
+public class PMMLModelIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PMMLModelIndex.class);
+
+    private final Map<String, PMMLIndexedModel> indexedModels;
+    private final List<KiePMMLModel> models;
+
+    private PMMLModelIndex(final Map<String, PMMLIndexedModel> indexedModels, final List<KiePMMLModel> models) {
+        this.indexedModels = Collections.unmodifiableMap(indexedModels);
+        this.models = Collections.unmodifiableList(models);
+    }
+
+    /**
+     * Walks the packages of the given <code>KieBase</code> and binds each <code>KiePMMLModel</code> to the first
+     * <code>PMMLModelEvaluator</code> of its <code>PMML_MODEL</code> able to evaluate it. If two models share the same
+     * name, the first one found is kept, as <code>KnowledgeBaseUtils.getModel</code> does
+     * @param knowledgeBase
+     * @param evaluators
+     * @return
+     */
+    public static PMMLModelIndex build(final KieBase knowledgeBase, final List<PMMLModelEvaluator> evaluators) {
+        logger.debug("build {}", knowledgeBase);
+        final Map<PMML_MODEL, List<PMMLModelEvaluator>> evaluatorsMap = new EnumMap<>(PMML_MODEL.class);
+        evaluators.forEach(evaluator -> evaluatorsMap.computeIfAbsent(evaluator.getPMMLModelType(), pmmlMODEL -> new ArrayList<>()).add(evaluator));
+        final List<KiePMMLModel> models = new ArrayList<>(KnowledgeBaseUtils.getModels(knowledgeBase));
+        final Map<String, PMMLIndexedModel> indexedModels = new LinkedHashMap<>();
+        models.forEach(model -> indexedModels.putIfAbsent(model.getName(), new PMMLIndexedModel(model, getEvaluator(model, evaluatorsMap))));
+        return new PMMLModelIndex(indexedModels, models);
+    }
+
+    private static PMMLModelEvaluator getEvaluator(final KiePMMLModel model, final Map<PMML_MODEL, List<PMMLModelEvaluator>> evaluatorsMap) {
+        return evaluatorsMap.getOrDefault(model.getPmmlMODEL(), Collections.emptyList())
+                .stream()
+                .filter(evaluator -> evaluator.canEvaluate(model))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Optional<PMMLIndexedModel> getIndexedModel(final String modelName) {
+        return Optional.ofNullable(indexedModels.get(modelName));
+    }
+
+    public List<KiePMMLModel> getModels() {
+        return models;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.core.service;
+
+import org.kie.api.KieBase;
+import org.kie.api.event.kiebase.AfterKieBaseUnlockedEvent;
+import org.kie.api.event.kiebase.AfterKiePackageAddedEvent;
+import org.kie.api.event.kiebase.AfterKiePackageRemovedEvent;
+import org.kie.api.event.kiebase.DefaultKieBaseEventListener;
+import org.kie.api.event.kiebase.KieBaseEventListener;
+import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluatorFinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the <code>PMMLModelIndex</code> of a <code>KieBase</code>, shared by all the <code>PMMLRuntime</code>s created
+ * on it. The index is built on first access and discarded whenever a package is added to or removed from the
+ * <code>KieBase</code>, or the <code>KieBase</code> is unlocked after an update.
+ * <p>
+ * The cache is only referenced by the <code>KieBase</code> itself, as one of its event listeners, so that it is
+ * collected together with it.
+ */
+public class PMMLModelIndexCache extends DefaultKieBaseEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PMMLModelIndexCache.class);
+
+    private static final Object LOCK = new Object();
+
+    private volatile PMMLModelIndex modelIndex;
+
+    private PMMLModelIndexCache() {
+    }
+
+    /**
+     * @param knowledgeBase
+     * @return the <code>PMMLModelIndexCache</code> of the given <code>KieBase</code>, registering it as
+     * <code>KieBaseEventListener</code> the first time
+     */
+    public static PMMLModelIndexCache forKieBase(final KieBase knowledgeBase) {
+        PMMLModelIndexCache toReturn = getRegistered(knowledgeBase);
+        if (toReturn == null) {
+            synchronized (LOCK) {
+                toReturn = getRegistered(knowledgeBase);
+                if (toReturn == null) {
+                    toReturn = new PMMLModelIndexCache();
+                    knowledgeBase.addEventListener(toReturn);
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    private static PMMLModelIndexCache getRegistered(final KieBase knowledgeBase) {
+        for (KieBaseEventListener listener : knowledgeBase.getKieBaseEventListeners()) {
+            if (listener instanceof PMMLModelIndexCache) {
+                return (PMMLModelIndexCache) listener;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the current <code>PMMLModelIndex</code>, building it if the <code>KieBase</code> changed since the last
+     * invocation
+     * @param knowledgeBase the <code>KieBase</code> this cache has been retrieved for
+     * @param pmmlModelEvaluatorFinder
+     * @return
+     */
+    public PMMLModelIndex getModelIndex(final KieBase knowledgeBase, final PMMLModelEvaluatorFinder pmmlModelEvaluatorFinder) {
+        PMMLModelIndex toReturn = modelIndex;
+        if (toReturn == null) {
+            synchronized (this) {
+                toReturn = modelIndex;
+                if (toReturn == null) {
+                    toReturn = PMMLModelIndex.build(knowledgeBase, pmmlModelEvaluatorFinder.getImplementations(false));
+                    modelIndex = toReturn;
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    @Override
+    public void afterKiePackageAdded(final AfterKiePackageAddedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void afterKiePackageRemoved(final AfterKiePackageRemovedEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void afterKieBaseUnlocked(final AfterKieBaseUnlockedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Synchronized with {@link #getModelIndex(KieBase, PMMLModelEvaluatorFinder)}, so that an index being built
+     * while the <code>KieBase</code> changes is discarded
+     */
+    private synchronized void invalidate() {
+        logger.debug("invalidate");
+        modelIndex = null;
+    }
+}
@@ -16,11 +16,14 @@
 package org.kie.pmml.evaluator.core.service;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.kie.api.KieBase;
 import org.kie.api.pmml.PMML4Result;
@@ -28,13 +31,14 @@ import org.kie.api.pmml.PMMLRequestData;
 import org.kie.api.pmml.ParameterInfo;
 import org.kie.pmml.commons.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLModel;
-import org.kie.pmml.commons.model.enums.PMML_MODEL;
 import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchRequestData;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchResult;
 import org.kie.pmml.evaluator.api.executor.PMMLContext;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
 import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
 import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluatorFinderImpl;
-import org.kie.pmml.evaluator.core.utils.KnowledgeBaseUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,20 +48,22 @@ public class PMMLRuntimeImpl implements PMMLRuntime {
 
     private final KieBase knowledgeBase;
     private final PMMLModelEvaluatorFinderImpl pmmlModelExecutorFinder;
+    private final PMMLModelIndexCache modelIndexCache;
 
     public PMMLRuntimeImpl(final KieBase knowledgeBase, final PMMLModelEvaluatorFinderImpl pmmlModelExecutorFinder) {
         this.knowledgeBase = knowledgeBase;
         this.pmmlModelExecutorFinder = pmmlModelExecutorFinder;
+        this.modelIndexCache = knowledgeBase != null ? PMMLModelIndexCache.forKieBase(knowledgeBase) : null;
     }
 
     @Override
     public List<KiePMMLModel> getModels() {
-        return KnowledgeBaseUtils.getModels(knowledgeBase);
+        return getModelIndex().getModels();
     }
 
     @Override
     public Optional<KiePMMLModel> getModel(final String modelName) {
-        return KnowledgeBaseUtils.getModel(knowledgeBase, modelName);
+        return getModelIndex().getIndexedModel(modelName).map(PMMLIndexedModel::getModel);
     }
 
     @Override
@@ -65,19 +71,126 @@ public class PMMLRuntimeImpl implements PMMLRuntime {
         if (logger.isDebugEnabled()) {
             logger.debug("evaluate {} {}", modelName, context);
         }
-        KiePMMLModel toEvaluate = getModel(modelName).orElseThrow(() -> new KiePMMLException("Failed to retrieve model with name " + modelName));
-        return evaluate(toEvaluate, context);
+        return evaluate(getIndexedModel(modelName), context);
+    }
+
+    @Override
+    public PMMLBatchResult evaluate(final String modelName, final PMMLBatchRequestData requestData) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("evaluate {} {} rows", modelName, requestData.getRows());
+        }
+        return evaluate(getIndexedModel(modelName), requestData);
+    }
+
+    /**
+     * The model and its <code>PMMLModelEvaluator</code> are resolved once for the whole batch, and the
+     * <b>missingValueReplacement</b>s are applied a column at a time, before the evaluation.
+     * <p>
+     * The evaluation itself is not columnar: each row is then boxed in a single <code>PMMLRequestData</code>, on which
+     * the <b>Transformations</b> are executed and the model is evaluated, as for a single evaluation. The rows are
+     * evaluated in parallel only if the model is <b>thread-safe</b>, so never for the <b>Drools-based</b> models.
+     * @param indexedModel
+     * @param requestData
+     * @return
+     */
+    protected PMMLBatchResult evaluate(final PMMLIndexedModel indexedModel, final PMMLBatchRequestData requestData) {
+        final KiePMMLModel model = indexedModel.getModel();
+        final PMMLModelEvaluator executor = getEvaluator(indexedModel);
+        final Map<String, Object> missingValueReplacementMap = model.getMissingValueReplacementMap();
+        final Map<String, Object> columns = getReplacedColumns(requestData.getColumns(), missingValueReplacementMap);
+        final Map<String, Object> missingColumnsReplacementMap = new HashMap<>(missingValueReplacementMap);
+        missingColumnsReplacementMap.keySet().removeAll(columns.keySet());
+        final boolean withTransformations = indexedModel.hasTransformations();
+        final PMMLBatchResult toReturn = new PMMLBatchResult(requestData.getCorrelationId(), model.getTargetField(), requestData.getRows());
+        IntStream rows = IntStream.range(0, requestData.getRows());
+        if (model.isThreadSafe()) {
+            rows = rows.parallel();
+        }
+        rows.forEach(row -> {
+            final PMMLContext context = new PMMLContextImpl(getRowRequestData(requestData, columns, missingColumnsReplacementMap, row));
+            if (withTransformations) {
+                executeTransformations(indexedModel, context);
+            }
+            final PMML4Result result = executor.evaluate(knowledgeBase, model, context);
+            toReturn.setRowResult(row, result.getResultCode(), result.getResultVariables());
+        });
+        return toReturn;
+    }
+
+    /**
+     * Replaces the missing values of the given columns with their <b>missingValueReplacement</b>: the columns without
+     * missing values are returned as they are, the others are copied
+     * @param columns
+     * @param missingValueReplacementMap
+     * @return the columns, by field name
+     */
+    protected Map<String, Object> getReplacedColumns(final Map<String, Object> columns,
+                                                     final Map<String, Object> missingValueReplacementMap) {
+        final Map<String, Object> toReturn = new LinkedHashMap<>(columns);
+        missingValueReplacementMap.forEach((fieldName, missingValueReplacement) -> {
+            final Object column = columns.get(fieldName);
+            if (column != null) {
+                toReturn.put(fieldName, replaceMissingValues(column, missingValueReplacement));
+            }
+        });
+        return toReturn;
+    }
+
+    /**
+     * Returns the <code>PMMLRequestData</code> of a single row
+     * @param requestData
+     * @param columns the columns, with their missing values already replaced
+     * @param missingColumnsReplacementMap the <b>missingValueReplacement</b>s of the fields without column
+     * @param row
+     * @return
+     */
+    protected PMMLRequestData getRowRequestData(final PMMLBatchRequestData requestData,
+                                                final Map<String, Object> columns,
+                                                final Map<String, Object> missingColumnsReplacementMap,
+                                                final int row) {
+        final PMMLRequestData toReturn = new PMMLRequestData(requestData.getCorrelationId(), requestData.getModelName());
+        columns.forEach((fieldName, column) -> {
+            final Object value = PMMLBatchRequestData.getValue(column, row);
+            if (value != null) {
+                toReturn.addRequestParam(fieldName, value);
+            }
+        });
+        missingColumnsReplacementMap.forEach((fieldName, missingValueReplacement) -> toReturn.addRequestParam(fieldName, missingValueReplacement));
+        return toReturn;
     }
 
     protected PMML4Result evaluate(final KiePMMLModel model, final PMMLContext context) {
+        return evaluate(new PMMLIndexedModel(model, getFromPMMLModel(model).orElse(null)), context);
+    }
+
+    protected PMML4Result evaluate(final PMMLIndexedModel indexedModel, final PMMLContext context) {
+        final KiePMMLModel model = indexedModel.getModel();
         if (logger.isDebugEnabled()) {
             logger.debug("evaluate {} {}", model, context);
         }
         addMissingValuesReplacements(model, context);
-        executeTransformations(model, context);
-        PMMLModelEvaluator executor = getFromPMMLModelType(model.getPmmlMODEL())
-                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s", model.getPmmlMODEL())));
-        return executor.evaluate(knowledgeBase, model, context);
+        if (indexedModel.hasTransformations()) {
+            executeTransformations(indexedModel, context);
+        }
+        return getEvaluator(indexedModel).evaluate(knowledgeBase, model, context);
+    }
+
+    /**
+     * Returns the current <code>PMMLModelIndex</code> of the <code>KieBase</code>, rebuilt only after the
+     * <code>KieBase</code> changed
+     * @return
+     */
+    protected PMMLModelIndex getModelIndex() {
+        return modelIndexCache.getModelIndex(knowledgeBase, pmmlModelExecutorFinder);
+    }
+
+    private PMMLIndexedModel getIndexedModel(final String modelName) {
+        return getModelIndex().getIndexedModel(modelName).orElseThrow(() -> new KiePMMLException("Failed to retrieve model with name " + modelName));
+    }
+
+    private PMMLModelEvaluator getEvaluator(final PMMLIndexedModel indexedModel) {
+        return indexedModel.getEvaluator()
+                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s", indexedModel.getModel().getPmmlMODEL())));
     }
 
     /**
@@ -111,12 +224,23 @@ public class PMMLRuntimeImpl implements PMMLRuntime {
      * @see <a href="http://dmg.org/pmml/v4-4/Transformations.html#xsdElement_LocalTransformations">LocalTransformations</a>
      */
     protected void executeTransformations(final KiePMMLModel model, final PMMLContext context) {
-        logger.debug("executeTransformations {} {}", model, context);
+        executeTransformations(new PMMLIndexedModel(model, null), context);
+    }
+
+    /**
+     * Execute the <b>Transformations</b> of the given <code>PMMLIndexedModel</code> on input data.
+     * @param indexedModel
+     * @param context
+     * @see #executeTransformations(KiePMMLModel, PMMLContext)
+     */
+    protected void executeTransformations(final PMMLIndexedModel indexedModel, final PMMLContext context) {
+        logger.debug("executeTransformations {} {}", indexedModel.getModel(), context);
         final PMMLRequestData requestData = context.getRequestData();
         final Map<String, ParameterInfo> mappedRequestParams = requestData.getMappedRequestParams();
         final List<KiePMMLNameValue> kiePMMLNameValues = getKiePMMLNameValuesFromParameterInfos(mappedRequestParams.values());
-        final Map<String, Function<List<KiePMMLNameValue>, Object>> commonTransformationsMap = model.getCommonTransformationsMap();
-        commonTransformationsMap.forEach((fieldName, transformationFunction) -> {
+        for (Map.Entry<String, Function<List<KiePMMLNameValue>, Object>> commonTransformationEntry : indexedModel.getCommonTransformations()) {
+            final String fieldName = commonTransformationEntry.getKey();
+            final Function<List<KiePMMLNameValue>, Object> transformationFunction = commonTransformationEntry.getValue();
             // Common Transformations need to be done only once
             if (!mappedRequestParams.containsKey(fieldName)) {
                 logger.debug("commonTransformation {} {}", fieldName, transformationFunction);
@@ -125,9 +249,10 @@ public class PMMLRuntimeImpl implements PMMLRuntime {
                 context.addCommonTranformation(fieldName, commonTranformation);
                 kiePMMLNameValues.add(new KiePMMLNameValue(fieldName, commonTranformation));
             }
-        });
-        final Map<String, Function<List<KiePMMLNameValue>, Object>> localTransformationsMap = model.getLocalTransformationsMap();
-        localTransformationsMap.forEach((fieldName, transformationFunction) -> {
+        }
+        for (Map.Entry<String, Function<List<KiePMMLNameValue>, Object>> localTransformationEntry : indexedModel.getLocalTransformations()) {
+            final String fieldName = localTransformationEntry.getKey();
+            final Function<List<KiePMMLNameValue>, Object> transformationFunction = localTransformationEntry.getValue();
             logger.debug("localTransformation {} {}", fieldName, transformationFunction);
             Object localTransformation = transformationFunction.apply(kiePMMLNameValues);
             // Local Transformations need to be done for every model, eventually replacing previous ones
@@ -137,20 +262,71 @@ public class PMMLRuntimeImpl implements PMMLRuntime {
             }
             requestData.addRequestParam(fieldName, localTransformation);
             context.addLocalTranformation(fieldName, localTransformation);
-        });
+        }
+    }
+
+    /**
+     * @param column a column of a <code>PMMLBatchRequestData</code>
+     * @param missingValueReplacement
+     * @return the given column if it has no missing value, otherwise a copy with the missing values replaced: a
+     * <code>double[]</code> stays such only if the replacement is a <code>Double</code>
+     */
+    static Object replaceMissingValues(final Object column, final Object missingValueReplacement) {
+        if (column instanceof double[]) {
+            final double[] values = (double[]) column;
+            if (missingValueReplacement instanceof Double) {
+                double[] toReturn = null;
+                for (int i = 0; i < values.length; i++) {
+                    if (Double.isNaN(values[i])) {
+                        if (toReturn == null) {
+                            toReturn = values.clone();
+                        }
+                        toReturn[i] = (Double) missingValueReplacement;
+                    }
+                }
+                return toReturn != null ? toReturn : column;
+            }
+            Object[] toReturn = null;
+            for (int i = 0; i < values.length; i++) {
+                if (Double.isNaN(values[i])) {
+                    if (toReturn == null) {
+                        toReturn = new Object[values.length];
+                        for (int j = 0; j < values.length; j++) {
+                            toReturn[j] = values[j];
+                        }
+                    }
+                    toReturn[i] = missingValueReplacement;
+                }
+            }
+            return toReturn != null ? toReturn : column;
+        } else if (column instanceof Object[]) {
+            final Object[] values = (Object[]) column;
+            Object[] toReturn = null;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    if (toReturn == null) {
+                        toReturn = values.clone();
+                    }
+                    toReturn[i] = missingValueReplacement;
+                }
+            }
+            return toReturn != null ? toReturn : column;
+        }
+        // the other primitive columns can't miss values
+        return column;
     }
 
     /**
      * Returns an <code>Optional&lt;PMMLModelExecutor&gt;</code> to allow
      * incremental development of different model-specific executors
-     * @param pmmlMODEL
+     * @param model
      * @return
      */
-    private Optional<PMMLModelEvaluator> getFromPMMLModelType(final PMML_MODEL pmmlMODEL) {
-        logger.trace("getFromPMMLModelType {}", pmmlMODEL);
+    private Optional<PMMLModelEvaluator> getFromPMMLModel(final KiePMMLModel model) {
+        logger.trace("getFromPMMLModel {}", model);
         return pmmlModelExecutorFinder.getImplementations(false)
                 .stream()
-                .filter(implementation -> pmmlMODEL.equals(implementation.getPMMLModelType()))
+                .filter(implementation -> model.getPmmlMODEL().equals(implementation.getPMMLModelType()) && implementation.canEvaluate(model))
                 .findFirst();
     }
 
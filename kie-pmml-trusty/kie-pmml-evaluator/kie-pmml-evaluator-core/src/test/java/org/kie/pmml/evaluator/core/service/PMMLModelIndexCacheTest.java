@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.evaluator.core.service;
+
+import java.lang.ref.WeakReference;
+
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.junit.Test;
+import org.kie.api.KieBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PMMLModelIndexCacheTest {
+
+    @Test
+    public void forKieBase() {
+        KieBase kieBase = KnowledgeBaseFactory.newKnowledgeBase();
+        PMMLModelIndexCache retrieved = PMMLModelIndexCache.forKieBase(kieBase);
+        assertSame(retrieved, PMMLModelIndexCache.forKieBase(kieBase));
+        assertEquals(1, kieBase.getKieBaseEventListeners().size());
+        assertTrue(kieBase.getKieBaseEventListeners().contains(retrieved));
+        assertNotSame(retrieved, PMMLModelIndexCache.forKieBase(KnowledgeBaseFactory.newKnowledgeBase()));
+    }
+
+    @Test
+    public void kieBaseIsCollected() throws InterruptedException {
+        KieBase kieBase = KnowledgeBaseFactory.newKnowledgeBase();
+        PMMLModelIndexCache.forKieBase(kieBase);
+        WeakReference<KieBase> reference = new WeakReference<>(kieBase);
+        kieBase = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertNull(reference.get());
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,11 +29,16 @@ import org.kie.pmml.commons.model.KiePMMLExtension;
 import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.model.enums.MINING_FUNCTION;
 import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
+import org.kie.pmml.evaluator.api.executor.PMMLBatchRequestData;
 import org.kie.pmml.evaluator.api.executor.PMMLContext;
 import org.kie.pmml.evaluator.core.PMMLContextImpl;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class PMMLRuntimeImplTest {
@@ -72,6 +78,77 @@ public class PMMLRuntimeImplTest {
         });
     }
 
+    @Test
+    public void getRowRequestData() {
+        Map<String, Object> missingValueReplacementMap = new HashMap<>();
+        missingValueReplacementMap.put("fieldA", "one");
+        missingValueReplacementMap.put("fieldB", 2.0);
+        missingValueReplacementMap.put("fieldC", 3);
+        PMMLBatchRequestData batchRequestData = new PMMLBatchRequestData("123", "modelName", 2)
+                .addColumn("fieldA", new Object[]{"zero", null})
+                .addColumn("fieldB", new double[]{Double.NaN, 1.0})
+                .addColumn("age", new int[]{123, 124})
+                .addColumn("work", new Object[]{"work", null});
+        Map<String, Object> missingColumnsReplacementMap = Collections.singletonMap("fieldC", 3);
+        Map<String, Object> columns = pmmlRuntime.getReplacedColumns(batchRequestData.getColumns(), missingValueReplacementMap);
+        // the columns are replaced, not modified
+        assertNull(((Object[]) batchRequestData.getColumns().get("fieldA"))[1]);
+        assertTrue(Double.isNaN(((double[]) batchRequestData.getColumns().get("fieldB"))[0]));
+        assertSame(batchRequestData.getColumns().get("work"), columns.get("work"));
+        assertFalse(columns.containsKey("fieldC"));
+        PMMLRequestData first = pmmlRuntime.getRowRequestData(batchRequestData, columns, missingColumnsReplacementMap, 0);
+        assertEquals("zero", first.getMappedRequestParams().get("fieldA").getValue());
+        assertEquals(2.0, first.getMappedRequestParams().get("fieldB").getValue());
+        assertEquals(3, first.getMappedRequestParams().get("fieldC").getValue());
+        assertEquals(123, first.getMappedRequestParams().get("age").getValue());
+        assertEquals("work", first.getMappedRequestParams().get("work").getValue());
+        PMMLRequestData second = pmmlRuntime.getRowRequestData(batchRequestData, columns, missingColumnsReplacementMap, 1);
+        assertEquals("one", second.getMappedRequestParams().get("fieldA").getValue());
+        assertEquals(1.0, second.getMappedRequestParams().get("fieldB").getValue());
+        assertEquals(3, second.getMappedRequestParams().get("fieldC").getValue());
+        assertEquals(124, second.getMappedRequestParams().get("age").getValue());
+        assertNull(second.getMappedRequestParams().get("work"));
+    }
+
+    @Test
+    public void replaceMissingValues() {
+        final double[] doubles = {1.0, 2.0};
+        assertSame(doubles, PMMLRuntimeImpl.replaceMissingValues(doubles, 3.0));
+        final double[] missingDoubles = {1.0, Double.NaN};
+        assertArrayEquals(new double[]{1.0, 3.0}, (double[]) PMMLRuntimeImpl.replaceMissingValues(missingDoubles, 3.0), 0.0);
+        assertTrue(Double.isNaN(missingDoubles[1]));
+        assertArrayEquals(new Object[]{1.0, "three"}, (Object[]) PMMLRuntimeImpl.replaceMissingValues(missingDoubles, "three"));
+        final Object[] objects = {"one", null};
+        assertArrayEquals(new Object[]{"one", "two"}, (Object[]) PMMLRuntimeImpl.replaceMissingValues(objects, "two"));
+        assertNull(objects[1]);
+        final int[] ints = {1, 2};
+        assertSame(ints, PMMLRuntimeImpl.replaceMissingValues(ints, 3));
+    }
+
+    @Test
+    public void executeTransformations() {
+        KiePMMLTestingModel model = KiePMMLTestingModel.builder("TESTINGMODEL", Collections.emptyList(), MINING_FUNCTION.REGRESSION)
+                .build();
+        model.addCommonTransformation("doubleAge", kiePMMLNameValues -> kiePMMLNameValues.stream()
+                .filter(kiePMMLNameValue -> "age".equals(kiePMMLNameValue.getName()))
+                .findFirst()
+                .map(kiePMMLNameValue -> (int) kiePMMLNameValue.getValue() * 2)
+                .orElse(0));
+        model.addLocalTransformation("work", kiePMMLNameValues -> "localWork");
+        PMMLIndexedModel indexedModel = new PMMLIndexedModel(model, null);
+        assertTrue(indexedModel.hasTransformations());
+        assertFalse(indexedModel.getEvaluator().isPresent());
+        PMMLRequestData pmmlRequestData = new PMMLRequestData("123", "modelName");
+        pmmlRequestData.addRequestParam("age", 123);
+        pmmlRequestData.addRequestParam("work", "work");
+        PMMLContext pmmlContext = new PMMLContextImpl(pmmlRequestData);
+        pmmlRuntime.executeTransformations(indexedModel, pmmlContext);
+        assertEquals(246, pmmlContext.getRequestData().getMappedRequestParams().get("doubleAge").getValue());
+        assertEquals(246, pmmlContext.getCommonTransformationMap().get("doubleAge"));
+        assertEquals("localWork", pmmlContext.getRequestData().getMappedRequestParams().get("work").getValue());
+        assertEquals("localWork", pmmlContext.getLocalTransformationMap().get("work"));
+    }
+
     private static class KiePMMLTestingModel extends KiePMMLModel {
 
         public static final PMML_MODEL PMML_MODEL_TYPE = PMML_MODEL.REGRESSION_MODEL;
@@ -84,6 +161,14 @@ public class PMMLRuntimeImplTest {
             return new Builder(name, extensions, miningFunction);
         }
 
+        void addCommonTransformation(String fieldName, Function<List<KiePMMLNameValue>, Object> transformationFunction) {
+            commonTransformationsMap.put(fieldName, transformationFunction);
+        }
+
+        void addLocalTransformation(String fieldName, Function<List<KiePMMLNameValue>, Object> transformationFunction) {
+            localTransformationsMap.put(fieldName, transformationFunction);
+        }
+
         @Override
         public Object evaluate(final Object knowledgeBase, Map<String, Object> requestData) {
             return null;
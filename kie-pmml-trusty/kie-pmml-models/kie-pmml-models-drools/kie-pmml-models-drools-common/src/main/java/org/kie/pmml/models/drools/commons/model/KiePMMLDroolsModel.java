@@ -33,6 +33,7 @@ import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.model.KiePMMLOutputField;
 import org.kie.pmml.commons.model.enums.MINING_FUNCTION;
 import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.models.drools.executor.KiePMMLSessionsPool;
 import org.kie.pmml.models.drools.tuples.KiePMMLOriginalTypeGeneratedType;
 import org.kie.pmml.models.drools.utils.KiePMMLSessionUtils;
 import org.slf4j.Logger;
@@ -57,6 +58,11 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel {
      */
     protected Map<String, KiePMMLOriginalTypeGeneratedType> fieldTypeMap = new HashMap<>();
 
+    /**
+     * The sessions of the last <code>KieBase</code> the model has been evaluated with.
+     */
+    private volatile KiePMMLSessionsPool sessionsPool;
+
     protected KiePMMLDroolsModel(String name, List<KiePMMLExtension> extensions) {
         super(name, extensions);
     }
@@ -72,14 +78,19 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel {
             throw new KiePMMLException(String.format("Expecting KieBase, received %s", knowledgeBase.getClass().getName()));
         }
         final PMML4Result toReturn = getPMML4Result(targetField);
-        KiePMMLSessionUtils.Builder builder = KiePMMLSessionUtils.builder((KieBase)knowledgeBase, name, toReturn)
-                .withObjectsInSession(requestData, fieldTypeMap)
-                .withOutputFieldsMap(outputFieldsMap);
-        if (logger.isDebugEnabled()) {
-            builder = builder.withAgendaEventListener(agendaEventListener);
+        final KiePMMLSessionsPool borrowed = borrowSessionsPool((KieBase) knowledgeBase);
+        try {
+            KiePMMLSessionUtils.Builder builder = KiePMMLSessionUtils.builder(borrowed, name, toReturn)
+                    .withObjectsInSession(requestData, fieldTypeMap)
+                    .withOutputFieldsMap(outputFieldsMap);
+            if (logger.isDebugEnabled()) {
+                builder = builder.withAgendaEventListener(agendaEventListener);
+            }
+            final KiePMMLSessionUtils kiePMMLSessionUtils = builder.build();
+            kiePMMLSessionUtils.fireAllRules();
+        } finally {
+            borrowed.release();
         }
-        final KiePMMLSessionUtils kiePMMLSessionUtils = builder.build();
-        kiePMMLSessionUtils.fireAllRules();
         return toReturn;
     }
 
@@ -123,6 +134,39 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel {
         return Objects.hash(outputFields, fieldTypeMap);
     }
 
+    /**
+     * @return the sessions of the given <code>KieBase</code>, borrowed: to be released once the evaluation is done
+     */
+    private KiePMMLSessionsPool borrowSessionsPool(final KieBase knowledgeBase) {
+        while (true) {
+            final KiePMMLSessionsPool toReturn = getSessionsPool(knowledgeBase);
+            // a pool retired by a concurrent evaluation against another KieBase can't be borrowed any more
+            if (toReturn.borrow()) {
+                return toReturn;
+            }
+        }
+    }
+
+    private KiePMMLSessionsPool getSessionsPool(final KieBase knowledgeBase) {
+        KiePMMLSessionsPool toReturn = sessionsPool;
+        if (toReturn == null || toReturn.getKieBase() != knowledgeBase) {
+            synchronized (this) {
+                toReturn = sessionsPool;
+                if (toReturn == null || toReturn.getKieBase() != knowledgeBase) {
+                    // the pool of the former KieBase would otherwise keep its sessions alive: it is shut down once
+                    // the evaluations still running on it are done
+                    final KiePMMLSessionsPool replaced = toReturn;
+                    toReturn = new KiePMMLSessionsPool(knowledgeBase, getKModulePackageName());
+                    sessionsPool = toReturn;
+                    if (replaced != null) {
+                        replaced.retire();
+                    }
+                }
+            }
+        }
+        return toReturn;
+    }
+
     private PMML4Result getPMML4Result(final String targetField) {
         PMML4Result toReturn = new PMML4Result();
         toReturn.setResultCode(ResultCode.FAIL.getName());
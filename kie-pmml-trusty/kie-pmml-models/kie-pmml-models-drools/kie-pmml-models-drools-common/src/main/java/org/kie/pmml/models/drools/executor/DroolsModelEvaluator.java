@@ -18,6 +18,11 @@ public abstract class DroolsModelEvaluator implements PMMLModelEvaluator {
 
     private static final Logger logger = LoggerFactory.getLogger(DroolsModelEvaluator.class.getName());
 
+    @Override
+    public boolean canEvaluate(final KiePMMLModel model) {
+        return model instanceof KiePMMLDroolsModel;
+    }
+
     @Override
     public PMML4Result evaluate(final KieBase knowledgeBase, KiePMMLModel model, PMMLContext pmmlContext) {
         if (!(model instanceof KiePMMLDroolsModel)) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.drools.executor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.api.KieBase;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.runtime.KieSessionsPool;
+import org.kie.api.runtime.StatelessKieSession;
+
+/**
+ * The stateless sessions and the generated fact types of a model inside a <code>KieBase</code>, reused across the
+ * evaluations of the model: each execution of a session taken from here runs on a pooled <code>KieSession</code>,
+ * reset in place once executed, instead of a new one.
+ * <p>
+ * Evaluations {@link #borrow()} the pool before using it and {@link #release()} it afterwards: once {@link #retire()}d,
+ * the pool refuses new borrows and disposes its sessions only when the last evaluation still using it has released it.
+ */
+public class KiePMMLSessionsPool {
+
+    private final KieBase kieBase;
+    private final String packageName;
+    private final KieSessionsPool sessionsPool;
+    private final Map<String, FactType> factTypes = new ConcurrentHashMap<>();
+    /**
+     * The evaluations using this pool, plus one until the pool is retired
+     */
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean retired = new AtomicBoolean(false);
+
+    public KiePMMLSessionsPool(final KieBase kieBase, final String packageName) {
+        this.kieBase = kieBase;
+        this.packageName = packageName;
+        this.sessionsPool = kieBase.newKieSessionsPool(1);
+    }
+
+    public KieBase getKieBase() {
+        return kieBase;
+    }
+
+    public StatelessKieSession newStatelessKieSession() {
+        return sessionsPool.newStatelessKieSession();
+    }
+
+    /**
+     * @return <code>false</code> if this pool has been retired and all its borrowers have released it, in which case
+     * it can't be used any more
+     */
+    public boolean borrow() {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a successful {@link #borrow()}, shutting down the pool if it has been retired and this was its last
+     * borrower
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            shutdown();
+        }
+    }
+
+    /**
+     * Marks this pool as replaced: it is shut down as soon as the evaluations still using it have released it
+     */
+    public void retire() {
+        if (retired.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    public boolean isShutdown() {
+        return references.get() == 0;
+    }
+
+    private void shutdown() {
+        sessionsPool.shutdown();
+        factTypes.clear();
+    }
+
+    /**
+     * @param typeName the name of a type generated in the package of the model
+     * @return the <code>FactType</code> of the given type, or <code>null</code> if it isn't defined
+     */
+    public FactType getFactType(final String typeName) {
+        FactType toReturn = factTypes.get(typeName);
+        if (toReturn == null) {
+            toReturn = kieBase.getFactType(packageName, typeName);
+            if (toReturn != null) {
+                factTypes.put(typeName, toReturn);
+            }
+        }
+        return toReturn;
+    }
+}
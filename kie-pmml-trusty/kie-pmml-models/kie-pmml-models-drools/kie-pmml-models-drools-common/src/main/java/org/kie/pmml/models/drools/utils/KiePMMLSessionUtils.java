@@ -29,6 +29,7 @@ import org.kie.api.pmml.PMML4Result;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.pmml.commons.exceptions.KiePMMLException;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
+import org.kie.pmml.models.drools.executor.KiePMMLSessionsPool;
 import org.kie.pmml.models.drools.executor.KiePMMLStatusHolder;
 import org.kie.pmml.models.drools.tuples.KiePMMLOriginalTypeGeneratedType;
 import org.slf4j.Logger;
@@ -49,10 +50,20 @@ public class KiePMMLSessionUtils {
     private final StatelessKieSession kieSession;
     private final String modelName;
     private final String packageName;
+    private final KiePMMLSessionsPool sessionsPool;
     private final List<Command> commands;
 
     private KiePMMLSessionUtils(final KieBase knowledgeBase, final String modelName, final PMML4Result pmml4Result) {
+        this(knowledgeBase, null, modelName, pmml4Result);
+    }
+
+    private KiePMMLSessionUtils(final KiePMMLSessionsPool sessionsPool, final String modelName, final PMML4Result pmml4Result) {
+        this(sessionsPool.getKieBase(), sessionsPool, modelName, pmml4Result);
+    }
+
+    private KiePMMLSessionUtils(final KieBase knowledgeBase, final KiePMMLSessionsPool sessionsPool, final String modelName, final PMML4Result pmml4Result) {
         this.modelName = modelName;
+        this.sessionsPool = sessionsPool;
         packageName = getSanitizedPackageName(modelName);
         kieSession = getKieSession(knowledgeBase);
         commands = new ArrayList<>();
@@ -62,13 +73,21 @@ public class KiePMMLSessionUtils {
     }
 
     public static Builder builder(final KieBase knowledgeBase, final String modelName, final PMML4Result pmml4Result) {
-        return new Builder(knowledgeBase, modelName, pmml4Result);
+        return new Builder(new KiePMMLSessionUtils(knowledgeBase, modelName, pmml4Result));
+    }
+
+    /**
+     * As {@link #builder(KieBase, String, PMML4Result)}, but running on a session of the given pool and resolving the
+     * generated types through it
+     */
+    public static Builder builder(final KiePMMLSessionsPool sessionsPool, final String modelName, final PMML4Result pmml4Result) {
+        return new Builder(new KiePMMLSessionUtils(sessionsPool, modelName, pmml4Result));
     }
 
     private StatelessKieSession getKieSession(final KieBase knowledgeBase) {
         StatelessKieSession toReturn;
         try {
-            toReturn = knowledgeBase.newStatelessKieSession();
+            toReturn = sessionsPool != null ? sessionsPool.newStatelessKieSession() : knowledgeBase.newStatelessKieSession();
             if (toReturn == null) {
                 throw new KiePMMLException("Failed to create KieSession for model " + modelName);
             }
@@ -99,7 +118,7 @@ public class KiePMMLSessionUtils {
             }
             try {
                 String generatedTypeName = fieldTypeMap.get(entry.getKey()).getGeneratedType();
-                FactType factType = kieSession.getKieBase().getFactType(packageName, generatedTypeName);
+                FactType factType = sessionsPool != null ? sessionsPool.getFactType(generatedTypeName) : kieSession.getKieBase().getFactType(packageName, generatedTypeName);
                 Object toAdd = factType.newInstance();
                 factType.set(toAdd, "value", entry.getValue());
                 commands.add(COMMAND_FACTORY_SERVICE.newInsert(toAdd));
@@ -123,8 +142,8 @@ public class KiePMMLSessionUtils {
 
         private KiePMMLSessionUtils toBuild;
 
-        private Builder(final KieBase knowledgeBase, final String modelName, final PMML4Result pmml4Result) {
-            this.toBuild = new KiePMMLSessionUtils(knowledgeBase, modelName, pmml4Result);
+        private Builder(final KiePMMLSessionUtils toBuild) {
+            this.toBuild = toBuild;
         }
 
         /**
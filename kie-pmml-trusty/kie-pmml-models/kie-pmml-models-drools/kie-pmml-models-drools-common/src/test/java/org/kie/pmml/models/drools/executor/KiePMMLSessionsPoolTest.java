@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.drools.executor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.command.Command;
+import org.kie.api.command.KieCommands;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.utils.KieHelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class KiePMMLSessionsPoolTest {
+
+    private static final String PACKAGE_NAME = "org.kie.pmml.models.drools.executor.test";
+    private static final String DRL = "package " + PACKAGE_NAME + ";\n" +
+            "declare Input\n" +
+            "    value : double\n" +
+            "end\n" +
+            "rule \"double\"\n" +
+            "when\n" +
+            "    Input($value : value)\n" +
+            "    $result : java.util.Map()\n" +
+            "then\n" +
+            "    $result.put(\"result\", $value * 2);\n" +
+            "end\n";
+    private static final int THREADS = 8;
+    private static final int EVALUATIONS = 200;
+
+    private KieBase kieBase;
+
+    @Before
+    public void setUp() {
+        kieBase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+    }
+
+    @Test
+    public void borrowAndRelease() throws Exception {
+        final KiePMMLSessionsPool sessionsPool = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        assertSame(kieBase, sessionsPool.getKieBase());
+        assertTrue(sessionsPool.borrow());
+        assertEquals(4.0, evaluate(sessionsPool, 2.0), 0.0);
+        sessionsPool.release();
+        assertFalse(sessionsPool.isShutdown());
+        // the pooled session is reset after each execution
+        assertTrue(sessionsPool.borrow());
+        assertEquals(6.0, evaluate(sessionsPool, 3.0), 0.0);
+        sessionsPool.release();
+        assertFalse(sessionsPool.isShutdown());
+    }
+
+    @Test
+    public void getFactType() {
+        final KiePMMLSessionsPool sessionsPool = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        final FactType retrieved = sessionsPool.getFactType("Input");
+        assertNotNull(retrieved);
+        assertSame(retrieved, sessionsPool.getFactType("Input"));
+        assertNull(sessionsPool.getFactType("NotExisting"));
+    }
+
+    @Test
+    public void retire() {
+        final KiePMMLSessionsPool sessionsPool = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        sessionsPool.retire();
+        assertTrue(sessionsPool.isShutdown());
+        assertFalse(sessionsPool.borrow());
+        // retiring twice doesn't release a reference it doesn't own
+        sessionsPool.retire();
+        assertTrue(sessionsPool.isShutdown());
+    }
+
+    @Test
+    public void retireWhileBorrowed() throws Exception {
+        final KiePMMLSessionsPool sessionsPool = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        assertTrue(sessionsPool.borrow());
+        sessionsPool.retire();
+        assertFalse(sessionsPool.isShutdown());
+        // the evaluation already running keeps using the retired pool
+        assertEquals(10.0, evaluate(sessionsPool, 5.0), 0.0);
+        sessionsPool.release();
+        assertTrue(sessionsPool.isShutdown());
+        assertFalse(sessionsPool.borrow());
+    }
+
+    @Test
+    public void concurrentUse() throws Exception {
+        final KiePMMLSessionsPool sessionsPool = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < EVALUATIONS; j++) {
+                        final double value = thread * EVALUATIONS + j;
+                        assertTrue(sessionsPool.borrow());
+                        try {
+                            assertEquals(value * 2, evaluate(sessionsPool, value), 0.0);
+                        } finally {
+                            sessionsPool.release();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(sessionsPool.isShutdown());
+    }
+
+    @Test
+    public void replacement() throws Exception {
+        final KiePMMLSessionsPool replaced = new KiePMMLSessionsPool(kieBase, PACKAGE_NAME);
+        final KieBase otherKieBase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch borrowed = new CountDownLatch(THREADS);
+            final CountDownLatch retired = new CountDownLatch(1);
+            final List<Future<Double>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final double value = i;
+                futures.add(executor.submit(() -> {
+                    assertTrue(replaced.borrow());
+                    try {
+                        borrowed.countDown();
+                        retired.await();
+                        return evaluate(replaced, value);
+                    } finally {
+                        replaced.release();
+                    }
+                }));
+            }
+            assertTrue(borrowed.await(30, TimeUnit.SECONDS));
+            final KiePMMLSessionsPool replacing = new KiePMMLSessionsPool(otherKieBase, PACKAGE_NAME);
+            replaced.retire();
+            assertFalse(replaced.borrow());
+            assertFalse(replaced.isShutdown());
+            retired.countDown();
+            for (int i = 0; i < THREADS; i++) {
+                assertEquals(i * 2.0, futures.get(i).get(30, TimeUnit.SECONDS), 0.0);
+            }
+            assertTrue(replaced.isShutdown());
+            assertTrue(replacing.borrow());
+            assertEquals(14.0, evaluate(replacing, 7.0), 0.0);
+            replacing.release();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double evaluate(final KiePMMLSessionsPool sessionsPool, final double value) throws Exception {
+        final KieCommands commands = KieServices.get().getCommands();
+        final FactType inputType = sessionsPool.getFactType("Input");
+        final Object input = inputType.newInstance();
+        inputType.set(input, "value", value);
+        final Map<String, Object> result = new HashMap<>();
+        final List<Command> toExecute = new ArrayList<>();
+        toExecute.add(commands.newInsert(input));
+        toExecute.add(commands.newInsert(result));
+        sessionsPool.newStatelessKieSession().execute(commands.newBatchExecution(toExecute));
+        return (Double) result.get("result");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.compiler.executor;
+
+import java.util.Map;
+
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.TransformationDictionary;
+import org.dmg.pmml.mining.MiningModel;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.compiler.api.provider.ModelImplementationProvider;
+import org.kie.pmml.models.mining.compiler.factories.KiePMMLMiningModelFactory;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModelWithSources;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.models.mining.model.KiePMMLMiningModel.PMML_MODEL_TYPE;
+
+/**
+ * <code>ModelImplementationProvider</code> for <b>MiningModel</b>, delegating the compilation of the models of the
+ * <b>Segment</b>s to the <code>ModelImplementationProvider</code>s of their types
+ */
+public class MiningModelImplementationProvider implements ModelImplementationProvider<MiningModel, KiePMMLMiningModel> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MiningModelImplementationProvider.class.getName());
+
+    @Override
+    public PMML_MODEL getPMMLModelType() {
+        logger.trace("getPMMLModelType");
+        return PMML_MODEL_TYPE;
+    }
+
+    @Override
+    public KiePMMLMiningModel getKiePMMLModel(final DataDictionary dataDictionary, final TransformationDictionary transformationDictionary, final MiningModel model, final Object kBuilder) {
+        logger.trace("getKiePMMLModel {} {} {}", dataDictionary, model, kBuilder);
+        validate(model);
+        try {
+            return KiePMMLMiningModelFactory.getKiePMMLMiningModel(dataDictionary, transformationDictionary, model, kBuilder);
+        } catch (IllegalAccessException | InstantiationException e) {
+            throw new KiePMMLException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public KiePMMLMiningModel getKiePMMLModelFromPlugin(final String packageName, final DataDictionary dataDictionary, final TransformationDictionary transformationDictionary, final MiningModel model, final Object kBuilder) {
+        logger.trace("getKiePMMLModelFromPlugin {} {} {}", dataDictionary, model, kBuilder);
+        validate(model);
+        final Map<String, String> sourcesMap = KiePMMLMiningModelFactory.getKiePMMLMiningModelSourcesMap(dataDictionary, transformationDictionary, model, kBuilder, packageName);
+        return new KiePMMLMiningModelWithSources(model.getModelName(), packageName, sourcesMap);
+    }
+
+    protected void validate(final MiningModel toValidate) {
+        if (toValidate.getSegmentation() == null || toValidate.getSegmentation().getSegments() == null || toValidate.getSegmentation().getSegments().isEmpty()) {
+            throw new KiePMMLException("At least one Segment required");
+        }
+        final MULTIPLE_MODEL_METHOD multipleModelMethod = MULTIPLE_MODEL_METHOD.byName(toValidate.getSegmentation().getMultipleModelMethod().value());
+        switch (multipleModelMethod) {
+            case SELECT_ALL:
+            case WEIGHTED_MEDIAN:
+                throw new KiePMMLException("MultipleModelMethod " + multipleModelMethod.getName() + " not managed, yet");
+            default:
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.compiler.factories;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
+import org.dmg.pmml.CompoundPredicate;
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.False;
+import org.dmg.pmml.LocalTransformations;
+import org.dmg.pmml.Model;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.SimpleSetPredicate;
+import org.dmg.pmml.TransformationDictionary;
+import org.dmg.pmml.True;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segment;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.exceptions.KiePMMLInternalException;
+import org.kie.pmml.commons.model.HasSourcesMap;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.KiePMMLOutputField;
+import org.kie.pmml.commons.model.enums.BOOLEAN_OPERATOR;
+import org.kie.pmml.commons.model.enums.DATA_TYPE;
+import org.kie.pmml.commons.model.enums.MINING_FUNCTION;
+import org.kie.pmml.commons.model.enums.OPERATOR;
+import org.kie.pmml.commons.model.enums.RESULT_FEATURE;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
+import org.kie.pmml.models.mining.model.KiePMMLSegment;
+import org.kie.pmml.models.mining.model.KiePMMLSegmentPredicates;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.github.javaparser.StaticJavaParser.parseClassOrInterfaceType;
+import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedClassName;
+import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedPackageName;
+import static org.kie.pmml.compiler.commons.factories.KiePMMLOutputFieldFactory.getOutputFields;
+import static org.kie.pmml.compiler.commons.implementations.KiePMMLModelRetriever.getFromCommonDataAndTransformationDictionaryAndModelFromPlugin;
+import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.MAIN_CLASS_NOT_FOUND;
+import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.getFromFileName;
+import static org.kie.pmml.compiler.commons.utils.KiePMMLModelFactoryUtils.addTransformationsInClassOrInterfaceDeclaration;
+import static org.kie.pmml.compiler.commons.utils.ModelUtils.getTargetFieldName;
+
+/**
+ * Class used to generate <code>KiePMMLMiningModel</code> out of a <code>DataDictionary</code> and a
+ * <code>MiningModel</code>.
+ * <p>
+ * The models of the <b>Segment</b>s are translated to sources by the <code>ModelImplementationProvider</code>s of their
+ * types, and all the sources of the ensemble are compiled together: a single compilation for hundreds of
+ * <b>Segment</b>s is much cheaper than one compilation for each of them.
+ */
+public class KiePMMLMiningModelFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiePMMLMiningModelFactory.class.getName());
+    static final String KIE_PMML_MINING_MODEL_TEMPLATE_JAVA = "KiePMMLMiningModelTemplate.tmpl";
+    static final String KIE_PMML_MINING_MODEL_TEMPLATE = "KiePMMLMiningModelTemplate";
+    static final String SEGMENT_MODEL_NAME_TEMPLATE = "%sSegment%s";
+    private static final Pattern ARRAY_ENTRY = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"|(\\S+)");
+
+    private KiePMMLMiningModelFactory() {
+        // Avoid instantiation
+    }
+
+    public static KiePMMLMiningModel getKiePMMLMiningModel(final DataDictionary dataDictionary,
+                                                           final TransformationDictionary transformationDictionary,
+                                                           final MiningModel model,
+                                                           final Object kBuilder) throws IllegalAccessException, InstantiationException {
+        logger.trace("getKiePMMLMiningModel {} {}", dataDictionary, model);
+        String className = getSanitizedClassName(model.getModelName());
+        String packageName = getSanitizedPackageName(model.getModelName());
+        Map<String, String> sourcesMap = getKiePMMLMiningModelSourcesMap(dataDictionary, transformationDictionary, model, kBuilder, packageName);
+        String fullClassName = packageName + "." + className;
+        final Map<String, Class<?>> compiledClasses = KieMemoryCompiler.compile(sourcesMap, Thread.currentThread().getContextClassLoader());
+        return (KiePMMLMiningModel) compiledClasses.get(fullClassName).newInstance();
+    }
+
+    /**
+     * @param dataDictionary
+     * @param transformationDictionary
+     * @param model
+     * @param kBuilder
+     * @param packageName
+     * @return the sources of the <code>KiePMMLMiningModel</code> and of the models of all its <b>Segment</b>s
+     */
+    public static Map<String, String> getKiePMMLMiningModelSourcesMap(final DataDictionary dataDictionary,
+                                                                      final TransformationDictionary transformationDictionary,
+                                                                      final MiningModel model,
+                                                                      final Object kBuilder,
+                                                                      final String packageName) {
+        logger.trace("getKiePMMLMiningModelSourcesMap {} {} {}", dataDictionary, model, packageName);
+        String className = getSanitizedClassName(model.getModelName());
+        CompilationUnit cloneCU = getFromFileName(KIE_PMML_MINING_MODEL_TEMPLATE_JAVA).clone();
+        cloneCU.setPackageDeclaration(packageName);
+        ClassOrInterfaceDeclaration modelTemplate = cloneCU.getClassByName(KIE_PMML_MINING_MODEL_TEMPLATE)
+                .orElseThrow(() -> new KiePMMLInternalException(MAIN_CLASS_NOT_FOUND));
+        modelTemplate.setName(className);
+        final ConstructorDeclaration constructorDeclaration = modelTemplate.getDefaultConstructor().orElseThrow(() -> new KiePMMLInternalException(String.format("Missing default constructor in ClassOrInterfaceDeclaration %s ", modelTemplate.getName())));
+        final String targetFieldName = getTargetFieldName(dataDictionary, model).orElse(null);
+        final MULTIPLE_MODEL_METHOD multipleModelMethod = MULTIPLE_MODEL_METHOD.byName(model.getSegmentation().getMultipleModelMethod().value());
+        populateConstructor(className, constructorDeclaration, targetFieldName, MINING_FUNCTION.byName(model.getMiningFunction().value()), multipleModelMethod, model.getModelName(), getOutputFields(model));
+        Map<String, String> toReturn = new HashMap<>();
+        final Map<String, DATA_TYPE> fieldTypeMap = getFieldTypeMap(dataDictionary, transformationDictionary, model.getLocalTransformations());
+        final List<Segment> segments = model.getSegmentation().getSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            final Segment segment = segments.get(i);
+            final String segmentId = segment.getId() != null ? segment.getId() : String.valueOf(i + 1);
+            final String segmentClassName = addSegmentModelSources(toReturn, dataDictionary, transformationDictionary, model, segment, segmentId, kBuilder, packageName);
+            addSegment(constructorDeclaration.getBody(), segment, segmentId, packageName + "." + segmentClassName, fieldTypeMap);
+        }
+        addTransformationsInClassOrInterfaceDeclaration(modelTemplate, transformationDictionary, model.getLocalTransformations());
+        String fullClassName = packageName + "." + className;
+        toReturn.put(fullClassName, cloneCU.toString());
+        return toReturn;
+    }
+
+    static void populateConstructor(final String generatedClassName,
+                                    final ConstructorDeclaration constructorDeclaration,
+                                    final String targetField,
+                                    final MINING_FUNCTION miningFunction,
+                                    final MULTIPLE_MODEL_METHOD multipleModelMethod,
+                                    final String modelName,
+                                    final List<KiePMMLOutputField> outputFields) {
+        constructorDeclaration.setName(generatedClassName);
+        final BlockStmt body = constructorDeclaration.getBody();
+        body.getStatements().iterator().forEachRemaining(statement -> {
+            if (statement instanceof ExplicitConstructorInvocationStmt) {
+                ExplicitConstructorInvocationStmt superStatement = (ExplicitConstructorInvocationStmt) statement;
+                NameExpr modelNameExpr = (NameExpr) superStatement.getArgument(0);
+                modelNameExpr.setName(String.format("\"%s\"", modelName));
+            }
+        });
+        final List<AssignExpr> assignExprs = body.findAll(AssignExpr.class);
+        assignExprs.forEach(assignExpr -> {
+            if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("targetField")) {
+                assignExpr.setValue(targetField != null ? new StringLiteralExpr(targetField) : new NullLiteralExpr());
+            } else if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("miningFunction")) {
+                assignExpr.setValue(new NameExpr(miningFunction.getClass().getName() + "." + miningFunction.name()));
+            } else if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("pmmlMODEL")) {
+                assignExpr.setValue(new NameExpr(KiePMMLMiningModel.PMML_MODEL_TYPE.getClass().getName() + "." + KiePMMLMiningModel.PMML_MODEL_TYPE.name()));
+            } else if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("multipleModelMethod")) {
+                assignExpr.setValue(new NameExpr(multipleModelMethod.getClass().getName() + "." + multipleModelMethod.name()));
+            }
+        });
+        getPredictedValueFields(outputFields)
+                .forEach(outputField -> body.addStatement(new MethodCallExpr(new NameExpr("predictedValueFields"), "add", NodeList.nodeList(new StringLiteralExpr(outputField)))));
+    }
+
+    /**
+     * Put the sources of the model of the given <code>Segment</code> in the given <code>Map</code>, naming the model
+     * after the <code>MiningModel</code> if it has no <b>modelName</b>
+     * @return the simple name of the generated <code>KiePMMLModel</code> class
+     */
+    static String addSegmentModelSources(final Map<String, String> toPopulate,
+                                         final DataDictionary dataDictionary,
+                                         final TransformationDictionary transformationDictionary,
+                                         final MiningModel model,
+                                         final Segment segment,
+                                         final String segmentId,
+                                         final Object kBuilder,
+                                         final String packageName) {
+        final Model segmentModel = segment.getModel();
+        if (segmentModel == null) {
+            throw new KiePMMLException("Segment " + segmentId + " without model");
+        }
+        if (segmentModel.getModelName() == null || segmentModel.getModelName().isEmpty()) {
+            segmentModel.setModelName(String.format(SEGMENT_MODEL_NAME_TEMPLATE, model.getModelName(), segmentId));
+        }
+        final String toReturn = getSanitizedClassName(segmentModel.getModelName());
+        if (toPopulate.containsKey(packageName + "." + toReturn)) {
+            throw new KiePMMLException("Duplicated model name " + segmentModel.getModelName() + " in Segment " + segmentId);
+        }
+        final KiePMMLModel kiePMMLModel = getFromCommonDataAndTransformationDictionaryAndModelFromPlugin(packageName, dataDictionary, transformationDictionary, segmentModel, kBuilder)
+                .orElseThrow(() -> new KiePMMLException("No ModelImplementationProvider found for the " + segmentModel.getClass().getSimpleName() + " of Segment " + segmentId));
+        if (!(kiePMMLModel instanceof HasSourcesMap)) {
+            throw new KiePMMLException(String.format("Expecting %s for the model of Segment %s", HasSourcesMap.class.getCanonicalName(), segmentId));
+        }
+        toPopulate.putAll(((HasSourcesMap) kiePMMLModel).getSourcesMap());
+        return toReturn;
+    }
+
+    /**
+     * Add the <b>segments.add(new KiePMMLSegment(...))</b> statement of the given <code>Segment</code>
+     */
+    static void addSegment(final BlockStmt body,
+                           final Segment segment,
+                           final String segmentId,
+                           final String segmentModelClassName,
+                           final Map<String, DATA_TYPE> fieldTypeMap) {
+        final Number weight = segment.getWeight();
+        final MethodCallExpr predictedValueFields = new MethodCallExpr(new NameExpr("java.util.Arrays"), "asList");
+        getPredictedValueFields(getOutputFields(segment.getModel()))
+                .forEach(outputField -> predictedValueFields.addArgument(new StringLiteralExpr().setString(outputField)));
+        final ObjectCreationExpr segmentExpr = new ObjectCreationExpr();
+        segmentExpr.setType(parseClassOrInterfaceType(KiePMMLSegment.class.getName()));
+        segmentExpr.setArguments(NodeList.nodeList(new StringLiteralExpr().setString(segmentId),
+                                                   new DoubleLiteralExpr(String.valueOf(weight != null ? weight.doubleValue() : 1.0)),
+                                                   getPredicateExpression(segment.getPredicate(), fieldTypeMap),
+                                                   new ObjectCreationExpr(null, parseClassOrInterfaceType(segmentModelClassName), NodeList.nodeList()),
+                                                   predictedValueFields));
+        body.addStatement(new MethodCallExpr(new NameExpr("segments"), "add", NodeList.nodeList(segmentExpr)));
+    }
+
+    static Expression getPredicateExpression(final Predicate predicate, final Map<String, DATA_TYPE> fieldTypeMap) {
+        final NameExpr predicates = new NameExpr(KiePMMLSegmentPredicates.class.getName());
+        if (predicate == null || predicate instanceof True) {
+            return new MethodCallExpr(predicates, "alwaysTrue");
+        } else if (predicate instanceof False) {
+            return new MethodCallExpr(predicates, "alwaysFalse");
+        } else if (predicate instanceof SimplePredicate) {
+            final SimplePredicate simplePredicate = (SimplePredicate) predicate;
+            final String fieldName = simplePredicate.getField().getValue();
+            final OPERATOR operator = OPERATOR.byName(simplePredicate.getOperator().value());
+            final Expression value = simplePredicate.getValue() != null ? getValueExpression(fieldName, simplePredicate.getValue(), fieldTypeMap) : new NullLiteralExpr();
+            return new MethodCallExpr(predicates, "simple", NodeList.nodeList(new StringLiteralExpr().setString(fieldName),
+                                                                              new NameExpr(OPERATOR.class.getName() + "." + operator.name()),
+                                                                              value));
+        } else if (predicate instanceof SimpleSetPredicate) {
+            final SimpleSetPredicate simpleSetPredicate = (SimpleSetPredicate) predicate;
+            final String fieldName = simpleSetPredicate.getField().getValue();
+            final MethodCallExpr toReturn = new MethodCallExpr(predicates, "simpleSet", NodeList.nodeList(new StringLiteralExpr().setString(fieldName),
+                                                                                                          new BooleanLiteralExpr(SimpleSetPredicate.BooleanOperator.IS_IN.equals(simpleSetPredicate.getBooleanOperator()))));
+            getArrayValues(String.valueOf(simpleSetPredicate.getArray().getValue()))
+                    .forEach(value -> toReturn.addArgument(getValueExpression(fieldName, value, fieldTypeMap)));
+            return toReturn;
+        } else if (predicate instanceof CompoundPredicate) {
+            final CompoundPredicate compoundPredicate = (CompoundPredicate) predicate;
+            final BOOLEAN_OPERATOR booleanOperator = BOOLEAN_OPERATOR.byName(compoundPredicate.getBooleanOperator().value());
+            final MethodCallExpr toReturn = new MethodCallExpr(predicates, "compound", NodeList.nodeList(new NameExpr(BOOLEAN_OPERATOR.class.getName() + "." + booleanOperator.name())));
+            compoundPredicate.getPredicates().forEach(nested -> toReturn.addArgument(getPredicateExpression(nested, fieldTypeMap)));
+            return toReturn;
+        } else {
+            throw new KiePMMLException("Predicate of type " + predicate.getClass().getName() + " not managed, yet");
+        }
+    }
+
+    static Expression getValueExpression(final String fieldName, final Object value, final Map<String, DATA_TYPE> fieldTypeMap) {
+        final DATA_TYPE dataType = fieldTypeMap.get(fieldName);
+        if (dataType != null) {
+            switch (dataType) {
+                case STRING:
+                case BOOLEAN:
+                case DATE:
+                case TIME:
+                case DATE_TIME:
+                    break;
+                default:
+                    return new DoubleLiteralExpr(String.valueOf(Double.parseDouble(value.toString())));
+            }
+        }
+        return new StringLiteralExpr().setString(value.toString());
+    }
+
+    static List<String> getPredictedValueFields(final List<KiePMMLOutputField> outputFields) {
+        return outputFields.stream()
+                .filter(outputField -> RESULT_FEATURE.PREDICTED_VALUE.equals(outputField.getResultFeature()))
+                .map(KiePMMLOutputField::getName)
+                .collect(Collectors.toList());
+    }
+
+    static List<String> getArrayValues(final String array) {
+        final List<String> toReturn = new ArrayList<>();
+        final Matcher matcher = ARRAY_ENTRY.matcher(array);
+        while (matcher.find()) {
+            toReturn.add(matcher.group(1) != null ? matcher.group(1).replace("\\\"", "\"") : matcher.group(2));
+        }
+        return toReturn;
+    }
+
+    static Map<String, DATA_TYPE> getFieldTypeMap(final DataDictionary dataDictionary,
+                                                  final TransformationDictionary transformationDictionary,
+                                                  final LocalTransformations localTransformations) {
+        final Map<String, DATA_TYPE> toReturn = new HashMap<>();
+        dataDictionary.getDataFields().forEach(dataField -> toReturn.put(dataField.getName().getValue(), DATA_TYPE.byName(dataField.getDataType().value())));
+        if (transformationDictionary != null && transformationDictionary.getDerivedFields() != null) {
+            transformationDictionary.getDerivedFields().forEach(derivedField -> addDerivedFieldType(derivedField, toReturn));
+        }
+        if (localTransformations != null && localTransformations.getDerivedFields() != null) {
+            localTransformations.getDerivedFields().forEach(derivedField -> addDerivedFieldType(derivedField, toReturn));
+        }
+        return toReturn;
+    }
+
+    private static void addDerivedFieldType(final DerivedField derivedField, final Map<String, DATA_TYPE> fieldTypeMap) {
+        if (derivedField.getDataType() != null) {
+            fieldTypeMap.put(derivedField.getName().getValue(), DATA_TYPE.byName(derivedField.getDataType().value()));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.compiler.executor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.mining.MiningModel;
+import org.dmg.pmml.mining.Segmentation;
+import org.junit.Test;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.compiler.testutils.TestUtils;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
+import org.kie.pmml.models.mining.model.KiePMMLMiningModelWithSources;
+import org.kie.pmml.models.mining.model.KiePMMLSegment;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MiningModelImplementationProviderTest {
+
+    private final static MiningModelImplementationProvider PROVIDER = new MiningModelImplementationProvider();
+    private final static String RELEASE_ID = "org.drools:kie-pmml-models-testing:1.0";
+    private static final String PACKAGE_NAME = "packagename";
+    private static final String SOURCE_1 = "SumRegressionMining.pmml";
+
+    @Test
+    public void getPMMLModelType() {
+        assertEquals(PMML_MODEL.MINING_MODEL, PROVIDER.getPMMLModelType());
+    }
+
+    @Test
+    public void getKiePMMLModel() throws Exception {
+        final PMML pmml = TestUtils.loadFromFile(SOURCE_1);
+        final KiePMMLMiningModel kiePMMLModel = PROVIDER.getKiePMMLModel(pmml.getDataDictionary(), pmml.getTransformationDictionary(), getMiningModel(pmml), RELEASE_ID);
+        assertNotNull(kiePMMLModel);
+        assertEquals(MULTIPLE_MODEL_METHOD.SUM, kiePMMLModel.getMultipleModelMethod());
+        assertEquals(3, kiePMMLModel.getSegments().size());
+        final Map<String, Object> requestData = new HashMap<>();
+        requestData.put("input1", 10.0);
+        requestData.put("input2", 1.0);
+        requestData.put("input3", 1.0);
+        // segments 1 and 3: (500 + 20 + 5 + 1) + (800 + 200 + 2 + 2)
+        assertEquals(1530.0, (double) kiePMMLModel.evaluate(null, requestData), 0.0);
+        requestData.put("input1", 200.0);
+        // segment 2: -500 + 200 + 1 + 1
+        assertEquals(-298.0, (double) kiePMMLModel.evaluate(null, requestData), 0.0);
+        requestData.put("input1", 120.0);
+        assertNull(kiePMMLModel.evaluate(null, requestData));
+    }
+
+    @Test
+    public void getKiePMMLModelFromPlugin() throws Exception {
+        final PMML pmml = TestUtils.loadFromFile(SOURCE_1);
+        final KiePMMLMiningModel kiePMMLModel = PROVIDER.getKiePMMLModelFromPlugin(PACKAGE_NAME, pmml.getDataDictionary(), pmml.getTransformationDictionary(), getMiningModel(pmml), RELEASE_ID);
+        assertTrue(kiePMMLModel instanceof KiePMMLMiningModelWithSources);
+        final Map<String, String> sourcesMap = ((KiePMMLMiningModelWithSources) kiePMMLModel).getSourcesMap();
+        assertTrue(sourcesMap.size() > 3);
+        sourcesMap.values().forEach(source -> assertTrue(source.startsWith("package " + PACKAGE_NAME + ";")));
+        assertTrue(sourcesMap.values().stream().anyMatch(source -> source.contains(KiePMMLSegment.class.getName() + "(")));
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void validateWithoutSegments() throws Exception {
+        final PMML pmml = TestUtils.loadFromFile(SOURCE_1);
+        final MiningModel miningModel = getMiningModel(pmml);
+        miningModel.setSegmentation(null);
+        PROVIDER.validate(miningModel);
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void validateSelectAll() throws Exception {
+        final PMML pmml = TestUtils.loadFromFile(SOURCE_1);
+        final MiningModel miningModel = getMiningModel(pmml);
+        miningModel.getSegmentation().setMultipleModelMethod(Segmentation.MultipleModelMethod.SELECT_ALL);
+        PROVIDER.validate(miningModel);
+    }
+
+    private MiningModel getMiningModel(final PMML pmml) {
+        assertNotNull(pmml);
+        assertEquals(1, pmml.getModels().size());
+        assertTrue(pmml.getModels().get(0) instanceof MiningModel);
+        return (MiningModel) pmml.getModels().get(0);
+    }
+}
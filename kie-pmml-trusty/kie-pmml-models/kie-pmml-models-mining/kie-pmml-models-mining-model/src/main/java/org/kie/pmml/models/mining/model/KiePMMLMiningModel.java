@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+
+/**
+ * <code>KiePMMLModel</code> combining the results of its <code>KiePMMLSegment</code>s, whose nested models are
+ * populated by the constructor of the generated subclass.
+ * <p>
+ * The selected <b>Segment</b>s are evaluated in parallel when they are at least {@link #PARALLEL_SEGMENTS_THRESHOLD}
+ * and all their models are <b>thread-safe</b>; the <b>modelChain</b> ones are always evaluated in order, since each of
+ * them may read the predictions of the previous ones. The <b>Segment</b>s without prediction are ignored.
+ * @see <a href=http://dmg.org/pmml/v4-4/MultipleModels.html>Multiple Models</a>
+ */
+public abstract class KiePMMLMiningModel extends KiePMMLModel {
+
+    public static final PMML_MODEL PMML_MODEL_TYPE = PMML_MODEL.MINING_MODEL;
+
+    /**
+     * Below this number of <b>Segment</b>s the fork/join overhead exceeds the gain of a parallel evaluation
+     */
+    public static final int PARALLEL_SEGMENTS_THRESHOLD = 8;
+
+    protected MULTIPLE_MODEL_METHOD multipleModelMethod;
+    protected List<KiePMMLSegment> segments = new ArrayList<>();
+
+    /**
+     * The names of the <b>predictedValue</b> <code>OutputField</code>s
+     */
+    protected List<String> predictedValueFields = new ArrayList<>();
+
+    private volatile Boolean parallel;
+
+    public KiePMMLMiningModel(String modelName) {
+        super(modelName, Collections.emptyList());
+    }
+
+    /**
+     * @return the combined prediction of the selected <b>Segment</b>s, or <code>null</code> if there is no prediction
+     */
+    @Override
+    public Object evaluate(final Object knowledgeBase, Map<String, Object> requestData) {
+        switch (multipleModelMethod) {
+            case SELECT_FIRST:
+                return evaluateFirst(knowledgeBase, requestData);
+            case MODEL_CHAIN:
+                return evaluateChain(knowledgeBase, requestData);
+            default:
+                return aggregate(evaluateSegments(knowledgeBase, requestData));
+        }
+    }
+
+    /**
+     * A <code>KiePMMLMiningModel</code> keeps no state of its own, so it is <b>thread-safe</b> when all its
+     * <b>Segment</b>s are
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return segments.stream().allMatch(segment -> segment.getModel().isThreadSafe());
+    }
+
+    public MULTIPLE_MODEL_METHOD getMultipleModelMethod() {
+        return multipleModelMethod;
+    }
+
+    public List<KiePMMLSegment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    public List<String> getPredictedValueFields() {
+        return Collections.unmodifiableList(predictedValueFields);
+    }
+
+    /**
+     * @param knowledgeBase
+     * @param requestData
+     * @return the results of the <b>Segment</b>s, in their order, with <code>null</code> for the not selected ones
+     */
+    protected Object[] evaluateSegments(final Object knowledgeBase, final Map<String, Object> requestData) {
+        final Object[] toReturn = new Object[segments.size()];
+        IntStream indexes = IntStream.range(0, segments.size());
+        if (isParallel()) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(index -> {
+            final KiePMMLSegment segment = segments.get(index);
+            if (segment.isSelected(requestData)) {
+                toReturn[index] = segment.evaluate(knowledgeBase, requestData);
+            }
+        });
+        return toReturn;
+    }
+
+    protected Object evaluateFirst(final Object knowledgeBase, final Map<String, Object> requestData) {
+        for (KiePMMLSegment segment : segments) {
+            if (segment.isSelected(requestData)) {
+                return segment.evaluate(knowledgeBase, requestData);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Each selected <b>Segment</b> reads the <b>predictedValue</b> and the <b>OutputField</b>s of the previous ones
+     * @param knowledgeBase
+     * @param requestData
+     * @return the prediction of the last selected <b>Segment</b>
+     */
+    protected Object evaluateChain(final Object knowledgeBase, final Map<String, Object> requestData) {
+        final Map<String, Object> chainData = new HashMap<>(requestData);
+        Object toReturn = null;
+        for (KiePMMLSegment segment : segments) {
+            if (segment.isSelected(chainData)) {
+                toReturn = segment.evaluate(knowledgeBase, chainData);
+                final Object result = toReturn;
+                segment.getPredictedValueFields().forEach(outputField -> chainData.put(outputField, result));
+                chainData.putAll(segment.getModel().getOutputFieldsMap());
+            }
+        }
+        return toReturn;
+    }
+
+    protected Object aggregate(final Object[] results) {
+        switch (multipleModelMethod) {
+            case SUM:
+                return sum(results, false);
+            case WEIGHTED_SUM:
+                return sum(results, true);
+            case AVERAGE:
+                return average(results, false);
+            case WEIGHTED_AVERAGE:
+                return average(results, true);
+            case MAJORITY_VOTE:
+                return majorityVote(results, false);
+            case WEIGHTED_MAJORITY_VOTE:
+                return majorityVote(results, true);
+            case MAX:
+                return max(results);
+            case MEDIAN:
+                return median(results);
+            default:
+                throw new KiePMMLException("MultipleModelMethod " + multipleModelMethod.getName() + " not managed, yet");
+        }
+    }
+
+    protected Double sum(final Object[] results, final boolean weighted) {
+        double toReturn = 0;
+        boolean found = false;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                toReturn += toDouble(results[i]) * (weighted ? segments.get(i).getWeight() : 1);
+                found = true;
+            }
+        }
+        return found ? toReturn : null;
+    }
+
+    protected Double average(final Object[] results, final boolean weighted) {
+        double sum = 0;
+        double weights = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                final double weight = weighted ? segments.get(i).getWeight() : 1;
+                sum += toDouble(results[i]) * weight;
+                weights += weight;
+            }
+        }
+        return weights != 0 ? sum / weights : null;
+    }
+
+    /**
+     * @param results
+     * @param weighted
+     * @return the most voted result; on ties, the first one reaching the highest vote
+     */
+    protected Object majorityVote(final Object[] results, final boolean weighted) {
+        final Map<Object, Double> votes = new LinkedHashMap<>();
+        Object toReturn = null;
+        double maxVotes = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null) {
+                final double vote = votes.merge(results[i], weighted ? segments.get(i).getWeight() : 1, Double::sum);
+                if (toReturn == null || vote > maxVotes) {
+                    toReturn = results[i];
+                    maxVotes = vote;
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    protected Double max(final Object[] results) {
+        Double toReturn = null;
+        for (Object result : results) {
+            if (result != null && (toReturn == null || toDouble(result) > toReturn)) {
+                toReturn = toDouble(result);
+            }
+        }
+        return toReturn;
+    }
+
+    protected Double median(final Object[] results) {
+        final double[] values = Arrays.stream(results)
+                .filter(result -> result != null)
+                .mapToDouble(KiePMMLMiningModel::toDouble)
+                .sorted()
+                .toArray();
+        if (values.length == 0) {
+            return null;
+        }
+        final int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    boolean isParallel() {
+        Boolean toReturn = parallel;
+        if (toReturn == null) {
+            toReturn = segments.size() >= PARALLEL_SEGMENTS_THRESHOLD && isThreadSafe();
+            parallel = toReturn;
+        }
+        return toReturn;
+    }
+
+    private static double toDouble(final Object result) {
+        return result instanceof Number ? ((Number) result).doubleValue() : Double.parseDouble(result.toString());
+    }
+}
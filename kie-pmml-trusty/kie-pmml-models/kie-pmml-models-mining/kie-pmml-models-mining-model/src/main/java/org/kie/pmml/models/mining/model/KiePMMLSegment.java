@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
+
+/**
+ * A <b>Segment</b> of a <code>KiePMMLMiningModel</code>: the nested <code>KiePMMLModel</code> is evaluated only when
+ * the <code>KiePMMLSegmentPredicate</code> is <code>true</code>
+ * @see <a href=http://dmg.org/pmml/v4-4/MultipleModels.html#xsdElement_Segment>Segment</a>
+ */
+public class KiePMMLSegment {
+
+    private final String id;
+    private final double weight;
+    private final KiePMMLSegmentPredicate predicate;
+    private final KiePMMLModel model;
+    private final List<String> predictedValueFields;
+
+    /**
+     * @param id
+     * @param weight
+     * @param predicate
+     * @param model
+     * @param predictedValueFields the names of the <b>predictedValue</b> <code>OutputField</code>s of the nested model,
+     * made available to the following <b>Segment</b>s of a <b>modelChain</b>
+     */
+    public KiePMMLSegment(String id, double weight, KiePMMLSegmentPredicate predicate, KiePMMLModel model, List<String> predictedValueFields) {
+        this.id = id;
+        this.weight = weight;
+        this.predicate = predicate;
+        this.model = model;
+        this.predictedValueFields = Collections.unmodifiableList(predictedValueFields);
+    }
+
+    public boolean isSelected(final Map<String, Object> requestData) {
+        return Boolean.TRUE.equals(predicate.evaluate(requestData));
+    }
+
+    /**
+     * Evaluates the nested <code>KiePMMLModel</code>, after its <b>LocalTransformations</b>: the <b>Transformations</b>
+     * of the <b>TransformationDictionary</b> have already been executed for the whole <code>KiePMMLMiningModel</code>
+     * @param knowledgeBase
+     * @param requestData
+     * @return
+     */
+    public Object evaluate(final Object knowledgeBase, final Map<String, Object> requestData) {
+        return model.evaluate(knowledgeBase, getSegmentRequestData(requestData));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public KiePMMLModel getModel() {
+        return model;
+    }
+
+    public List<String> getPredictedValueFields() {
+        return predictedValueFields;
+    }
+
+    Map<String, Object> getSegmentRequestData(final Map<String, Object> requestData) {
+        final Map<String, Function<List<KiePMMLNameValue>, Object>> localTransformationsMap = model.getLocalTransformationsMap();
+        if (localTransformationsMap.isEmpty()) {
+            return requestData;
+        }
+        final List<KiePMMLNameValue> kiePMMLNameValues = requestData.entrySet().stream()
+                .map(entry -> new KiePMMLNameValue(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        final Map<String, Object> toReturn = new HashMap<>(requestData);
+        localTransformationsMap.forEach((fieldName, transformationFunction) -> toReturn.put(fieldName, transformationFunction.apply(kiePMMLNameValues)));
+        return toReturn;
+    }
+}
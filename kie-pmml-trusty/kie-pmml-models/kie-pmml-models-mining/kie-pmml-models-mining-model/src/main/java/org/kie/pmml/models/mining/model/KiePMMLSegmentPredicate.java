@@ -0,0 +1,30 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model;
+
+import java.util.Map;
+
+/**
+ * The <b>Predicate</b> of a <code>KiePMMLSegment</code>, evaluated with the three-valued logic of the specification:
+ * <code>null</code> stands for <i>UNKNOWN</i>.
+ * @see KiePMMLSegmentPredicates
+ * @see <a href=http://dmg.org/pmml/v4-4/TreeModel.html#xsdGroup_PREDICATE>PREDICATE</a>
+ */
+@FunctionalInterface
+public interface KiePMMLSegmentPredicate {
+
+    Boolean evaluate(final Map<String, Object> requestData);
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.BOOLEAN_OPERATOR;
+import org.kie.pmml.commons.model.enums.OPERATOR;
+
+/**
+ * Factory methods of the <code>KiePMMLSegmentPredicate</code>s invoked by the generated <code>KiePMMLMiningModel</code>s.
+ * <p>
+ * The values of the numeric fields are expected as <code>Double</code>s, and compared with the <code>double</code>
+ * value of the input; any other value is compared with the input or with its <code>String</code> representation.
+ */
+public class KiePMMLSegmentPredicates {
+
+    private static final KiePMMLSegmentPredicate TRUE = requestData -> Boolean.TRUE;
+    private static final KiePMMLSegmentPredicate FALSE = requestData -> Boolean.FALSE;
+
+    private KiePMMLSegmentPredicates() {
+        // Avoid instantiation
+    }
+
+    public static KiePMMLSegmentPredicate alwaysTrue() {
+        return TRUE;
+    }
+
+    public static KiePMMLSegmentPredicate alwaysFalse() {
+        return FALSE;
+    }
+
+    /**
+     * @param fieldName
+     * @param operator
+     * @param value ignored for <code>IS_MISSING</code> and <code>IS_NOT_MISSING</code>
+     * @return
+     */
+    public static KiePMMLSegmentPredicate simple(final String fieldName, final OPERATOR operator, final Object value) {
+        switch (operator) {
+            case IS_MISSING:
+                return requestData -> requestData.get(fieldName) == null;
+            case IS_NOT_MISSING:
+                return requestData -> requestData.get(fieldName) != null;
+            default:
+                return requestData -> {
+                    final Object input = requestData.get(fieldName);
+                    return input == null ? null : compare(operator, input, value);
+                };
+        }
+    }
+
+    public static KiePMMLSegmentPredicate simpleSet(final String fieldName, final boolean isIn, final Object... values) {
+        final Set<Object> valuesSet = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+        return requestData -> {
+            final Object input = requestData.get(fieldName);
+            if (input == null) {
+                return null;
+            }
+            final boolean contained = valuesSet.contains(input instanceof Number ? ((Number) input).doubleValue() : input) || valuesSet.contains(input.toString());
+            return contained == isIn;
+        };
+    }
+
+    /**
+     * The nested <code>KiePMMLSegmentPredicate</code>s are folded from the left, since the three-valued <b>and</b>,
+     * <b>or</b>, <b>xor</b> and <b>surrogate</b> are associative
+     * @param booleanOperator
+     * @param predicates
+     * @return
+     */
+    public static KiePMMLSegmentPredicate compound(final BOOLEAN_OPERATOR booleanOperator, final KiePMMLSegmentPredicate... predicates) {
+        if (predicates.length == 0) {
+            throw new KiePMMLException("CompoundPredicate without nested predicates");
+        }
+        return requestData -> {
+            Boolean toReturn = predicates[0].evaluate(requestData);
+            for (int i = 1; i < predicates.length; i++) {
+                toReturn = combine(booleanOperator, toReturn, predicates[i].evaluate(requestData));
+            }
+            return toReturn;
+        };
+    }
+
+    static Boolean combine(final BOOLEAN_OPERATOR booleanOperator, final Boolean left, final Boolean right) {
+        switch (booleanOperator) {
+            case AND:
+                if (Boolean.FALSE.equals(left) || Boolean.FALSE.equals(right)) {
+                    return false;
+                }
+                return left == null || right == null ? null : true;
+            case OR:
+                if (Boolean.TRUE.equals(left) || Boolean.TRUE.equals(right)) {
+                    return true;
+                }
+                return left == null || right == null ? null : false;
+            case XOR:
+                return left == null || right == null ? null : left ^ right;
+            case SURROGATE:
+                return left != null ? left : right;
+            default:
+                throw new KiePMMLException("BOOLEAN_OPERATOR " + booleanOperator + " not managed, yet");
+        }
+    }
+
+    static boolean compare(final OPERATOR operator, final Object input, final Object value) {
+        switch (operator) {
+            case EQUAL:
+                return isEqual(input, value);
+            case NOT_EQUAL:
+                return !isEqual(input, value);
+            case LESS_THAN:
+                return compareTo(input, value) < 0;
+            case LESS_OR_EQUAL:
+                return compareTo(input, value) <= 0;
+            case GREATER_THAN:
+                return compareTo(input, value) > 0;
+            case GREATER_OR_EQUAL:
+                return compareTo(input, value) >= 0;
+            default:
+                throw new KiePMMLException("OPERATOR " + operator + " not managed, yet");
+        }
+    }
+
+    private static boolean isEqual(final Object input, final Object value) {
+        if (value instanceof Number) {
+            return toDouble(input) == ((Number) value).doubleValue();
+        }
+        return value.equals(input) || value.toString().equals(input.toString());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareTo(final Object input, final Object value) {
+        if (value instanceof Number) {
+            return Double.compare(toDouble(input), ((Number) value).doubleValue());
+        }
+        if (input instanceof Comparable && value.getClass().isInstance(input)) {
+            return ((Comparable) input).compareTo(value);
+        }
+        return input.toString().compareTo(value.toString());
+    }
+
+    private static double toDouble(final Object input) {
+        return input instanceof Number ? ((Number) input).doubleValue() : Double.parseDouble(input.toString());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model.enums;
+
+import java.util.Arrays;
+
+import org.kie.pmml.commons.exceptions.KieEnumException;
+
+/**
+ * @see <a href=http://dmg.org/pmml/v4-4/MultipleModels.html#xsdType_MULTIPLE-MODEL-METHOD>MULTIPLE-MODEL-METHOD</a>
+ */
+public enum MULTIPLE_MODEL_METHOD {
+
+    MAJORITY_VOTE("majorityVote"),
+    WEIGHTED_MAJORITY_VOTE("weightedMajorityVote"),
+    AVERAGE("average"),
+    WEIGHTED_AVERAGE("weightedAverage"),
+    MEDIAN("median"),
+    WEIGHTED_MEDIAN("weightedMedian"),
+    MAX("max"),
+    SUM("sum"),
+    WEIGHTED_SUM("weightedSum"),
+    SELECT_FIRST("selectFirst"),
+    SELECT_ALL("selectAll"),
+    MODEL_CHAIN("modelChain");
+
+    private final String name;
+
+    MULTIPLE_MODEL_METHOD(String name) {
+        this.name = name;
+    }
+
+    public static MULTIPLE_MODEL_METHOD byName(String name) {
+        return Arrays.stream(MULTIPLE_MODEL_METHOD.values())
+                .filter(value -> name.equals(value.name))
+                .findFirst()
+                .orElseThrow(() -> new KieEnumException("Failed to find MULTIPLE_MODEL_METHOD with name: " + name));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.enums.OPERATOR;
+import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class KiePMMLMiningModelTest {
+
+    private static final int SEGMENTS = KiePMMLMiningModel.PARALLEL_SEGMENTS_THRESHOLD + 4;
+    private static final String INPUT = "input";
+    private static final List<MULTIPLE_MODEL_METHOD> AGGREGATING_METHODS = Arrays.asList(MULTIPLE_MODEL_METHOD.SUM,
+                                                                                         MULTIPLE_MODEL_METHOD.WEIGHTED_SUM,
+                                                                                         MULTIPLE_MODEL_METHOD.AVERAGE,
+                                                                                         MULTIPLE_MODEL_METHOD.WEIGHTED_AVERAGE,
+                                                                                         MULTIPLE_MODEL_METHOD.MAJORITY_VOTE,
+                                                                                         MULTIPLE_MODEL_METHOD.WEIGHTED_MAJORITY_VOTE,
+                                                                                         MULTIPLE_MODEL_METHOD.MAX,
+                                                                                         MULTIPLE_MODEL_METHOD.MEDIAN);
+
+    @Test
+    public void isParallel() {
+        assertTrue(getMiningModel(MULTIPLE_MODEL_METHOD.SUM, SEGMENTS, true).isParallel());
+        assertFalse(getMiningModel(MULTIPLE_MODEL_METHOD.SUM, SEGMENTS, false).isParallel());
+        assertFalse(getMiningModel(MULTIPLE_MODEL_METHOD.SUM, KiePMMLMiningModel.PARALLEL_SEGMENTS_THRESHOLD - 1, true).isParallel());
+    }
+
+    @Test
+    public void parallelEqualsSequential() {
+        for (MULTIPLE_MODEL_METHOD multipleModelMethod : AGGREGATING_METHODS) {
+            final KiePMMLMiningModel parallel = getMiningModel(multipleModelMethod, SEGMENTS, true);
+            final KiePMMLMiningModel sequential = getMiningModel(multipleModelMethod, SEGMENTS, false);
+            for (int input = -5; input < SEGMENTS + 5; input++) {
+                final Map<String, Object> requestData = Collections.singletonMap(INPUT, (double) input);
+                final Object expected = sequential.evaluate(null, requestData);
+                // repeated, for the parallel evaluations to interleave differently
+                for (int i = 0; i < 10; i++) {
+                    assertEquals(multipleModelMethod + " " + input, expected, parallel.evaluate(null, requestData));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void evaluateSum() {
+        final KiePMMLMiningModel model = getMiningModel(MULTIPLE_MODEL_METHOD.SUM, SEGMENTS, true);
+        // segments 0..3 selected: (0 + 3) + (10 + 3) + (20 + 3) + (30 + 3)
+        assertEquals(72.0, model.evaluate(null, Collections.singletonMap(INPUT, 3.0)));
+        assertNull(model.evaluate(null, Collections.singletonMap(INPUT, -1.0)));
+    }
+
+    @Test
+    public void evaluateAverage() {
+        final KiePMMLMiningModel model = getMiningModel(MULTIPLE_MODEL_METHOD.AVERAGE, SEGMENTS, true);
+        // segments 0..3 selected: ((0 + 3) + (10 + 3) + (20 + 3) + (30 + 3)) / 4
+        assertEquals(18.0, model.evaluate(null, Collections.singletonMap(INPUT, 3.0)));
+        assertNull(model.evaluate(null, Collections.singletonMap(INPUT, -1.0)));
+    }
+
+    @Test
+    public void evaluateWeightedAverage() {
+        final KiePMMLMiningModel model = getMiningModel(MULTIPLE_MODEL_METHOD.WEIGHTED_AVERAGE, SEGMENTS, true);
+        // segments 0..1 selected, weighted 1 and 2: ((0 + 1) * 1 + (10 + 1) * 2) / 3
+        assertEquals(23.0 / 3, (double) model.evaluate(null, Collections.singletonMap(INPUT, 1.0)), 0.000001);
+    }
+
+    @Test
+    public void evaluateChain() {
+        final KiePMMLMiningModel model = new KiePMMLMiningModel("CHAIN") {
+            {
+                multipleModelMethod = MULTIPLE_MODEL_METHOD.MODEL_CHAIN;
+                segments.add(new KiePMMLSegment("1", 1, KiePMMLSegmentPredicates.alwaysTrue(),
+                                                new SegmentModel(0, 2, INPUT, true), Collections.singletonList("first")));
+                segments.add(new KiePMMLSegment("2", 1, KiePMMLSegmentPredicates.simple("first", OPERATOR.GREATER_THAN, 10.0),
+                                                new SegmentModel(1, 3, "first", true), Collections.singletonList("second")));
+                segments.add(new KiePMMLSegment("3", 1, KiePMMLSegmentPredicates.alwaysTrue(),
+                                                new SegmentModel(100, 1, "second", true), Collections.emptyList()));
+            }
+        };
+        // 6 * 2 = 12 -> 1 + 12 * 3 = 37 -> 100 + 37
+        assertEquals(137.0, model.evaluate(null, Collections.singletonMap(INPUT, 6.0)));
+        // 2 * 2 = 4 doesn't select the second segment, so the third one reads no "second"
+        assertEquals(100.0, model.evaluate(null, Collections.singletonMap(INPUT, 2.0)));
+    }
+
+    /**
+     * @return a <code>KiePMMLMiningModel</code> whose i-th <b>Segment</b>, weighted i + 1, is selected when the input
+     * is greater than i - 1 and predicts 10 * i + input
+     */
+    private static KiePMMLMiningModel getMiningModel(final MULTIPLE_MODEL_METHOD multipleModelMethod, final int segmentsSize, final boolean threadSafe) {
+        final List<KiePMMLSegment> toAdd = IntStream.range(0, segmentsSize)
+                .mapToObj(i -> new KiePMMLSegment(String.valueOf(i),
+                                                  i + 1,
+                                                  KiePMMLSegmentPredicates.simple(INPUT, OPERATOR.GREATER_THAN, i - 1.0),
+                                                  // only the last segment decides whether the whole model is thread-safe
+                                                  new SegmentModel(10.0 * i, 1, INPUT, threadSafe || i < segmentsSize - 1),
+                                                  Collections.emptyList()))
+                .collect(Collectors.toList());
+        return new KiePMMLMiningModel("MINING") {
+            {
+                this.multipleModelMethod = multipleModelMethod;
+                segments.addAll(toAdd);
+            }
+        };
+    }
+
+    /**
+     * A linear model of a single input, predicting its intercept when the input is missing
+     */
+    private static class SegmentModel extends KiePMMLModel {
+
+        private final double intercept;
+        private final double coefficient;
+        private final String inputField;
+        private final boolean threadSafe;
+
+        SegmentModel(final double intercept, final double coefficient, final String inputField, final boolean threadSafe) {
+            super("SEGMENT_MODEL", Collections.emptyList());
+            this.intercept = intercept;
+            this.coefficient = coefficient;
+            this.inputField = inputField;
+            this.threadSafe = threadSafe;
+        }
+
+        @Override
+        public Object evaluate(final Object knowledgeBase, final Map<String, Object> requestData) {
+            final Object input = requestData.get(inputField);
+            return input != null ? intercept + coefficient * ((Number) input).doubleValue() : intercept;
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.mining.tests;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+
+@RunWith(Parameterized.class)
+public class SumRegressionMiningTest extends AbstractPMMLMiningTest {
+
+    private static final String FILE_NAME = "sumregressionminingmodel/SumRegressionMining.pmml";
+    private static final String MODEL_NAME = "SumRegressionMiningModel";
+    private static final String TARGET_FIELD = "Predicted_result";
+    private static PMMLRuntime pmmlRuntime;
+
+    private double input1;
+    private double input2;
+    private double input3;
+    private Double expectedResult;
+
+    public SumRegressionMiningTest(double input1, double input2, double input3, Double expectedResult) {
+        this.input1 = input1;
+        this.input2 = input2;
+        this.input3 = input3;
+        this.expectedResult = expectedResult;
+    }
+
+    @BeforeClass
+    public static void setupClass() {
+        pmmlRuntime = getPMMLRuntime(FILE_NAME);
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {10, 1, 1, 1530.0},
+                {10, 2, 3, 1565.0},
+                {60, 1, 1, 8004.0},
+                {200, 1, 1, -298.0},
+                {120, 1, 1, null},
+        });
+    }
+
+    @Test
+    public void testSumRegressionMining() {
+        final Map<String, Object> inputData = new HashMap<>();
+        inputData.put("input1", input1);
+        inputData.put("input2", input2);
+        inputData.put("input3", input3);
+        PMML4Result pmml4Result = evaluate(pmmlRuntime, inputData, MODEL_NAME);
+
+        if (expectedResult == null) {
+            Assertions.assertThat(pmml4Result.getResultCode()).isEqualTo("FAIL");
+            Assertions.assertThat(pmml4Result.getResultVariables().get(TARGET_FIELD)).isNull();
+        } else {
+            Assertions.assertThat(pmml4Result.getResultVariables().get(TARGET_FIELD)).isNotNull();
+            Assertions.assertThat((double) pmml4Result.getResultVariables().get(TARGET_FIELD)).isCloseTo(expectedResult, Assertions.within(0.000001));
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.pmml.models.regression.compiler.factories;
 
 import java.io.IOException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,22 +25,33 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.ArrayCreationLevel;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.ArrayAccessExpr;
+import com.github.javaparser.ast.expr.ArrayCreationExpr;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
 import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.DoubleLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.SimpleName;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.PrimitiveType;
+import org.dmg.pmml.FieldRef;
 import org.dmg.pmml.regression.CategoricalPredictor;
 import org.dmg.pmml.regression.NumericPredictor;
 import org.dmg.pmml.regression.PredictorTerm;
@@ -67,6 +79,9 @@ public class KiePMMLRegressionTableRegressionFactory {
     private static final String KIE_PMML_REGRESSION_TABLE_REGRESSION_TEMPLATE = "KiePMMLRegressionTableRegressionTemplate";
     private static final String COEFFICIENT = "coefficient";
     private static final String EXPONENT = "exponent";
+    private static final String RESULT = "result";
+    private static final String NUMERIC_INPUTS = "numericInputs";
+    private static final String CATEGORICAL_INPUTS = "categoricalInputs";
     private static AtomicInteger classArity = new AtomicInteger(0);
     private static AtomicInteger predictorsArity = new AtomicInteger(0);
     private static CompilationUnit templateEvaluate;
@@ -105,6 +120,7 @@ public class KiePMMLRegressionTableRegressionFactory {
         addMapPopulation(numericPredictorsMap, body, "numericFunctionMap");
         addMapPopulation(categoricalPredictorsMap, body, "categoricalFunctionMap");
         addMapPopulation(predictorTermsMap, body, "predictorTermsFunctionMap");
+        populateEvaluateRegression(tableTemplate, body, numericPredictorsMap, categoricalPredictorsMap, regressionTable.getPredictorTerms());
         populateGetTargetCategory(tableTemplate, regressionTable.getTargetCategory());
         populateUpdateResult(tableTemplate, normalizationMethod);
         return new AbstractMap.SimpleEntry<>(className, cloneCU.toString());
@@ -339,6 +355,70 @@ public class KiePMMLRegressionTableRegressionFactory {
         return toReturn;
     }
 
+    /**
+     * Set the <b>numericFields</b> and <b>categoricalFields</b> inside the constructor and populate the
+     * <b>evaluateRegression</b> method of the class, that sums the <b>intercept</b> and all the predictors reading the
+     * inputs by index
+     * @param tableTemplate
+     * @param constructorBody
+     * @param numericPredictorsMap
+     * @param categoricalPredictorsMap
+     * @param predictorTerms
+     */
+    protected static void populateEvaluateRegression(final ClassOrInterfaceDeclaration tableTemplate, final BlockStmt constructorBody, final Map<String, MethodDeclaration> numericPredictorsMap, final Map<String, MethodDeclaration> categoricalPredictorsMap, final List<PredictorTerm> predictorTerms) {
+        final List<String> numericFields = new ArrayList<>(numericPredictorsMap.keySet());
+        predictorTerms.forEach(predictorTerm -> predictorTerm.getFieldRefs().forEach(fieldRef -> {
+            if (!numericFields.contains(fieldRef.getField().getValue())) {
+                numericFields.add(fieldRef.getField().getValue());
+            }
+        }));
+        final List<String> categoricalFields = new ArrayList<>(categoricalPredictorsMap.keySet());
+        constructorBody.addStatement(new AssignExpr(new NameExpr("numericFields"), getStringArrayExpr(numericFields), AssignExpr.Operator.ASSIGN));
+        constructorBody.addStatement(new AssignExpr(new NameExpr("categoricalFields"), getStringArrayExpr(categoricalFields), AssignExpr.Operator.ASSIGN));
+        final BlockStmt body = new BlockStmt();
+        body.addStatement(new VariableDeclarationExpr(new VariableDeclarator(PrimitiveType.doubleType(), RESULT, new NameExpr("intercept"))));
+        for (int i = 0; i < numericFields.size(); i++) {
+            final MethodDeclaration numericPredictor = numericPredictorsMap.get(numericFields.get(i));
+            if (numericPredictor != null) {
+                final Expression input = getInputExpr(NUMERIC_INPUTS, i);
+                final MethodCallExpr isNaN = new MethodCallExpr(new NameExpr("Double"), "isNaN", NodeList.nodeList(input));
+                body.addStatement(new IfStmt(new UnaryExpr(isNaN, UnaryExpr.Operator.LOGICAL_COMPLEMENT),
+                                             new BlockStmt().addStatement(getAddToResultExpr(new MethodCallExpr(null, numericPredictor.getNameAsString(), NodeList.nodeList(input.clone())))),
+                                             null));
+            }
+        }
+        for (int i = 0; i < categoricalFields.size(); i++) {
+            final Expression input = getInputExpr(CATEGORICAL_INPUTS, i);
+            final BinaryExpr isNotNull = new BinaryExpr(input, new NameExpr("null"), BinaryExpr.Operator.NOT_EQUALS);
+            final MethodCallExpr categoricalPredictor = new MethodCallExpr(null, categoricalPredictorsMap.get(categoricalFields.get(i)).getNameAsString(), NodeList.nodeList(input.clone()));
+            body.addStatement(new IfStmt(isNotNull, new BlockStmt().addStatement(getAddToResultExpr(categoricalPredictor)), null));
+        }
+        for (PredictorTerm predictorTerm : predictorTerms) {
+            Expression product = new DoubleLiteralExpr(String.valueOf(predictorTerm.getCoefficient().doubleValue()));
+            for (FieldRef fieldRef : predictorTerm.getFieldRefs()) {
+                final Expression input = getInputExpr(NUMERIC_INPUTS, numericFields.indexOf(fieldRef.getField().getValue()));
+                product = new BinaryExpr(product, new MethodCallExpr(null, "getPredictorTermFactor", NodeList.nodeList(input)), BinaryExpr.Operator.MULTIPLY);
+            }
+            body.addStatement(getAddToResultExpr(product));
+        }
+        body.addStatement(new ReturnStmt(new MethodCallExpr(null, "updateResult", NodeList.nodeList(new NameExpr(RESULT)))));
+        tableTemplate.getMethodsBySignature("evaluateRegression", "double[]", "Object[]").get(0).setBody(body);
+    }
+
+    private static ArrayCreationExpr getStringArrayExpr(final List<String> values) {
+        final NodeList<Expression> initializers = new NodeList<>();
+        values.forEach(value -> initializers.add(new StringLiteralExpr(value)));
+        return new ArrayCreationExpr(StaticJavaParser.parseType("String"), NodeList.nodeList(new ArrayCreationLevel()), new ArrayInitializerExpr(initializers));
+    }
+
+    private static ArrayAccessExpr getInputExpr(final String inputsName, final int index) {
+        return new ArrayAccessExpr(new NameExpr(inputsName), new IntegerLiteralExpr(String.valueOf(index)));
+    }
+
+    private static AssignExpr getAddToResultExpr(final Expression toAdd) {
+        return new AssignExpr(new NameExpr(RESULT), toAdd, AssignExpr.Operator.PLUS);
+    }
+
     /**
      * Populate the <b>getTargetCategory</b> method of the class
      * @param tableTemplate
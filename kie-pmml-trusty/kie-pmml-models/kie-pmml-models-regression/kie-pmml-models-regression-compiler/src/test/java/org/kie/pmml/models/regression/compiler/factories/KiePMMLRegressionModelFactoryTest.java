@@ -225,5 +225,13 @@ public class KiePMMLRegressionModelFactoryTest {
         for (PredictorTerm predictorTerm : originalRegressionTable.getPredictorTerms()) {
             assertTrue(predictorTermsFunctionMap.containsKey(predictorTerm.getName().getValue()));
         }
+        final List<String> numericFields = Arrays.asList(regressionTable.getNumericFields());
+        for (NumericPredictor numericPredictor : originalRegressionTable.getNumericPredictors()) {
+            assertTrue(numericFields.contains(numericPredictor.getName().getValue()));
+        }
+        final List<String> categoricalFields = Arrays.asList(regressionTable.getCategoricalFields());
+        for (CategoricalPredictor categoricalPredictor : originalRegressionTable.getCategoricalPredictors()) {
+            assertTrue(categoricalFields.contains(categoricalPredictor.getName().getValue()));
+        }
     }
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ public class KiePMMLRegressionTableRegression1 extends KiePMMLRegressionTable {
         predictorTermsFunctionMap.put("PredTerm-2", this::evaluatePredictorTerm3);
         predictorTermsFunctionMap.put("PredTerm-0", this::evaluatePredictorTerm1);
         predictorTermsFunctionMap.put("PredTerm-1", this::evaluatePredictorTerm2);
+        numericFields = new String[] { "NumPred-2", "NumPred-3", "NumPred-0", "NumPred-1", "CatPred-0" };
+        categoricalFields = new String[] { "CatPred-2", "CatPred-1", "CatPred-0" };
     }
 
     @Override
@@ -45,8 +47,38 @@ public class KiePMMLRegressionTableRegression1 extends KiePMMLRegressionTable {
     }
 
     @Override
-    protected void updateResult(final AtomicReference<Double> toUpdate) {
-        toUpdate.updateAndGet(y -> 0.5 + (1 / Math.PI) * Math.atan(y));
+    public double evaluateRegression(final double[] numericInputs, final Object[] categoricalInputs) {
+        double result = intercept;
+        if (!Double.isNaN(numericInputs[0])) {
+            result += evaluateNumericPredictor4(numericInputs[0]);
+        }
+        if (!Double.isNaN(numericInputs[1])) {
+            result += evaluateNumericPredictor1(numericInputs[1]);
+        }
+        if (!Double.isNaN(numericInputs[2])) {
+            result += evaluateNumericPredictor2(numericInputs[2]);
+        }
+        if (!Double.isNaN(numericInputs[3])) {
+            result += evaluateNumericPredictor3(numericInputs[3]);
+        }
+        if (categoricalInputs[0] != null) {
+            result += evaluateCategoricalPredictor1(categoricalInputs[0]);
+        }
+        if (categoricalInputs[1] != null) {
+            result += evaluateCategoricalPredictor2(categoricalInputs[1]);
+        }
+        if (categoricalInputs[2] != null) {
+            result += evaluateCategoricalPredictor3(categoricalInputs[2]);
+        }
+        result += 32.29 * getPredictorTermFactor(numericInputs[4]) * getPredictorTermFactor(numericInputs[1]);
+        result += 32.29 * getPredictorTermFactor(numericInputs[4]) * getPredictorTermFactor(numericInputs[1]);
+        result += 32.29 * getPredictorTermFactor(numericInputs[4]) * getPredictorTermFactor(numericInputs[1]);
+        return updateResult(result);
+    }
+
+    @Override
+    protected double updateResult(final double toUpdate) {
+        return 0.5 + (1 / Math.PI) * Math.atan(toUpdate);
     }
 
     private double evaluateNumericPredictor1(double input) {
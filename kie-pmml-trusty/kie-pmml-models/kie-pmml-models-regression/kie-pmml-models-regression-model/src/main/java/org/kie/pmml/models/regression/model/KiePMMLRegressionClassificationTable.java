@@ -21,7 +21,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.DoubleUnaryOperator;
 
 import org.kie.pmml.commons.exceptions.KiePMMLException;
@@ -63,8 +62,18 @@ public abstract class KiePMMLRegressionClassificationTable extends KiePMMLRegres
 
     protected abstract void populateOutputFieldsMap(final Map.Entry<String, Double> predictedEntry, final LinkedHashMap<String, Double> probabilityMap);
 
-    protected void updateResult(final AtomicReference<Double> toUpdate) {
-        // NOOP
+    /**
+     * A <b>Classification</b> is evaluated through the <code>KiePMMLRegressionTable</code>s of its
+     * <b>categoryTableMap</b>, each one with its own input fields
+     */
+    @Override
+    public double evaluateRegression(final double[] numericInputs, final Object[] categoricalInputs) {
+        throw new KiePMMLException("KiePMMLRegressionClassificationTable can't be evaluated over rows: use the tables of its categoryTableMap");
+    }
+
+    @Override
+    protected double updateResult(final double toUpdate) {
+        return toUpdate;
     }
 
     @Override
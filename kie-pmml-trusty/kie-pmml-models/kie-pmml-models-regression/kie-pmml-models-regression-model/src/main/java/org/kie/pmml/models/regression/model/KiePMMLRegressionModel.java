@@ -41,6 +41,14 @@ public abstract class KiePMMLRegressionModel extends KiePMMLModel {
         return regressionTable.getOutputFieldsMap();
     }
 
+    /**
+     * A <b>Classification</b> keeps the results of an evaluation in the <b>outputFieldsMap</b> of its table
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return !(regressionTable instanceof KiePMMLRegressionClassificationTable);
+    }
+
     public KiePMMLRegressionTable getRegressionTable() {
         return regressionTable;
     }
@@ -17,40 +17,83 @@ package org.kie.pmml.models.regression.model;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+/**
+ * The generated subclasses resolve the input fields to indexes at compile time: the numeric ones (of the
+ * <b>NumericPredictor</b>s and <b>PredictorTerm</b>s) are read from a <code>double[]</code> and the categorical ones
+ * from an <code>Object[]</code>, in the order of {@link #getNumericFields()} and {@link #getCategoricalFields()}, and all
+ * the predictors are summed in a single generated method.
+ * <p>
+ * A missing numeric input is represented by <code>Double.NaN</code>, a missing categorical one by <code>null</code>.
+ */
 public abstract class KiePMMLRegressionTable {
 
+    protected static final String[] NO_FIELDS = new String[0];
+
     protected Map<String, Function<Double, Double>> numericFunctionMap = new HashMap<>();
     protected Map<String, Function<Object, Double>> categoricalFunctionMap = new HashMap<>();
     protected Map<String, Function<Map<String, Object>, Double>> predictorTermsFunctionMap = new HashMap<>();
+    protected String[] numericFields = NO_FIELDS;
+    protected String[] categoricalFields = NO_FIELDS;
     protected double intercept;
     protected String targetField;
 
     public abstract Object getTargetCategory();
 
     public Object evaluateRegression(Map<String, Object> input) {
-        final AtomicReference<Double> result = new AtomicReference<>(intercept);
-        final Map<String, Double> resultMap = new HashMap<>();
-        for (Map.Entry<String, Function<Double, Double>> entry : numericFunctionMap.entrySet()) {
-            String key = entry.getKey();
-            if (input.containsKey(key)) {
-                resultMap.put(key, entry.getValue().apply(((Number) input.get(key)).doubleValue()));
-            }
+        return evaluateRegression(getNumericInputs(input), getCategoricalInputs(input));
+    }
+
+    /**
+     * Evaluate a single row
+     * @param numericInputs the values of the {@link #getNumericFields()}, <code>Double.NaN</code> if missing
+     * @param categoricalInputs the values of the {@link #getCategoricalFields()}, <code>null</code> if missing
+     * @return
+     */
+    public abstract double evaluateRegression(final double[] numericInputs, final Object[] categoricalInputs);
+
+    /**
+     * Evaluate many rows at once
+     * @param numericInputs the rows of values of the {@link #getNumericFields()}
+     * @param categoricalInputs the rows of values of the {@link #getCategoricalFields()}; it may be <code>null</code>
+     * if there are not categorical fields
+     * @return the results, in the order of the rows
+     */
+    public double[] evaluateRegression(final double[][] numericInputs, final Object[][] categoricalInputs) {
+        final double[] toReturn = new double[numericInputs.length];
+        for (int i = 0; i < toReturn.length; i++) {
+            toReturn[i] = evaluateRegression(numericInputs[i], categoricalInputs != null ? categoricalInputs[i] : NO_FIELDS);
+        }
+        return toReturn;
+    }
+
+    /**
+     * @param input
+     * @return the values of the {@link #getNumericFields()} read from the given <code>Map</code>
+     */
+    public double[] getNumericInputs(final Map<String, Object> input) {
+        final double[] toReturn = new double[numericFields.length];
+        for (int i = 0; i < toReturn.length; i++) {
+            final Object value = input.get(numericFields[i]);
+            toReturn[i] = value != null ? ((Number) value).doubleValue() : Double.NaN;
         }
-        for (Map.Entry<String, Function<Object, Double>> entry : categoricalFunctionMap.entrySet()) {
-            String key = entry.getKey();
-            if (input.containsKey(key)) {
-                resultMap.put(key, entry.getValue().apply(input.get(key)));
-            }
+        return toReturn;
+    }
+
+    /**
+     * @param input
+     * @return the values of the {@link #getCategoricalFields()} read from the given <code>Map</code>
+     */
+    public Object[] getCategoricalInputs(final Map<String, Object> input) {
+        if (categoricalFields.length == 0) {
+            return NO_FIELDS;
         }
-        for (Map.Entry<String, Function<Map<String, Object>, Double>> entry : predictorTermsFunctionMap.entrySet()) {
-            resultMap.put(entry.getKey(), entry.getValue().apply(input));
+        final Object[] toReturn = new Object[categoricalFields.length];
+        for (int i = 0; i < toReturn.length; i++) {
+            toReturn[i] = input.get(categoricalFields[i]);
         }
-        resultMap.values().forEach(value -> result.accumulateAndGet(value, Double::sum));
-        updateResult(result);
-        return result.get();
+        return toReturn;
     }
 
     public Map<String, Object> getOutputFieldsMap() {
@@ -73,9 +116,26 @@ public abstract class KiePMMLRegressionTable {
         return predictorTermsFunctionMap;
     }
 
+    public String[] getNumericFields() {
+        return numericFields.clone();
+    }
+
+    public String[] getCategoricalFields() {
+        return categoricalFields.clone();
+    }
+
     public double getIntercept() {
         return intercept;
     }
 
-    protected abstract void updateResult(final AtomicReference<Double> toUpdate);
+    /**
+     * A missing field of a <b>PredictorTerm</b> does not contribute to the product
+     * @param input
+     * @return
+     */
+    protected static double getPredictorTermFactor(final double input) {
+        return Double.isNaN(input) ? 1.0 : input;
+    }
+
+    protected abstract double updateResult(final double toUpdate);
 }
@@ -28,6 +28,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.pmml.PMML4Result;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionModel;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionTable;
 
 @RunWith(Parameterized.class)
 public class NumericVariablesLinearRegressionTest extends AbstractPMMLRegressionTest {
@@ -73,4 +75,17 @@ public class NumericVariablesLinearRegressionTest extends AbstractPMMLRegression
         Assertions.assertThat((Double) pmml4Result.getResultVariables().get(TARGET_FIELD))
                 .isEqualTo(regressionFunction(x, y));
     }
+
+    @Test
+    public void testNumericVariableLinearRegressionRows() {
+        final KiePMMLRegressionTable regressionTable = ((KiePMMLRegressionModel) pmmlRuntime.getModel(MODEL_NAME)
+                .orElseThrow(() -> new AssertionError("Missing model " + MODEL_NAME))).getRegressionTable();
+        final Map<String, Object> inputData = new HashMap<>();
+        inputData.put("x", x);
+        inputData.put("y", y);
+        final double[] numericInputs = regressionTable.getNumericInputs(inputData);
+        final double[] retrieved = regressionTable.evaluateRegression(new double[][]{numericInputs, numericInputs}, null);
+
+        Assertions.assertThat(retrieved).containsExactly(regressionFunction(x, y), regressionFunction(x, y));
+    }
 }
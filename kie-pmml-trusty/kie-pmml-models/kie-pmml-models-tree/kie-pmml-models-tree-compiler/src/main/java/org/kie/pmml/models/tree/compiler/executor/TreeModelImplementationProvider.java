@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.executor;
+
+import java.util.Map;
+
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.TransformationDictionary;
+import org.dmg.pmml.tree.TreeModel;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.compiler.api.provider.ModelImplementationProvider;
+import org.kie.pmml.models.tree.compiler.factories.KiePMMLTreeModelFactory;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModel;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModelWithSources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.models.tree.model.KiePMMLTreeModel.PMML_MODEL_TYPE;
+
+/**
+ * <code>ModelImplementationProvider</code> for <b>Tree</b> compiling the <code>Node</code>s to plain Java.
+ * <p>
+ * It is an alternative to the <b>Drools</b>-based one of <b>kie-pmml-models-drools-tree</b>: when both are on the
+ * classpath the <b>Drools</b>-based one compiles the models, unless the {@value #COMPILED_TREE_PROPERTY} system
+ * property is set to <code>true</code>. The evaluator is then picked by <code>canEvaluate</code>.
+ */
+public class TreeModelImplementationProvider implements ModelImplementationProvider<TreeModel, KiePMMLTreeModel> {
+
+    public static final String COMPILED_TREE_PROPERTY = "kie.pmml.models.tree.compiled";
+
+    private static final Logger logger = LoggerFactory.getLogger(TreeModelImplementationProvider.class.getName());
+
+    @Override
+    public PMML_MODEL getPMMLModelType() {
+        logger.trace("getPMMLModelType");
+        return PMML_MODEL_TYPE;
+    }
+
+    @Override
+    public int getPriority() {
+        return Boolean.getBoolean(COMPILED_TREE_PROPERTY) ? 1 : -1;
+    }
+
+    @Override
+    public KiePMMLTreeModel getKiePMMLModel(final DataDictionary dataDictionary, final TransformationDictionary transformationDictionary, final TreeModel model, final Object kBuilder) {
+        logger.trace("getKiePMMLModel {} {} {}", dataDictionary, model, kBuilder);
+        validate(model);
+        try {
+            return KiePMMLTreeModelFactory.getKiePMMLTreeModel(dataDictionary, transformationDictionary, model);
+        } catch (IllegalAccessException | InstantiationException e) {
+            throw new KiePMMLException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public KiePMMLTreeModel getKiePMMLModelFromPlugin(final String packageName, final DataDictionary dataDictionary, final TransformationDictionary transformationDictionary, final TreeModel model, final Object kBuilder) {
+        logger.trace("getKiePMMLModelFromPlugin {} {} {}", dataDictionary, model, kBuilder);
+        validate(model);
+        final Map<String, String> sourcesMap = KiePMMLTreeModelFactory.getKiePMMLTreeModelSourcesMap(dataDictionary, transformationDictionary, model, packageName);
+        return new KiePMMLTreeModelWithSources(model.getModelName(), packageName, sourcesMap);
+    }
+
+    protected void validate(final TreeModel toValidate) {
+        if (toValidate.getNode() == null) {
+            throw new KiePMMLException("Root Node required");
+        }
+        switch (toValidate.getMissingValueStrategy()) {
+            case NONE:
+            case LAST_PREDICTION:
+            case NULL_PREDICTION:
+            case DEFAULT_CHILD:
+                return;
+            default:
+                throw new KiePMMLException("MissingValueStrategy " + toValidate.getMissingValueStrategy().value() + " not managed, yet");
+        }
+    }
+}
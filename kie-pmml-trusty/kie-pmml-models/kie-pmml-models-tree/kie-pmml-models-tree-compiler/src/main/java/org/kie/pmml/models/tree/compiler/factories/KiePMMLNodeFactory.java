@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import org.dmg.pmml.False;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.LeafNode;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.DATA_TYPE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLPredicateFactory.getLiteralExpression;
+
+/**
+ * Class used to generate the nested <code>if</code>s evaluating the <code>Node</code>s of a <code>TreeModel</code>.
+ * <p>
+ * Each <code>Node</code> with children becomes a <b>static</b> method of the generated class, that evaluates the
+ * predicates of the children in document order and returns the score of the first matching leaf, or invokes the method
+ * of the first matching intermediate child. When no child matches the <b>noTrueChildStrategy</b> is applied, and when a
+ * predicate is <i>UNKNOWN</i> the <b>missingValueStrategy</b> is.
+ */
+public class KiePMMLNodeFactory {
+
+    static final String REQUEST_DATA = "requestData";
+    static final String PREDICATE = "predicate";
+    static final String EVALUATE_NODE = "evaluateNode";
+
+    private static final Logger logger = LoggerFactory.getLogger(KiePMMLNodeFactory.class.getName());
+
+    private final ClassOrInterfaceDeclaration modelTemplate;
+    private final MethodDeclaration nodeMethodTemplate;
+    private final KiePMMLPredicateFactory predicateFactory;
+    private final DATA_TYPE targetType;
+    private final TreeModel.NoTrueChildStrategy noTrueChildStrategy;
+    private final TreeModel.MissingValueStrategy missingValueStrategy;
+    private final Map<Node, Expression> nodeResults = new IdentityHashMap<>();
+    private int nodeMethods;
+
+    private KiePMMLNodeFactory(final ClassOrInterfaceDeclaration modelTemplate,
+                               final MethodDeclaration nodeMethodTemplate,
+                               final KiePMMLPredicateFactory predicateFactory,
+                               final DATA_TYPE targetType,
+                               final TreeModel.NoTrueChildStrategy noTrueChildStrategy,
+                               final TreeModel.MissingValueStrategy missingValueStrategy) {
+        this.modelTemplate = modelTemplate;
+        this.nodeMethodTemplate = nodeMethodTemplate;
+        this.predicateFactory = predicateFactory;
+        this.targetType = targetType;
+        this.noTrueChildStrategy = noTrueChildStrategy;
+        this.missingValueStrategy = missingValueStrategy;
+    }
+
+    /**
+     * @param modelTemplate the class into which add the methods of the <code>Node</code>s
+     * @param nodeMethodTemplate the method to clone for each <code>Node</code> with children
+     * @param predicateFactory
+     * @param targetType the <code>DATA_TYPE</code> of the scores
+     * @param noTrueChildStrategy
+     * @param missingValueStrategy
+     * @return
+     * @throws KiePMMLException if the <b>missingValueStrategy</b> is not managed
+     */
+    public static KiePMMLNodeFactory factory(final ClassOrInterfaceDeclaration modelTemplate,
+                                             final MethodDeclaration nodeMethodTemplate,
+                                             final KiePMMLPredicateFactory predicateFactory,
+                                             final DATA_TYPE targetType,
+                                             final TreeModel.NoTrueChildStrategy noTrueChildStrategy,
+                                             final TreeModel.MissingValueStrategy missingValueStrategy) {
+        switch (missingValueStrategy) {
+            case NONE:
+            case LAST_PREDICTION:
+            case NULL_PREDICTION:
+            case DEFAULT_CHILD:
+                break;
+            default:
+                throw new KiePMMLException("MissingValueStrategy " + missingValueStrategy.value() + " not managed, yet");
+        }
+        return new KiePMMLNodeFactory(modelTemplate, nodeMethodTemplate, predicateFactory, targetType, noTrueChildStrategy, missingValueStrategy);
+    }
+
+    /**
+     * Returns the body of the <b>evaluateTree</b> method, evaluating the root <code>Node</code> as the only child of a
+     * node without score
+     * @param rootNode
+     * @return
+     */
+    public BlockStmt getEvaluateTreeBody(final Node rootNode) {
+        logger.trace("getEvaluateTreeBody {}", rootNode);
+        return getChildrenEvaluation(Collections.singletonList(rootNode), new NullLiteralExpr(), null);
+    }
+
+    protected BlockStmt getChildrenEvaluation(final List<Node> children, final Expression parentScore, final Node defaultChild) {
+        children.forEach(this::getNodeResult);
+        final Expression missingResult = getMissingResult(parentScore, defaultChild);
+        final Expression noTrueChildResult = TreeModel.NoTrueChildStrategy.RETURN_LAST_PREDICTION.equals(noTrueChildStrategy) ? parentScore : new NullLiteralExpr();
+        final BlockStmt toReturn = new BlockStmt();
+        boolean predicateDeclared = false;
+        for (Node child : children) {
+            final Predicate predicate = child.getPredicate();
+            if (predicate instanceof False) {
+                continue;
+            }
+            final Expression result = getNodeResult(child).clone();
+            if (predicate instanceof True) {
+                // the following siblings can't be reached
+                toReturn.addStatement(new ReturnStmt(result));
+                return toReturn;
+            }
+            final Expression predicateExpression = predicateFactory.getPredicateExpression(predicate);
+            if (TreeModel.MissingValueStrategy.NONE.equals(missingValueStrategy)) {
+                // an UNKNOWN predicate is a false one
+                final MethodCallExpr isTrue = new MethodCallExpr(new NameExpr("Boolean.TRUE"), "equals", NodeList.nodeList(predicateExpression));
+                toReturn.addStatement(new IfStmt(isTrue, new ReturnStmt(result), null));
+            } else {
+                if (predicateDeclared) {
+                    toReturn.addStatement(new AssignExpr(new NameExpr(PREDICATE), predicateExpression, AssignExpr.Operator.ASSIGN));
+                } else {
+                    toReturn.addStatement(new VariableDeclarationExpr(new VariableDeclarator(StaticJavaParser.parseClassOrInterfaceType("Boolean"), PREDICATE, predicateExpression)));
+                    predicateDeclared = true;
+                }
+                final BinaryExpr isUnknown = new BinaryExpr(new NameExpr(PREDICATE), new NullLiteralExpr(), BinaryExpr.Operator.EQUALS);
+                toReturn.addStatement(new IfStmt(isUnknown, new ReturnStmt(missingResult.clone()), null));
+                toReturn.addStatement(new IfStmt(new NameExpr(PREDICATE), new ReturnStmt(result), null));
+            }
+        }
+        toReturn.addStatement(new ReturnStmt(noTrueChildResult.clone()));
+        return toReturn;
+    }
+
+    /**
+     * Returns the <code>Expression</code> of the result of the given <code>Node</code> once its predicate is true: the
+     * score of a leaf, or the invocation of the method generated for the <code>Node</code>s with children
+     * @param node
+     * @return
+     */
+    protected Expression getNodeResult(final Node node) {
+        Expression toReturn = nodeResults.get(node);
+        if (toReturn == null) {
+            final Expression score = getScoreExpression(node.getScore());
+            if (isFinalLeaf(node)) {
+                toReturn = score;
+                nodeResults.put(node, toReturn);
+            } else {
+                final String methodName = EVALUATE_NODE + (++nodeMethods);
+                final MethodDeclaration nodeMethod = nodeMethodTemplate.clone();
+                nodeMethod.setName(methodName);
+                modelTemplate.addMember(nodeMethod);
+                toReturn = new MethodCallExpr(null, methodName, NodeList.nodeList(new NameExpr(REQUEST_DATA)));
+                nodeResults.put(node, toReturn);
+                nodeMethod.setBody(getChildrenEvaluation(node.getNodes(), score, getDefaultChild(node)));
+            }
+        }
+        return toReturn;
+    }
+
+    /**
+     * With <b>defaultChild</b> strategy, a <code>Node</code> whose <b>defaultChild</b> is not one of its children
+     * falls back to <b>lastPrediction</b>
+     * @param parentScore
+     * @param defaultChild
+     * @return
+     */
+    protected Expression getMissingResult(final Expression parentScore, final Node defaultChild) {
+        switch (missingValueStrategy) {
+            case LAST_PREDICTION:
+                return parentScore;
+            case DEFAULT_CHILD:
+                return defaultChild != null ? getNodeResult(defaultChild) : parentScore;
+            case NONE:
+            case NULL_PREDICTION:
+                return new NullLiteralExpr();
+            default:
+                throw new KiePMMLException("MissingValueStrategy " + missingValueStrategy.value() + " not managed, yet");
+        }
+    }
+
+    protected Expression getScoreExpression(final Object score) {
+        if (score == null) {
+            return new NullLiteralExpr();
+        }
+        return getLiteralExpression(targetType != null ? targetType.getActualValue(score) : score);
+    }
+
+    protected Node getDefaultChild(final Node node) {
+        final Object defaultChild = node.getDefaultChild();
+        if (defaultChild == null) {
+            return null;
+        }
+        return node.getNodes().stream()
+                .filter(child -> child.getId() != null && Objects.equals(String.valueOf(child.getId()), String.valueOf(defaultChild)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    protected boolean isFinalLeaf(final Node node) {
+        return node instanceof LeafNode || node.getNodes() == null || node.getNodes().isEmpty();
+    }
+}
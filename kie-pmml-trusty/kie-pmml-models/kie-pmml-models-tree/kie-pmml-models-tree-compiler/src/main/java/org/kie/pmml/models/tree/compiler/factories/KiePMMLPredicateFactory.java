@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import org.dmg.pmml.CompoundPredicate;
+import org.dmg.pmml.False;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.SimpleSetPredicate;
+import org.dmg.pmml.True;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.BOOLEAN_OPERATOR;
+import org.kie.pmml.commons.model.enums.DATA_TYPE;
+import org.kie.pmml.commons.model.enums.OPERATOR;
+
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.REQUEST_DATA;
+
+/**
+ * Class used to generate the <code>Expression</code>s evaluating a <code>Predicate</code> inside the generated
+ * <code>KiePMMLTreeModel</code>.
+ * <p>
+ * The generated <code>Expression</code>s invoke the three-valued helper methods of <code>KiePMMLTreeModel</code>, whose
+ * names are the ones of the <code>OPERATOR</code>s and <code>BOOLEAN_OPERATOR</code>s, comparing the numeric fields as
+ * <code>double</code>s.
+ */
+public class KiePMMLPredicateFactory {
+
+    static final String SET_FIELD = "SET_";
+    private static final Pattern ARRAY_ENTRY = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"|(\\S+)");
+
+    private final Map<String, DATA_TYPE> fieldTypeMap;
+    private final ClassOrInterfaceDeclaration modelTemplate;
+    private int sets;
+
+    private KiePMMLPredicateFactory(final Map<String, DATA_TYPE> fieldTypeMap, final ClassOrInterfaceDeclaration modelTemplate) {
+        this.fieldTypeMap = fieldTypeMap;
+        this.modelTemplate = modelTemplate;
+    }
+
+    /**
+     * @param fieldTypeMap the <code>DATA_TYPE</code>s of the <code>DataField</code>s and <code>DerivedField</code>s
+     * @param modelTemplate the class into which add the constant <code>Set</code>s of the <code>SimpleSetPredicate</code>s
+     * @return
+     */
+    public static KiePMMLPredicateFactory factory(final Map<String, DATA_TYPE> fieldTypeMap, final ClassOrInterfaceDeclaration modelTemplate) {
+        return new KiePMMLPredicateFactory(fieldTypeMap, modelTemplate);
+    }
+
+    public Expression getPredicateExpression(final Predicate predicate) {
+        if (predicate instanceof True) {
+            return new NameExpr("Boolean.TRUE");
+        } else if (predicate instanceof False) {
+            return new NameExpr("Boolean.FALSE");
+        } else if (predicate instanceof SimplePredicate) {
+            return getSimplePredicateExpression((SimplePredicate) predicate);
+        } else if (predicate instanceof SimpleSetPredicate) {
+            return getSimpleSetPredicateExpression((SimpleSetPredicate) predicate);
+        } else if (predicate instanceof CompoundPredicate) {
+            return getCompoundPredicateExpression((CompoundPredicate) predicate);
+        } else {
+            throw new KiePMMLException("Predicate of type " + predicate.getClass().getName() + " not managed, yet");
+        }
+    }
+
+    protected Expression getSimplePredicateExpression(final SimplePredicate predicate) {
+        final String fieldName = predicate.getField().getValue();
+        final OPERATOR operator = OPERATOR.byName(predicate.getOperator().value());
+        final MethodCallExpr toReturn = new MethodCallExpr(null, operator.getName());
+        toReturn.addArgument(getInputExpression(fieldName));
+        if (!OPERATOR.IS_MISSING.equals(operator) && !OPERATOR.IS_NOT_MISSING.equals(operator)) {
+            toReturn.addArgument(getValueExpression(fieldName, predicate.getValue()));
+        }
+        return toReturn;
+    }
+
+    /**
+     * The values of the <code>Array</code> are put in a constant <code>Set</code> of the generated class
+     * @param predicate
+     * @return
+     */
+    protected Expression getSimpleSetPredicateExpression(final SimpleSetPredicate predicate) {
+        final String fieldName = predicate.getField().getValue();
+        final MethodCallExpr asSet = new MethodCallExpr(null, "asSet");
+        getArrayValues(String.valueOf(predicate.getArray().getValue()))
+                .forEach(value -> asSet.addArgument(getValueExpression(fieldName, value)));
+        final String setName = SET_FIELD + (++sets);
+        final FieldDeclaration setField = modelTemplate.addField(StaticJavaParser.parseClassOrInterfaceType("Set<Object>"), setName);
+        setField.setPrivate(true).setStatic(true).setFinal(true);
+        setField.getVariable(0).setInitializer(asSet);
+        final String methodName = SimpleSetPredicate.BooleanOperator.IS_IN.equals(predicate.getBooleanOperator()) ? "isIn" : "isNotIn";
+        return new MethodCallExpr(null, methodName, NodeList.nodeList(getInputExpression(fieldName), new NameExpr(setName)));
+    }
+
+    /**
+     * The nested <code>Predicate</code>s are folded from the right, since the three-valued <b>and</b>, <b>or</b>,
+     * <b>xor</b> and <b>surrogate</b> are associative
+     * @param predicate
+     * @return
+     */
+    protected Expression getCompoundPredicateExpression(final CompoundPredicate predicate) {
+        final String methodName = BOOLEAN_OPERATOR.byName(predicate.getBooleanOperator().value()).getName();
+        final List<Predicate> predicates = predicate.getPredicates();
+        if (predicates.isEmpty()) {
+            throw new KiePMMLException("CompoundPredicate without nested predicates");
+        }
+        Expression toReturn = getPredicateExpression(predicates.get(predicates.size() - 1));
+        for (int i = predicates.size() - 2; i >= 0; i--) {
+            toReturn = new MethodCallExpr(null, methodName, NodeList.nodeList(getPredicateExpression(predicates.get(i)), toReturn));
+        }
+        return toReturn;
+    }
+
+    protected Expression getValueExpression(final String fieldName, final Object value) {
+        final DATA_TYPE dataType = fieldTypeMap.get(fieldName);
+        if (isNumeric(dataType)) {
+            return new DoubleLiteralExpr(String.valueOf(Double.parseDouble(value.toString())));
+        }
+        return getLiteralExpression(dataType != null ? dataType.getActualValue(value) : value);
+    }
+
+    static MethodCallExpr getInputExpression(final String fieldName) {
+        return new MethodCallExpr(new NameExpr(REQUEST_DATA), "get", NodeList.nodeList(new StringLiteralExpr().setString(fieldName)));
+    }
+
+    /**
+     * @param value
+     * @return the <b>literal</b> of the given value, or of its <code>String</code> representation if there is not such a literal
+     */
+    static Expression getLiteralExpression(final Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return new IntegerLiteralExpr(value.toString());
+        } else if (value instanceof Long) {
+            return new LongLiteralExpr(value + "L");
+        } else if (value instanceof Float) {
+            return new DoubleLiteralExpr(value + "f");
+        } else if (value instanceof Double) {
+            return new DoubleLiteralExpr(value.toString());
+        } else if (value instanceof Boolean) {
+            return new BooleanLiteralExpr((Boolean) value);
+        } else {
+            return new StringLiteralExpr().setString(value.toString());
+        }
+    }
+
+    static List<String> getArrayValues(final String array) {
+        final List<String> toReturn = new ArrayList<>();
+        final Matcher matcher = ARRAY_ENTRY.matcher(array);
+        while (matcher.find()) {
+            toReturn.add(matcher.group(1) != null ? matcher.group(1).replace("\\\"", "\"") : matcher.group(2));
+        }
+        return toReturn;
+    }
+
+    static boolean isNumeric(final DATA_TYPE dataType) {
+        if (dataType == null) {
+            return false;
+        }
+        switch (dataType) {
+            case STRING:
+            case BOOLEAN:
+            case DATE:
+            case TIME:
+            case DATE_TIME:
+                return false;
+            default:
+                return true;
+        }
+    }
+}
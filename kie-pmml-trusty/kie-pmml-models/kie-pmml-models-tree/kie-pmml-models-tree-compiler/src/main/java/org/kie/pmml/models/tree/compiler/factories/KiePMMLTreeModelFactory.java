@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExplicitConstructorInvocationStmt;
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.DerivedField;
+import org.dmg.pmml.LocalTransformations;
+import org.dmg.pmml.TransformationDictionary;
+import org.dmg.pmml.tree.TreeModel;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.kie.pmml.commons.exceptions.KiePMMLInternalException;
+import org.kie.pmml.commons.model.KiePMMLOutputField;
+import org.kie.pmml.commons.model.enums.DATA_TYPE;
+import org.kie.pmml.commons.model.enums.MINING_FUNCTION;
+import org.kie.pmml.commons.model.enums.RESULT_FEATURE;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedClassName;
+import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedPackageName;
+import static org.kie.pmml.compiler.commons.factories.KiePMMLOutputFieldFactory.getOutputFields;
+import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.MAIN_CLASS_NOT_FOUND;
+import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.getFromFileName;
+import static org.kie.pmml.compiler.commons.utils.KiePMMLModelFactoryUtils.addTransformationsInClassOrInterfaceDeclaration;
+import static org.kie.pmml.compiler.commons.utils.ModelUtils.getTargetFieldName;
+import static org.kie.pmml.compiler.commons.utils.ModelUtils.getTargetFieldType;
+
+/**
+ * Class used to generate <code>KiePMMLTreeModel</code> out of a <code>DataDictionary</code> and a <code>TreeModel</code>
+ */
+public class KiePMMLTreeModelFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(KiePMMLTreeModelFactory.class.getName());
+    static final String KIE_PMML_TREE_MODEL_TEMPLATE_JAVA = "KiePMMLTreeModelJavaTemplate.tmpl";
+    static final String KIE_PMML_TREE_MODEL_TEMPLATE = "KiePMMLTreeModelJavaTemplate";
+    static final String EVALUATE_TREE = "evaluateTree";
+    static final String EVALUATE_NODE_TEMPLATE = "evaluateNode";
+
+    private KiePMMLTreeModelFactory() {
+        // Avoid instantiation
+    }
+
+    public static KiePMMLTreeModel getKiePMMLTreeModel(final DataDictionary dataDictionary,
+                                                       final TransformationDictionary transformationDictionary,
+                                                       final TreeModel model) throws IllegalAccessException, InstantiationException {
+        logger.trace("getKiePMMLTreeModel {} {}", dataDictionary, model);
+        String className = getSanitizedClassName(model.getModelName());
+        String packageName = getSanitizedPackageName(model.getModelName());
+        Map<String, String> sourcesMap = getKiePMMLTreeModelSourcesMap(dataDictionary, transformationDictionary, model, packageName);
+        String fullClassName = packageName + "." + className;
+        final Map<String, Class<?>> compiledClasses = KieMemoryCompiler.compile(sourcesMap, Thread.currentThread().getContextClassLoader());
+        return (KiePMMLTreeModel) compiledClasses.get(fullClassName).newInstance();
+    }
+
+    public static Map<String, String> getKiePMMLTreeModelSourcesMap(final DataDictionary dataDictionary,
+                                                                    final TransformationDictionary transformationDictionary,
+                                                                    final TreeModel model,
+                                                                    final String packageName) {
+        logger.trace("getKiePMMLTreeModelSourcesMap {} {} {}", dataDictionary, model, packageName);
+        String className = getSanitizedClassName(model.getModelName());
+        CompilationUnit cloneCU = getFromFileName(KIE_PMML_TREE_MODEL_TEMPLATE_JAVA).clone();
+        cloneCU.setPackageDeclaration(packageName);
+        ClassOrInterfaceDeclaration modelTemplate = cloneCU.getClassByName(KIE_PMML_TREE_MODEL_TEMPLATE)
+                .orElseThrow(() -> new KiePMMLInternalException(MAIN_CLASS_NOT_FOUND));
+        modelTemplate.setName(className);
+        final ConstructorDeclaration constructorDeclaration = modelTemplate.getDefaultConstructor().orElseThrow(() -> new KiePMMLInternalException(String.format("Missing default constructor in ClassOrInterfaceDeclaration %s ", modelTemplate.getName())));
+        final String targetFieldName = getTargetFieldName(dataDictionary, model).orElse(null);
+        populateConstructor(className, constructorDeclaration, targetFieldName, MINING_FUNCTION.byName(model.getMiningFunction().value()), model.getModelName(), getOutputFields(model));
+        populateEvaluateTree(modelTemplate, dataDictionary, transformationDictionary, model, targetFieldName != null ? getTargetFieldType(dataDictionary, model) : null);
+        addTransformationsInClassOrInterfaceDeclaration(modelTemplate, transformationDictionary, model.getLocalTransformations());
+        Map<String, String> toReturn = new HashMap<>();
+        String fullClassName = packageName + "." + className;
+        toReturn.put(fullClassName, cloneCU.toString());
+        return toReturn;
+    }
+
+    static void populateConstructor(final String generatedClassName,
+                                    final ConstructorDeclaration constructorDeclaration,
+                                    final String targetField,
+                                    final MINING_FUNCTION miningFunction,
+                                    final String modelName,
+                                    final List<KiePMMLOutputField> outputFields) {
+        constructorDeclaration.setName(generatedClassName);
+        final BlockStmt body = constructorDeclaration.getBody();
+        body.getStatements().iterator().forEachRemaining(statement -> {
+            if (statement instanceof ExplicitConstructorInvocationStmt) {
+                ExplicitConstructorInvocationStmt superStatement = (ExplicitConstructorInvocationStmt) statement;
+                NameExpr modelNameExpr = (NameExpr) superStatement.getArgument(0);
+                modelNameExpr.setName(String.format("\"%s\"", modelName));
+            }
+        });
+        final List<AssignExpr> assignExprs = body.findAll(AssignExpr.class);
+        assignExprs.forEach(assignExpr -> {
+            if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("targetField")) {
+                assignExpr.setValue(targetField != null ? new StringLiteralExpr(targetField) : new NullLiteralExpr());
+            } else if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("miningFunction")) {
+                assignExpr.setValue(new NameExpr(miningFunction.getClass().getName() + "." + miningFunction.name()));
+            } else if (assignExpr.getTarget().asNameExpr().getNameAsString().equals("pmmlMODEL")) {
+                assignExpr.setValue(new NameExpr(KiePMMLTreeModel.PMML_MODEL_TYPE.getClass().getName() + "." + KiePMMLTreeModel.PMML_MODEL_TYPE.name()));
+            }
+        });
+        outputFields.stream()
+                .filter(outputField -> RESULT_FEATURE.PREDICTED_VALUE.equals(outputField.getResultFeature()))
+                .forEach(outputField -> body.addStatement(new MethodCallExpr(new NameExpr("predictedValueFields"), "add", NodeList.nodeList(new StringLiteralExpr(outputField.getName())))));
+    }
+
+    /**
+     * Populate the <b>evaluateTree</b> method with the evaluation of the root <code>Node</code>, adding a method for
+     * each <code>Node</code> with children
+     * @param modelTemplate
+     * @param dataDictionary
+     * @param transformationDictionary
+     * @param model
+     * @param targetType
+     */
+    static void populateEvaluateTree(final ClassOrInterfaceDeclaration modelTemplate,
+                                     final DataDictionary dataDictionary,
+                                     final TransformationDictionary transformationDictionary,
+                                     final TreeModel model,
+                                     final DATA_TYPE targetType) {
+        final MethodDeclaration evaluateTree = modelTemplate.getMethodsByName(EVALUATE_TREE).get(0);
+        final MethodDeclaration nodeMethodTemplate = modelTemplate.getMethodsByName(EVALUATE_NODE_TEMPLATE).get(0);
+        modelTemplate.remove(nodeMethodTemplate);
+        final KiePMMLPredicateFactory predicateFactory = KiePMMLPredicateFactory.factory(getFieldTypeMap(dataDictionary, transformationDictionary, model.getLocalTransformations()), modelTemplate);
+        final KiePMMLNodeFactory nodeFactory = KiePMMLNodeFactory.factory(modelTemplate, nodeMethodTemplate, predicateFactory, targetType, model.getNoTrueChildStrategy(), model.getMissingValueStrategy());
+        evaluateTree.setBody(nodeFactory.getEvaluateTreeBody(model.getNode()));
+    }
+
+    static Map<String, DATA_TYPE> getFieldTypeMap(final DataDictionary dataDictionary,
+                                                  final TransformationDictionary transformationDictionary,
+                                                  final LocalTransformations localTransformations) {
+        final Map<String, DATA_TYPE> toReturn = new HashMap<>();
+        dataDictionary.getDataFields().forEach(dataField -> toReturn.put(dataField.getName().getValue(), DATA_TYPE.byName(dataField.getDataType().value())));
+        if (transformationDictionary != null && transformationDictionary.getDerivedFields() != null) {
+            transformationDictionary.getDerivedFields().forEach(derivedField -> addDerivedFieldType(derivedField, toReturn));
+        }
+        if (localTransformations != null && localTransformations.getDerivedFields() != null) {
+            localTransformations.getDerivedFields().forEach(derivedField -> addDerivedFieldType(derivedField, toReturn));
+        }
+        return toReturn;
+    }
+
+    private static void addDerivedFieldType(final DerivedField derivedField, final Map<String, DATA_TYPE> fieldTypeMap) {
+        if (derivedField.getDataType() != null) {
+            fieldTypeMap.put(derivedField.getName().getValue(), DATA_TYPE.byName(derivedField.getDataType().value()));
+        }
+    }
+}
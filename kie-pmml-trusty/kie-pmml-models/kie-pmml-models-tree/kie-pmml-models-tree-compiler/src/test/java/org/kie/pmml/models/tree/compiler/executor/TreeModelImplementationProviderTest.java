@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.executor;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.tree.TreeModel;
+import org.junit.Test;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.compiler.testutils.TestUtils;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModel;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModelWithSources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TreeModelImplementationProviderTest {
+
+    private final static TreeModelImplementationProvider PROVIDER = new TreeModelImplementationProvider();
+    private final static String RELEASE_ID = "org.drools:kie-pmml-models-testing:1.0";
+    private static final String PACKAGE_NAME = "packagename";
+    private static final String SOURCE_1 = "irisTree.pmml";
+    private static final String SOURCE_2 = "MissingValueDefaultChildTree.pmml";
+
+    @Test
+    public void getPMMLModelType() {
+        assertEquals(PMML_MODEL.TREE_MODEL, PROVIDER.getPMMLModelType());
+    }
+
+    @Test
+    public void getPriority() {
+        assertTrue(PROVIDER.getPriority() < 0);
+        try {
+            System.setProperty(TreeModelImplementationProvider.COMPILED_TREE_PROPERTY, "true");
+            assertTrue(PROVIDER.getPriority() > 0);
+        } finally {
+            System.clearProperty(TreeModelImplementationProvider.COMPILED_TREE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void getKiePMMLModel() throws Exception {
+        final PMML pmml = loadFromClasspath(SOURCE_1);
+        final KiePMMLTreeModel kiePMMLModel = PROVIDER.getKiePMMLModel(pmml.getDataDictionary(), pmml.getTransformationDictionary(), getTreeModel(pmml), RELEASE_ID);
+        assertNotNull(kiePMMLModel);
+        final Map<String, Object> requestData = new HashMap<>();
+        requestData.put("Sepal.Length", 5.0);
+        requestData.put("Sepal.Width", 3.3);
+        requestData.put("Petal.Length", 1.4);
+        requestData.put("Petal.Width", 0.2);
+        assertEquals("setosa", kiePMMLModel.evaluate(null, requestData));
+    }
+
+    @Test
+    public void getKiePMMLModelWithMissingValues() throws Exception {
+        final PMML pmml = TestUtils.loadFromFile(SOURCE_2);
+        final KiePMMLTreeModel kiePMMLModel = PROVIDER.getKiePMMLModel(pmml.getDataDictionary(), pmml.getTransformationDictionary(), getTreeModel(pmml), RELEASE_ID);
+        final Map<String, Object> requestData = new HashMap<>();
+        requestData.put("input1", 1.0);
+        requestData.put("input2", "x");
+        assertEquals("classC", kiePMMLModel.evaluate(null, requestData));
+        requestData.remove("input1");
+        assertEquals("classE", kiePMMLModel.evaluate(null, requestData));
+    }
+
+    @Test
+    public void getKiePMMLModelFromPlugin() throws Exception {
+        final PMML pmml = loadFromClasspath(SOURCE_1);
+        final KiePMMLTreeModel kiePMMLModel = PROVIDER.getKiePMMLModelFromPlugin(PACKAGE_NAME, pmml.getDataDictionary(), pmml.getTransformationDictionary(), getTreeModel(pmml), RELEASE_ID);
+        assertTrue(kiePMMLModel instanceof KiePMMLTreeModelWithSources);
+        final Map<String, String> sourcesMap = ((KiePMMLTreeModelWithSources) kiePMMLModel).getSourcesMap();
+        assertEquals(1, sourcesMap.size());
+        final String source = sourcesMap.values().iterator().next();
+        assertTrue(source.startsWith("package " + PACKAGE_NAME + ";"));
+        assertTrue(source.contains("evaluateNode1"));
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void validateWithoutRootNode() throws Exception {
+        final PMML pmml = loadFromClasspath(SOURCE_1);
+        final TreeModel treeModel = getTreeModel(pmml);
+        treeModel.setNode(null);
+        PROVIDER.validate(treeModel);
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void validateAggregateNodes() throws Exception {
+        final PMML pmml = loadFromClasspath(SOURCE_1);
+        final TreeModel treeModel = getTreeModel(pmml);
+        treeModel.setMissingValueStrategy(TreeModel.MissingValueStrategy.AGGREGATE_NODES);
+        PROVIDER.validate(treeModel);
+    }
+
+    private static PMML loadFromClasspath(final String fileName) throws Exception {
+        // the kie-pmml-models-drools-tree-compiler test-jar is not scanned by FileUtils
+        try (InputStream inputStream = TreeModelImplementationProviderTest.class.getResourceAsStream("/" + fileName)) {
+            assertNotNull(inputStream);
+            return TestUtils.loadFromInputStream(inputStream);
+        }
+    }
+
+    private TreeModel getTreeModel(final PMML pmml) {
+        assertNotNull(pmml);
+        assertEquals(1, pmml.getModels().size());
+        assertTrue(pmml.getModels().get(0) instanceof TreeModel);
+        return (TreeModel) pmml.getModels().get(0);
+    }
+}
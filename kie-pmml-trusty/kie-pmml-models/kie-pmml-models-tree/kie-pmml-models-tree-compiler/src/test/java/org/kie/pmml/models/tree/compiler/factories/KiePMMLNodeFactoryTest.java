@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import org.dmg.pmml.tree.TreeModel;
+import org.junit.Test;
+import org.kie.pmml.commons.exceptions.KiePMMLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class KiePMMLNodeFactoryTest {
+
+    @Test
+    public void getMissingResult() {
+        final Expression parentScore = new NameExpr("parentScore");
+        assertEquals(parentScore, getNodeFactory(TreeModel.MissingValueStrategy.LAST_PREDICTION).getMissingResult(parentScore, null));
+        assertEquals(parentScore, getNodeFactory(TreeModel.MissingValueStrategy.DEFAULT_CHILD).getMissingResult(parentScore, null));
+        assertTrue(getNodeFactory(TreeModel.MissingValueStrategy.NULL_PREDICTION).getMissingResult(parentScore, null) instanceof NullLiteralExpr);
+        assertTrue(getNodeFactory(TreeModel.MissingValueStrategy.NONE).getMissingResult(parentScore, null) instanceof NullLiteralExpr);
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void factoryWithAggregateNodes() {
+        getNodeFactory(TreeModel.MissingValueStrategy.AGGREGATE_NODES);
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void factoryWithWeightedConfidence() {
+        getNodeFactory(TreeModel.MissingValueStrategy.WEIGHTED_CONFIDENCE);
+    }
+
+    private KiePMMLNodeFactory getNodeFactory(final TreeModel.MissingValueStrategy missingValueStrategy) {
+        return KiePMMLNodeFactory.factory(null, null, null, null, TreeModel.NoTrueChildStrategy.RETURN_NULL_PREDICTION, missingValueStrategy);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.evaluator;
+
+import java.util.Map;
+
+import org.kie.api.KieBase;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
+import org.kie.pmml.evaluator.api.executor.PMMLContext;
+import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
+import org.kie.pmml.models.tree.model.KiePMMLTreeModel;
+
+import static org.kie.pmml.commons.enums.ResultCode.FAIL;
+import static org.kie.pmml.commons.enums.ResultCode.OK;
+import static org.kie.pmml.evaluator.core.utils.Converter.getUnwrappedParametersMap;
+
+/**
+ * <code>PMMLModelEvaluator</code> for the <b>Tree</b>s compiled to plain Java. As the <b>Drools</b>-based one, it
+ * returns a <code>FAIL</code> <code>PMML4Result</code> without result variables when there is no prediction.
+ * It only accepts <code>KiePMMLTreeModel</code>s, so that both can be on the classpath.
+ */
+public class PMMLTreeModelEvaluator implements PMMLModelEvaluator {
+
+    private static final String EXPECTED_A_KIE_PMMLTREE_MODEL_RECEIVED = "Expected a KiePMMLTreeModel, received %s ";
+
+    @Override
+    public PMML_MODEL getPMMLModelType() {
+        return PMML_MODEL.TREE_MODEL;
+    }
+
+    @Override
+    public boolean canEvaluate(final KiePMMLModel model) {
+        return model instanceof KiePMMLTreeModel;
+    }
+
+    @Override
+    public PMML4Result evaluate(final KieBase knowledgeBase, KiePMMLModel model, PMMLContext pmmlContext) {
+        if (!(model instanceof KiePMMLTreeModel)) {
+            throw new KiePMMLModelException(String.format(EXPECTED_A_KIE_PMMLTREE_MODEL_RECEIVED, model.getClass().getName()));
+        }
+        PMML4Result toReturn = new PMML4Result();
+        String targetField = model.getTargetField();
+        toReturn.setResultObjectName(targetField);
+        final Map<String, Object> requestData = getUnwrappedParametersMap(pmmlContext.getRequestData().getMappedRequestParams());
+        Object result = model.evaluate(knowledgeBase, requestData);
+        if (result == null) {
+            toReturn.setResultCode(FAIL.getName());
+            return toReturn;
+        }
+        toReturn.addResultVariable(targetField, result);
+        toReturn.setResultCode(OK.getName());
+        ((KiePMMLTreeModel) model).getPredictedValueFields().forEach(outputField -> toReturn.addResultVariable(outputField, result));
+        return toReturn;
+    }
+}
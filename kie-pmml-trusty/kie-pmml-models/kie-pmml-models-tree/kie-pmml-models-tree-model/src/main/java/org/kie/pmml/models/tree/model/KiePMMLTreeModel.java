@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.enums.PMML_MODEL;
+
+/**
+ * <code>KiePMMLModel</code> whose <b>Node</b>s are compiled to nested <code>if</code>s of the generated subclass.
+ * <p>
+ * The predicates are evaluated with the three-valued logic of the specification: the helper methods return
+ * <code>null</code> (<i>UNKNOWN</i>) when a compared field is missing, and the generated code applies the
+ * <b>missingValueStrategy</b> of the model on it.
+ * @see <a href=http://dmg.org/pmml/v4-4/TreeModel.html>Tree</a>
+ */
+public abstract class KiePMMLTreeModel extends KiePMMLModel {
+
+    public static final PMML_MODEL PMML_MODEL_TYPE = PMML_MODEL.TREE_MODEL;
+
+    /**
+     * The names of the <b>predictedValue</b> <code>OutputField</code>s
+     */
+    protected List<String> predictedValueFields = new ArrayList<>();
+
+    public KiePMMLTreeModel(String modelName) {
+        super(modelName, Collections.emptyList());
+    }
+
+    /**
+     * @return the score of the selected <b>Node</b>, or <code>null</code> if there is no prediction
+     */
+    @Override
+    public Object evaluate(final Object knowledgeBase, Map<String, Object> requestData) {
+        return evaluateTree(requestData);
+    }
+
+    /**
+     * The generated <code>Node</code>s don't keep any state
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    public List<String> getPredictedValueFields() {
+        return Collections.unmodifiableList(predictedValueFields);
+    }
+
+    protected abstract Object evaluateTree(final Map<String, Object> requestData);
+
+    protected static Boolean isMissing(Object input) {
+        return input == null;
+    }
+
+    protected static Boolean isNotMissing(Object input) {
+        return input != null;
+    }
+
+    protected static Boolean equal(Object input, double value) {
+        return input == null ? null : toDouble(input) == value;
+    }
+
+    protected static Boolean equal(Object input, Object value) {
+        return input == null ? null : value.equals(input) || value.toString().equals(input.toString());
+    }
+
+    protected static Boolean notEqual(Object input, double value) {
+        return input == null ? null : toDouble(input) != value;
+    }
+
+    protected static Boolean notEqual(Object input, Object value) {
+        return input == null ? null : !equal(input, value);
+    }
+
+    protected static Boolean lessThan(Object input, double value) {
+        return input == null ? null : toDouble(input) < value;
+    }
+
+    protected static Boolean lessThan(Object input, Object value) {
+        return input == null ? null : compare(input, value) < 0;
+    }
+
+    protected static Boolean lessOrEqual(Object input, double value) {
+        return input == null ? null : toDouble(input) <= value;
+    }
+
+    protected static Boolean lessOrEqual(Object input, Object value) {
+        return input == null ? null : compare(input, value) <= 0;
+    }
+
+    protected static Boolean greaterThan(Object input, double value) {
+        return input == null ? null : toDouble(input) > value;
+    }
+
+    protected static Boolean greaterThan(Object input, Object value) {
+        return input == null ? null : compare(input, value) > 0;
+    }
+
+    protected static Boolean greaterOrEqual(Object input, double value) {
+        return input == null ? null : toDouble(input) >= value;
+    }
+
+    protected static Boolean greaterOrEqual(Object input, Object value) {
+        return input == null ? null : compare(input, value) >= 0;
+    }
+
+    /**
+     * @param values the numeric values of a <b>SimpleSetPredicate</b> are expected as <code>Double</code>s
+     */
+    protected static Boolean isIn(Object input, Set<Object> values) {
+        if (input == null) {
+            return null;
+        }
+        return values.contains(input instanceof Number ? ((Number) input).doubleValue() : input) || values.contains(input.toString());
+    }
+
+    protected static Boolean isNotIn(Object input, Set<Object> values) {
+        return input == null ? null : !isIn(input, values);
+    }
+
+    protected static Boolean and(Boolean left, Boolean right) {
+        if (Boolean.FALSE.equals(left) || Boolean.FALSE.equals(right)) {
+            return false;
+        }
+        return left == null || right == null ? null : true;
+    }
+
+    protected static Boolean or(Boolean left, Boolean right) {
+        if (Boolean.TRUE.equals(left) || Boolean.TRUE.equals(right)) {
+            return true;
+        }
+        return left == null || right == null ? null : false;
+    }
+
+    protected static Boolean xor(Boolean left, Boolean right) {
+        return left == null || right == null ? null : left ^ right;
+    }
+
+    protected static Boolean surrogate(Boolean left, Boolean right) {
+        return left != null ? left : right;
+    }
+
+    protected static Set<Object> asSet(Object... values) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+    }
+
+    private static double toDouble(Object input) {
+        return input instanceof Number ? ((Number) input).doubleValue() : Double.parseDouble(input.toString());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object input, Object value) {
+        if (input instanceof Comparable && value.getClass().isInstance(input)) {
+            return ((Comparable) input).compareTo(value);
+        }
+        return input.toString().compareTo(value.toString());
+    }
+}
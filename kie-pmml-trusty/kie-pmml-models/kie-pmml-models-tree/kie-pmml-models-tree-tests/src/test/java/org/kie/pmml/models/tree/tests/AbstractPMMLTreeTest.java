@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.pmml.models.tree.tests;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.io.ResourceType;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.runtime.KieRuntimeFactory;
+import org.kie.pmml.evaluator.api.executor.PMMLRuntime;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.kie.pmml.evaluator.core.utils.PMMLRequestDataBuilder;
+
+import static org.junit.Assert.assertFalse;
+
+public abstract class AbstractPMMLTreeTest {
+
+    private static final Map<String, PMMLRuntime> PMML_RUNTIMES = new HashMap<>();
+
+    /**
+     * Builds the model read from the given classpath resource: part of them come from the
+     * <b>kie-pmml-models-drools-tree-tests</b> jar, whose packages a classpath container would not find
+     * @param fileName
+     * @return
+     */
+    protected static synchronized PMMLRuntime getPMMLRuntime(String fileName) {
+        return PMML_RUNTIMES.computeIfAbsent(fileName, AbstractPMMLTreeTest::buildPMMLRuntime);
+    }
+
+    private static PMMLRuntime buildPMMLRuntime(String fileName) {
+        final KieServices kieServices = KieServices.get();
+        final KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        kieFileSystem.write(kieServices.getResources().newClassPathResource(fileName).setResourceType(ResourceType.PMML));
+        final KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem).buildAll();
+        assertFalse(kieBuilder.getResults().getMessages(Message.Level.ERROR).toString(),
+                    kieBuilder.getResults().hasMessages(Message.Level.ERROR));
+        final KieBase kieBase = kieServices.newKieContainer(kieBuilder.getKieModule().getReleaseId()).getKieBase();
+        final KieRuntimeFactory kieRuntimeFactory = KieRuntimeFactory.of(kieBase);
+        return kieRuntimeFactory.get(PMMLRuntime.class);
+    }
+
+    protected static PMMLRequestData getPMMLRequestData(String modelName, Map<String, Object> parameters) {
+        String correlationId = "CORRELATION_ID";
+        PMMLRequestDataBuilder pmmlRequestDataBuilder = new PMMLRequestDataBuilder(correlationId, modelName);
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            Object pValue = entry.getValue();
+            Class class1 = pValue.getClass();
+            pmmlRequestDataBuilder.addParameter(entry.getKey(), pValue, class1);
+        }
+        return pmmlRequestDataBuilder.build();
+    }
+
+    protected PMML4Result evaluate(PMMLRuntime pmmlRuntime, final Map<String, Object> inputData, String modelName) {
+        final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, inputData);
+        return pmmlRuntime.evaluate(modelName, new PMMLContextImpl(pmmlRequestData));
+    }
+}
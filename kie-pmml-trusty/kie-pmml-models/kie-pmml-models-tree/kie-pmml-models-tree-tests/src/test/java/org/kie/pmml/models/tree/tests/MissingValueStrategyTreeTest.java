@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.pmml.models.tree.tests;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.commons.enums.ResultCode;
+
+@RunWith(Parameterized.class)
+public class MissingValueStrategyTreeTest extends AbstractPMMLTreeTest {
+
+    private static final Map<String, String> FILE_NAMES;
+
+    static {
+        FILE_NAMES = new HashMap<>();
+        FILE_NAMES.put("MissingValueDefaultChildTreeModel", "missingvaluedefaultchildtreemodel/MissingValueDefaultChildTree.pmml");
+        FILE_NAMES.put("MissingValueLastPredictionTreeModel", "missingvaluelastpredictiontreemodel/MissingValueLastPredictionTree.pmml");
+        FILE_NAMES.put("MissingValueNullPredictionTreeModel", "missingvaluenullpredictiontreemodel/MissingValueNullPredictionTree.pmml");
+    }
+
+    private static final String TARGET_FIELD = "Predicted_result";
+
+    private String modelName;
+    private Double input1;
+    private String input2;
+    private String expectedResult;
+
+    public MissingValueStrategyTreeTest(String modelName, Double input1, String input2, String expectedResult) {
+        this.modelName = modelName;
+        this.input1 = input1;
+        this.input2 = input2;
+        this.expectedResult = expectedResult;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {"MissingValueLastPredictionTreeModel", 1.0, "x", "classC"},
+                {"MissingValueLastPredictionTreeModel", 7.0, null, "classE"},
+                {"MissingValueLastPredictionTreeModel", null, "x", "classA"},
+                {"MissingValueLastPredictionTreeModel", 1.0, null, "classB"},
+                {"MissingValueNullPredictionTreeModel", 1.0, "y", "classD"},
+                {"MissingValueNullPredictionTreeModel", null, "x", null},
+                {"MissingValueNullPredictionTreeModel", 1.0, null, null},
+                {"MissingValueDefaultChildTreeModel", 1.0, "x", "classC"},
+                {"MissingValueDefaultChildTreeModel", null, "x", "classE"},
+                {"MissingValueDefaultChildTreeModel", 1.0, null, "classD"},
+        });
+    }
+
+    @Test
+    public void testMissingValueStrategy() {
+        final Map<String, Object> inputData = new HashMap<>();
+        if (input1 != null) {
+            inputData.put("input1", input1);
+        }
+        if (input2 != null) {
+            inputData.put("input2", input2);
+        }
+        PMML4Result pmml4Result = evaluate(getPMMLRuntime(FILE_NAMES.get(modelName)), inputData, modelName);
+
+        if (expectedResult != null) {
+            Assertions.assertThat(pmml4Result.getResultCode()).isEqualTo(ResultCode.OK.getName());
+            Assertions.assertThat(pmml4Result.getResultVariables().get(TARGET_FIELD)).isEqualTo(expectedResult);
+        } else {
+            Assertions.assertThat(pmml4Result.getResultCode()).isEqualTo(ResultCode.FAIL.getName());
+            Assertions.assertThat(pmml4Result.getResultVariables()).doesNotContainKey(TARGET_FIELD);
+        }
+    }
+}
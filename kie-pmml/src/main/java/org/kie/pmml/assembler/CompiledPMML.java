@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package org.kie.pmml.assembler;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.drools.core.util.IoUtils.UTF8_CHARSET;
+
+/**
+ * The artifacts generated out of a PMML document: the bytecode of its pojos and the DRL of its models.
+ * <p>
+ * It is stored with a plain binary format instead of the Java serialization, so that reading the persistent cache
+ * never instantiates arbitrary classes.
+ */
+class CompiledPMML {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, byte[]> classes;
+    private final List<Map.Entry<String, String>> rules;
+
+    CompiledPMML(Map<String, byte[]> classes, List<Map.Entry<String, String>> rules) {
+        this.classes = Collections.unmodifiableMap(new LinkedHashMap<>(classes));
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    /**
+     * @return the bytecode of the generated pojos, keyed by class file name
+     */
+    Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return the generated DRL, keyed by model id, in generation order
+     */
+    List<Map.Entry<String, String>> getRules() {
+        return rules;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(classes.size());
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            writeString(out, entry.getKey());
+            writeBytes(out, entry.getValue());
+        }
+        out.writeInt(rules.size());
+        for (Map.Entry<String, String> entry : rules) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    /**
+     * @return the read <code>CompiledPMML</code>, or <code>null</code> if it has been written with another format
+     */
+    static CompiledPMML readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+        int classesSize = in.readInt();
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        for (int i = 0; i < classesSize; i++) {
+            classes.put(readString(in), readBytes(in));
+        }
+        int rulesSize = in.readInt();
+        List<Map.Entry<String, String>> rules = new ArrayList<>(rulesSize);
+        for (int i = 0; i < rulesSize; i++) {
+            rules.add(new AbstractMap.SimpleImmutableEntry<>(readString(in), readString(in)));
+        }
+        return new CompiledPMML(classes, rules);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(UTF8_CHARSET));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), UTF8_CHARSET);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid length " + length);
+        }
+        byte[] toReturn = new byte[length];
+        in.readFully(toReturn);
+        return toReturn;
+    }
+}
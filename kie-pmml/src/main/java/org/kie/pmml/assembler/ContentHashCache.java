@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package org.kie.pmml.assembler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.drools.core.util.IoUtils.UTF8_CHARSET;
+
+/**
+ * Cache of the artifacts generated out of a resource, keyed by the hash of its content, so that an unchanged resource
+ * is not processed again.
+ * <p>
+ * The last {@value #MEMORY_ENTRIES} artifacts are kept in memory. When the system property given at construction is
+ * set, they are also written in that directory by the <code>Codec</code>, to be reused across restarts; the given
+ * version is part of the key, so that an upgrade never reuses artifacts generated by an older one.
+ * @param <T> the type of the cached artifacts
+ */
+public class ContentHashCache<T> {
+
+    public static final int MEMORY_ENTRIES = 128;
+    private static final Logger log = LoggerFactory.getLogger(ContentHashCache.class);
+
+    /**
+     * Writes and reads the artifacts in the cache directory. It should use an explicit format rather than the Java
+     * serialization, so that reading a cache file never instantiates arbitrary classes.
+     */
+    public interface Codec<T> {
+
+        void write(DataOutputStream out, T value) throws IOException;
+
+        /**
+         * @return the read value, or <code>null</code> if it has been written with another format
+         */
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private final String description;
+    private final String version;
+    private final String cacheDirProperty;
+    private final String fileExtension;
+    private final Codec<T> codec;
+
+    private final Map<String, T> memoryCache = Collections.synchronizedMap(new LinkedHashMap<String, T>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+            return size() > MEMORY_ENTRIES;
+        }
+    });
+
+    /**
+     * @param description what is cached, for the log messages
+     * @param version the version of the generator of the artifacts
+     * @param cacheDirProperty the system property of the cache directory
+     * @param fileExtension the extension of the cache files
+     * @param codec
+     */
+    public ContentHashCache(String description, String version, String cacheDirProperty, String fileExtension, Codec<T> codec) {
+        this.description = description;
+        this.version = version;
+        this.cacheDirProperty = cacheDirProperty;
+        this.fileExtension = fileExtension;
+        this.codec = codec;
+    }
+
+    /**
+     * Remove all the entries kept in memory; the ones stored in the cache directory are left untouched
+     */
+    public void clear() {
+        memoryCache.clear();
+    }
+
+    /**
+     * @param content the content of the resource
+     * @param qualifiers any other input of the generation, e.g. the name of the part of the resource to process
+     */
+    public String getKey(byte[] content, String... qualifiers) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(version).getBytes(UTF8_CHARSET));
+            digest.update((byte) 0);
+            for (String qualifier : qualifiers) {
+                digest.update(qualifier.getBytes(UTF8_CHARSET));
+                digest.update((byte) 0);
+            }
+            StringBuilder toReturn = new StringBuilder();
+            for (byte b : digest.digest(content)) {
+                toReturn.append(String.format("%02x", b));
+            }
+            return toReturn.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public T get(String key) {
+        T toReturn = memoryCache.get(key);
+        if (toReturn == null) {
+            toReturn = read(key);
+            if (toReturn != null) {
+                memoryCache.put(key, toReturn);
+            }
+        }
+        return toReturn;
+    }
+
+    public void put(String key, T value) {
+        memoryCache.put(key, value);
+        write(key, value);
+    }
+
+    private File getCacheFile(String key) {
+        String cacheDir = System.getProperty(cacheDirProperty);
+        return cacheDir != null ? new File(cacheDir, key + fileExtension) : null;
+    }
+
+    private T read(String key) {
+        File cacheFile = getCacheFile(key);
+        if (cacheFile == null || !cacheFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            return codec.read(in);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable " + description + " cache file " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write to a temporary file moved to the final one, so that concurrent builds never read a partial entry
+     */
+    private void write(String key, T value) {
+        File cacheFile = getCacheFile(key);
+        if (cacheFile == null) {
+            return;
+        }
+        File tmpFile = null;
+        try {
+            File cacheDir = cacheFile.getParentFile();
+            if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+                throw new IOException("Unable to create directory " + cacheDir);
+            }
+            tmpFile = File.createTempFile(key, ".tmp", cacheDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                codec.write(out, value);
+            }
+            try {
+                Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write " + description + " cache file " + cacheFile + ": " + e.getMessage());
+            if (tmpFile != null && !tmpFile.delete()) {
+                tmpFile.deleteOnExit();
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 */
 package org.kie.pmml.assembler;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -41,6 +42,7 @@ import org.drools.compiler.kie.builder.impl.KieFileSystemImpl;
 import org.drools.compiler.lang.descr.PackageDescr;
 import org.drools.compiler.rule.builder.dialect.java.JavaDialectConfiguration;
 import org.drools.core.util.ClassUtils;
+import org.drools.core.util.IoUtils;
 import org.drools.reflective.classloader.ProjectClassLoader;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieFileSystem;
@@ -117,7 +119,9 @@ public class PMMLAssemblerService implements KieAssemblerService {
 
     /**
      * This method does the work of calling the PMML compiler and then assembling the results
-     * into packages that are added to the KnowledgeBuilder
+     * into packages that are added to the KnowledgeBuilder.
+     * The pojos and rules generated out of an unchanged PMML document are retrieved from the
+     * {@link PMMLCompilationCache}, skipping both the template expansion and the compilation of the pojos
      * @param resource
      * @throws DroolsParserException
      * @throws IOException
@@ -129,14 +133,23 @@ public class PMMLAssemblerService implements KieAssemblerService {
         }
         if (pmmlCompiler != null) {
             if (pmmlCompiler.getResults().isEmpty()) {
-                PMML pmml = pmmlCompiler.loadModel(PMML4Compiler.PMML, resource.getInputStream());
-                addPMMLPojos(pmmlCompiler, resource, pmml);
-                if (pmmlCompiler.getResults().isEmpty()) {
-                    List<PackageDescr> packages = getPackageDescrs(resource, pmml);
-                    if (packages != null && !packages.isEmpty()) {
-                        for (PackageDescr descr : packages) {
-                            this.kbuilder.addPackage(descr);
+                byte[] content = IoUtils.readBytesFromInputStream(resource.getInputStream());
+                String cacheKey = PMMLCompilationCache.isEnabled() ? PMMLCompilationCache.getKey(content) : null;
+                CompiledPMML compiledPMML = cacheKey != null ? PMMLCompilationCache.get(cacheKey) : null;
+                if (compiledPMML != null) {
+                    log.debug("Reusing the compilation of {}", resource.getSourcePath());
+                    storeClasses(compiledPMML.getClasses());
+                    addPackageDescrs(resource, compiledPMML.getRules());
+                } else {
+                    PMML pmml = pmmlCompiler.loadModel(PMML4Compiler.PMML, new ByteArrayInputStream(content));
+                    Map<String, byte[]> classesMap = new HashMap<>();
+                    boolean compiled = addPMMLPojos(pmmlCompiler, resource, pmml, classesMap);
+                    if (pmmlCompiler.getResults().isEmpty()) {
+                        List<Map.Entry<String, String>> rules = getGeneratedRules(pmml);
+                        if (compiled && cacheKey != null && pmmlCompiler.getResults().isEmpty()) {
+                            PMMLCompilationCache.put(cacheKey, new CompiledPMML(classesMap, rules));
                         }
+                        addPackageDescrs(resource, rules);
                     }
                 }
             }
@@ -146,46 +159,51 @@ public class PMMLAssemblerService implements KieAssemblerService {
         });
     }
 
+    private void addPackageDescrs(Resource resource, List<Map.Entry<String, String>> rules) throws DroolsParserException {
+        List<PackageDescr> packages = generatedRulesToPackageDescr(resource, rules);
+        for (PackageDescr descr : packages) {
+            this.kbuilder.addPackage(descr);
+        }
+    }
+
     /**
-     * This method calls the PMML compiler to get PMMLResource objects which are used to
-     * create one or more PackageDescr objects
-     * @param resource
-     * @return
-     * @throws DroolsParserException
-     * @throws IOException
+     * This method calls the PMML compiler to get PMMLResource objects, collecting the generated DRL
+     * @param pmml
+     * @return the generated DRL, keyed by model id
      */
-    private List<PackageDescr> getPackageDescrs(Resource resource, PMML pmml) throws DroolsParserException, IOException {
+    private List<Map.Entry<String, String>> getGeneratedRules(PMML pmml) {
+        List<Map.Entry<String, String>> rules = new ArrayList<>();
         List<PMMLResource> resources = pmmlCompiler.precompile(pmml, null);
-        if (resources != null && !resources.isEmpty()) {
-            return generatedResourcesToPackageDescr(resource, resources);
+        if (resources != null) {
+            for (PMMLResource res : resources) {
+                rules.addAll(res.getRules().entrySet());
+            }
         }
-        return null;
+        return rules;
     }
 
     /**
-     * Creates a list of PackageDescr objects from the PMMLResources (which includes the generated DRL)
+     * Creates a list of PackageDescr objects from the generated DRL
      * @param resource
-     * @param resources
+     * @param rules
      * @return
      * @throws DroolsParserException
      */
-    private List<PackageDescr> generatedResourcesToPackageDescr(Resource resource, List<PMMLResource> resources)
+    private List<PackageDescr> generatedRulesToPackageDescr(Resource resource, List<Map.Entry<String, String>> rules)
             throws DroolsParserException {
         List<PackageDescr> pkgDescrs = new ArrayList<>();
         DrlParser parser = new DrlParser(configuration.getLanguageLevel());
-        for (PMMLResource res : resources) {
-            for (Map.Entry<String, String> entry : res.getRules().entrySet()) {
-                String key = entry.getKey();
-                String src = entry.getValue();
-                PackageDescr descr = null;
-                descr = parser.parse(false, src);
-                if (descr != null) {
-                    descr.setResource(resource);
-                    pkgDescrs.add(descr);
-                    dumpGeneratedRule(descr, key, src);
-                } else {
-                    kbuilder.addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
-                }
+        for (Map.Entry<String, String> entry : rules) {
+            String key = entry.getKey();
+            String src = entry.getValue();
+            PackageDescr descr = null;
+            descr = parser.parse(false, src);
+            if (descr != null) {
+                descr.setResource(resource);
+                pkgDescrs.add(descr);
+                dumpGeneratedRule(descr, key, src);
+            } else {
+                kbuilder.addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
             }
         }
         return pkgDescrs;
@@ -211,14 +229,24 @@ public class PMMLAssemblerService implements KieAssemblerService {
         }
     }
 
-    private void addPMMLPojos(PMML4Compiler compiler, Resource resource, PMML pmml) {
+    /**
+     * Compiles the pojos of the given PMML, storing them in the root ClassLoader
+     * @param compiler
+     * @param resource
+     * @param pmml
+     * @param classesMap populated with the bytecode of the compiled pojos
+     * @return <code>true</code> if the pojos have been compiled without errors
+     */
+    private boolean addPMMLPojos(PMML4Compiler compiler, Resource resource, PMML pmml, Map<String, byte[]> classesMap) {
         KieFileSystem javaSource = KieServices.Factory.get().newKieFileSystem();
         Map<String, String> javaSources = new HashMap<>();
         Map<String, String> modelSources = null;
+        boolean compiled = true;
         try {
             modelSources = compiler.getJavaClasses(pmml);
         } catch (PMML4Exception px) {
             kbuilder.addBuilderResult(new SrcError(resource, px.getMessage()));
+            compiled = false;
         }
         if (compiler.getResults().isEmpty()) {
             if (modelSources != null && !modelSources.isEmpty()) {
@@ -244,21 +272,27 @@ public class PMMLAssemblerService implements KieAssemblerService {
                 KnowledgeBuilderConfigurationImpl kconf = new KnowledgeBuilderConfigurationImpl(classLoader);
                 JavaDialectConfiguration javaConf = (JavaDialectConfiguration) kconf.getDialectConfiguration("java");
                 MemoryFileSystem trgMfs = new MemoryFileSystem();
-                compileJavaClasses(javaConf, rootClassLoader, javaFileNames, JAVA_ROOT, src, trgMfs);
-                Map<String, byte[]> classesMap = new HashMap<>();
+                if (!compileJavaClasses(javaConf, rootClassLoader, javaFileNames, JAVA_ROOT, src, trgMfs)) {
+                    compiled = false;
+                }
 
                 for (String name : trgMfs.getFileNames()) {
                     classesMap.put(name, trgMfs.getBytes(name));
                 }
-                if (!classesMap.isEmpty()) {
-                    ProjectClassLoader projectClassLoader = (ProjectClassLoader) rootClassLoader;
-                    if ( ClassUtils.isCaseSenstiveOS() ) {
-                        projectClassLoader.reinitTypes();
-                    }
-                    projectClassLoader.storeClasses(classesMap);
-                }
+                storeClasses(classesMap);
             }
         }
+        return compiled;
+    }
+
+    private void storeClasses(Map<String, byte[]> classesMap) {
+        if (!classesMap.isEmpty()) {
+            ProjectClassLoader projectClassLoader = (ProjectClassLoader) rootClassLoader;
+            if ( ClassUtils.isCaseSenstiveOS() ) {
+                projectClassLoader.reinitTypes();
+            }
+            projectClassLoader.storeClasses(classesMap);
+        }
     }
 
     private List<String> getJavaFileNames(ResourceReader src) {
@@ -271,7 +305,10 @@ public class PMMLAssemblerService implements KieAssemblerService {
         return javaFileNames;
     }
 
-    private void compileJavaClasses(JavaDialectConfiguration javaConf, ClassLoader classLoader, List<String> javaFiles,
+    /**
+     * @return <code>false</code> if the compilation reported any error
+     */
+    private boolean compileJavaClasses(JavaDialectConfiguration javaConf, ClassLoader classLoader, List<String> javaFiles,
             String rootFolder, ResourceReader source, MemoryFileSystem trgMfs) {
         if (!javaFiles.isEmpty()) {
             String[] sourceFiles = javaFiles.toArray(new String[javaFiles.size()]);
@@ -307,7 +344,9 @@ public class PMMLAssemblerService implements KieAssemblerService {
             for (CompilationProblem problem : res.getWarnings()) {
                 kbuilder.addBuilderResult(new SrcError(problem.getFileName(), problem.getMessage()));
             }
+            return res.getErrors().length == 0;
         }
+        return true;
     }
 
     private JavaCompiler createCompiler(JavaDialectConfiguration javaConf, String prefix) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package org.kie.pmml.assembler;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.drools.core.util.Drools;
+
+/**
+ * Cache of the artifacts generated out of the PMML documents, keyed by the hash of their content, so that an unchanged
+ * document skips the JAXB parsing, the template expansion and the compilation of its pojos.
+ * <p>
+ * The last {@value ContentHashCache#MEMORY_ENTRIES} documents are kept in memory. When the {@value #CACHE_DIR_PROPERTY}
+ * system property is set, the artifacts are also stored in that directory, to be reused across restarts; the
+ * Drools version is part of the key, so that an upgrade never reuses artifacts generated by older templates.
+ * The {@value #CACHE_DISABLED_PROPERTY} system property disables the cache.
+ */
+public class PMMLCompilationCache {
+
+    public static final String CACHE_DIR_PROPERTY = "kie.pmml.legacy.cache.dir";
+    public static final String CACHE_DISABLED_PROPERTY = "kie.pmml.legacy.cache.disabled";
+    private static final String CACHE_FILE_EXTENSION = ".pmmlc";
+
+    private static final ContentHashCache<CompiledPMML> cache = new ContentHashCache<>("PMML",
+                                                                                      Drools.getFullVersion(),
+                                                                                      CACHE_DIR_PROPERTY,
+                                                                                      CACHE_FILE_EXTENSION,
+                                                                                      new CompiledPMMLCodec());
+
+    private PMMLCompilationCache() {
+        // Avoid instantiation
+    }
+
+    public static boolean isEnabled() {
+        return !Boolean.getBoolean(CACHE_DISABLED_PROPERTY);
+    }
+
+    /**
+     * Remove all the entries kept in memory; the ones stored in {@value #CACHE_DIR_PROPERTY} are left untouched
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    static String getKey(byte[] content) {
+        return cache.getKey(content);
+    }
+
+    static CompiledPMML get(String key) {
+        return cache.get(key);
+    }
+
+    static void put(String key, CompiledPMML compiledPMML) {
+        cache.put(key, compiledPMML);
+    }
+
+    private static class CompiledPMMLCodec implements ContentHashCache.Codec<CompiledPMML> {
+
+        @Override
+        public void write(DataOutputStream out, CompiledPMML value) throws IOException {
+            value.writeTo(out);
+        }
+
+        @Override
+        public CompiledPMML read(DataInputStream in) throws IOException {
+            return CompiledPMML.readFrom(in);
+        }
+    }
+}
@@ -257,6 +257,8 @@ public class PMML4Compiler {
     protected static final String TEMPLATE_PATH = "/" + RESOURCE_PATH + "/templates/";
 
     private static TemplateRegistry registry;
+    private static Schema pmmlSchema;
+    private static JAXBContext jaxbContext;
 
     private static List<KnowledgeBuilderResult> visitorBuildResults = new ArrayList<KnowledgeBuilderResult>();
     private List<KnowledgeBuilderResult> results;
@@ -270,13 +272,38 @@ public class PMML4Compiler {
         helper = new PMML4Helper();
         helper.setPack("org.kie.pmml.pmml_4_2.test");
 
-        SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        schema = getSchema();
+    }
 
-        try {
-            schema = sf.newSchema(PMML4Compiler.class.getClassLoader().getResource(SCHEMA_PATH));
-        } catch (SAXException e) {
-            e.printStackTrace();
+    /**
+     * The PMML <code>Schema</code> is immutable and thread-safe, so it is parsed once and shared by all the compilers
+     */
+    private static synchronized Schema getSchema() {
+        if (pmmlSchema == null) {
+            SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            try {
+                pmmlSchema = sf.newSchema(PMML4Compiler.class.getClassLoader().getResource(SCHEMA_PATH));
+            } catch (SAXException e) {
+                e.printStackTrace();
+            }
         }
+        return pmmlSchema;
+    }
+
+    /**
+     * The <code>JAXBContext</code> is thread-safe and expensive to create, so it is created once and shared by all
+     * the compilers
+     */
+    private static synchronized JAXBContext getJAXBContext() throws ClassNotFoundException, JAXBException {
+        if (jaxbContext == null) {
+            // Workaround: in Java 9+ Maven does not load the package-info class during plugin execution
+            // see https://hibernate.atlassian.net/browse/HHH-12893
+            PMML4Compiler.class.getClassLoader().loadClass("org.dmg.pmml.pmml_4_2.descr.package-info");
+
+            Class c = PMML4Compiler.class.getClassLoader().loadClass("org.dmg.pmml.pmml_4_2.descr.PMML");
+            jaxbContext = JAXBContext.newInstance(c);
+        }
+        return jaxbContext;
     }
 
     public PMML4Helper getHelper() {
@@ -349,7 +376,11 @@ public class PMML4Compiler {
         }
     }
 
-    private static KieBase checkBuildingResources(PMML pmml) throws IOException {
+    /**
+     * Compiles the templates needed by the models of the given PMML, if not compiled yet: the compiled templates are
+     * shared by all the compilers, hence the synchronization
+     */
+    private static synchronized KieBase checkBuildingResources(PMML pmml) throws IOException {
         KieServices ks = KieServices.Factory.get();
         KieContainer kieContainer = ks.getKieClasspathContainer(PMML4Compiler.class.getClassLoader());
 
@@ -745,13 +776,7 @@ public class PMML4Compiler {
             XMLStreamReader reader = null;
             try {
                 Thread.currentThread().setContextClassLoader(PMML4Compiler.class.getClassLoader());
-
-                // Workaround: in Java 9+ Maven does not load the package-info class during plugin execution
-                // see https://hibernate.atlassian.net/browse/HHH-12893
-                PMML4Compiler.class.getClassLoader().loadClass("org.dmg.pmml.pmml_4_2.descr.package-info");
-
-                Class c = PMML4Compiler.class.getClassLoader().loadClass("org.dmg.pmml.pmml_4_2.descr.PMML");
-                jc = JAXBContext.newInstance(c);
+                jc = getJAXBContext();
                 XMLInputFactory xif = XMLInputFactory.newFactory();
                 xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
                 xif.setProperty(XMLInputFactory.SUPPORT_DTD, true);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package org.kie.pmml.assembler;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.util.IoUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.io.Resource;
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.internal.io.ResourceFactory;
+import org.kie.pmml.pmml_4_2.PMML4ExecutionHelper;
+import org.kie.pmml.pmml_4_2.PMML4ExecutionHelper.PMML4ExecutionHelperFactory;
+import org.kie.pmml.pmml_4_2.PMMLRequestDataBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class PMMLCompilationCacheTest {
+
+    private static final String SCORECARD_SOURCE = "org/kie/pmml/pmml_4_2/test_scorecard.pmml";
+    private static final String SCORECARD_MODEL = "Sample Score";
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        System.setProperty(PMMLCompilationCache.CACHE_DIR_PROPERTY, cacheFolder.getRoot().getAbsolutePath());
+        PMMLCompilationCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(PMMLCompilationCache.CACHE_DIR_PROPERTY);
+        PMMLCompilationCache.clear();
+    }
+
+    @Test
+    public void testGetKey() {
+        String key = PMMLCompilationCache.getKey("<PMML/>".getBytes(IoUtils.UTF8_CHARSET));
+        assertEquals(64, key.length());
+        assertEquals(key, PMMLCompilationCache.getKey("<PMML/>".getBytes(IoUtils.UTF8_CHARSET)));
+        assertNotEquals(key, PMMLCompilationCache.getKey("<PMML />".getBytes(IoUtils.UTF8_CHARSET)));
+    }
+
+    @Test
+    public void testPersistentCache() {
+        String key = PMMLCompilationCache.getKey("<PMML/>".getBytes(IoUtils.UTF8_CHARSET));
+        assertNull(PMMLCompilationCache.get(key));
+        byte[] bytecode = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE};
+        List<Map.Entry<String, String>> rules = Arrays.asList(new AbstractMap.SimpleImmutableEntry<>("first", "package first;"),
+                                                              new AbstractMap.SimpleImmutableEntry<>("second", "package second;"));
+        PMMLCompilationCache.put(key, new CompiledPMML(Collections.singletonMap("org/kie/Pojo.class", bytecode), rules));
+        PMMLCompilationCache.clear();
+
+        CompiledPMML retrieved = PMMLCompilationCache.get(key);
+        assertNotNull(retrieved);
+        assertEquals(1, retrieved.getClasses().size());
+        assertArrayEquals(bytecode, retrieved.getClasses().get("org/kie/Pojo.class"));
+        assertEquals(rules, retrieved.getRules());
+    }
+
+    @Test
+    public void testScorecardFromCache() throws Exception {
+        Resource resource = ResourceFactory.newClassPathResource(SCORECARD_SOURCE);
+        String key = PMMLCompilationCache.getKey(IoUtils.readBytesFromInputStream(resource.getInputStream()));
+        assertScore(PMML4ExecutionHelperFactory.getExecutionHelper(SCORECARD_MODEL, resource, null));
+        assertNotNull(PMMLCompilationCache.get(key));
+
+        // only the persistent entry is left
+        PMMLCompilationCache.clear();
+        assertScore(PMML4ExecutionHelperFactory.getExecutionHelper(SCORECARD_MODEL, ResourceFactory.newClassPathResource(SCORECARD_SOURCE), null));
+    }
+
+    private void assertScore(PMML4ExecutionHelper helper) {
+        helper.addPossiblePackageName("org.drools.scorecards.example");
+        PMMLRequestData request = new PMMLRequestDataBuilder("123", SCORECARD_MODEL)
+                .addParameter("age", 33.0, Double.class)
+                .addParameter("occupation", "SKYDIVER", String.class)
+                .addParameter("residenceState", "KN", String.class)
+                .addParameter("validLicense", true, Boolean.class)
+                .build();
+        PMML4Result resultHolder = helper.submitRequest(request);
+        assertEquals("OK", resultHolder.getResultCode());
+        assertEquals(41.345, resultHolder.getResultValue("ScoreCard", "score", Double.class).orElse(null), 0.000);
+    }
+}